@@ -3,6 +3,8 @@ package mx.unam.ciencias.icc;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * <p>Clase para listas genéricas doblemente ligadas.</p>
@@ -87,6 +89,45 @@ public class Lista<T> implements Iterable<T> {
         }
     }
 
+    /* Clase interna privada para ordenar en paralelo una cadena de nodos. */
+    private class Tarea extends RecursiveTask<Nodo> {
+	/* El primer nodo de la cadena. */
+	private Nodo inicio;
+	/* El número de nodos de la cadena. */
+	private int longitud;
+	/* El comparador. */
+	private Comparator<T> comparador;
+	/* El tamaño debajo del cual se ordena secuencialmente. */
+	private int umbral;
+
+	/* Construye una tarea para una cadena terminada en null. */
+	private Tarea(Nodo inicio, int longitud,
+		      Comparator<T> comparador, int umbral) {
+	    this.inicio = inicio;
+	    this.longitud = longitud;
+	    this.comparador = comparador;
+	    this.umbral = umbral;
+	}
+
+	/* Parte la cadena a la mitad, ordena la primera mitad en otra tarea y
+	   la segunda en ésta, y mezcla los resultados. */
+	@Override protected Nodo compute() {
+	    if(longitud <= umbral)
+		return ordena(inicio, comparador);
+	    int mitad = longitud / 2;
+	    Nodo n = inicio;
+	    for(int i = 1; i < mitad; i++)
+		n = n.siguiente;
+	    Nodo segunda = n.siguiente;
+	    n.siguiente = null;
+	    Tarea izquierda = new Tarea(inicio, mitad, comparador, umbral);
+	    izquierda.fork();
+	    Nodo derecha = new Tarea(segunda, longitud - mitad,
+				     comparador, umbral).compute();
+	    return mezcla(izquierda.join(), derecha, comparador);
+	}
+    }
+
     /* Primer elemento de la lista. */
     private Nodo cabeza;
     /* Último elemento de la lista. */
@@ -213,9 +254,9 @@ public class Lista<T> implements Iterable<T> {
 	}
     }
     private Nodo buscaNodo(T o, Nodo n){
-	if(n == null)
-	    return null;
-	return (n.elemento.equals(o)) ? n : buscaNodo(o, n.siguiente);
+	while(n != null && !n.elemento.equals(o))
+	    n = n.siguiente;
+	return n;
      }
 
     /**
@@ -405,6 +446,15 @@ public class Lista<T> implements Iterable<T> {
         return new Iterador();
     }
 
+    /**
+     * Regresa una vista perezosa de la lista. La vista no copia los
+     * elementos; refleja el estado de la lista cada vez que se recorre.
+     * @return una vista de la lista.
+     */
+    public Vista<T> vista() {
+	return new Vista<T>(this::iteradorLista);
+    }
+
     /**
      * Regresa una copia de la lista, pero ordenada. Para poder hacer el
      * ordenamiento, el método necesita una instancia de {@link Comparator} para
@@ -414,48 +464,137 @@ public class Lista<T> implements Iterable<T> {
      * @return una copia de la lista, pero ordenada.
      */
     public Lista<T> mergeSort(Comparator<T> comparador) {
-	return mergeSort(copia(), comparador);
-    }
-    
-    private Lista<T> mergeSort(Lista<T> lista, Comparator<T> comparador) {
-	if(lista.getLongitud() <= 1)
-	    return lista;
-	Lista<T> l1 = new Lista<>();
-	Lista<T> l2 = new Lista<>();
-	int mitad = lista.getLongitud() / 2;
-	int i = 0; 
-	for(T elemento : lista)
-	    if(i++ < mitad)
-		l1.agregaFinal(elemento);
-	    else
-		l2.agregaFinal(elemento);
-	return mezcla(mergeSort(l1, comparador), mergeSort(l2, comparador), comparador);
-    }
-
-    private Lista<T> mezcla(Lista<T> l1, Lista<T> l2, Comparator<T> comparador) {
-	Lista<T> ordenada = new Lista<>();
-	Nodo i = l1.cabeza;
-	Nodo j = l2.cabeza;
-	while(i != null && j != null) {
-	    if(comparador.compare(i.elemento, j.elemento) <= 0) {
-		ordenada.agregaFinal(i.elemento);
-		i = i.siguiente;
-	    } else {
-		ordenada.agregaFinal(j.elemento);
-		j = j.siguiente;
-	    }		    
-	}
-	while(i != null) {
-	    ordenada.agregaFinal(i.elemento);
-	    i = i.siguiente;
+	Lista<T> copia = copia();
+	copia.ordena(comparador);
+	return copia;
+    }
+
+    /**
+     * Ordena la lista usando MergeSort de abajo hacia arriba. El ordenamiento
+     * es estable y no crea nodos nuevos: sólo vuelve a ligar los que ya tiene
+     * la lista.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     */
+    public void ordena(Comparator<T> comparador) {
+	if(longitud <= 1)
+	    return;
+	cabeza = ordena(cabeza, comparador);
+	ligaAnteriores();
+    }
+
+    /**
+     * Regresa una copia de la lista, pero ordenada usando varios hilos. Ver
+     * {@link #ordenaParalelo(Comparator,int)}.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @param umbral el número de elementos debajo del cual un segmento se
+     *               ordena secuencialmente.
+     * @return una copia de la lista, pero ordenada.
+     * @throws IllegalArgumentException si el umbral es menor que uno.
+     */
+    public Lista<T> mergeSortParalelo(Comparator<T> comparador, int umbral) {
+	Lista<T> copia = copia();
+	copia.ordenaParalelo(comparador, umbral);
+	return copia;
+    }
+
+    /**
+     * Ordena la lista usando MergeSort en paralelo. La lista se parte a la
+     * mitad recursivamente hasta que los segmentos tienen a lo más
+     * <code>umbral</code> elementos; cada segmento se ordena como en {@link
+     * #ordena(Comparator)} en el {@link ForkJoinPool} común, y los segmentos
+     * ordenados se mezclan de regreso. Si la lista tiene a lo más
+     * <code>umbral</code> elementos, se ordena sin usar otros hilos. El
+     * ordenamiento es estable y no crea nodos nuevos. El comparador debe
+     * poder usarse desde varios hilos a la vez.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @param umbral el número de elementos debajo del cual un segmento se
+     *               ordena secuencialmente.
+     * @throws IllegalArgumentException si el umbral es menor que uno.
+     */
+    public void ordenaParalelo(Comparator<T> comparador, int umbral) {
+	if(umbral < 1)
+	    throw new IllegalArgumentException("Umbral inválido");
+	if(longitud <= umbral) {
+	    ordena(comparador);
+	    return;
 	}
-	while(j != null) {
-	    ordenada.agregaFinal(j.elemento);
-	    j = j.siguiente;
+	cabeza = ForkJoinPool.commonPool().invoke(
+	    new Tarea(cabeza, longitud, comparador, umbral));
+	ligaAnteriores();
+    }
+
+    /* Ordena la cadena de nodos que empieza en inicio, ligada por siguiente y
+       terminada en null, y regresa su nueva cabeza. Como en un contador
+       binario, corridas[i] guarda una corrida ordenada de 2^i nodos, y cada
+       nodo nuevo se mezcla con las corridas existentes mientras haya una del
+       mismo tamaño; así las mezclas trabajan sobre nodos visitados
+       recientemente. Los apuntadores anterior no se actualizan. */
+    @SuppressWarnings("unchecked")
+    private Nodo ordena(Nodo inicio, Comparator<T> comparador) {
+	Nodo[] corridas = (Nodo[])new Lista.Nodo[32];
+	int alto = 0;
+	Nodo n = inicio;
+	while(n != null) {
+	    Nodo corrida = n;
+	    n = n.siguiente;
+	    corrida.siguiente = null;
+	    int i = 0;
+	    while(i < alto && corridas[i] != null) {
+		corrida = mezcla(corridas[i], corrida, comparador);
+		corridas[i++] = null;
+	    }
+	    if(i == alto)
+		alto++;
+	    corridas[i] = corrida;
 	}
+	Nodo ordenada = null;
+	for(int i = 0; i < alto; i++)
+	    if(corridas[i] != null)
+		ordenada = ordenada == null ? corridas[i] :
+		    mezcla(corridas[i], ordenada, comparador);
 	return ordenada;
     }
 
+    /* Mezcla dos cadenas ordenadas terminadas en null y regresa la cabeza del
+       resultado. En caso de empate gana a, que debe tener los elementos que
+       aparecían antes en la lista, para que la mezcla sea estable. */
+    private Nodo mezcla(Nodo a, Nodo b, Comparator<T> comparador) {
+	Nodo cabeza, cola;
+	if(comparador.compare(a.elemento, b.elemento) <= 0) {
+	    cabeza = a;
+	    a = a.siguiente;
+	} else {
+	    cabeza = b;
+	    b = b.siguiente;
+	}
+	cola = cabeza;
+	while(a != null && b != null) {
+	    if(comparador.compare(a.elemento, b.elemento) <= 0) {
+		cola.siguiente = a;
+		a = a.siguiente;
+	    } else {
+		cola.siguiente = b;
+		b = b.siguiente;
+	    }
+	    cola = cola.siguiente;
+	}
+	cola.siguiente = a != null ? a : b;
+	return cabeza;
+    }
+
+    /* Repara los apuntadores anterior y el rabo a partir de la cabeza. */
+    private void ligaAnteriores() {
+	Nodo anterior = null;
+	for(Nodo n = cabeza; n != null; n = n.siguiente) {
+	    n.anterior = anterior;
+	    anterior = n;
+	}
+	rabo = anterior;
+    }
+
     /**
      * Regresa una copia de la lista recibida, pero ordenada. La lista recibida
      * tiene que contener nada más elementos que implementan la interfaz {@link
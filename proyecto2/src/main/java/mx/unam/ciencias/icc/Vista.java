@@ -0,0 +1,379 @@
+package mx.unam.ciencias.icc;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * <p>Clase para vistas perezosas de listas.</p>
+ *
+ * <p>Una vista no guarda elementos: describe cómo obtenerlos de una lista
+ * cuando se recorre. Las operaciones {@link #filtra}, {@link #mapea}, {@link
+ * #reversa} y {@link #sublista} regresan nuevas vistas en tiempo constante, y
+ * se pueden encadenar; al recorrer la vista resultante, todas se aplican en
+ * una sola pasada, elemento por elemento, sin crear listas intermedias.</p>
+ *
+ * <p>Las vistas se recorren con un {@link IteradorLista}, por lo que se pueden
+ * recorrer en ambas direcciones. Reflejan el estado de la lista al momento
+ * de recorrerlas; modificar la lista mientras se recorre una vista tiene
+ * el mismo efecto que modificarla mientras se recorre con su iterador.</p>
+ *
+ * @param <T> El tipo de los elementos de la vista.
+ */
+public class Vista<T> implements Iterable<T> {
+
+    /* Clase interna privada para iteradores de vistas filtradas. El iterador
+     * adelanta la búsqueda del siguiente (o anterior) elemento que cumple el
+     * predicado, y lo guarda en pendiente hasta que se pide. */
+    private static class IteradorFiltro<T> implements IteradorLista<T> {
+	/* El iterador de la vista original. */
+	private IteradorLista<T> iterador;
+	/* El predicado. */
+	private Predicate<? super T> predicado;
+	/* El elemento encontrado por adelantado. */
+	private T pendiente;
+	/* 1 si pendiente es el siguiente elemento y el iterador original ya
+	 * lo pasó; -1 si es el anterior y el iterador original está antes de
+	 * él; 0 si no hay elemento pendiente. */
+	private int direccion;
+
+	/* Construye un iterador filtrado. */
+	private IteradorFiltro(IteradorLista<T> iterador,
+			       Predicate<? super T> predicado) {
+	    this.iterador = iterador;
+	    this.predicado = predicado;
+	}
+
+	/* Nos dice si hay un elemento siguiente. */
+	@Override public boolean hasNext() {
+	    if(direccion == 1)
+		return true;
+	    if(direccion == -1) {
+		iterador.next();
+		direccion = 0;
+	    }
+	    while(iterador.hasNext()) {
+		T elemento = iterador.next();
+		if(predicado.test(elemento)) {
+		    pendiente = elemento;
+		    direccion = 1;
+		    return true;
+		}
+	    }
+	    return false;
+	}
+
+	/* Nos da el elemento siguiente. */
+	@Override public T next() {
+	    if(!hasNext())
+		throw new NoSuchElementException("El iterador no tiene elemento siguiente");
+	    direccion = 0;
+	    return pendiente;
+	}
+
+	/* Nos dice si hay un elemento anterior. */
+	@Override public boolean hasPrevious() {
+	    if(direccion == -1)
+		return true;
+	    if(direccion == 1) {
+		iterador.previous();
+		direccion = 0;
+	    }
+	    while(iterador.hasPrevious()) {
+		T elemento = iterador.previous();
+		if(predicado.test(elemento)) {
+		    pendiente = elemento;
+		    direccion = -1;
+		    return true;
+		}
+	    }
+	    return false;
+	}
+
+	/* Nos da el elemento anterior. */
+	@Override public T previous() {
+	    if(!hasPrevious())
+		throw new NoSuchElementException("El iterador no tiene elemento anterior");
+	    direccion = 0;
+	    return pendiente;
+	}
+
+	/* Mueve el iterador al inicio. */
+	@Override public void start() {
+	    iterador.start();
+	    direccion = 0;
+	}
+
+	/* Mueve el iterador al final. */
+	@Override public void end() {
+	    iterador.end();
+	    direccion = 0;
+	}
+    }
+
+    /* Clase interna privada para iteradores de vistas transformadas. */
+    private static class IteradorMapeo<T, R> implements IteradorLista<R> {
+	/* El iterador de la vista original. */
+	private IteradorLista<T> iterador;
+	/* La función. */
+	private Function<? super T, ? extends R> funcion;
+
+	/* Construye un iterador transformado. */
+	private IteradorMapeo(IteradorLista<T> iterador,
+			      Function<? super T, ? extends R> funcion) {
+	    this.iterador = iterador;
+	    this.funcion = funcion;
+	}
+
+	/* Nos dice si hay un elemento siguiente. */
+	@Override public boolean hasNext() {
+	    return iterador.hasNext();
+	}
+
+	/* Nos da el elemento siguiente. */
+	@Override public R next() {
+	    return funcion.apply(iterador.next());
+	}
+
+	/* Nos dice si hay un elemento anterior. */
+	@Override public boolean hasPrevious() {
+	    return iterador.hasPrevious();
+	}
+
+	/* Nos da el elemento anterior. */
+	@Override public R previous() {
+	    return funcion.apply(iterador.previous());
+	}
+
+	/* Mueve el iterador al inicio. */
+	@Override public void start() {
+	    iterador.start();
+	}
+
+	/* Mueve el iterador al final. */
+	@Override public void end() {
+	    iterador.end();
+	}
+    }
+
+    /* Clase interna privada para iteradores de vistas en reversa. */
+    private static class IteradorReversa<T> implements IteradorLista<T> {
+	/* El iterador de la vista original. */
+	private IteradorLista<T> iterador;
+
+	/* Construye un iterador en reversa, al inicio de la reversa. */
+	private IteradorReversa(IteradorLista<T> iterador) {
+	    this.iterador = iterador;
+	    iterador.end();
+	}
+
+	/* Nos dice si hay un elemento siguiente. */
+	@Override public boolean hasNext() {
+	    return iterador.hasPrevious();
+	}
+
+	/* Nos da el elemento siguiente. */
+	@Override public T next() {
+	    return iterador.previous();
+	}
+
+	/* Nos dice si hay un elemento anterior. */
+	@Override public boolean hasPrevious() {
+	    return iterador.hasNext();
+	}
+
+	/* Nos da el elemento anterior. */
+	@Override public T previous() {
+	    return iterador.next();
+	}
+
+	/* Mueve el iterador al inicio. */
+	@Override public void start() {
+	    iterador.end();
+	}
+
+	/* Mueve el iterador al final. */
+	@Override public void end() {
+	    iterador.start();
+	}
+    }
+
+    /* Clase interna privada para iteradores de subvistas. Lleva la cuenta del
+     * índice del iterador original, para no salirse del rango. */
+    private static class IteradorSublista<T> implements IteradorLista<T> {
+	/* El iterador de la vista original. */
+	private IteradorLista<T> iterador;
+	/* El índice del primer elemento. */
+	private int desde;
+	/* El índice siguiente al del último elemento. */
+	private int hasta;
+	/* El número de elementos antes del iterador original. */
+	private int indice;
+
+	/* Construye un iterador de subvista, al inicio de la subvista. */
+	private IteradorSublista(IteradorLista<T> iterador,
+				 int desde, int hasta) {
+	    this.iterador = iterador;
+	    this.desde = desde;
+	    this.hasta = hasta;
+	    start();
+	}
+
+	/* Nos dice si hay un elemento siguiente. */
+	@Override public boolean hasNext() {
+	    return indice < hasta && iterador.hasNext();
+	}
+
+	/* Nos da el elemento siguiente. */
+	@Override public T next() {
+	    if(!hasNext())
+		throw new NoSuchElementException("El iterador no tiene elemento siguiente");
+	    indice++;
+	    return iterador.next();
+	}
+
+	/* Nos dice si hay un elemento anterior. */
+	@Override public boolean hasPrevious() {
+	    return indice > desde && iterador.hasPrevious();
+	}
+
+	/* Nos da el elemento anterior. */
+	@Override public T previous() {
+	    if(!hasPrevious())
+		throw new NoSuchElementException("El iterador no tiene elemento anterior");
+	    indice--;
+	    return iterador.previous();
+	}
+
+	/* Mueve el iterador al inicio. */
+	@Override public void start() {
+	    iterador.start();
+	    avanza(desde);
+	}
+
+	/* Mueve el iterador al final. */
+	@Override public void end() {
+	    iterador.start();
+	    avanza(hasta);
+	}
+
+	/* Mueve el iterador original desde el inicio hasta el índice, o hasta
+	 * el final si tiene menos elementos. */
+	private void avanza(int hasta) {
+	    indice = 0;
+	    while(indice < hasta && iterador.hasNext()) {
+		iterador.next();
+		indice++;
+	    }
+	}
+    }
+
+    /* El proveedor de iteradores de la vista. */
+    private Supplier<IteradorLista<T>> iteradores;
+
+    /* Construye una vista cuyos recorridos usan los iteradores del
+     * proveedor. */
+    Vista(Supplier<IteradorLista<T>> iteradores) {
+	this.iteradores = iteradores;
+    }
+
+    /**
+     * Regresa una vista con los elementos de ésta que cumplen el predicado, en
+     * el mismo orden. El predicado se evalúa al recorrer la vista.
+     * @param predicado el predicado.
+     * @return una vista con los elementos que cumplen el predicado.
+     * @throws IllegalArgumentException si el predicado es <code>null</code>.
+     */
+    public Vista<T> filtra(Predicate<? super T> predicado) {
+	if(predicado == null)
+	    throw new IllegalArgumentException("Predicado inválido");
+	return new Vista<T>(() -> new IteradorFiltro<T>(iteradorLista(),
+							predicado));
+    }
+
+    /**
+     * Regresa una vista con el resultado de aplicar la función a cada elemento
+     * de ésta, en el mismo orden. La función se aplica al recorrer la vista,
+     * cada vez que se visita un elemento.
+     * @param <R> el tipo de los elementos de la nueva vista.
+     * @param funcion la función.
+     * @return una vista con los elementos transformados.
+     * @throws IllegalArgumentException si la función es <code>null</code>.
+     */
+    public <R> Vista<R> mapea(Function<? super T, ? extends R> funcion) {
+	if(funcion == null)
+	    throw new IllegalArgumentException("Función inválida");
+	return new Vista<R>(() -> new IteradorMapeo<T, R>(iteradorLista(),
+							  funcion));
+    }
+
+    /**
+     * Regresa una vista con los elementos de ésta en orden inverso.
+     * @return una vista con los elementos en orden inverso.
+     */
+    public Vista<T> reversa() {
+	return new Vista<T>(() -> new IteradorReversa<T>(iteradorLista()));
+    }
+
+    /**
+     * Regresa una vista con los elementos de ésta cuyos índices están en el
+     * rango [<code>desde</code>, <code>hasta</code>). Si la vista tiene menos
+     * de <code>hasta</code> elementos, la subvista termina con el último.
+     * @param desde el índice del primer elemento de la subvista.
+     * @param hasta el índice siguiente al del último elemento de la subvista.
+     * @return una vista con los elementos en el rango.
+     * @throws ExcepcionIndiceInvalido si <code>desde</code> es negativo o
+     *         mayor que <code>hasta</code>.
+     */
+    public Vista<T> sublista(int desde, int hasta) {
+	if(desde < 0 || hasta < desde)
+	    throw new ExcepcionIndiceInvalido("Índice inválido");
+	return new Vista<T>(() -> new IteradorSublista<T>(iteradorLista(),
+							  desde, hasta));
+    }
+
+    /**
+     * Regresa una lista nueva con los elementos de la vista.
+     * @return una lista con los elementos de la vista, en el mismo orden.
+     */
+    public Lista<T> aLista() {
+	Lista<T> lista = new Lista<T>();
+	for(T elemento : this)
+	    lista.agregaFinal(elemento);
+	return lista;
+    }
+
+    /**
+     * Regresa un iterador para recorrer la vista en una dirección.
+     * @return un iterador para recorrer la vista en una dirección.
+     */
+    @Override public Iterator<T> iterator() {
+	return iteradorLista();
+    }
+
+    /**
+     * Regresa un iterador para recorrer la vista en ambas direcciones. El
+     * iterador empieza al inicio de la vista.
+     * @return un iterador para recorrer la vista en ambas direcciones.
+     */
+    public IteradorLista<T> iteradorLista() {
+	return iteradores.get();
+    }
+
+    /**
+     * Regresa una representación en cadena de la vista.
+     * @return una representación en cadena de la vista.
+     */
+    @Override public String toString() {
+	StringBuilder sb = new StringBuilder("[");
+	Iterator<T> iterador = iterator();
+	while(iterador.hasNext()) {
+	    sb.append(iterador.next());
+	    if(iterador.hasNext())
+		sb.append(", ");
+	}
+	return sb.append("]").toString();
+    }
+}
@@ -50,6 +50,8 @@ public class Aplicacion {
     
     /* Código de terminación por error de lectura. */
     private static final int ERROR_LECTURA = 5;
+    /* Número de líneas debajo del cual se ordena en un solo hilo. */
+    private static final int UMBRAL_PARALELO = 1 << 14;
     
     // Códigos ANSI para colores en la terminal
     public static final String RESET = "\u001B[0m";
@@ -147,10 +149,10 @@ public class Aplicacion {
 	    Archivos.guarda(identificador, lineasOrdenadas);
 	    break;
 	case GUARDAYREVERSA:
-	    Archivos.guardaReversa(identificador, lineasOrdenadas);
+	    Archivos.guardaReversa(identificador, lineasOrdenadas.vista());
 	    break;
 	case REVERSA:
-	    Archivos.reversa(lineasOrdenadas);
+	    Archivos.reversa(lineasOrdenadas.vista());
 	    break;
 	case IMPRIME:
 	    Archivos.imprime(lineasOrdenadas);
@@ -161,10 +163,14 @@ public class Aplicacion {
     }
     
     /**
-     * Ordena la lista de líneas de archivos.
+     * Ordena la lista de líneas de archivos. La lista se ordena en su lugar,
+     * para no copiar todas las líneas, y en paralelo si es suficientemente
+     * grande.
      */
     private void ordena() {
-	lineasOrdenadas = lineasArchivos.mergeSort((a, b) -> a.compareTo(b));
+	lineasArchivos.ordenaParalelo((a, b) -> a.compareTo(b),
+				      UMBRAL_PARALELO);
+	lineasOrdenadas = lineasArchivos;
     }
     
 }
@@ -8,8 +8,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import mx.unam.ciencias.icc.ExcepcionIndiceInvalido;
-import mx.unam.ciencias.icc.IteradorLista;
-import mx.unam.ciencias.icc.Lista;
+import mx.unam.ciencias.icc.Vista;
 
 /**
  * Clase para manejar los archivos de texto a través de listas genéricas.
@@ -23,22 +22,19 @@ public class Archivos {
     /* Código de terminación por error de guardado. */
     private static final int ERROR_GUARDA = 1;
     
-    /* Modo de imprimir de la aplicación. */
-    public static <T> void imprime(Lista<T> ordenada) {
+    /* Modo de imprimir de la aplicación. Recibe una lista o una vista. */
+    public static <T> void imprime(Iterable<T> ordenada) {
 	for(T linea : ordenada)
 	    System.out.println(linea);
     }
 
     /* Modo de reversa de la aplicación. */
-    public static <T> void reversa(Lista<T> ordenada){
-	IteradorLista<T> i = ordenada.iteradorLista();
-	i.end();
-	while(i.hasPrevious())
-	    System.out.println(i.previous());
+    public static <T> void reversa(Vista<T> ordenada){
+	imprime(ordenada.reversa());
     }
     
-    /* Modo de guarda de la aplicación. */
-    public static <T> void guarda(String identificador, Lista<T> ordenada) {
+    /* Modo de guarda de la aplicación. Recibe una lista o una vista. */
+    public static <T> void guarda(String identificador, Iterable<T> ordenada) {
 	try {
 	    BufferedWriter out = new BufferedWriter(
 				     new OutputStreamWriter(
@@ -58,25 +54,7 @@ public class Archivos {
     }
     
     /* Modo de guarda y reversa de la aplicación. */
-    public static <T> void guardaReversa(String identificador, Lista<T> ordenada) {
-	try {
-	    BufferedWriter out = new BufferedWriter(
-				     new OutputStreamWriter(
-					 new FileOutputStream(identificador)));
-	    IteradorLista<T> i = ordenada.iteradorLista();
-	    i.end();
-	    while(i.hasPrevious()) {
-		T linea = i.previous();
-		System.out.println(linea);
-		out.write(linea + "\n");
-	    }
-	    out.close();
-	} catch (IOException ioe) {
-	    System.err.printf(RED +
-			      "No pude guardar en el archivo \"%s\".\n",
-			      identificador
-			      + RESET);
-	    System.exit(ERROR_GUARDA);
-	}
+    public static <T> void guardaReversa(String identificador, Vista<T> ordenada) {
+	guarda(identificador, ordenada.reversa());
     }
 }
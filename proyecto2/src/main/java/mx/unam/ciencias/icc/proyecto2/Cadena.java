@@ -55,7 +55,6 @@ public class Cadena implements Comparable<Cadena> {
      *                                  el objeto Cadena que manda llamar al método.
      */
     @Override public int compareTo(Cadena c) {
-	System.out.println("olaaaaaaaaaaaaaaaaa");
 	Collator collator = Collator.getInstance();
 	collator.setStrength(Collator.PRIMARY);
 	String c1 = cadena.trim();
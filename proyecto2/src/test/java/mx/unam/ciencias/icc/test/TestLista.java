@@ -763,6 +763,95 @@ public class TestLista {
         }
     }
 
+    /**
+     * Prueba unitaria para {@link Lista#ordena(Comparator)}.
+     */
+    @Test public void testOrdena() {
+        lista.ordena((a, b) -> a.compareTo(b));
+        Assert.assertTrue(lista.esVacia());
+        Lista<String> copia = new Lista<String>();
+        for (int i = 0; i < total; i++) {
+            String e = str(random.nextInt(total));
+            lista.agregaFinal(e);
+            copia.agregaFinal(e);
+        }
+        lista.ordena((a, b) -> a.compareTo(b));
+        Assert.assertTrue(lista.getLongitud() == copia.getLongitud());
+        for (String e : copia)
+            Assert.assertTrue(lista.contiene(e));
+        String a = lista.getPrimero();
+        for (String e : lista) {
+            Assert.assertTrue(a.compareTo(e) <= 0);
+            a = e;
+        }
+        validaLista(lista);
+        Assert.assertTrue(lista.equals(copia.mergeSort((x, y) -> x.compareTo(y))));
+        /* Prueba estabilidad. */
+        total = 100 + total * 10;
+        int m = 7 + random.nextInt(20);
+        Lista<Par> pares = new Lista<Par>();
+        for (int i = 0; i < total; i++) {
+            int v = ((i % m) == 0) ? m : random.nextInt(total);
+            pares.agregaFinal(new Par(v, i));
+        }
+        pares.ordena((x, y) -> x.compareTo(y));
+        Assert.assertTrue(pares.getLongitud() == total);
+        Par u = null;
+        for (Par par : pares) {
+            if (u != null) {
+                Assert.assertTrue(u.getValor() <= par.getValor());
+                if (u.getValor() == par.getValor())
+                    Assert.assertTrue(u.getEtiqueta() < par.getEtiqueta());
+            }
+            u = par;
+        }
+        Assert.assertTrue(pares.getUltimo() == u);
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#ordenaParalelo(Comparator,int)} y
+     * {@link Lista#mergeSortParalelo(Comparator,int)}.
+     */
+    @Test public void testOrdenaParalelo() {
+        try {
+            lista.ordenaParalelo((a, b) -> a.compareTo(b), 0);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        lista.ordenaParalelo((a, b) -> a.compareTo(b), 1);
+        Assert.assertTrue(lista.esVacia());
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(str(random.nextInt(total)));
+        Lista<String> ordenada = lista.mergeSort((a, b) -> a.compareTo(b));
+        int umbral = 1 + random.nextInt(total / 4 + 1);
+        Lista<String> paralela =
+            lista.mergeSortParalelo((a, b) -> a.compareTo(b), umbral);
+        Assert.assertTrue(paralela.equals(ordenada));
+        Assert.assertFalse(paralela == lista);
+        lista.ordenaParalelo((a, b) -> a.compareTo(b), umbral);
+        Assert.assertTrue(lista.equals(ordenada));
+        validaLista(lista);
+        /* Prueba estabilidad. */
+        total = 100 + total * 10;
+        int m = 7 + random.nextInt(20);
+        Lista<Par> pares = new Lista<Par>();
+        for (int i = 0; i < total; i++) {
+            int v = ((i % m) == 0) ? m : random.nextInt(total);
+            pares.agregaFinal(new Par(v, i));
+        }
+        pares.ordenaParalelo((x, y) -> x.compareTo(y), 1 + random.nextInt(64));
+        Assert.assertTrue(pares.getLongitud() == total);
+        Par u = null;
+        for (Par par : pares) {
+            if (u != null) {
+                Assert.assertTrue(u.getValor() <= par.getValor());
+                if (u.getValor() == par.getValor())
+                    Assert.assertTrue(u.getEtiqueta() < par.getEtiqueta());
+            }
+            u = par;
+        }
+        Assert.assertTrue(pares.getUltimo() == u);
+    }
+
     /**
      * Prueba unitaria para {@link Lista#mergeSort(Lista)}.
      */
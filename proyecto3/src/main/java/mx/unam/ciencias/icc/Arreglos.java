@@ -1,12 +1,775 @@
 package mx.unam.ciencias.icc;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToLongFunction;
 
 /**
  * Clase para ordenar y buscar arreglos genéricos.
  */
 public class Arreglos {
 
+    /* Tamaño de los intervalos que QuickSort termina con InsertionSort. */
+    private static final int UMBRAL_INSERCION = 16;
+    /* Tamaño a partir del cual QuickSort usa la mediana de nueve. */
+    private static final int UMBRAL_NOVENA = 128;
+    /* Tamaño por omisión de los intervalos que se ordenan secuencialmente en
+     * el ordenamiento paralelo. */
+    private static final int UMBRAL_PARALELO = 1 << 13;
+    /* Victorias seguidas de una corrida para que MergeSort empiece a
+     * galopar. */
+    private static final int GALOPE_MINIMO = 7;
+    /* Número de valores de un dígito (un byte) en RadixSort. */
+    private static final int BASE_RADIX = 256;
+    /* Número de claves que avanzan juntas en la búsqueda binaria por
+     * lotes. */
+    private static final int GRUPO_LOTE = 16;
+
+    /* Clase interna privada para ordenar en paralelo con MergeSort. La tarea
+     * ordena los elementos de fuente en el intervalo [ini, fin) y deja el
+     * resultado en destino; al empezar, ambos arreglos tienen los mismos
+     * elementos en el intervalo, y fuente se usa como espacio auxiliar. */
+    private static class TareaOrdena<T> extends RecursiveAction {
+	/* El arreglo de dónde se leen los elementos. */
+	private T[] fuente;
+	/* El arreglo dónde queda el resultado. */
+	private T[] destino;
+	/* El inicio del intervalo. */
+	private int ini;
+	/* El fin (exclusivo) del intervalo. */
+	private int fin;
+	/* El comparador. */
+	private Comparator<T> comparador;
+	/* El tamaño debajo del cual se ordena y mezcla secuencialmente. */
+	private int umbral;
+
+	/* Construye una tarea para ordenar el intervalo. */
+	private TareaOrdena(T[] fuente, T[] destino, int ini, int fin,
+			    Comparator<T> comparador, int umbral) {
+	    this.fuente = fuente;
+	    this.destino = destino;
+	    this.ini = ini;
+	    this.fin = fin;
+	    this.comparador = comparador;
+	    this.umbral = umbral;
+	}
+
+	/* Ordena las dos mitades en paralelo (intercambiando los papeles de
+	   los arreglos) y las mezcla en paralelo en destino. */
+	@Override protected void compute() {
+	    if(fin - ini <= umbral) {
+		mergeSort(fuente, destino, ini, fin, comparador);
+		return;
+	    }
+	    int mitad = (ini + fin) >>> 1;
+	    invokeAll(new TareaOrdena<T>(destino, fuente, ini, mitad,
+					 comparador, umbral),
+		      new TareaOrdena<T>(destino, fuente, mitad, fin,
+					 comparador, umbral));
+	    new TareaMezcla<T>(fuente, destino, ini, mitad, mitad, fin, ini,
+			       comparador, umbral).compute();
+	}
+    }
+
+    /* Clase interna privada para mezclar en paralelo dos intervalos ordenados
+     * de fuente, [i, finI) y [j, finJ), en destino a partir de k. Los
+     * elementos del primer intervalo van antes que sus iguales del segundo. */
+    private static class TareaMezcla<T> extends RecursiveAction {
+	/* El arreglo de dónde se leen los elementos. */
+	private T[] fuente;
+	/* El arreglo dónde queda el resultado. */
+	private T[] destino;
+	/* El primer intervalo. */
+	private int i, finI;
+	/* El segundo intervalo. */
+	private int j, finJ;
+	/* Dónde empieza el resultado. */
+	private int k;
+	/* El comparador. */
+	private Comparator<T> comparador;
+	/* El tamaño debajo del cual se mezcla secuencialmente. */
+	private int umbral;
+
+	/* Construye una tarea para mezclar los intervalos. */
+	private TareaMezcla(T[] fuente, T[] destino, int i, int finI,
+			    int j, int finJ, int k,
+			    Comparator<T> comparador, int umbral) {
+	    this.fuente = fuente;
+	    this.destino = destino;
+	    this.i = i;
+	    this.finI = finI;
+	    this.j = j;
+	    this.finJ = finJ;
+	    this.k = k;
+	    this.comparador = comparador;
+	    this.umbral = umbral;
+	}
+
+	/* Parte el intervalo más grande a la mitad, busca dónde cae su
+	   elemento de en medio en el otro, y mezcla las dos partes de cada
+	   lado en paralelo. */
+	@Override protected void compute() {
+	    int n = finI - i;
+	    int m = finJ - j;
+	    if(n + m <= umbral || (n <= 1 && m <= 1)) {
+		mezcla(fuente, i, finI, j, finJ, destino, k, comparador);
+		return;
+	    }
+	    int mi, mj;
+	    if(n >= m) {
+		mi = (i + finI) >>> 1;
+		mj = cotaInferior(fuente, j, finJ, fuente[mi], comparador);
+	    } else {
+		mj = (j + finJ) >>> 1;
+		mi = cotaSuperior(fuente, i, finI, fuente[mj], comparador);
+	    }
+	    int mk = k + (mi - i) + (mj - j);
+	    invokeAll(new TareaMezcla<T>(fuente, destino, i, mi, j, mj, k,
+					 comparador, umbral),
+		      new TareaMezcla<T>(fuente, destino, mi, finI, mj, finJ,
+					 mk, comparador, umbral));
+	}
+    }
+
+    /* Clase interna privada para ordenar en paralelo arreglos de int; ver
+     * TareaOrdena. */
+    private static class TareaOrdenaInt extends RecursiveAction {
+	/* El arreglo de dónde se leen los elementos. */
+	private int[] fuente;
+	/* El arreglo dónde queda el resultado. */
+	private int[] destino;
+	/* El intervalo [ini, fin). */
+	private int ini, fin;
+	/* El tamaño debajo del cual se ordena y mezcla secuencialmente. */
+	private int umbral;
+
+	/* Construye una tarea para ordenar el intervalo. */
+	private TareaOrdenaInt(int[] fuente, int[] destino,
+			       int ini, int fin, int umbral) {
+	    this.fuente = fuente;
+	    this.destino = destino;
+	    this.ini = ini;
+	    this.fin = fin;
+	    this.umbral = umbral;
+	}
+
+	/* Ordena las dos mitades en paralelo y las mezcla en paralelo. */
+	@Override protected void compute() {
+	    if(fin - ini <= umbral) {
+		mergeSort(fuente, destino, ini, fin);
+		return;
+	    }
+	    int mitad = (ini + fin) >>> 1;
+	    invokeAll(new TareaOrdenaInt(destino, fuente,
+					 ini, mitad, umbral),
+		      new TareaOrdenaInt(destino, fuente,
+					 mitad, fin, umbral));
+	    new TareaMezclaInt(fuente, destino, ini, mitad, mitad, fin, ini,
+			       umbral).compute();
+	}
+    }
+
+    /* Clase interna privada para mezclar en paralelo arreglos de int; ver
+     * TareaMezcla. */
+    private static class TareaMezclaInt extends RecursiveAction {
+	/* El arreglo de dónde se leen los elementos. */
+	private int[] fuente;
+	/* El arreglo dónde queda el resultado. */
+	private int[] destino;
+	/* Los intervalos [i, finI) y [j, finJ), y dónde empieza el
+	   resultado. */
+	private int i, finI, j, finJ, k;
+	/* El tamaño debajo del cual se mezcla secuencialmente. */
+	private int umbral;
+
+	/* Construye una tarea para mezclar los intervalos. */
+	private TareaMezclaInt(int[] fuente, int[] destino,
+			       int i, int finI, int j, int finJ,
+			       int k, int umbral) {
+	    this.fuente = fuente;
+	    this.destino = destino;
+	    this.i = i;
+	    this.finI = finI;
+	    this.j = j;
+	    this.finJ = finJ;
+	    this.k = k;
+	    this.umbral = umbral;
+	}
+
+	/* Parte el intervalo más grande a la mitad y mezcla las dos partes
+	   de cada lado en paralelo. */
+	@Override protected void compute() {
+	    int n = finI - i;
+	    int m = finJ - j;
+	    if(n + m <= umbral || (n <= 1 && m <= 1)) {
+		mezcla(fuente, i, finI, j, finJ, destino, k);
+		return;
+	    }
+	    int mi, mj;
+	    if(n >= m) {
+		mi = (i + finI) >>> 1;
+		mj = cotaInferior(fuente, j, finJ, fuente[mi]);
+	    } else {
+		mj = (j + finJ) >>> 1;
+		mi = cotaSuperior(fuente, i, finI, fuente[mj]);
+	    }
+	    int mk = k + (mi - i) + (mj - j);
+	    invokeAll(new TareaMezclaInt(fuente, destino, i, mi, j, mj, k,
+					 umbral),
+		      new TareaMezclaInt(fuente, destino, mi, finI, mj, finJ,
+					 mk, umbral));
+	}
+    }
+
+    /* Clase interna privada para ordenar en paralelo arreglos de long; ver
+     * TareaOrdena. */
+    private static class TareaOrdenaLong extends RecursiveAction {
+	/* El arreglo de dónde se leen los elementos. */
+	private long[] fuente;
+	/* El arreglo dónde queda el resultado. */
+	private long[] destino;
+	/* El intervalo [ini, fin). */
+	private int ini, fin;
+	/* El tamaño debajo del cual se ordena y mezcla secuencialmente. */
+	private int umbral;
+
+	/* Construye una tarea para ordenar el intervalo. */
+	private TareaOrdenaLong(long[] fuente, long[] destino,
+			       int ini, int fin, int umbral) {
+	    this.fuente = fuente;
+	    this.destino = destino;
+	    this.ini = ini;
+	    this.fin = fin;
+	    this.umbral = umbral;
+	}
+
+	/* Ordena las dos mitades en paralelo y las mezcla en paralelo. */
+	@Override protected void compute() {
+	    if(fin - ini <= umbral) {
+		mergeSort(fuente, destino, ini, fin);
+		return;
+	    }
+	    int mitad = (ini + fin) >>> 1;
+	    invokeAll(new TareaOrdenaLong(destino, fuente,
+					  ini, mitad, umbral),
+		      new TareaOrdenaLong(destino, fuente,
+					  mitad, fin, umbral));
+	    new TareaMezclaLong(fuente, destino, ini, mitad, mitad, fin, ini,
+			       umbral).compute();
+	}
+    }
+
+    /* Clase interna privada para mezclar en paralelo arreglos de long; ver
+     * TareaMezcla. */
+    private static class TareaMezclaLong extends RecursiveAction {
+	/* El arreglo de dónde se leen los elementos. */
+	private long[] fuente;
+	/* El arreglo dónde queda el resultado. */
+	private long[] destino;
+	/* Los intervalos [i, finI) y [j, finJ), y dónde empieza el
+	   resultado. */
+	private int i, finI, j, finJ, k;
+	/* El tamaño debajo del cual se mezcla secuencialmente. */
+	private int umbral;
+
+	/* Construye una tarea para mezclar los intervalos. */
+	private TareaMezclaLong(long[] fuente, long[] destino,
+				int i, int finI, int j, int finJ,
+				int k, int umbral) {
+	    this.fuente = fuente;
+	    this.destino = destino;
+	    this.i = i;
+	    this.finI = finI;
+	    this.j = j;
+	    this.finJ = finJ;
+	    this.k = k;
+	    this.umbral = umbral;
+	}
+
+	/* Parte el intervalo más grande a la mitad y mezcla las dos partes
+	   de cada lado en paralelo. */
+	@Override protected void compute() {
+	    int n = finI - i;
+	    int m = finJ - j;
+	    if(n + m <= umbral || (n <= 1 && m <= 1)) {
+		mezcla(fuente, i, finI, j, finJ, destino, k);
+		return;
+	    }
+	    int mi, mj;
+	    if(n >= m) {
+		mi = (i + finI) >>> 1;
+		mj = cotaInferior(fuente, j, finJ, fuente[mi]);
+	    } else {
+		mj = (j + finJ) >>> 1;
+		mi = cotaSuperior(fuente, i, finI, fuente[mj]);
+	    }
+	    int mk = k + (mi - i) + (mj - j);
+	    invokeAll(new TareaMezclaLong(fuente, destino, i, mi, j, mj, k,
+					 umbral),
+		      new TareaMezclaLong(fuente, destino, mi, finI, mj, finJ,
+					 mk, umbral));
+	}
+    }
+
+    /* Clase interna privada para ordenar en paralelo arreglos de double; ver
+     * TareaOrdena. */
+    private static class TareaOrdenaDouble extends RecursiveAction {
+	/* El arreglo de dónde se leen los elementos. */
+	private double[] fuente;
+	/* El arreglo dónde queda el resultado. */
+	private double[] destino;
+	/* El intervalo [ini, fin). */
+	private int ini, fin;
+	/* El tamaño debajo del cual se ordena y mezcla secuencialmente. */
+	private int umbral;
+
+	/* Construye una tarea para ordenar el intervalo. */
+	private TareaOrdenaDouble(double[] fuente, double[] destino,
+			       int ini, int fin, int umbral) {
+	    this.fuente = fuente;
+	    this.destino = destino;
+	    this.ini = ini;
+	    this.fin = fin;
+	    this.umbral = umbral;
+	}
+
+	/* Ordena las dos mitades en paralelo y las mezcla en paralelo. */
+	@Override protected void compute() {
+	    if(fin - ini <= umbral) {
+		mergeSort(fuente, destino, ini, fin);
+		return;
+	    }
+	    int mitad = (ini + fin) >>> 1;
+	    invokeAll(new TareaOrdenaDouble(destino, fuente,
+					    ini, mitad, umbral),
+		      new TareaOrdenaDouble(destino, fuente,
+					    mitad, fin, umbral));
+	    new TareaMezclaDouble(fuente, destino, ini, mitad, mitad, fin, ini,
+			       umbral).compute();
+	}
+    }
+
+    /* Clase interna privada para mezclar en paralelo arreglos de double; ver
+     * TareaMezcla. */
+    private static class TareaMezclaDouble extends RecursiveAction {
+	/* El arreglo de dónde se leen los elementos. */
+	private double[] fuente;
+	/* El arreglo dónde queda el resultado. */
+	private double[] destino;
+	/* Los intervalos [i, finI) y [j, finJ), y dónde empieza el
+	   resultado. */
+	private int i, finI, j, finJ, k;
+	/* El tamaño debajo del cual se mezcla secuencialmente. */
+	private int umbral;
+
+	/* Construye una tarea para mezclar los intervalos. */
+	private TareaMezclaDouble(double[] fuente, double[] destino,
+				  int i, int finI, int j, int finJ,
+				  int k, int umbral) {
+	    this.fuente = fuente;
+	    this.destino = destino;
+	    this.i = i;
+	    this.finI = finI;
+	    this.j = j;
+	    this.finJ = finJ;
+	    this.k = k;
+	    this.umbral = umbral;
+	}
+
+	/* Parte el intervalo más grande a la mitad y mezcla las dos partes
+	   de cada lado en paralelo. */
+	@Override protected void compute() {
+	    int n = finI - i;
+	    int m = finJ - j;
+	    if(n + m <= umbral || (n <= 1 && m <= 1)) {
+		mezcla(fuente, i, finI, j, finJ, destino, k);
+		return;
+	    }
+	    int mi, mj;
+	    if(n >= m) {
+		mi = (i + finI) >>> 1;
+		mj = cotaInferior(fuente, j, finJ, fuente[mi]);
+	    } else {
+		mj = (j + finJ) >>> 1;
+		mi = cotaSuperior(fuente, i, finI, fuente[mj]);
+	    }
+	    int mk = k + (mi - i) + (mj - j);
+	    invokeAll(new TareaMezclaDouble(fuente, destino, i, mi, j, mj, k,
+					 umbral),
+		      new TareaMezclaDouble(fuente, destino, mi, finI, mj, finJ,
+					 mk, umbral));
+	}
+    }
+
+    /* Clase interna privada para el MergeSort adaptable. Guarda el estado de
+     * un ordenamiento: la pila de corridas que falta mezclar, el arreglo
+     * auxiliar para las mezclas y el número de victorias seguidas a partir
+     * del cual una mezcla empieza a galopar. */
+    private static class MezclaCorridas<T> {
+	/* El arreglo a ordenar. */
+	private T[] arreglo;
+	/* El comparador. */
+	private Comparator<T> comparador;
+	/* El arreglo auxiliar; crece según se necesita. */
+	private T[] auxiliar;
+	/* Victorias seguidas para entrar en modo galope. */
+	private int galope;
+	/* Los inicios de las corridas pendientes. */
+	private ListaInt inicios;
+	/* Las longitudes de las corridas pendientes. */
+	private ListaInt longitudes;
+
+	/* Construye el estado para ordenar el arreglo. */
+	private MezclaCorridas(T[] arreglo, Comparator<T> comparador) {
+	    this.arreglo = arreglo;
+	    this.comparador = comparador;
+	    galope = GALOPE_MINIMO;
+	    inicios = new ListaInt();
+	    longitudes = new ListaInt();
+	}
+
+	/* Ordena el arreglo: lo recorre encontrando corridas naturales,
+	   alargando con InsertionSort las que son muy cortas, y las mezcla
+	   de manera que las longitudes en la pila crezcan como los números
+	   de Fibonacci. */
+	private void ordena() {
+	    int n = arreglo.length;
+	    int minima = corridaMinima(n);
+	    int ini = 0;
+	    while(ini < n) {
+		int longitud = corrida(ini);
+		if(longitud < minima) {
+		    int forzada = Math.min(minima, n - ini);
+		    insercionBinaria(ini, ini + longitud, ini + forzada);
+		    longitud = forzada;
+		}
+		inicios.agregaFinal(ini);
+		longitudes.agregaFinal(longitud);
+		colapsa();
+		ini += longitud;
+	    }
+	    while(longitudes.getLongitud() > 1) {
+		int i = longitudes.getLongitud() - 2;
+		if(i > 0 && longitudes.get(i - 1) < longitudes.get(i + 1))
+		    i--;
+		mezclaEn(i);
+	    }
+	}
+
+	/* Regresa la longitud mínima de las corridas: un número entre 32 y
+	   64 tal que n entre él es una potencia de dos o un poco menos. */
+	private int corridaMinima(int n) {
+	    int r = 0;
+	    while(n >= 64) {
+		r |= n & 1;
+		n >>= 1;
+	    }
+	    return n + r;
+	}
+
+	/* Regresa la longitud de la corrida que empieza en ini. Si la
+	   corrida es estrictamente descendiente, la invierte; así no cambia
+	   el orden relativo de elementos iguales. */
+	private int corrida(int ini) {
+	    int fin = ini + 1;
+	    if(fin == arreglo.length)
+		return 1;
+	    if(comparador.compare(arreglo[fin++], arreglo[ini]) < 0) {
+		while(fin < arreglo.length &&
+		       comparador.compare(arreglo[fin], arreglo[fin-1]) < 0)
+		    fin++;
+		for(int i = ini, j = fin - 1; i < j; i++, j--)
+		    intercambia(arreglo, i, j);
+	    } else {
+		while(fin < arreglo.length &&
+		       comparador.compare(arreglo[fin], arreglo[fin-1]) >= 0)
+		    fin++;
+	    }
+	    return fin - ini;
+	}
+
+	/* Ordena [ini, fin) con InsertionSort, sabiendo que [ini, desde) ya
+	   está ordenado. La posición de cada elemento se busca con búsqueda
+	   binaria, después de sus iguales. */
+	private void insercionBinaria(int ini, int desde, int fin) {
+	    for(int i = desde; i < fin; i++) {
+		T elemento = arreglo[i];
+		int p = ini + galopaDerecha(elemento, arreglo, ini, i - ini,
+					    i - ini - 1);
+		System.arraycopy(arreglo, p, arreglo, p + 1, i - p);
+		arreglo[p] = elemento;
+	    }
+	}
+
+	/* Mezcla las corridas mientras las longitudes de las últimas tres no
+	   cumplan que cada una es mayor que la suma de las dos siguientes, y
+	   cada una mayor que la siguiente. */
+	private void colapsa() {
+	    while(longitudes.getLongitud() > 1) {
+		int i = longitudes.getLongitud() - 2;
+		if((i > 0 && longitudes.get(i - 1) <=
+		     longitudes.get(i) + longitudes.get(i + 1)) ||
+		    (i > 1 && longitudes.get(i - 2) <=
+		     longitudes.get(i - 1) + longitudes.get(i))) {
+		    if(longitudes.get(i - 1) < longitudes.get(i + 1))
+			i--;
+		} else if(longitudes.get(i) > longitudes.get(i + 1)) {
+		    break;
+		}
+		mezclaEn(i);
+	    }
+	}
+
+	/* Mezcla las corridas i e i + 1 de la pila. Antes de mezclar,
+	   descarta los elementos de la primera corrida que ya están en su
+	   lugar por ser menores o iguales que el primero de la segunda, y
+	   los de la segunda que ya están en su lugar por ser mayores que el
+	   último de la primera. */
+	private void mezclaEn(int i) {
+	    int ini1 = inicios.get(i);
+	    int lon1 = longitudes.get(i);
+	    int ini2 = inicios.get(i + 1);
+	    int lon2 = longitudes.get(i + 1);
+	    longitudes.set(i, lon1 + lon2);
+	    if(i == longitudes.getLongitud() - 3) {
+		inicios.set(i + 1, inicios.get(i + 2));
+		longitudes.set(i + 1, longitudes.get(i + 2));
+	    }
+	    inicios.eliminaUltimo();
+	    longitudes.eliminaUltimo();
+	    int k = galopaDerecha(arreglo[ini2], arreglo, ini1, lon1, 0);
+	    ini1 += k;
+	    lon1 -= k;
+	    if(lon1 == 0)
+		return;
+	    lon2 = galopaIzquierda(arreglo[ini1 + lon1 - 1], arreglo,
+				   ini2, lon2, lon2 - 1);
+	    if(lon2 == 0)
+		return;
+	    if(lon1 <= lon2)
+		mezclaAdelante(ini1, lon1, ini2, lon2);
+	    else
+		mezclaAtras(ini1, lon1, ini2, lon2);
+	}
+
+	/* Regresa el arreglo auxiliar, con espacio para al menos n
+	   elementos. */
+	@SuppressWarnings("unchecked") private T[] auxiliar(int n) {
+	    if(auxiliar == null || auxiliar.length < n) {
+		int m = auxiliar == null ? n : 2 * auxiliar.length;
+		m = Math.max(n, Math.min(m, arreglo.length / 2));
+		auxiliar = (T[])new Object[m];
+	    }
+	    return auxiliar;
+	}
+
+	/* Mezcla hacia adelante dos corridas contiguas, copiando la primera,
+	   que es la más corta, al arreglo auxiliar. Cuando una corrida gana
+	   galope veces seguidas, la mezcla galopa: busca con búsqueda
+	   exponencial cuántos elementos seguidos toma de cada corrida y los
+	   copia en bloque. Mientras galopar funcione, galope disminuye. */
+	private void mezclaAdelante(int ini1, int lon1, int ini2, int lon2) {
+	    T[] aux = auxiliar(lon1);
+	    System.arraycopy(arreglo, ini1, aux, 0, lon1);
+	    int c1 = 0;
+	    int c2 = ini2;
+	    int d = ini1;
+	    int fin2 = ini2 + lon2;
+	    while(c1 < lon1 && c2 < fin2) {
+		int gana1 = 0;
+		int gana2 = 0;
+		while(c1 < lon1 && c2 < fin2 && (gana1 | gana2) < galope) {
+		    if(comparador.compare(arreglo[c2], aux[c1]) < 0) {
+			arreglo[d++] = arreglo[c2++];
+			gana2++;
+			gana1 = 0;
+		    } else {
+			arreglo[d++] = aux[c1++];
+			gana1++;
+			gana2 = 0;
+		    }
+		}
+		if(c1 == lon1 || c2 == fin2)
+		    break;
+		do {
+		    gana1 = galopaDerecha(arreglo[c2], aux, c1, lon1 - c1, 0);
+		    System.arraycopy(aux, c1, arreglo, d, gana1);
+		    d += gana1;
+		    c1 += gana1;
+		    if(c1 == lon1)
+			break;
+		    arreglo[d++] = arreglo[c2++];
+		    if(c2 == fin2)
+			break;
+		    gana2 = galopaIzquierda(aux[c1], arreglo,
+					    c2, fin2 - c2, 0);
+		    System.arraycopy(arreglo, c2, arreglo, d, gana2);
+		    d += gana2;
+		    c2 += gana2;
+		    if(c2 == fin2)
+			break;
+		    arreglo[d++] = aux[c1++];
+		    if(c1 == lon1)
+			break;
+		    galope--;
+		} while(gana1 >= GALOPE_MINIMO || gana2 >= GALOPE_MINIMO);
+		galope = Math.max(galope, 0) + 2;
+	    }
+	    System.arraycopy(aux, c1, arreglo, d, lon1 - c1);
+	}
+
+	/* Mezcla hacia atrás dos corridas contiguas, copiando la segunda,
+	   que es la más corta, al arreglo auxiliar. Ver mezclaAdelante. */
+	private void mezclaAtras(int ini1, int lon1, int ini2, int lon2) {
+	    T[] aux = auxiliar(lon2);
+	    System.arraycopy(arreglo, ini2, aux, 0, lon2);
+	    int c1 = ini1 + lon1 - 1;
+	    int c2 = lon2 - 1;
+	    int d = ini2 + lon2 - 1;
+	    while(c1 >= ini1 && c2 >= 0) {
+		int gana1 = 0;
+		int gana2 = 0;
+		while(c1 >= ini1 && c2 >= 0 && (gana1 | gana2) < galope) {
+		    if(comparador.compare(aux[c2], arreglo[c1]) < 0) {
+			arreglo[d--] = arreglo[c1--];
+			gana1++;
+			gana2 = 0;
+		    } else {
+			arreglo[d--] = aux[c2--];
+			gana2++;
+			gana1 = 0;
+		    }
+		}
+		if(c1 < ini1 || c2 < 0)
+		    break;
+		do {
+		    gana1 = c1 - ini1 + 1 -
+			galopaDerecha(aux[c2], arreglo, ini1, c1 - ini1 + 1,
+				      c1 - ini1);
+		    d -= gana1;
+		    c1 -= gana1;
+		    System.arraycopy(arreglo, c1 + 1, arreglo, d + 1, gana1);
+		    if(c1 < ini1)
+			break;
+		    arreglo[d--] = aux[c2--];
+		    if(c2 < 0)
+			break;
+		    gana2 = c2 + 1 - galopaIzquierda(arreglo[c1], aux,
+						     0, c2 + 1, c2);
+		    d -= gana2;
+		    c2 -= gana2;
+		    System.arraycopy(aux, c2 + 1, arreglo, d + 1, gana2);
+		    if(c2 < 0)
+			break;
+		    arreglo[d--] = arreglo[c1--];
+		    if(c1 < ini1)
+			break;
+		    galope--;
+		} while(gana1 >= GALOPE_MINIMO || gana2 >= GALOPE_MINIMO);
+		galope = Math.max(galope, 0) + 2;
+	    }
+	    System.arraycopy(aux, 0, arreglo, d - c2, c2 + 1);
+	}
+
+	/* Regresa cuántos elementos de a[ini, ini + lon) son menores que el
+	   elemento, buscando de manera exponencial a partir de la posición
+	   ini + pista y luego de manera binaria. */
+	private int galopaIzquierda(T elemento, T[] a,
+				    int ini, int lon, int pista) {
+	    int anterior = 0;
+	    int salto = 1;
+	    if(comparador.compare(elemento, a[ini + pista]) > 0) {
+		int maximo = lon - pista;
+		while(salto < maximo &&
+		       comparador.compare(elemento,
+					  a[ini + pista + salto]) > 0) {
+		    anterior = salto;
+		    salto = (salto << 1) + 1;
+		    if(salto <= 0)
+			salto = maximo;
+		}
+		salto = Math.min(salto, maximo);
+		anterior += pista;
+		salto += pista;
+	    } else {
+		int maximo = pista + 1;
+		while(salto < maximo &&
+		       comparador.compare(elemento,
+					  a[ini + pista - salto]) <= 0) {
+		    anterior = salto;
+		    salto = (salto << 1) + 1;
+		    if(salto <= 0)
+			salto = maximo;
+		}
+		salto = Math.min(salto, maximo);
+		int t = anterior;
+		anterior = pista - salto;
+		salto = pista - t;
+	    }
+	    /* Ahora a[ini + anterior] < elemento <= a[ini + salto]. */
+	    anterior++;
+	    while(anterior < salto) {
+		int m = (anterior + salto) >>> 1;
+		if(comparador.compare(elemento, a[ini + m]) > 0)
+		    anterior = m + 1;
+		else
+		    salto = m;
+	    }
+	    return salto;
+	}
+
+	/* Regresa cuántos elementos de a[ini, ini + lon) son menores o iguales
+	   que el elemento, buscando de manera exponencial a partir de la
+	   posición ini + pista y luego de manera binaria. */
+	private int galopaDerecha(T elemento, T[] a,
+				  int ini, int lon, int pista) {
+	    if(lon == 0)
+		return 0;
+	    int anterior = 0;
+	    int salto = 1;
+	    if(comparador.compare(elemento, a[ini + pista]) < 0) {
+		int maximo = pista + 1;
+		while(salto < maximo &&
+		       comparador.compare(elemento,
+					  a[ini + pista - salto]) < 0) {
+		    anterior = salto;
+		    salto = (salto << 1) + 1;
+		    if(salto <= 0)
+			salto = maximo;
+		}
+		salto = Math.min(salto, maximo);
+		int t = anterior;
+		anterior = pista - salto;
+		salto = pista - t;
+	    } else {
+		int maximo = lon - pista;
+		while(salto < maximo &&
+		       comparador.compare(elemento,
+					  a[ini + pista + salto]) >= 0) {
+		    anterior = salto;
+		    salto = (salto << 1) + 1;
+		    if(salto <= 0)
+			salto = maximo;
+		}
+		salto = Math.min(salto, maximo);
+		anterior += pista;
+		salto += pista;
+	    }
+	    /* Ahora a[ini + anterior] <= elemento < a[ini + salto]. */
+	    anterior++;
+	    while(anterior < salto) {
+		int m = (anterior + salto) >>> 1;
+		if(comparador.compare(elemento, a[ini + m]) < 0)
+		    salto = m;
+		else
+		    anterior = m + 1;
+	    }
+	    return salto;
+	}
+    }
+
     /* Constructor privado para evitar instanciación. */
     private Arreglos() {}
 
@@ -37,6 +800,50 @@ public class Arreglos {
 	}
     }
     
+    /**
+     * Ordena el arreglo de <code>int</code> recibido usando SelectionSort.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void selectionSort(int[] arreglo) {
+	for(int i = 0; i < arreglo.length; i++) {
+	    int menor = i;
+	    for(int j = i+1; j < arreglo.length; j++)
+		if(arreglo[j] < arreglo[menor])
+		    menor = j;
+	    intercambia(arreglo, i, menor);
+	}
+    }
+
+    /**
+     * Ordena el arreglo de <code>long</code> recibido usando SelectionSort.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void selectionSort(long[] arreglo) {
+	for(int i = 0; i < arreglo.length; i++) {
+	    int menor = i;
+	    for(int j = i+1; j < arreglo.length; j++)
+		if(arreglo[j] < arreglo[menor])
+		    menor = j;
+	    intercambia(arreglo, i, menor);
+	}
+    }
+
+    /**
+     * Ordena el arreglo de <code>double</code> recibido usando SelectionSort.
+     * Los valores se ordenan como en {@link Double#compare}: -0.0 va antes
+     * que 0.0, y NaN va al final.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void selectionSort(double[] arreglo) {
+	for(int i = 0; i < arreglo.length; i++) {
+	    int menor = i;
+	    for(int j = i+1; j < arreglo.length; j++)
+		if(Double.compare(arreglo[j], arreglo[menor]) < 0)
+		    menor = j;
+	    intercambia(arreglo, i, menor);
+	}
+    }
+
     private static <T> void intercambia(T[] arreglo, int i, int m) {
 	if(i == m)
 	    return;
@@ -45,6 +852,27 @@ public class Arreglos {
 	arreglo[i] = t;
     }
 
+    /* Intercambia dos elementos de un arreglo de int. */
+    private static void intercambia(int[] arreglo, int i, int m) {
+	int t = arreglo[m];
+	arreglo[m] = arreglo[i];
+	arreglo[i] = t;
+    }
+
+    /* Intercambia dos elementos de un arreglo de long. */
+    private static void intercambia(long[] arreglo, int i, int m) {
+	long t = arreglo[m];
+	arreglo[m] = arreglo[i];
+	arreglo[i] = t;
+    }
+
+    /* Intercambia dos elementos de un arreglo de double. */
+    private static void intercambia(double[] arreglo, int i, int m) {
+	double t = arreglo[m];
+	arreglo[m] = arreglo[i];
+	arreglo[i] = t;
+    }
+
     /**
      * Ordena el arreglo recibido usando QuickSort.
      * @param <T> tipo del que puede ser el arreglo.
@@ -56,79 +884,1629 @@ public class Arreglos {
     }
 
     /**
-     * Ordena el arreglo recibido usando QuickSort.
+     * <p>Ordena el arreglo recibido usando QuickSort.</p>
+     *
+     * <p>Es una versión introspectiva de QuickSort: el pivote es la mediana de
+     * tres elementos (o la mediana de tres medianas, en intervalos grandes),
+     * los intervalos pequeños se terminan con InsertionSort, y si la
+     * profundidad de la partición pasa de 2·log <em>n</em> el intervalo se
+     * ordena con HeapSort. Así el algoritmo toma tiempo <em>O</em>(<em>n</em>
+     * log <em>n</em>) en el peor caso, incluso con arreglos ya ordenados, en
+     * reversa o con muchos elementos repetidos.</p>
      * @param <T> tipo del que puede ser el arreglo.
      * @param arreglo el arreglo a ordenar.
      * @param comparador el comparador para ordenar el arreglo.
      */
     public static <T> void
     quickSort(T[] arreglo, Comparator<T> comparador) {
-	if(arreglo.length <= 1)
+	quickSort(arreglo, comparador, 0, arreglo.length - 1);
+    }
+
+    /* Ordena el intervalo [desde, hasta] usando QuickSort introspectivo. */
+    private static <T> void
+    quickSort(T[] arreglo, Comparator<T> comparador, int desde, int hasta) {
+	if(hasta <= desde)
 	    return;
-	Lista<Integer> pila = new Lista<Integer>();
-	pila.agregaFinal(0);
-	pila.agregaFinal(arreglo.length - 1);
+	ListaInt pila = new ListaInt();
+	pila.agregaFinal(desde);
+	pila.agregaFinal(hasta);
+	pila.agregaFinal(2 * log2(hasta - desde + 1));
 	while(!pila.esVacia()) {
-	    int fin = pila.eliminaUltimo().intValue();
-	    int ini = pila.eliminaUltimo().intValue();
-	    if(fin <= ini)
-		continue;
-	    int i = ini + 1;
-	    int j = fin;
-	    while(i < j) 
-		if(comparador.compare(arreglo[i], arreglo[ini]) > 0 && comparador.compare(arreglo[j], arreglo[ini]) <= 0)
-		    intercambia(arreglo, i++, j--);
-		else if(comparador.compare(arreglo[i], arreglo[ini]) <= 0)
-		    i++;
-		else
-		    j--;
-	    if(comparador.compare(arreglo[i], arreglo[ini]) > 0)
-		i--;
-	    intercambia(arreglo, ini, i);
-	    pila.agregaFinal(ini);
-	    pila.agregaFinal(i - 1);
-	    pila.agregaFinal(i + 1);
-	    pila.agregaFinal(fin);
+	    int profundidad = pila.eliminaUltimo();
+	    int fin = pila.eliminaUltimo();
+	    int ini = pila.eliminaUltimo();
+	    while(fin - ini >= UMBRAL_INSERCION && profundidad > 0) {
+		profundidad--;
+		intercambia(arreglo, ini, pivote(arreglo, comparador, ini, fin));
+		int p = particiona(arreglo, comparador, ini, fin);
+		/* Guardamos el lado grande y seguimos con el chico, para que
+		 * la pila no pase de O(log n) intervalos. */
+		if(p - ini < fin - p) {
+		    pila.agregaFinal(p + 1);
+		    pila.agregaFinal(fin);
+		    pila.agregaFinal(profundidad);
+		    fin = p - 1;
+		} else {
+		    pila.agregaFinal(ini);
+		    pila.agregaFinal(p - 1);
+		    pila.agregaFinal(profundidad);
+		    ini = p + 1;
+		}
+	    }
+	    if(fin - ini < UMBRAL_INSERCION)
+		insertionSort(arreglo, comparador, ini, fin);
+	    else
+		heapSort(arreglo, comparador, ini, fin);
 	}
     }
 
     /**
-     * Hace una búsqueda binaria del elemento en el arreglo. Regresa el índice
-     * del elemento en el arreglo, o -1 si no se encuentra.
+     * Acomoda el arreglo para que el elemento en la posición <em>k</em> sea el
+     * que estaría ahí si el arreglo estuviera ordenado, y lo regresa. Ver
+     * {@link #seleccion(Object[],int,Comparator)}.
      * @param <T> tipo del que puede ser el arreglo.
      * @param arreglo un arreglo cuyos elementos son comparables.
-     * @param elemento el elemento a buscar.
-     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     * @param k la posición del elemento a seleccionar.
+     * @return el <em>k</em>-ésimo elemento más chico del arreglo, contando
+     *         desde 0.
+     * @throws IllegalArgumentException si <em>k</em> no es una posición del
+     *         arreglo.
      */
-    public static <T extends Comparable<T>> int
-    busquedaBinaria(T[] arreglo, T elemento) {
-        return busquedaBinaria(arreglo, elemento, (a, b) -> a.compareTo(b));
+    public static <T extends Comparable<T>> T
+    seleccion(T[] arreglo, int k) {
+	return seleccion(arreglo, k, (a, b) -> a.compareTo(b));
     }
 
     /**
-     * Hace una búsqueda binaria del elemento en el arreglo. Regresa el índice
-     * del elemento en el arreglo, o -1 si no se encuentra.
+     * <p>Acomoda el arreglo para que el elemento en la posición <em>k</em> sea
+     * el que estaría ahí si el arreglo estuviera ordenado, y lo regresa. Los
+     * elementos antes de <em>k</em> quedan menores o iguales a él, y los de
+     * después mayores o iguales, pero sin ningún orden en particular.</p>
+     *
+     * <p>Usa QuickSelect con los mismos pivotes y partición que {@link
+     * #quickSort(Object[],Comparator)}, siguiendo sólo el lado que contiene a
+     * <em>k</em>, por lo que toma tiempo <em>O</em>(<em>n</em>) en promedio.
+     * Si la profundidad pasa de 2·log <em>n</em> el intervalo que queda se
+     * ordena con HeapSort, así que el peor caso es <em>O</em>(<em>n</em> log
+     * <em>n</em>).</p>
      * @param <T> tipo del que puede ser el arreglo.
-     * @param arreglo el arreglo dónde buscar.
-     * @param elemento el elemento a buscar.
-     * @param comparador el comparador para hacer la búsqueda.
-     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     * @param arreglo el arreglo dónde seleccionar.
+     * @param k la posición del elemento a seleccionar.
+     * @param comparador el comparador para seleccionar.
+     * @return el <em>k</em>-ésimo elemento más chico del arreglo, contando
+     *         desde 0.
+     * @throws IllegalArgumentException si <em>k</em> no es una posición del
+     *         arreglo.
      */
-    public static <T> int
-    busquedaBinaria(T[] arreglo, T elemento, Comparator<T> comparador) {
-        return busquedaBinaria(arreglo, elemento, comparador, 0, arreglo.length - 1);
+    public static <T> T
+    seleccion(T[] arreglo, int k, Comparator<T> comparador) {
+	if(k < 0 || k >= arreglo.length)
+	    throw new IllegalArgumentException("Posición inválida");
+	selecciona(arreglo, comparador, 0, arreglo.length - 1, k);
+	return arreglo[k];
     }
-    
-    private static <T> int
-    busquedaBinaria(T[] arreglo, T elemento, Comparator<T> comparador, int ini, int fin) {
-	if(fin < ini)
-	    return -1;
-	int mitad = ini + ((fin - ini) / 2);
-	if(comparador.compare(elemento, arreglo[mitad]) == 0)
-	    return mitad;
-	else if(comparador.compare(elemento, arreglo[mitad]) < 0)
-	    return busquedaBinaria(arreglo, elemento, comparador, ini, mitad - 1);
+
+    /**
+     * Deja ordenados al inicio del arreglo sus <em>k</em> elementos más
+     * chicos. Ver {@link #ordenaParcial(Object[],int,Comparator)}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     * @param k el número de elementos a ordenar.
+     * @throws IllegalArgumentException si <em>k</em> es negativo o mayor que
+     *         la longitud del arreglo.
+     */
+    public static <T extends Comparable<T>> void
+    ordenaParcial(T[] arreglo, int k) {
+	ordenaParcial(arreglo, k, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Deja ordenados al inicio del arreglo sus <em>k</em> elementos más
+     * chicos; el resto del arreglo queda después, sin ningún orden en
+     * particular. Primero se seleccionan los <em>k</em> elementos con
+     * QuickSelect y luego sólo ellos se ordenan con QuickSort, por lo que
+     * toma tiempo <em>O</em>(<em>n</em> + <em>k</em> log <em>k</em>) en
+     * promedio, en lugar de <em>O</em>(<em>n</em> log <em>n</em>) de ordenar
+     * todo el arreglo.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar parcialmente.
+     * @param k el número de elementos a ordenar.
+     * @param comparador el comparador para ordenar.
+     * @throws IllegalArgumentException si <em>k</em> es negativo o mayor que
+     *         la longitud del arreglo.
+     */
+    public static <T> void
+    ordenaParcial(T[] arreglo, int k, Comparator<T> comparador) {
+	if(k < 0 || k > arreglo.length)
+	    throw new IllegalArgumentException("Cantidad inválida");
+	if(k == 0)
+	    return;
+	if(k < arreglo.length)
+	    selecciona(arreglo, comparador, 0, arreglo.length - 1, k - 1);
+	quickSort(arreglo, comparador, 0, k - 1);
+    }
+
+    /* Acomoda el intervalo [ini, fin] para que en la posición k quede el
+     * elemento que estaría ahí con el intervalo ordenado, los menores o
+     * iguales antes, y los mayores o iguales después. */
+    private static <T> void
+    selecciona(T[] arreglo, Comparator<T> comparador,
+	       int ini, int fin, int k) {
+	int profundidad = 2 * log2(fin - ini + 1);
+	while(fin - ini >= UMBRAL_INSERCION && profundidad > 0) {
+	    profundidad--;
+	    intercambia(arreglo, ini, pivote(arreglo, comparador, ini, fin));
+	    int p = particiona(arreglo, comparador, ini, fin);
+	    if(p == k)
+		return;
+	    if(k < p)
+		fin = p - 1;
+	    else
+		ini = p + 1;
+	}
+	if(fin - ini < UMBRAL_INSERCION)
+	    insertionSort(arreglo, comparador, ini, fin);
 	else
-	    return busquedaBinaria(arreglo, elemento, comparador, mitad + 1, fin);
+	    heapSort(arreglo, comparador, ini, fin);
+    }
+
+    /**
+     * Ordena el arreglo de <code>int</code> recibido usando QuickSort, como
+     * {@link #quickSort(Object[],Comparator)}, pero sin envolver los elementos
+     * en objetos ni usar un comparador.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void quickSort(int[] arreglo) {
+	if(arreglo.length <= 1)
+	    return;
+	ListaInt pila = new ListaInt();
+	pila.agregaFinal(0);
+	pila.agregaFinal(arreglo.length - 1);
+	pila.agregaFinal(2 * log2(arreglo.length));
+	while(!pila.esVacia()) {
+	    int profundidad = pila.eliminaUltimo();
+	    int fin = pila.eliminaUltimo();
+	    int ini = pila.eliminaUltimo();
+	    while(fin - ini >= UMBRAL_INSERCION && profundidad > 0) {
+		profundidad--;
+		intercambia(arreglo, ini, pivote(arreglo, ini, fin));
+		int p = particiona(arreglo, ini, fin);
+		if(p - ini < fin - p) {
+		    pila.agregaFinal(p + 1);
+		    pila.agregaFinal(fin);
+		    pila.agregaFinal(profundidad);
+		    fin = p - 1;
+		} else {
+		    pila.agregaFinal(ini);
+		    pila.agregaFinal(p - 1);
+		    pila.agregaFinal(profundidad);
+		    ini = p + 1;
+		}
+	    }
+	    if(fin - ini < UMBRAL_INSERCION)
+		insertionSort(arreglo, ini, fin);
+	    else
+		heapSort(arreglo, ini, fin);
+	}
+    }
+
+    /**
+     * Ordena el arreglo de <code>long</code> recibido usando QuickSort, como
+     * {@link #quickSort(Object[],Comparator)}, pero sin envolver los elementos
+     * en objetos ni usar un comparador.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void quickSort(long[] arreglo) {
+	if(arreglo.length <= 1)
+	    return;
+	ListaInt pila = new ListaInt();
+	pila.agregaFinal(0);
+	pila.agregaFinal(arreglo.length - 1);
+	pila.agregaFinal(2 * log2(arreglo.length));
+	while(!pila.esVacia()) {
+	    int profundidad = pila.eliminaUltimo();
+	    int fin = pila.eliminaUltimo();
+	    int ini = pila.eliminaUltimo();
+	    while(fin - ini >= UMBRAL_INSERCION && profundidad > 0) {
+		profundidad--;
+		intercambia(arreglo, ini, pivote(arreglo, ini, fin));
+		int p = particiona(arreglo, ini, fin);
+		if(p - ini < fin - p) {
+		    pila.agregaFinal(p + 1);
+		    pila.agregaFinal(fin);
+		    pila.agregaFinal(profundidad);
+		    fin = p - 1;
+		} else {
+		    pila.agregaFinal(ini);
+		    pila.agregaFinal(p - 1);
+		    pila.agregaFinal(profundidad);
+		    ini = p + 1;
+		}
+	    }
+	    if(fin - ini < UMBRAL_INSERCION)
+		insertionSort(arreglo, ini, fin);
+	    else
+		heapSort(arreglo, ini, fin);
+	}
+    }
+
+    /**
+     * Ordena el arreglo de <code>double</code> recibido usando QuickSort, como
+     * {@link #quickSort(Object[],Comparator)}, pero sin envolver los elementos
+     * en objetos ni usar un comparador.
+     * Los valores se ordenan como en {@link Double#compare}: -0.0 va antes
+     * que 0.0, y NaN va al final.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void quickSort(double[] arreglo) {
+	if(arreglo.length <= 1)
+	    return;
+	ListaInt pila = new ListaInt();
+	pila.agregaFinal(0);
+	pila.agregaFinal(arreglo.length - 1);
+	pila.agregaFinal(2 * log2(arreglo.length));
+	while(!pila.esVacia()) {
+	    int profundidad = pila.eliminaUltimo();
+	    int fin = pila.eliminaUltimo();
+	    int ini = pila.eliminaUltimo();
+	    while(fin - ini >= UMBRAL_INSERCION && profundidad > 0) {
+		profundidad--;
+		intercambia(arreglo, ini, pivote(arreglo, ini, fin));
+		int p = particiona(arreglo, ini, fin);
+		if(p - ini < fin - p) {
+		    pila.agregaFinal(p + 1);
+		    pila.agregaFinal(fin);
+		    pila.agregaFinal(profundidad);
+		    fin = p - 1;
+		} else {
+		    pila.agregaFinal(ini);
+		    pila.agregaFinal(p - 1);
+		    pila.agregaFinal(profundidad);
+		    ini = p + 1;
+		}
+	    }
+	    if(fin - ini < UMBRAL_INSERCION)
+		insertionSort(arreglo, ini, fin);
+	    else
+		heapSort(arreglo, ini, fin);
+	}
+    }
+
+    /* Regresa el logaritmo base 2 de n, redondeado hacia abajo. */
+    private static int log2(int n) {
+	return 31 - Integer.numberOfLeadingZeros(n);
+    }
+
+    /* Regresa el índice del pivote para el intervalo [ini, fin]: la mediana
+     * del primero, el de en medio y el último, o en intervalos grandes la
+     * mediana de las medianas de tres tercias repartidas en el intervalo. */
+    private static <T> int
+    pivote(T[] arreglo, Comparator<T> comparador, int ini, int fin) {
+	int mitad = ini + (fin - ini) / 2;
+	if(fin - ini < UMBRAL_NOVENA)
+	    return mediana(arreglo, comparador, ini, mitad, fin);
+	int d = (fin - ini) / 8;
+	int a = mediana(arreglo, comparador, ini, ini + d, ini + 2 * d);
+	int b = mediana(arreglo, comparador, mitad - d, mitad, mitad + d);
+	int c = mediana(arreglo, comparador, fin - 2 * d, fin - d, fin);
+	return mediana(arreglo, comparador, a, b, c);
+    }
+
+    /* Regresa el índice de la mediana de los elementos en a, b y c. */
+    private static <T> int
+    mediana(T[] arreglo, Comparator<T> comparador, int a, int b, int c) {
+	if(comparador.compare(arreglo[a], arreglo[b]) < 0) {
+	    if(comparador.compare(arreglo[b], arreglo[c]) < 0)
+		return b;
+	    return comparador.compare(arreglo[a], arreglo[c]) < 0 ? c : a;
+	}
+	if(comparador.compare(arreglo[a], arreglo[c]) < 0)
+	    return a;
+	return comparador.compare(arreglo[b], arreglo[c]) < 0 ? c : b;
+    }
+
+    /* Parte el intervalo [ini, fin] alrededor del pivote en arreglo[ini], y
+     * regresa la posición final del pivote. Los elementos antes de ella son
+     * menores o iguales al pivote, y los de después mayores o iguales. Ambos
+     * recorridos se detienen en los elementos iguales al pivote, por lo que
+     * los elementos repetidos quedan repartidos en los dos lados. */
+    private static <T> int
+    particiona(T[] arreglo, Comparator<T> comparador, int ini, int fin) {
+	T pivote = arreglo[ini];
+	int i = ini;
+	int j = fin + 1;
+	while(true) {
+	    while(comparador.compare(arreglo[++i], pivote) < 0)
+		if(i == fin)
+		    break;
+	    while(comparador.compare(pivote, arreglo[--j]) < 0)
+		;
+	    if(i >= j)
+		break;
+	    intercambia(arreglo, i, j);
+	}
+	intercambia(arreglo, ini, j);
+	return j;
+    }
+
+    /* Ordena el intervalo [ini, fin] usando InsertionSort. */
+    private static <T> void
+    insertionSort(T[] arreglo, Comparator<T> comparador, int ini, int fin) {
+	for(int i = ini + 1; i <= fin; i++) {
+	    T elemento = arreglo[i];
+	    int j = i;
+	    while(j > ini && comparador.compare(elemento, arreglo[j-1]) < 0) {
+		arreglo[j] = arreglo[j-1];
+		j--;
+	    }
+	    arreglo[j] = elemento;
+	}
+    }
+
+    /* Ordena el intervalo [ini, fin] usando HeapSort. */
+    private static <T> void
+    heapSort(T[] arreglo, Comparator<T> comparador, int ini, int fin) {
+	int n = fin - ini + 1;
+	for(int i = n / 2 - 1; i >= 0; i--)
+	    acomodaAbajo(arreglo, comparador, ini, i, n);
+	for(int i = n - 1; i > 0; i--) {
+	    intercambia(arreglo, ini, ini + i);
+	    acomodaAbajo(arreglo, comparador, ini, 0, i);
+	}
+    }
+
+    /* Acomoda hacia abajo el i-ésimo elemento del montículo de máximos de n
+     * elementos que empieza en la posición ini del arreglo. */
+    private static <T> void
+    acomodaAbajo(T[] arreglo, Comparator<T> comparador,
+		 int ini, int i, int n) {
+	T elemento = arreglo[ini + i];
+	int hijo;
+	while((hijo = 2 * i + 1) < n) {
+	    if(hijo + 1 < n &&
+	       comparador.compare(arreglo[ini + hijo],
+				  arreglo[ini + hijo + 1]) < 0)
+		hijo++;
+	    if(comparador.compare(elemento, arreglo[ini + hijo]) >= 0)
+		break;
+	    arreglo[ini + i] = arreglo[ini + hijo];
+	    i = hijo;
+	}
+	arreglo[ini + i] = elemento;
+    }
+
+    /* Regresa el índice del pivote para el intervalo [ini, fin] de un
+     * arreglo de int. */
+    private static int pivote(int[] arreglo, int ini, int fin) {
+	int mitad = ini + (fin - ini) / 2;
+	if(fin - ini < UMBRAL_NOVENA)
+	    return mediana(arreglo, ini, mitad, fin);
+	int d = (fin - ini) / 8;
+	int a = mediana(arreglo, ini, ini + d, ini + 2 * d);
+	int b = mediana(arreglo, mitad - d, mitad, mitad + d);
+	int c = mediana(arreglo, fin - 2 * d, fin - d, fin);
+	return mediana(arreglo, a, b, c);
+    }
+
+    /* Regresa el índice de la mediana de tres elementos de un arreglo de
+     * int. */
+    private static int mediana(int[] arreglo, int a, int b, int c) {
+	if(arreglo[a] < arreglo[b]) {
+	    if(arreglo[b] < arreglo[c])
+		return b;
+	    return arreglo[a] < arreglo[c] ? c : a;
+	}
+	if(arreglo[a] < arreglo[c])
+	    return a;
+	return arreglo[b] < arreglo[c] ? c : b;
+    }
+
+    /* Parte el intervalo [ini, fin] de un arreglo de int alrededor del
+     * pivote en arreglo[ini], y regresa su posición final. */
+    private static int particiona(int[] arreglo, int ini, int fin) {
+	int pivote = arreglo[ini];
+	int i = ini;
+	int j = fin + 1;
+	while(true) {
+	    while(arreglo[++i] < pivote)
+		if(i == fin)
+		    break;
+	    while(pivote < arreglo[--j])
+		;
+	    if(i >= j)
+		break;
+	    intercambia(arreglo, i, j);
+	}
+	intercambia(arreglo, ini, j);
+	return j;
+    }
+
+    /* Ordena el intervalo [ini, fin] de un arreglo de int usando
+     * InsertionSort. */
+    private static void insertionSort(int[] arreglo, int ini, int fin) {
+	for(int i = ini + 1; i <= fin; i++) {
+	    int elemento = arreglo[i];
+	    int j = i;
+	    while(j > ini && elemento < arreglo[j-1]) {
+		arreglo[j] = arreglo[j-1];
+		j--;
+	    }
+	    arreglo[j] = elemento;
+	}
+    }
+
+    /* Ordena el intervalo [ini, fin] de un arreglo de int usando
+     * HeapSort. */
+    private static void heapSort(int[] arreglo, int ini, int fin) {
+	int n = fin - ini + 1;
+	for(int i = n / 2 - 1; i >= 0; i--)
+	    acomodaAbajo(arreglo, ini, i, n);
+	for(int i = n - 1; i > 0; i--) {
+	    intercambia(arreglo, ini, ini + i);
+	    acomodaAbajo(arreglo, ini, 0, i);
+	}
+    }
+
+    /* Acomoda hacia abajo el i-ésimo elemento del montículo de máximos de n
+     * elementos que empieza en la posición ini de un arreglo de int. */
+    private static void acomodaAbajo(int[] arreglo, int ini, int i, int n) {
+	int elemento = arreglo[ini + i];
+	int hijo;
+	while((hijo = 2 * i + 1) < n) {
+	    if(hijo + 1 < n &&
+	       arreglo[ini + hijo] < arreglo[ini + hijo + 1])
+		hijo++;
+	    if(elemento >= arreglo[ini + hijo])
+		break;
+	    arreglo[ini + i] = arreglo[ini + hijo];
+	    i = hijo;
+	}
+	arreglo[ini + i] = elemento;
+    }
+
+    /* Regresa el índice del pivote para el intervalo [ini, fin] de un
+     * arreglo de long. */
+    private static int pivote(long[] arreglo, int ini, int fin) {
+	int mitad = ini + (fin - ini) / 2;
+	if(fin - ini < UMBRAL_NOVENA)
+	    return mediana(arreglo, ini, mitad, fin);
+	int d = (fin - ini) / 8;
+	int a = mediana(arreglo, ini, ini + d, ini + 2 * d);
+	int b = mediana(arreglo, mitad - d, mitad, mitad + d);
+	int c = mediana(arreglo, fin - 2 * d, fin - d, fin);
+	return mediana(arreglo, a, b, c);
+    }
+
+    /* Regresa el índice de la mediana de tres elementos de un arreglo de
+     * long. */
+    private static int mediana(long[] arreglo, int a, int b, int c) {
+	if(arreglo[a] < arreglo[b]) {
+	    if(arreglo[b] < arreglo[c])
+		return b;
+	    return arreglo[a] < arreglo[c] ? c : a;
+	}
+	if(arreglo[a] < arreglo[c])
+	    return a;
+	return arreglo[b] < arreglo[c] ? c : b;
+    }
+
+    /* Parte el intervalo [ini, fin] de un arreglo de long alrededor del
+     * pivote en arreglo[ini], y regresa su posición final. */
+    private static int particiona(long[] arreglo, int ini, int fin) {
+	long pivote = arreglo[ini];
+	int i = ini;
+	int j = fin + 1;
+	while(true) {
+	    while(arreglo[++i] < pivote)
+		if(i == fin)
+		    break;
+	    while(pivote < arreglo[--j])
+		;
+	    if(i >= j)
+		break;
+	    intercambia(arreglo, i, j);
+	}
+	intercambia(arreglo, ini, j);
+	return j;
+    }
+
+    /* Ordena el intervalo [ini, fin] de un arreglo de long usando
+     * InsertionSort. */
+    private static void insertionSort(long[] arreglo, int ini, int fin) {
+	for(int i = ini + 1; i <= fin; i++) {
+	    long elemento = arreglo[i];
+	    int j = i;
+	    while(j > ini && elemento < arreglo[j-1]) {
+		arreglo[j] = arreglo[j-1];
+		j--;
+	    }
+	    arreglo[j] = elemento;
+	}
+    }
+
+    /* Ordena el intervalo [ini, fin] de un arreglo de long usando
+     * HeapSort. */
+    private static void heapSort(long[] arreglo, int ini, int fin) {
+	int n = fin - ini + 1;
+	for(int i = n / 2 - 1; i >= 0; i--)
+	    acomodaAbajo(arreglo, ini, i, n);
+	for(int i = n - 1; i > 0; i--) {
+	    intercambia(arreglo, ini, ini + i);
+	    acomodaAbajo(arreglo, ini, 0, i);
+	}
+    }
+
+    /* Acomoda hacia abajo el i-ésimo elemento del montículo de máximos de n
+     * elementos que empieza en la posición ini de un arreglo de long. */
+    private static void acomodaAbajo(long[] arreglo, int ini, int i, int n) {
+	long elemento = arreglo[ini + i];
+	int hijo;
+	while((hijo = 2 * i + 1) < n) {
+	    if(hijo + 1 < n &&
+	       arreglo[ini + hijo] < arreglo[ini + hijo + 1])
+		hijo++;
+	    if(elemento >= arreglo[ini + hijo])
+		break;
+	    arreglo[ini + i] = arreglo[ini + hijo];
+	    i = hijo;
+	}
+	arreglo[ini + i] = elemento;
+    }
+
+    /* Regresa el índice del pivote para el intervalo [ini, fin] de un
+     * arreglo de double. */
+    private static int pivote(double[] arreglo, int ini, int fin) {
+	int mitad = ini + (fin - ini) / 2;
+	if(fin - ini < UMBRAL_NOVENA)
+	    return mediana(arreglo, ini, mitad, fin);
+	int d = (fin - ini) / 8;
+	int a = mediana(arreglo, ini, ini + d, ini + 2 * d);
+	int b = mediana(arreglo, mitad - d, mitad, mitad + d);
+	int c = mediana(arreglo, fin - 2 * d, fin - d, fin);
+	return mediana(arreglo, a, b, c);
+    }
+
+    /* Regresa el índice de la mediana de tres elementos de un arreglo de
+     * double. */
+    private static int mediana(double[] arreglo, int a, int b, int c) {
+	if(Double.compare(arreglo[a], arreglo[b]) < 0) {
+	    if(Double.compare(arreglo[b], arreglo[c]) < 0)
+		return b;
+	    return Double.compare(arreglo[a], arreglo[c]) < 0 ? c : a;
+	}
+	if(Double.compare(arreglo[a], arreglo[c]) < 0)
+	    return a;
+	return Double.compare(arreglo[b], arreglo[c]) < 0 ? c : b;
+    }
+
+    /* Parte el intervalo [ini, fin] de un arreglo de double alrededor del
+     * pivote en arreglo[ini], y regresa su posición final. */
+    private static int particiona(double[] arreglo, int ini, int fin) {
+	double pivote = arreglo[ini];
+	int i = ini;
+	int j = fin + 1;
+	while(true) {
+	    while(Double.compare(arreglo[++i], pivote) < 0)
+		if(i == fin)
+		    break;
+	    while(Double.compare(pivote, arreglo[--j]) < 0)
+		;
+	    if(i >= j)
+		break;
+	    intercambia(arreglo, i, j);
+	}
+	intercambia(arreglo, ini, j);
+	return j;
+    }
+
+    /* Ordena el intervalo [ini, fin] de un arreglo de double usando
+     * InsertionSort. */
+    private static void insertionSort(double[] arreglo, int ini, int fin) {
+	for(int i = ini + 1; i <= fin; i++) {
+	    double elemento = arreglo[i];
+	    int j = i;
+	    while(j > ini && Double.compare(elemento, arreglo[j-1]) < 0) {
+		arreglo[j] = arreglo[j-1];
+		j--;
+	    }
+	    arreglo[j] = elemento;
+	}
+    }
+
+    /* Ordena el intervalo [ini, fin] de un arreglo de double usando
+     * HeapSort. */
+    private static void heapSort(double[] arreglo, int ini, int fin) {
+	int n = fin - ini + 1;
+	for(int i = n / 2 - 1; i >= 0; i--)
+	    acomodaAbajo(arreglo, ini, i, n);
+	for(int i = n - 1; i > 0; i--) {
+	    intercambia(arreglo, ini, ini + i);
+	    acomodaAbajo(arreglo, ini, 0, i);
+	}
+    }
+
+    /* Acomoda hacia abajo el i-ésimo elemento del montículo de máximos de n
+     * elementos que empieza en la posición ini de un arreglo de double. */
+    private static void acomodaAbajo(double[] arreglo, int ini, int i, int n) {
+	double elemento = arreglo[ini + i];
+	int hijo;
+	while((hijo = 2 * i + 1) < n) {
+	    if(hijo + 1 < n &&
+	       Double.compare(arreglo[ini + hijo],
+			      arreglo[ini + hijo + 1]) < 0)
+		hijo++;
+	    if(Double.compare(elemento, arreglo[ini + hijo]) >= 0)
+		break;
+	    arreglo[ini + i] = arreglo[ini + hijo];
+	    i = hijo;
+	}
+	arreglo[ini + i] = elemento;
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort adaptable. Ver {@link
+     * #mergeSort(Object[],Comparator)}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     */
+    public static <T extends Comparable<T>> void
+    mergeSort(T[] arreglo) {
+	mergeSort(arreglo, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * <p>Ordena el arreglo recibido usando MergeSort adaptable, al estilo de
+     * TimSort.</p>
+     *
+     * <p>El arreglo se recorre una vez buscando corridas naturales
+     * (ascendentes, o estrictamente descendientes, que se invierten); las
+     * corridas muy cortas se alargan con InsertionSort. Las corridas se
+     * mezclan manteniendo balanceadas sus longitudes, y cuando en una mezcla
+     * una corrida gana muchas veces seguidas, se copian bloques completos
+     * usando búsqueda exponencial (galope). Así el ordenamiento toma tiempo
+     * <em>O</em>(<em>n</em> log <em>n</em>) en el peor caso, pero cerca de
+     * <em>O</em>(<em>n</em>) en arreglos casi ordenados o formados por pocas
+     * corridas.</p>
+     *
+     * <p>El ordenamiento es estable, y usa a lo más un arreglo auxiliar de la
+     * mitad del tamaño del arreglo.</p>
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     */
+    public static <T> void
+    mergeSort(T[] arreglo, Comparator<T> comparador) {
+	if(arreglo.length <= 1)
+	    return;
+	new MezclaCorridas<T>(arreglo, comparador).ordena();
+    }
+
+    /**
+     * Ordena el arreglo de <code>int</code> recibido usando RadixSort: en vez
+     * de comparar elementos, los reparte por cada uno de sus cuatro bytes, del
+     * menos al más significativo, con el bit del signo invertido para que los
+     * negativos queden antes. Cada pasada toma tiempo lineal, y las pasadas
+     * en las que todos los elementos tienen el mismo byte se omiten, por lo
+     * que valores en un rango pequeño se ordenan en una o dos pasadas. Usa un
+     * arreglo auxiliar del tamaño del arreglo.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void radixSort(int[] arreglo) {
+	int n = arreglo.length;
+	if(n <= 1)
+	    return;
+	int[] cuentas = new int[4 * BASE_RADIX];
+	for(int x : arreglo) {
+	    int y = x ^ Integer.MIN_VALUE;
+	    for(int d = 0; d < 4; d++)
+		cuentas[d * BASE_RADIX + ((y >>> (8 * d)) & 0xff)]++;
+	}
+	int[] fuente = arreglo;
+	int[] destino = new int[n];
+	for(int d = 0; d < 4; d++) {
+	    if(!acumula(cuentas, d * BASE_RADIX, n))
+		continue;
+	    int base = d * BASE_RADIX;
+	    int corrimiento = 8 * d;
+	    for(int x : fuente) {
+		int digito = ((x ^ Integer.MIN_VALUE) >>> corrimiento) & 0xff;
+		destino[cuentas[base + digito]++] = x;
+	    }
+	    int[] t = fuente;
+	    fuente = destino;
+	    destino = t;
+	}
+	if(fuente != arreglo)
+	    System.arraycopy(fuente, 0, arreglo, 0, n);
+    }
+
+    /**
+     * Ordena el arreglo de <code>long</code> recibido usando RadixSort, por
+     * cada uno de sus ocho bytes. Ver {@link #radixSort(int[])}.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void radixSort(long[] arreglo) {
+	if(arreglo.length <= 1)
+	    return;
+	for(int i = 0; i < arreglo.length; i++)
+	    arreglo[i] ^= Long.MIN_VALUE;
+	radixSortSinSigno(arreglo, null);
+	for(int i = 0; i < arreglo.length; i++)
+	    arreglo[i] ^= Long.MIN_VALUE;
+    }
+
+    /**
+     * Ordena el arreglo de <code>double</code> recibido usando RadixSort. Cada
+     * valor se convierte en los bits de su representación IEEE 754: en los
+     * positivos se invierte el bit del signo y en los negativos todos los
+     * bits, con lo que el orden de los bits como enteros sin signo es el
+     * orden de los valores. Los valores quedan en el orden de {@link
+     * Double#compare}: -0.0 va antes que 0.0, y NaN va al final. Usa dos
+     * arreglos auxiliares de <code>long</code> del tamaño del arreglo. Ver
+     * {@link #radixSort(int[])}.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void radixSort(double[] arreglo) {
+	int n = arreglo.length;
+	if(n <= 1)
+	    return;
+	long[] claves = new long[n];
+	for(int i = 0; i < n; i++) {
+	    long bits = Double.doubleToLongBits(arreglo[i]);
+	    claves[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+	}
+	radixSortSinSigno(claves, null);
+	for(int i = 0; i < n; i++) {
+	    long bits = claves[i];
+	    arreglo[i] = Double.longBitsToDouble(
+		bits ^ ((~bits >> 63) | Long.MIN_VALUE));
+	}
+    }
+
+    /**
+     * Ordena el arreglo recibido usando RadixSort sobre la clave numérica que
+     * la función regresa para cada elemento. La función se evalúa una sola
+     * vez por elemento, y después los elementos se reparten junto con sus
+     * claves como en {@link #radixSort(long[])}, sin comparar elementos. El
+     * ordenamiento es estable: elementos con la misma clave conservan su
+     * orden. Usa arreglos auxiliares de claves y de elementos del tamaño del
+     * arreglo.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param clave la función que regresa la clave de cada elemento.
+     * @throws IllegalArgumentException si la función es <code>null</code>.
+     */
+    public static <T> void
+    radixSort(T[] arreglo, ToLongFunction<? super T> clave) {
+	if(clave == null)
+	    throw new IllegalArgumentException("Función inválida");
+	int n = arreglo.length;
+	if(n <= 1)
+	    return;
+	long[] claves = new long[n];
+	for(int i = 0; i < n; i++)
+	    claves[i] = clave.applyAsLong(arreglo[i]) ^ Long.MIN_VALUE;
+	radixSortSinSigno(claves, arreglo);
+    }
+
+    /* Ordena las claves con RadixSort, como enteros sin signo. Si los
+     * elementos no son null, los permuta igual que a las claves. */
+    private static <T> void radixSortSinSigno(long[] claves, T[] elementos) {
+	int n = claves.length;
+	int[] cuentas = new int[8 * BASE_RADIX];
+	for(long x : claves)
+	    for(int d = 0; d < 8; d++)
+		cuentas[d * BASE_RADIX + (int)((x >>> (8 * d)) & 0xff)]++;
+	long[] fuente = claves;
+	long[] destino = new long[n];
+	T[] fuenteE = elementos;
+	T[] destinoE = null;
+	for(int d = 0; d < 8; d++) {
+	    if(!acumula(cuentas, d * BASE_RADIX, n))
+		continue;
+	    if(elementos != null && destinoE == null)
+		destinoE = elementos.clone();
+	    int base = d * BASE_RADIX;
+	    int corrimiento = 8 * d;
+	    for(int i = 0; i < n; i++) {
+		long x = fuente[i];
+		int p = cuentas[base + (int)((x >>> corrimiento) & 0xff)]++;
+		destino[p] = x;
+		if(fuenteE != null)
+		    destinoE[p] = fuenteE[i];
+	    }
+	    long[] t = fuente;
+	    fuente = destino;
+	    destino = t;
+	    T[] tE = fuenteE;
+	    fuenteE = destinoE;
+	    destinoE = tE;
+	}
+	if(fuente != claves) {
+	    System.arraycopy(fuente, 0, claves, 0, n);
+	    if(elementos != null)
+		System.arraycopy(fuenteE, 0, elementos, 0, n);
+	}
+    }
+
+    /* Convierte las cuentas de un dígito, que empiezan en base, en las
+     * posiciones donde empieza cada valor del dígito. Regresa false si todos
+     * los elementos tienen el mismo valor en el dígito, en cuyo caso la
+     * pasada no hace falta. */
+    private static boolean acumula(int[] cuentas, int base, int n) {
+	int suma = 0;
+	for(int i = base; i < base + BASE_RADIX; i++) {
+	    int c = cuentas[i];
+	    if(c == n)
+		return false;
+	    cuentas[i] = suma;
+	    suma += c;
+	}
+	return true;
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort en paralelo, en el {@link
+     * ForkJoinPool} común. Ver {@link
+     * #ordenaParalelo(Object[],Comparator,ForkJoinPool,int)}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     */
+    public static <T extends Comparable<T>> void
+    ordenaParalelo(T[] arreglo) {
+	ordenaParalelo(arreglo, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort en paralelo, en el {@link
+     * ForkJoinPool} común. Ver {@link
+     * #ordenaParalelo(Object[],Comparator,ForkJoinPool,int)}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     */
+    public static <T> void
+    ordenaParalelo(T[] arreglo, Comparator<T> comparador) {
+	ordenaParalelo(arreglo, comparador, ForkJoinPool.commonPool(),
+		       UMBRAL_PARALELO);
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort en paralelo. El arreglo se
+     * parte a la mitad recursivamente hasta que los intervalos tienen a lo
+     * más <code>umbral</code> elementos, y cada intervalo se ordena
+     * secuencialmente en la alberca de hilos recibida; las mezclas de
+     * intervalos grandes también se reparten entre los hilos, partiendo cada
+     * mezcla con una búsqueda binaria. El ordenamiento es estable y usa un
+     * arreglo auxiliar del tamaño del arreglo. El comparador debe poder usarse
+     * desde varios hilos a la vez.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param alberca la alberca de hilos en la que se ordena.
+     * @param umbral el número de elementos debajo del cual un intervalo se
+     *               ordena o se mezcla secuencialmente.
+     * @throws IllegalArgumentException si la alberca es <code>null</code> o
+     *         el umbral es menor que uno.
+     */
+    public static <T> void
+    ordenaParalelo(T[] arreglo, Comparator<T> comparador,
+		   ForkJoinPool alberca, int umbral) {
+	if(alberca == null)
+	    throw new IllegalArgumentException("Alberca inválida");
+	if(umbral < 1)
+	    throw new IllegalArgumentException("Umbral inválido");
+	if(arreglo.length <= 1)
+	    return;
+	T[] auxiliar = arreglo.clone();
+	if(arreglo.length <= umbral)
+	    mergeSort(auxiliar, arreglo, 0, arreglo.length, comparador);
+	else
+	    alberca.invoke(new TareaOrdena<T>(auxiliar, arreglo,
+					      0, arreglo.length,
+					      comparador, umbral));
+    }
+
+    /**
+     * Ordena el arreglo de <code>int</code> recibido usando MergeSort en
+     * paralelo, en el {@link ForkJoinPool} común. Ver {@link
+     * #ordenaParalelo(Object[],Comparator,ForkJoinPool,int)}.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void ordenaParalelo(int[] arreglo) {
+	ordenaParalelo(arreglo, ForkJoinPool.commonPool(), UMBRAL_PARALELO);
+    }
+
+    /**
+     * Ordena el arreglo de <code>int</code> recibido usando MergeSort en
+     * paralelo, en la alberca de hilos recibida. Ver {@link
+     * #ordenaParalelo(Object[],Comparator,ForkJoinPool,int)}.
+     * @param arreglo el arreglo a ordenar.
+     * @param alberca la alberca de hilos en la que se ordena.
+     * @param umbral el número de elementos debajo del cual un intervalo se
+     *               ordena o se mezcla secuencialmente.
+     * @throws IllegalArgumentException si la alberca es <code>null</code> o
+     *         el umbral es menor que uno.
+     */
+    public static void ordenaParalelo(int[] arreglo,
+				      ForkJoinPool alberca, int umbral) {
+	if(alberca == null)
+	    throw new IllegalArgumentException("Alberca inválida");
+	if(umbral < 1)
+	    throw new IllegalArgumentException("Umbral inválido");
+	if(arreglo.length <= 1)
+	    return;
+	int[] auxiliar = arreglo.clone();
+	if(arreglo.length <= umbral)
+	    mergeSort(auxiliar, arreglo, 0, arreglo.length);
+	else
+	    alberca.invoke(new TareaOrdenaInt(auxiliar, arreglo,
+					      0, arreglo.length, umbral));
+    }
+
+    /**
+     * Ordena el arreglo de <code>long</code> recibido usando MergeSort en
+     * paralelo, en el {@link ForkJoinPool} común. Ver {@link
+     * #ordenaParalelo(Object[],Comparator,ForkJoinPool,int)}.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void ordenaParalelo(long[] arreglo) {
+	ordenaParalelo(arreglo, ForkJoinPool.commonPool(), UMBRAL_PARALELO);
+    }
+
+    /**
+     * Ordena el arreglo de <code>long</code> recibido usando MergeSort en
+     * paralelo, en la alberca de hilos recibida. Ver {@link
+     * #ordenaParalelo(Object[],Comparator,ForkJoinPool,int)}.
+     * @param arreglo el arreglo a ordenar.
+     * @param alberca la alberca de hilos en la que se ordena.
+     * @param umbral el número de elementos debajo del cual un intervalo se
+     *               ordena o se mezcla secuencialmente.
+     * @throws IllegalArgumentException si la alberca es <code>null</code> o
+     *         el umbral es menor que uno.
+     */
+    public static void ordenaParalelo(long[] arreglo,
+				      ForkJoinPool alberca, int umbral) {
+	if(alberca == null)
+	    throw new IllegalArgumentException("Alberca inválida");
+	if(umbral < 1)
+	    throw new IllegalArgumentException("Umbral inválido");
+	if(arreglo.length <= 1)
+	    return;
+	long[] auxiliar = arreglo.clone();
+	if(arreglo.length <= umbral)
+	    mergeSort(auxiliar, arreglo, 0, arreglo.length);
+	else
+	    alberca.invoke(new TareaOrdenaLong(auxiliar, arreglo,
+					      0, arreglo.length, umbral));
+    }
+
+    /**
+     * Ordena el arreglo de <code>double</code> recibido usando MergeSort en
+     * paralelo, en el {@link ForkJoinPool} común. Ver {@link
+     * #ordenaParalelo(Object[],Comparator,ForkJoinPool,int)}.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void ordenaParalelo(double[] arreglo) {
+	ordenaParalelo(arreglo, ForkJoinPool.commonPool(), UMBRAL_PARALELO);
+    }
+
+    /**
+     * Ordena el arreglo de <code>double</code> recibido usando MergeSort en
+     * paralelo, en la alberca de hilos recibida. Ver {@link
+     * #ordenaParalelo(Object[],Comparator,ForkJoinPool,int)}.
+     * Los valores se ordenan como en {@link Double#compare}: -0.0 va antes
+     * que 0.0, y NaN va al final.
+     * @param arreglo el arreglo a ordenar.
+     * @param alberca la alberca de hilos en la que se ordena.
+     * @param umbral el número de elementos debajo del cual un intervalo se
+     *               ordena o se mezcla secuencialmente.
+     * @throws IllegalArgumentException si la alberca es <code>null</code> o
+     *         el umbral es menor que uno.
+     */
+    public static void ordenaParalelo(double[] arreglo,
+				      ForkJoinPool alberca, int umbral) {
+	if(alberca == null)
+	    throw new IllegalArgumentException("Alberca inválida");
+	if(umbral < 1)
+	    throw new IllegalArgumentException("Umbral inválido");
+	if(arreglo.length <= 1)
+	    return;
+	double[] auxiliar = arreglo.clone();
+	if(arreglo.length <= umbral)
+	    mergeSort(auxiliar, arreglo, 0, arreglo.length);
+	else
+	    alberca.invoke(new TareaOrdenaDouble(auxiliar, arreglo,
+					      0, arreglo.length, umbral));
+    }
+
+    /* Ordena secuencialmente con MergeSort los elementos de fuente en
+     * [ini, fin) y deja el resultado en destino; al empezar, ambos arreglos
+     * tienen los mismos elementos en el intervalo. Los papeles de los
+     * arreglos se intercambian en cada nivel, para no copiar de regreso. */
+    private static <T> void
+    mergeSort(T[] fuente, T[] destino, int ini, int fin,
+	      Comparator<T> comparador) {
+	if(fin - ini <= UMBRAL_INSERCION) {
+	    insertionSort(destino, comparador, ini, fin - 1);
+	    return;
+	}
+	int mitad = (ini + fin) >>> 1;
+	mergeSort(destino, fuente, ini, mitad, comparador);
+	mergeSort(destino, fuente, mitad, fin, comparador);
+	if(comparador.compare(fuente[mitad - 1], fuente[mitad]) <= 0)
+	    System.arraycopy(fuente, ini, destino, ini, fin - ini);
+	else
+	    mezcla(fuente, ini, mitad, mitad, fin, destino, ini, comparador);
+    }
+
+    /* Mezcla los intervalos ordenados [i, finI) y [j, finJ) de fuente en
+     * destino a partir de k. En empates gana el primer intervalo. */
+    private static <T> void
+    mezcla(T[] fuente, int i, int finI, int j, int finJ,
+	   T[] destino, int k, Comparator<T> comparador) {
+	while(i < finI && j < finJ)
+	    destino[k++] = comparador.compare(fuente[j], fuente[i]) < 0 ?
+		fuente[j++] : fuente[i++];
+	System.arraycopy(fuente, i, destino, k, finI - i);
+	System.arraycopy(fuente, j, destino, k + finI - i, finJ - j);
+    }
+
+    /* Regresa el índice del primer elemento en [ini, fin) que no es menor que
+     * el elemento, o fin si no hay. */
+    private static <T> int
+    cotaInferior(T[] arreglo, int ini, int fin, T elemento,
+		 Comparator<T> comparador) {
+	while(ini < fin) {
+	    int mitad = (ini + fin) >>> 1;
+	    if(comparador.compare(arreglo[mitad], elemento) < 0)
+		ini = mitad + 1;
+	    else
+		fin = mitad;
+	}
+	return ini;
+    }
+
+    /* Regresa el índice del primer elemento en [ini, fin) que es mayor que el
+     * elemento, o fin si no hay. */
+    private static <T> int
+    cotaSuperior(T[] arreglo, int ini, int fin, T elemento,
+		 Comparator<T> comparador) {
+	while(ini < fin) {
+	    int mitad = (ini + fin) >>> 1;
+	    if(comparador.compare(elemento, arreglo[mitad]) < 0)
+		fin = mitad;
+	    else
+		ini = mitad + 1;
+	}
+	return ini;
+    }
+
+    /* Ordena secuencialmente con MergeSort un intervalo de un arreglo de
+     * int; ver mergeSort(Object[],Object[],int,int,Comparator). */
+    private static void
+    mergeSort(int[] fuente, int[] destino, int ini, int fin) {
+	if(fin - ini <= UMBRAL_INSERCION) {
+	    insertionSort(destino, ini, fin - 1);
+	    return;
+	}
+	int mitad = (ini + fin) >>> 1;
+	mergeSort(destino, fuente, ini, mitad);
+	mergeSort(destino, fuente, mitad, fin);
+	if(fuente[mitad - 1] <= fuente[mitad])
+	    System.arraycopy(fuente, ini, destino, ini, fin - ini);
+	else
+	    mezcla(fuente, ini, mitad, mitad, fin, destino, ini);
+    }
+
+    /* Mezcla dos intervalos ordenados de un arreglo de int. */
+    private static void mezcla(int[] fuente, int i, int finI,
+			       int j, int finJ, int[] destino, int k) {
+	while(i < finI && j < finJ)
+	    destino[k++] = fuente[j] < fuente[i] ?
+		fuente[j++] : fuente[i++];
+	System.arraycopy(fuente, i, destino, k, finI - i);
+	System.arraycopy(fuente, j, destino, k + finI - i, finJ - j);
+    }
+
+    /* Regresa el índice del primer elemento de [ini, fin) que no es menor que
+     * el elemento, en un arreglo de int. */
+    private static int cotaInferior(int[] arreglo, int ini, int fin,
+				    int elemento) {
+	while(ini < fin) {
+	    int mitad = (ini + fin) >>> 1;
+	    if(arreglo[mitad] < elemento)
+		ini = mitad + 1;
+	    else
+		fin = mitad;
+	}
+	return ini;
+    }
+
+    /* Regresa el índice del primer elemento de [ini, fin) que es mayor que el
+     * elemento, en un arreglo de int. */
+    private static int cotaSuperior(int[] arreglo, int ini, int fin,
+				    int elemento) {
+	while(ini < fin) {
+	    int mitad = (ini + fin) >>> 1;
+	    if(elemento < arreglo[mitad])
+		fin = mitad;
+	    else
+		ini = mitad + 1;
+	}
+	return ini;
+    }
+
+    /* Ordena secuencialmente con MergeSort un intervalo de un arreglo de
+     * long; ver mergeSort(Object[],Object[],int,int,Comparator). */
+    private static void
+    mergeSort(long[] fuente, long[] destino, int ini, int fin) {
+	if(fin - ini <= UMBRAL_INSERCION) {
+	    insertionSort(destino, ini, fin - 1);
+	    return;
+	}
+	int mitad = (ini + fin) >>> 1;
+	mergeSort(destino, fuente, ini, mitad);
+	mergeSort(destino, fuente, mitad, fin);
+	if(fuente[mitad - 1] <= fuente[mitad])
+	    System.arraycopy(fuente, ini, destino, ini, fin - ini);
+	else
+	    mezcla(fuente, ini, mitad, mitad, fin, destino, ini);
+    }
+
+    /* Mezcla dos intervalos ordenados de un arreglo de long. */
+    private static void mezcla(long[] fuente, int i, int finI,
+			       int j, int finJ, long[] destino, int k) {
+	while(i < finI && j < finJ)
+	    destino[k++] = fuente[j] < fuente[i] ?
+		fuente[j++] : fuente[i++];
+	System.arraycopy(fuente, i, destino, k, finI - i);
+	System.arraycopy(fuente, j, destino, k + finI - i, finJ - j);
+    }
+
+    /* Regresa el índice del primer elemento de [ini, fin) que no es menor que
+     * el elemento, en un arreglo de long. */
+    private static int cotaInferior(long[] arreglo, int ini, int fin,
+				    long elemento) {
+	while(ini < fin) {
+	    int mitad = (ini + fin) >>> 1;
+	    if(arreglo[mitad] < elemento)
+		ini = mitad + 1;
+	    else
+		fin = mitad;
+	}
+	return ini;
+    }
+
+    /* Regresa el índice del primer elemento de [ini, fin) que es mayor que el
+     * elemento, en un arreglo de long. */
+    private static int cotaSuperior(long[] arreglo, int ini, int fin,
+				    long elemento) {
+	while(ini < fin) {
+	    int mitad = (ini + fin) >>> 1;
+	    if(elemento < arreglo[mitad])
+		fin = mitad;
+	    else
+		ini = mitad + 1;
+	}
+	return ini;
+    }
+
+    /* Ordena secuencialmente con MergeSort un intervalo de un arreglo de
+     * double; ver mergeSort(Object[],Object[],int,int,Comparator). */
+    private static void
+    mergeSort(double[] fuente, double[] destino, int ini, int fin) {
+	if(fin - ini <= UMBRAL_INSERCION) {
+	    insertionSort(destino, ini, fin - 1);
+	    return;
+	}
+	int mitad = (ini + fin) >>> 1;
+	mergeSort(destino, fuente, ini, mitad);
+	mergeSort(destino, fuente, mitad, fin);
+	if(Double.compare(fuente[mitad - 1], fuente[mitad]) <= 0)
+	    System.arraycopy(fuente, ini, destino, ini, fin - ini);
+	else
+	    mezcla(fuente, ini, mitad, mitad, fin, destino, ini);
+    }
+
+    /* Mezcla dos intervalos ordenados de un arreglo de double. */
+    private static void mezcla(double[] fuente, int i, int finI,
+			       int j, int finJ, double[] destino, int k) {
+	while(i < finI && j < finJ)
+	    destino[k++] = Double.compare(fuente[j], fuente[i]) < 0 ?
+		fuente[j++] : fuente[i++];
+	System.arraycopy(fuente, i, destino, k, finI - i);
+	System.arraycopy(fuente, j, destino, k + finI - i, finJ - j);
+    }
+
+    /* Regresa el índice del primer elemento de [ini, fin) que no es menor que
+     * el elemento, en un arreglo de double. */
+    private static int cotaInferior(double[] arreglo, int ini, int fin,
+				    double elemento) {
+	while(ini < fin) {
+	    int mitad = (ini + fin) >>> 1;
+	    if(Double.compare(arreglo[mitad], elemento) < 0)
+		ini = mitad + 1;
+	    else
+		fin = mitad;
+	}
+	return ini;
+    }
+
+    /* Regresa el índice del primer elemento de [ini, fin) que es mayor que el
+     * elemento, en un arreglo de double. */
+    private static int cotaSuperior(double[] arreglo, int ini, int fin,
+				    double elemento) {
+	while(ini < fin) {
+	    int mitad = (ini + fin) >>> 1;
+	    if(Double.compare(elemento, arreglo[mitad]) < 0)
+		fin = mitad;
+	    else
+		ini = mitad + 1;
+	}
+	return ini;
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo. Regresa el índice
+     * del elemento en el arreglo, o -1 si no se encuentra.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static <T extends Comparable<T>> int
+    busquedaBinaria(T[] arreglo, T elemento) {
+        return busquedaBinaria(arreglo, elemento, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo. Regresa el índice
+     * del elemento en el arreglo, o -1 si no se encuentra.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @param comparador el comparador para hacer la búsqueda.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static <T> int
+    busquedaBinaria(T[] arreglo, T elemento, Comparator<T> comparador) {
+	int ini = 0;
+	int fin = arreglo.length - 1;
+	while(ini <= fin) {
+	    int mitad = (ini + fin) >>> 1;
+	    int c = comparador.compare(elemento, arreglo[mitad]);
+	    if(c == 0)
+		return mitad;
+	    if(c < 0)
+		fin = mitad - 1;
+	    else
+		ini = mitad + 1;
+	}
+	return -1;
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado que no es
+     * menor que el elemento recibido. Ver {@link
+     * #cotaInferior(Object[],Object,Comparator)}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo ordenado cuyos elementos son comparables.
+     * @param elemento el elemento a buscar.
+     * @return el índice del primer elemento que no es menor que el elemento,
+     *         o la longitud del arreglo si no hay.
+     */
+    public static <T extends Comparable<T>> int
+    cotaInferior(T[] arreglo, T elemento) {
+	return cotaInferior(arreglo, elemento, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado que no es
+     * menor que el elemento recibido, en tiempo <em>O</em>(log <em>n</em>).
+     * Es la posición dónde habría que insertar al elemento antes de todos
+     * sus iguales, y los elementos desde ahí hasta el final del arreglo son
+     * todos los mayores o iguales que él.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @param comparador el comparador con el que está ordenado el arreglo.
+     * @return el índice del primer elemento que no es menor que el elemento,
+     *         o la longitud del arreglo si no hay.
+     */
+    public static <T> int
+    cotaInferior(T[] arreglo, T elemento, Comparator<T> comparador) {
+	return cotaInferior(arreglo, 0, arreglo.length, elemento, comparador);
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado que es
+     * mayor que el elemento recibido. Ver {@link
+     * #cotaSuperior(Object[],Object,Comparator)}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo ordenado cuyos elementos son comparables.
+     * @param elemento el elemento a buscar.
+     * @return el índice del primer elemento que es mayor que el elemento, o
+     *         la longitud del arreglo si no hay.
+     */
+    public static <T extends Comparable<T>> int
+    cotaSuperior(T[] arreglo, T elemento) {
+	return cotaSuperior(arreglo, elemento, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado que es
+     * mayor que el elemento recibido, en tiempo <em>O</em>(log <em>n</em>).
+     * Es la posición dónde habría que insertar al elemento después de todos
+     * sus iguales, y los elementos antes de ella son todos los menores o
+     * iguales que él.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @param comparador el comparador con el que está ordenado el arreglo.
+     * @return el índice del primer elemento que es mayor que el elemento, o
+     *         la longitud del arreglo si no hay.
+     */
+    public static <T> int
+    cotaSuperior(T[] arreglo, T elemento, Comparator<T> comparador) {
+	return cotaSuperior(arreglo, 0, arreglo.length, elemento, comparador);
+    }
+
+    /**
+     * Regresa el intervalo de índices de los elementos del arreglo ordenado
+     * que están entre los dos elementos recibidos. Ver {@link
+     * #rango(Object[],Object,Object,Comparator)}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo ordenado cuyos elementos son comparables.
+     * @param desde el elemento más chico del rango.
+     * @param hasta el elemento más grande del rango.
+     * @return un arreglo de dos enteros con el índice del primer elemento del
+     *         rango y el índice siguiente al último.
+     */
+    public static <T extends Comparable<T>> int[]
+    rango(T[] arreglo, T desde, T hasta) {
+	return rango(arreglo, desde, hasta, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Regresa el intervalo de índices de los elementos del arreglo ordenado
+     * que son mayores o iguales que <code>desde</code> y menores o iguales
+     * que <code>hasta</code>, en tiempo <em>O</em>(log <em>n</em>). El
+     * intervalo es un arreglo <code>{i, j}</code>, y los elementos en el
+     * rango son los de los índices <code>i</code> a <code>j - 1</code>; si
+     * no hay ninguno, o si <code>desde</code> es mayor que
+     * <code>hasta</code>, <code>i</code> es igual a <code>j</code>. Para
+     * rangos abiertos por un lado, como todos los elementos mayores o
+     * iguales que uno dado, se pueden usar directamente {@link
+     * #cotaInferior(Object[],Object,Comparator)} y {@link
+     * #cotaSuperior(Object[],Object,Comparator)}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param desde el elemento más chico del rango.
+     * @param hasta el elemento más grande del rango.
+     * @param comparador el comparador con el que está ordenado el arreglo.
+     * @return un arreglo de dos enteros con el índice del primer elemento del
+     *         rango y el índice siguiente al último.
+     */
+    public static <T> int[]
+    rango(T[] arreglo, T desde, T hasta, Comparator<T> comparador) {
+	int i = cotaInferior(arreglo, 0, arreglo.length, desde, comparador);
+	int j = cotaSuperior(arreglo, i, arreglo.length, hasta, comparador);
+	return new int[] { i, j };
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo ordenado de
+     * <code>int</code>. Regresa el índice del elemento en el arreglo, o -1 si
+     * no se encuentra.
+     * @param arreglo el arreglo dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static int busquedaBinaria(int[] arreglo, int elemento) {
+	int ini = 0;
+	int fin = arreglo.length - 1;
+	while(ini <= fin) {
+	    int mitad = (ini + fin) >>> 1;
+	    if(arreglo[mitad] < elemento)
+		ini = mitad + 1;
+	    else if(elemento < arreglo[mitad])
+		fin = mitad - 1;
+	    else
+		return mitad;
+	}
+	return -1;
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo ordenado de
+     * <code>long</code>. Regresa el índice del elemento en el arreglo, o -1 si
+     * no se encuentra.
+     * @param arreglo el arreglo dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static int busquedaBinaria(long[] arreglo, long elemento) {
+	int ini = 0;
+	int fin = arreglo.length - 1;
+	while(ini <= fin) {
+	    int mitad = (ini + fin) >>> 1;
+	    if(arreglo[mitad] < elemento)
+		ini = mitad + 1;
+	    else if(elemento < arreglo[mitad])
+		fin = mitad - 1;
+	    else
+		return mitad;
+	}
+	return -1;
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo ordenado de
+     * <code>double</code>. Regresa el índice del elemento en el arreglo, o -1
+     * si no se encuentra. Los valores se comparan como en {@link
+     * Double#compare}.
+     * @param arreglo el arreglo dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static int busquedaBinaria(double[] arreglo, double elemento) {
+	int ini = 0;
+	int fin = arreglo.length - 1;
+	while(ini <= fin) {
+	    int mitad = (ini + fin) >>> 1;
+	    if(Double.compare(arreglo[mitad], elemento) < 0)
+		ini = mitad + 1;
+	    else if(Double.compare(elemento, arreglo[mitad]) < 0)
+		fin = mitad - 1;
+	    else
+		return mitad;
+	}
+	return -1;
+    }
+
+    /**
+     * Hace una búsqueda binaria de cada una de las claves en el arreglo
+     * ordenado, y guarda en la misma posición de la salida el índice de la
+     * primera aparición de la clave en el arreglo, o -1 si no se encuentra.
+     * Ver {@link #busquedaBinariaLote(Object[],Object[],int[],Comparator)}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo ordenado cuyos elementos son comparables.
+     * @param claves las claves a buscar.
+     * @param salida el arreglo dónde se guardan los índices.
+     * @throws IllegalArgumentException si la salida es más corta que las
+     *         claves.
+     */
+    public static <T extends Comparable<T>> void
+    busquedaBinariaLote(T[] arreglo, T[] claves, int[] salida) {
+	busquedaBinariaLote(arreglo, claves, salida, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * <p>Hace una búsqueda binaria de cada una de las claves en el arreglo
+     * ordenado, y guarda en la misma posición de la salida el índice de la
+     * primera aparición de la clave en el arreglo, o -1 si no se
+     * encuentra.</p>
+     *
+     * <p>Las claves se buscan en grupos que avanzan juntos, nivel por nivel:
+     * en cada nivel se hace una comparación por clave del grupo, y el
+     * intervalo que queda por revisar tiene la misma longitud para todas. Así
+     * los accesos a memoria de las búsquedas del grupo no dependen unos de
+     * otros y el procesador puede traerlos al mismo tiempo, en lugar de
+     * esperar cada fallo de caché por separado.</p>
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param claves las claves a buscar.
+     * @param salida el arreglo dónde se guardan los índices.
+     * @param comparador el comparador para hacer la búsqueda.
+     * @throws IllegalArgumentException si la salida es más corta que las
+     *         claves.
+     */
+    public static <T> void
+    busquedaBinariaLote(T[] arreglo, T[] claves, int[] salida,
+			Comparator<T> comparador) {
+	if(salida.length < claves.length)
+	    throw new IllegalArgumentException("Salida inválida");
+	int n = arreglo.length;
+	if(n == 0) {
+	    Arrays.fill(salida, 0, claves.length, -1);
+	    return;
+	}
+	int[] bases = new int[GRUPO_LOTE];
+	for(int ini = 0; ini < claves.length; ini += GRUPO_LOTE) {
+	    int fin = Math.min(ini + GRUPO_LOTE, claves.length);
+	    Arrays.fill(bases, 0);
+	    int longitud = n;
+	    while(longitud > 1) {
+		int mitad = longitud >>> 1;
+		for(int i = ini; i < fin; i++) {
+		    int b = bases[i - ini];
+		    if(comparador.compare(arreglo[b + mitad], claves[i]) < 0)
+			bases[i - ini] = b + mitad;
+		}
+		longitud -= mitad;
+	    }
+	    for(int i = ini; i < fin; i++) {
+		int b = bases[i - ini];
+		int c = comparador.compare(arreglo[b], claves[i]);
+		if(c < 0 && ++b < n)
+		    c = comparador.compare(arreglo[b], claves[i]);
+		salida[i] = c == 0 ? b : -1;
+	    }
+	}
+    }
+
+    /**
+     * Regresa un arreglo nuevo con los elementos del arreglo ordenado
+     * recibido en el orden de Eytzinger: el orden por niveles de un árbol
+     * binario de búsqueda completo, en el que los hijos del elemento en la
+     * posición <em>i</em> están en las posiciones 2<em>i</em>+1 y
+     * 2<em>i</em>+2. En ese orden los primeros niveles de cualquier búsqueda
+     * quedan juntos en memoria, por lo que muchas búsquedas sobre el mismo
+     * arreglo tienen menos fallos de caché. Para buscar en el arreglo nuevo
+     * hay que usar {@link #busquedaEytzinger}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo ordenado.
+     * @return un arreglo nuevo con los elementos en el orden de Eytzinger.
+     */
+    public static <T> T[] eytzinger(T[] arreglo) {
+	T[] eytzinger = arreglo.clone();
+	llenaEytzinger(arreglo, eytzinger, 0, 1);
+	return eytzinger;
+    }
+
+    /* Llena el subárbol cuya raíz está en la posición k - 1 del arreglo de
+     * Eytzinger con los elementos ordenados a partir de i, en in-orden, y
+     * regresa el índice del siguiente elemento por usar. */
+    private static <T> int llenaEytzinger(T[] ordenado, T[] eytzinger,
+					  int i, int k) {
+	if(k > ordenado.length)
+	    return i;
+	i = llenaEytzinger(ordenado, eytzinger, i, 2 * k);
+	eytzinger[k - 1] = ordenado[i++];
+	return llenaEytzinger(ordenado, eytzinger, i, 2 * k + 1);
+    }
+
+    /**
+     * Busca el elemento en un arreglo en el orden de Eytzinger, creado con
+     * {@link #eytzinger}. Ver {@link
+     * #busquedaEytzinger(Object[],Object,Comparator)}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param eytzinger el arreglo en el orden de Eytzinger.
+     * @param elemento el elemento a buscar.
+     * @return la posición del elemento en el arreglo de Eytzinger, o -1 si
+     *         no se encuentra.
+     */
+    public static <T extends Comparable<T>> int
+    busquedaEytzinger(T[] eytzinger, T elemento) {
+	return busquedaEytzinger(eytzinger, elemento, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Busca el elemento en un arreglo en el orden de Eytzinger, creado con
+     * {@link #eytzinger}. Cada nivel hace una sola comparación y elige al
+     * hijo sumando el resultado a la posición, sin ramificar; al final se
+     * recupera el primer elemento que no es menor que el buscado. Regresa la
+     * posición de ese elemento en el arreglo de Eytzinger si es igual al
+     * buscado, o -1 en otro caso.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param eytzinger el arreglo en el orden de Eytzinger.
+     * @param elemento el elemento a buscar.
+     * @param comparador el comparador para hacer la búsqueda.
+     * @return la posición del elemento en el arreglo de Eytzinger, o -1 si
+     *         no se encuentra.
+     */
+    public static <T> int
+    busquedaEytzinger(T[] eytzinger, T elemento, Comparator<T> comparador) {
+	int n = eytzinger.length;
+	int k = 1;
+	while(k <= n)
+	    k = 2 * k + (comparador.compare(eytzinger[k - 1], elemento) >>> 31);
+	/* Quitamos los pasos a la derecha del final del camino, y el último
+	 * paso a la izquierda: llegamos al primer elemento no menor. */
+	k >>= Integer.numberOfTrailingZeros(~k) + 1;
+	if(k == 0 || comparador.compare(eytzinger[k - 1], elemento) != 0)
+	    return -1;
+	return k - 1;
     }
 }
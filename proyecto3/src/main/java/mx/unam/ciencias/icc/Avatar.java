@@ -1,5 +1,6 @@
 package mx.unam.ciencias.icc;
 
+import java.util.Objects;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleDoubleProperty;
@@ -200,6 +201,17 @@ public class Avatar implements Registro<Avatar, CampoAvatar> {
 		getDefensa() == avatar.getDefensa());
     }
 
+    /**
+     * Regresa un código de dispersión para el avatar, consistente con {@link
+     * #equals}.
+     * @return un código de dispersión para el avatar.
+     */
+    @Override public int hashCode() {
+	/* Sumar 0.0 convierte -0.0 en 0.0, que son iguales según equals. */
+	return Objects.hash(getNombre(), getMana(), getVida(),
+			    getAtaque() + 0.0, getDefensa() + 0.0);
+    }
+
     /**
      * Regresa el avatar seriado en una línea de texto. La línea de
      * texto que este método regresa debe ser aceptada por el método {@link
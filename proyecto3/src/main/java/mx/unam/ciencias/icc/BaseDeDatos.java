@@ -3,6 +3,7 @@ package mx.unam.ciencias.icc;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.util.stream.Stream;
 
 /**
  * Clase abstracta para bases de datos genéricas. Provee métodos para agregar y
@@ -23,17 +24,62 @@ import java.io.IOException;
  */
 public abstract class BaseDeDatos<R extends Registro<R, C>, C extends Enum> {
 
-    /* Lista de registros en la base de datos. */
-    private Lista<R> registros;
+    /* Número de registros a partir del cual las búsquedas son paralelas. */
+    private static final int UMBRAL_PARALELO = 1 << 13;
+
+    /* Clase interna privada para comparar registros por identidad y no por
+       igualdad. */
+    private static class Identidad {
+	/* El registro. */
+	private Object registro;
+
+	/* Construye una identidad para el registro recibido. */
+	private Identidad(Object registro) {
+	    this.registro = registro;
+	}
+
+	/* Regresa el código hash de identidad del registro. */
+	@Override public int hashCode() {
+	    return System.identityHashCode(registro);
+	}
+
+	/* Nos dice si el objeto es la identidad del mismo registro. */
+	@Override public boolean equals(Object objeto) {
+	    if(!(objeto instanceof Identidad))
+		return false;
+	    return ((Identidad)objeto).registro == registro;
+	}
+    }
+
+    /* Secuencia de registros en la base de datos. */
+    private Secuencia<R> registros;
     /* Lista de escuchas de la base de datos. */
-    private Lista<EscuchaBaseDeDatos<R>> escuchas;
+    private ListaConcurrente<EscuchaBaseDeDatos<R>> escuchas;
+    /* Los registros agregados o copiados después de la última instantánea,
+       que ninguna instantánea puede ver; null si nunca se ha obtenido una. */
+    private ListaHash<Identidad> propios;
 
     /**
-     * Constructor único.
+     * Constructor que guarda los registros en una {@link Lista}.
      */
     public BaseDeDatos() {
-        registros = new Lista<R>();
-	escuchas = new Lista<EscuchaBaseDeDatos<R>>();
+        this(new Lista<R>());
+    }
+
+    /**
+     * Constructor que guarda los registros en la secuencia recibida. Permite
+     * escoger la estructura que respalda a la base de datos, por ejemplo una
+     * {@link ListaDesenrollada} para bases de datos muy grandes, o una {@link
+     * ListaPersistente} para obtener instantáneas en tiempo constante.
+     * @param registros la secuencia vacía donde se guardarán los registros.
+     * @throws IllegalArgumentException si la secuencia es <code>null</code> o
+     *         no es vacía.
+     */
+    public BaseDeDatos(Secuencia<R> registros) {
+	if(registros == null || !registros.esVacia())
+	    throw new IllegalArgumentException("Secuencia inválida");
+	this.registros = registros;
+	escuchas = new ListaConcurrente<EscuchaBaseDeDatos<R>>();
     }
 
     /**
@@ -50,7 +96,30 @@ public abstract class BaseDeDatos<R extends Registro<R, C>, C extends Enum> {
      * @return una lista con los registros en la base de datos.
      */
     public Lista<R> getRegistros() {
-        return registros.copia();
+	Lista<R> copia = new Lista<R>();
+	for(R registro : registros)
+	    copia.agregaFinal(registro);
+        return copia;
+    }
+
+    /**
+     * Regresa una instantánea de los registros en la base de datos: una copia
+     * de la secuencia que la respalda, que no cambia cuando después se
+     * modifica la base de datos, ni la modifica a ella. Si la base de datos
+     * está respaldada por una {@link ListaPersistente}, la instantánea se
+     * obtiene en tiempo constante; en otro caso cuesta lo que cueste copiar
+     * la secuencia. La instantánea comparte los registros con la base de
+     * datos, por lo que después {@link #modificaRegistro} reemplaza por una
+     * copia a cada registro que ya estaba en la base de datos la primera vez
+     * que lo modifica.
+     * @return una instantánea de los registros en la base de datos.
+     */
+    public Secuencia<R> getInstantanea() {
+	if(propios == null)
+	    propios = new ListaHash<Identidad>();
+	else
+	    propios.limpia();
+	return registros.copia();
     }
 
     /**
@@ -61,6 +130,8 @@ public abstract class BaseDeDatos<R extends Registro<R, C>, C extends Enum> {
      */
     public void agregaRegistro(R registro) {
         registros.agregaFinal(registro);
+	if(propios != null)
+	    propios.agregaFinal(new Identidad(registro));
 	for(EscuchaBaseDeDatos<R> ebd : escuchas)
 	    ebd.baseDeDatosModificada(EventoBaseDeDatos.REGISTRO_AGREGADO, registro, null);
     }
@@ -77,6 +148,41 @@ public abstract class BaseDeDatos<R extends Registro<R, C>, C extends Enum> {
 	    ebd.baseDeDatosModificada(EventoBaseDeDatos.REGISTRO_ELIMINADO, registro, null);
     }
 
+    /**
+     * Elimina de la base de datos todos los registros que casan el campo
+     * especificado con el valor dado, en una sola pasada sobre los registros.
+     * Los escuchas son notificados con {@link
+     * EscuchaBaseDeDatos#baseDeDatosModificada} con el evento {@link
+     * EventoBaseDeDatos#REGISTRO_ELIMINADO} por cada registro eliminado.
+     * @param campo el campo del registro por el cuál buscar.
+     * @param valor el valor a buscar.
+     * @return una lista con los registros eliminados.
+     * @throws IllegalArgumentException si el campo no es de la enumeración
+     *         correcta.
+     */
+    public Lista<R> eliminaRegistros(C campo, Object valor) {
+	Lista<R> eliminados = new Lista<R>();
+	int n;
+	try {
+	    n = registros.eliminaSi(r -> {
+		    if(!r.casa(campo, valor))
+			return false;
+		    eliminados.agregaFinal(r);
+		    return true;
+		});
+	} catch(IllegalArgumentException iae) {
+	    throw new IllegalArgumentException("Campo inválido");
+	}
+	/* Si la secuencia repitió la pasada (como ListaConcurrente cuando otro
+	 * hilo la modifica), sólo la última pasada eliminó registros. */
+	while(eliminados.getLongitud() > n)
+	    eliminados.eliminaPrimero();
+	for(R registro : eliminados)
+	    for(EscuchaBaseDeDatos<R> ebd : escuchas)
+		ebd.baseDeDatosModificada(EventoBaseDeDatos.REGISTRO_ELIMINADO, registro, null);
+	return eliminados;
+    }
+
     /**
      * Modifica el primer registro en la base de datos para que sea idéntico al
      * segundo. Antes de modificar el registro, los escuchas son notificados con
@@ -84,6 +190,16 @@ public abstract class BaseDeDatos<R extends Registro<R, C>, C extends Enum> {
      * EventoBaseDeDatos#REGISTRO_MODIFICADO} y las versiones original y
      * modificada del registro. Si el primer registro no está en la base de
      * datos, ésta no es modificada y no se notifica de nada a los escuchas.
+     *
+     * Mientras no se obtenga una instantánea con {@link #getInstantanea}, el
+     * registro se modifica en su lugar y el método cuesta lo que cueste
+     * buscarlo en la secuencia. Después de obtener una, el registro sólo se
+     * modifica en su lugar si fue agregado o copiado después de la última
+     * instantánea; si no, alguna instantánea puede verlo, y se reemplaza en
+     * la base de datos por un registro nuevo con los valores del segundo. El
+     * reemplazo cuesta además encontrar el índice del registro, eliminarlo e
+     * insertar al nuevo, y cambia la identidad del registro en la base de
+     * datos; pero ocurre a lo más una vez por registro y por instantánea.
      * @param registro1 un registro igual al que hay que modificar en la base de
      *                  datos.
      * @param registro2 el registro con los nuevos valores.
@@ -93,12 +209,34 @@ public abstract class BaseDeDatos<R extends Registro<R, C>, C extends Enum> {
     public void modificaRegistro(R registro1, R registro2) {
 	if(registro1 == null || registro2 == null)
 	    throw new IllegalArgumentException("Los registros son null");
-	int index = registros.indiceDe(registro1);
-	if(index == -1)
+	Lista<R> compartidos = new Lista<R>();
+	registros.modifica(registro1, registro -> {
+		if(propios != null &&
+		   !propios.contiene(new Identidad(registro))) {
+		    compartidos.agregaFinal(registro);
+		    return;
+		}
+		for(EscuchaBaseDeDatos<R> ebd : escuchas)
+		    ebd.baseDeDatosModificada(EventoBaseDeDatos.REGISTRO_MODIFICADO, registro1, registro2);
+		registro.actualiza(registro2);
+	    });
+	if(!compartidos.esVacia())
+	    reemplazaRegistro(registro1, registro2);
+    }
+
+    /* Reemplaza la primera aparición del primer registro por un registro
+     * nuevo con los valores del segundo, sin tocar al registro original. */
+    private void reemplazaRegistro(R registro1, R registro2) {
+	int i = registros.indiceDe(registro1);
+	if(i == -1)
 	    return;
 	for(EscuchaBaseDeDatos<R> ebd : escuchas)
 	    ebd.baseDeDatosModificada(EventoBaseDeDatos.REGISTRO_MODIFICADO, registro1, registro2);
-	registros.get(index).actualiza(registro2);
+	R registro = creaRegistro();
+	registro.actualiza(registro2);
+	registros.elimina(registros.get(i));
+	registros.inserta(i, registro);
+	propios.agregaFinal(new Identidad(registro));
     }
 
     /**
@@ -108,6 +246,8 @@ public abstract class BaseDeDatos<R extends Registro<R, C>, C extends Enum> {
      */
     public void limpia() {
         registros.limpia();
+	if(propios != null)
+	    propios.limpia();
 	for(EscuchaBaseDeDatos<R> ebd : escuchas)
 	    ebd.baseDeDatosModificada(EventoBaseDeDatos.BASE_LIMPIADA, null, null);
     }
@@ -157,7 +297,9 @@ public abstract class BaseDeDatos<R extends Registro<R, C>, C extends Enum> {
     }
 
     /**
-     * Busca registros por un campo específico.
+     * Busca registros por un campo específico. Si la base de datos es grande,
+     * la búsqueda se hace en paralelo; los resultados siempre quedan en el
+     * orden de la base de datos.
      * @param campo el campo del registro por el cuál buscar.
      * @param valor el valor a buscar.
      * @return una lista con los registros tales que casan el campo especificado
@@ -166,16 +308,14 @@ public abstract class BaseDeDatos<R extends Registro<R, C>, C extends Enum> {
      *         correcta.
      */
     public Lista<R> buscaRegistros(C campo, Object valor) {
-	Lista<R> resultados = new Lista<R>();
-	for(R registro : registros){
-	    try {
-		if(registro.casa(campo, valor))
-		    resultados.agregaFinal(registro);
-	    } catch(IllegalArgumentException iae) {
-		throw new IllegalArgumentException("Campo inválido");
-	    }
+	Stream<R> flujo = registros.getLongitud() < UMBRAL_PARALELO ?
+	    registros.stream() : registros.parallelStream();
+	try {
+	    return flujo.filter(r -> r.casa(campo, valor))
+		.collect(Lista.colector());
+	} catch(IllegalArgumentException iae) {
+	    throw new IllegalArgumentException("Campo inválido");
 	}
-	return resultados;
     }
 
     /**
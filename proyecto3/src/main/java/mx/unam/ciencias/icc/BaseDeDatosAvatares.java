@@ -6,6 +6,23 @@ package mx.unam.ciencias.icc;
 public class BaseDeDatosAvatares
     extends BaseDeDatos<Avatar, CampoAvatar> {
 
+    /**
+     * Construye una base de datos de avatares respaldada por una {@link
+     * Lista}.
+     */
+    public BaseDeDatosAvatares() {
+        super();
+    }
+
+    /**
+     * Construye una base de datos de avatares respaldada por la secuencia
+     * recibida.
+     * @param registros la secuencia vacía donde se guardarán los avatares.
+     */
+    public BaseDeDatosAvatares(Secuencia<Avatar> registros) {
+        super(registros);
+    }
+
     /**
      * Crea un avatar en blanco.
      * @return un avatar en blanco.
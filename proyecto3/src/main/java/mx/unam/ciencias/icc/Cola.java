@@ -0,0 +1,50 @@
+package mx.unam.ciencias.icc;
+
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Clase para colas genéricas.</p>
+ *
+ * <p>Los elementos se meten al final y se sacan del inicio, en el orden en
+ * que fueron metidos. Como la cola es un {@link MeteSaca}, también se puede
+ * usar como cola doble, agregando y eliminando en ambos extremos.</p>
+ *
+ * @param <T> El tipo de los elementos de la cola.
+ */
+public class Cola<T> extends MeteSaca<T> {
+
+    /**
+     * Construye una cola vacía.
+     */
+    public Cola() {
+	super();
+    }
+
+    /**
+     * Construye una cola vacía con espacio para el número de elementos
+     * recibido antes de tener que crecer.
+     * @param capacidad el número de elementos para el que se reserva espacio.
+     * @throws IllegalArgumentException si la capacidad es negativa.
+     */
+    public Cola(int capacidad) {
+	super(capacidad);
+    }
+
+    /**
+     * Saca el primer elemento de la cola.
+     * @return el primer elemento de la cola.
+     * @throws NoSuchElementException si la cola es vacía.
+     */
+    @Override public T saca() {
+	return eliminaPrimero();
+    }
+
+    /**
+     * Regresa el primer elemento de la cola, sin sacarlo.
+     * @return el primer elemento de la cola.
+     * @throws NoSuchElementException si la cola es vacía.
+     */
+    @Override public T mira() {
+	return getPrimero();
+    }
+}
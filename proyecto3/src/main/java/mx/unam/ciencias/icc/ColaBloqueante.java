@@ -0,0 +1,226 @@
+package mx.unam.ciencias.icc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>Clase para colas bloqueantes acotadas.</p>
+ *
+ * <p>Una cola bloqueante sirve para que uno o más hilos productores le pasen
+ * elementos a uno o más hilos consumidores. Tiene una capacidad fija: meter un
+ * elemento en una cola llena bloquea al hilo hasta que otro saque un elemento,
+ * y sacar un elemento de una cola vacía bloquea al hilo hasta que otro meta
+ * uno. Así un productor más rápido que sus consumidores no puede llenar la
+ * memoria.</p>
+ *
+ * <p>Los elementos se guardan en una {@link Cola} con espacio reservado para
+ * la capacidad, por lo que meter y sacar no crean objetos. Todas las
+ * operaciones están protegidas por un mismo candado.</p>
+ *
+ * @param <T> El tipo de los elementos de la cola.
+ */
+public class ColaBloqueante<T> {
+
+    /* Los elementos de la cola. */
+    private Cola<T> cola;
+    /* El número máximo de elementos en la cola. */
+    private int capacidad;
+    /* El candado de la cola. */
+    private ReentrantLock candado;
+    /* Condición para esperar a que la cola no esté vacía. */
+    private Condition noVacia;
+    /* Condición para esperar a que la cola no esté llena. */
+    private Condition noLlena;
+
+    /**
+     * Construye una cola bloqueante vacía con la capacidad recibida.
+     * @param capacidad el número máximo de elementos en la cola.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    public ColaBloqueante(int capacidad) {
+	if(capacidad < 1)
+	    throw new IllegalArgumentException("Capacidad inválida");
+	this.capacidad = capacidad;
+	cola = new Cola<T>(capacidad);
+	candado = new ReentrantLock();
+	noVacia = candado.newCondition();
+	noLlena = candado.newCondition();
+    }
+
+    /**
+     * Mete un elemento al final de la cola, esperando a que haya espacio si la
+     * cola está llena.
+     * @param elemento el elemento a meter.
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     * @throws InterruptedException si el hilo es interrumpido mientras espera.
+     */
+    public void mete(T elemento) throws InterruptedException {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	candado.lockInterruptibly();
+	try {
+	    while(cola.getLongitud() == capacidad)
+		noLlena.await();
+	    cola.mete(elemento);
+	    noVacia.signal();
+	} finally {
+	    candado.unlock();
+	}
+    }
+
+    /**
+     * Mete un elemento al final de la cola, esperando a lo más el tiempo
+     * recibido a que haya espacio si la cola está llena.
+     * @param elemento el elemento a meter.
+     * @param tiempo el tiempo máximo de espera.
+     * @param unidad la unidad del tiempo de espera.
+     * @return <code>true</code> si el elemento se metió; <code>false</code> si
+     *         la cola siguió llena durante todo el tiempo de espera.
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     * @throws InterruptedException si el hilo es interrumpido mientras espera.
+     */
+    public boolean mete(T elemento, long tiempo, TimeUnit unidad)
+	throws InterruptedException {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	long restante = unidad.toNanos(tiempo);
+	candado.lockInterruptibly();
+	try {
+	    while(cola.getLongitud() == capacidad) {
+		if(restante <= 0)
+		    return false;
+		restante = noLlena.awaitNanos(restante);
+	    }
+	    cola.mete(elemento);
+	    noVacia.signal();
+	    return true;
+	} finally {
+	    candado.unlock();
+	}
+    }
+
+    /**
+     * Mete un elemento al final de la cola si hay espacio, sin esperar.
+     * @param elemento el elemento a meter.
+     * @return <code>true</code> si el elemento se metió; <code>false</code> si
+     *         la cola estaba llena.
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     */
+    public boolean intentaMete(T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	candado.lock();
+	try {
+	    if(cola.getLongitud() == capacidad)
+		return false;
+	    cola.mete(elemento);
+	    noVacia.signal();
+	    return true;
+	} finally {
+	    candado.unlock();
+	}
+    }
+
+    /**
+     * Saca el primer elemento de la cola, esperando a que haya uno si la cola
+     * está vacía.
+     * @return el primer elemento de la cola.
+     * @throws InterruptedException si el hilo es interrumpido mientras espera.
+     */
+    public T saca() throws InterruptedException {
+	candado.lockInterruptibly();
+	try {
+	    while(cola.esVacia())
+		noVacia.await();
+	    T elemento = cola.saca();
+	    noLlena.signal();
+	    return elemento;
+	} finally {
+	    candado.unlock();
+	}
+    }
+
+    /**
+     * Saca el primer elemento de la cola, esperando a lo más el tiempo
+     * recibido a que haya uno si la cola está vacía.
+     * @param tiempo el tiempo máximo de espera.
+     * @param unidad la unidad del tiempo de espera.
+     * @return el primer elemento de la cola, o <code>null</code> si la cola
+     *         siguió vacía durante todo el tiempo de espera.
+     * @throws InterruptedException si el hilo es interrumpido mientras espera.
+     */
+    public T saca(long tiempo, TimeUnit unidad) throws InterruptedException {
+	long restante = unidad.toNanos(tiempo);
+	candado.lockInterruptibly();
+	try {
+	    while(cola.esVacia()) {
+		if(restante <= 0)
+		    return null;
+		restante = noVacia.awaitNanos(restante);
+	    }
+	    T elemento = cola.saca();
+	    noLlena.signal();
+	    return elemento;
+	} finally {
+	    candado.unlock();
+	}
+    }
+
+    /**
+     * Regresa el número de elementos en la cola.
+     * @return el número de elementos en la cola.
+     */
+    public int getLongitud() {
+	candado.lock();
+	try {
+	    return cola.getLongitud();
+	} finally {
+	    candado.unlock();
+	}
+    }
+
+    /**
+     * Regresa la capacidad de la cola.
+     * @return el número máximo de elementos en la cola.
+     */
+    public int getCapacidad() {
+	return capacidad;
+    }
+
+    /**
+     * Nos dice si la cola es vacía.
+     * @return <code>true</code> si la cola es vacía, <code>false</code> en otro
+     *         caso.
+     */
+    public boolean esVacia() {
+	return getLongitud() == 0;
+    }
+
+    /**
+     * Limpia la cola de elementos, dejándola vacía, y despierta a los hilos que
+     * esperan para meter.
+     */
+    public void limpia() {
+	candado.lock();
+	try {
+	    cola.limpia();
+	    noLlena.signalAll();
+	} finally {
+	    candado.unlock();
+	}
+    }
+
+    /**
+     * Regresa una representación en cadena de la cola.
+     * @return una representación en cadena de la cola.
+     */
+    @Override public String toString() {
+	candado.lock();
+	try {
+	    return cola.toString();
+	} finally {
+	    candado.unlock();
+	}
+    }
+}
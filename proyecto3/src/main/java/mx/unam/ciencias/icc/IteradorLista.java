@@ -39,4 +39,58 @@ public interface IteradorLista<T> extends Iterator<T> {
      * <code>true</code> si la lista no es vacía.
      */
     public void end();
+
+    /**
+     * Elimina de la lista el último elemento que regresó {@link Iterator#next}
+     * o {@link IteradorLista#previous}. Por omisión el método no está
+     * soportado.
+     * @throws IllegalStateException si no se ha llamado {@link Iterator#next}
+     *         ni {@link IteradorLista#previous}, o si después se llamó a
+     *         alguno de los métodos que modifican la lista.
+     * @throws UnsupportedOperationException si el iterador no permite
+     *         modificar la lista.
+     */
+    public default void elimina() {
+	throw new UnsupportedOperationException("Operación no soportada");
+    }
+
+    /**
+     * Reemplaza en la lista el último elemento que regresó {@link
+     * Iterator#next} o {@link IteradorLista#previous}. Por omisión el método
+     * no está soportado.
+     * @param elemento el nuevo elemento.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     * @throws IllegalStateException si no se ha llamado {@link Iterator#next}
+     *         ni {@link IteradorLista#previous}, o si después se llamó a
+     *         alguno de los métodos que modifican la lista.
+     * @throws UnsupportedOperationException si el iterador no permite
+     *         modificar la lista.
+     */
+    public default void reemplaza(T elemento) {
+	throw new UnsupportedOperationException("Operación no soportada");
+    }
+
+    /**
+     * Inserta un elemento en la lista, en la posición del iterador. Después
+     * de llamar este método, {@link Iterator#next} regresa lo mismo que antes,
+     * y {@link IteradorLista#previous} regresa el elemento insertado. Por
+     * omisión el método no está soportado.
+     * @param elemento el elemento a insertar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     * @throws UnsupportedOperationException si el iterador no permite
+     *         modificar la lista.
+     */
+    public default void inserta(T elemento) {
+	throw new UnsupportedOperationException("Operación no soportada");
+    }
+
+    /**
+     * Elimina de la lista el último elemento que regresó el iterador. Es
+     * equivalente a {@link #elimina}.
+     */
+    @Override public default void remove() {
+	elimina();
+    }
 }
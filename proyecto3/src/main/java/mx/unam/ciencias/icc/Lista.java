@@ -1,8 +1,15 @@
 package mx.unam.ciencias.icc;
 
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
 
 /**
  * <p>Clase para listas genéricas doblemente ligadas.</p>
@@ -11,41 +18,93 @@ import java.util.NoSuchElementException;
  * eliminar elementos de la lista, comprobar si un elemento está o no en la
  * lista, y otras operaciones básicas.</p>
  *
- * <p>Las listas implementan la interfaz {@link Iterable}, y por lo tanto se
- * pueden recorrer usando la estructura de control <em>for-each</em>. Las listas
- * no aceptan a <code>null</code> como elemento.</p>
+ * <p>Las listas implementan la interfaz {@link Secuencia}, que extiende a
+ * {@link Iterable}, y por lo tanto se pueden recorrer usando la estructura de
+ * control <em>for-each</em>. Las listas no aceptan a <code>null</code> como
+ * elemento.</p>
  *
  * @param <T> El tipo de los elementos de la lista.
  */
-public class Lista<T> implements Iterable<T> {
+public class Lista<T> implements Secuencia<T> {
+
+    /**
+     * <p>Interfaz para posiciones en una lista.</p>
+     *
+     * <p>Una posición identifica a un elemento dentro de una lista, sin
+     * importar los elementos que se agreguen o eliminen antes o después de él,
+     * o que la lista se ordene. Los métodos {@link #agregaFinalPosicion},
+     * {@link #agregaInicioPosicion}, {@link #insertaAntes} e {@link
+     * #insertaDespues} regresan la posición del elemento que agregan, y con
+     * ella {@link #eliminaPosicion} y {@link #reemplaza} toman tiempo
+     * constante.</p>
+     *
+     * <p>Una posición deja de ser válida cuando su elemento se elimina de la
+     * lista, o cuando la lista se limpia.</p>
+     *
+     * @param <T> El tipo de los elementos de la lista.
+     */
+    public interface Posicion<T> {
+
+	/**
+	 * Regresa el elemento en la posición.
+	 * @return el elemento en la posición, o <code>null</code> si la
+	 *         posición ya no es válida.
+	 */
+	public T getElemento();
+    }
 
     /* Clase interna privada para nodos. */
-    private class Nodo {
+    private class Nodo implements Posicion<T> {
         /* El elemento del nodo. */
         private T elemento;
         /* El nodo anterior. */
         private Nodo anterior;
         /* El nodo siguiente. */
         private Nodo siguiente;
+	/* El propietario del nodo; null si el nodo ya no está en la lista. */
+	private Propietario propietario;
 
         /* Construye un nodo con un elemento. */
         private Nodo(T elemento) {
             this.elemento = elemento;
+	    propietario = Lista.this.propietario;
+	}
+
+	/* Regresa el elemento del nodo. */
+	@Override public T getElemento() {
+	    return elemento;
         }
     }
 
+    /* Clase interna privada para propietarios de nodos. Cuando una lista le
+       pasa sus nodos a otra, su propietario reenvía al de la otra lista. */
+    private static class Propietario {
+	/* El propietario al que éste reenvía, o null. */
+	private Propietario reenvio;
+    }
+
     /* Clase interna privada para iteradores. */
     private class Iterador implements IteradorLista<T> {
         /* El nodo anterior. */
         private Nodo anterior;
         /* El nodo siguiente. */
         private Nodo siguiente;
+	/* El nodo del último elemento regresado, o null. */
+	private Nodo ultimo;
+	/* El número de modificaciones de la lista que conoce el iterador. */
+	private int esperadas;
 
         /* Construye un nuevo iterador. */
         private Iterador() {
 	    start();
         }
 
+	/* Lanza una excepción si la lista se modificó sin el iterador. */
+	private void verifica() {
+	    if(modificaciones != esperadas)
+		throw new ConcurrentModificationException("La lista fue modificada");
+	}
+
         /* Nos dice si hay un elemento siguiente. */
         @Override public boolean hasNext() {
             return siguiente != null;
@@ -53,9 +112,10 @@ public class Lista<T> implements Iterable<T> {
 
         /* Nos da el elemento siguiente. */
         @Override public T next() {
+	    verifica();
 	    if(!hasNext())
 		throw new NoSuchElementException("El iterador no tiene elemento siguiente");
-	    anterior = siguiente;
+	    anterior = ultimo = siguiente;
 	    siguiente = siguiente.siguiente;
 	    return anterior.elemento;
         }
@@ -67,24 +127,258 @@ public class Lista<T> implements Iterable<T> {
 
         /* Nos da el elemento anterior. */
         @Override public T previous() {
+	    verifica();
 	    if(!hasPrevious())
 		throw new NoSuchElementException("El iterador no tiene elemento anterior");
-	    siguiente = anterior;
+	    siguiente = ultimo = anterior;
 	    anterior = anterior.anterior;
 	    return siguiente.elemento;
         }
 
         /* Mueve el iterador al inicio de la lista. */
         @Override public void start() {
-	    anterior = null;
+	    anterior = ultimo = null;
 	    siguiente = cabeza;
+	    esperadas = modificaciones;
         }
 
         /* Mueve el iterador al final de la lista. */
         @Override public void end() {
-	    siguiente = null;
+	    siguiente = ultimo = null;
 	    anterior = rabo;
+	    esperadas = modificaciones;
         }
+
+	/* Elimina el último elemento regresado. */
+	@Override public void elimina() {
+	    verifica();
+	    if(ultimo == null)
+		throw new IllegalStateException("No hay elemento que eliminar");
+	    if(ultimo == anterior)
+		anterior = ultimo.anterior;
+	    else
+		siguiente = ultimo.siguiente;
+	    desliga(ultimo);
+	    ultimo = null;
+	    esperadas = modificaciones;
+	}
+
+	/* Reemplaza el último elemento regresado. */
+	@Override public void reemplaza(T elemento) {
+	    verifica();
+	    if(elemento == null)
+		throw new IllegalArgumentException("Elemento inválido");
+	    if(ultimo == null)
+		throw new IllegalStateException("No hay elemento que reemplazar");
+	    ultimo.elemento = elemento;
+	}
+
+	/* Inserta un elemento entre el anterior y el siguiente. */
+	@Override public void inserta(T elemento) {
+	    verifica();
+	    if(elemento == null)
+		throw new IllegalArgumentException("Elemento inválido");
+	    Nodo n = new Nodo(elemento);
+	    n.anterior = anterior;
+	    n.siguiente = siguiente;
+	    if(anterior == null)
+		cabeza = n;
+	    else
+		anterior.siguiente = n;
+	    if(siguiente == null)
+		rabo = n;
+	    else
+		siguiente.anterior = n;
+	    ++longitud;
+	    ++modificaciones;
+	    anterior = n;
+	    ultimo = null;
+	    esperadas = modificaciones;
+	}
+    }
+
+    /* Clase interna privada para ordenar en paralelo una cadena de nodos. */
+    private class Tarea extends RecursiveTask<Nodo> {
+	/* El primer nodo de la cadena. */
+	private Nodo inicio;
+	/* El número de nodos de la cadena. */
+	private int longitud;
+	/* El comparador. */
+	private Comparator<T> comparador;
+	/* El tamaño debajo del cual se ordena secuencialmente. */
+	private int umbral;
+
+	/* Construye una tarea para una cadena terminada en null. */
+	private Tarea(Nodo inicio, int longitud,
+		      Comparator<T> comparador, int umbral) {
+	    this.inicio = inicio;
+	    this.longitud = longitud;
+	    this.comparador = comparador;
+	    this.umbral = umbral;
+	}
+
+	/* Parte la cadena a la mitad, ordena la primera mitad en otra tarea y
+	   la segunda en ésta, y mezcla los resultados. */
+	@Override protected Nodo compute() {
+	    if(longitud <= umbral)
+		return ordena(inicio, comparador);
+	    int mitad = longitud / 2;
+	    Nodo n = inicio;
+	    for(int i = 1; i < mitad; i++)
+		n = n.siguiente;
+	    Nodo segunda = n.siguiente;
+	    n.siguiente = null;
+	    Tarea izquierda = new Tarea(inicio, mitad, comparador, umbral);
+	    izquierda.fork();
+	    Nodo derecha = new Tarea(segunda, longitud - mitad,
+				     comparador, umbral).compute();
+	    return mezcla(izquierda.join(), derecha, comparador);
+	}
+    }
+
+    /* Clase interna privada para divisores (spliterators). Recorre a lo más
+       restantes nodos a partir de actual. */
+    private class Divisor implements Spliterator<T> {
+	/* El siguiente nodo a visitar. */
+	private Nodo actual;
+	/* El número de nodos que faltan por visitar. */
+	private int restantes;
+
+	/* Construye un divisor para restantes nodos a partir de actual. */
+	private Divisor(Nodo actual, int restantes) {
+	    this.actual = actual;
+	    this.restantes = restantes;
+	}
+
+	/* Procesa el siguiente elemento, si existe. */
+	@Override public boolean tryAdvance(Consumer<? super T> accion) {
+	    if(restantes == 0)
+		return false;
+	    T elemento = actual.elemento;
+	    actual = actual.siguiente;
+	    restantes--;
+	    accion.accept(elemento);
+	    return true;
+	}
+
+	/* Procesa todos los elementos restantes. */
+	@Override public void forEachRemaining(Consumer<? super T> accion) {
+	    Nodo n = actual;
+	    int r = restantes;
+	    actual = null;
+	    restantes = 0;
+	    while(r-- > 0) {
+		accion.accept(n.elemento);
+		n = n.siguiente;
+	    }
+	}
+
+	/* Regresa un divisor para la primera mitad de los nodos restantes, y
+	   se queda con la segunda. */
+	@Override public Spliterator<T> trySplit() {
+	    if(restantes < 2)
+		return null;
+	    int mitad = restantes / 2;
+	    Divisor primera = new Divisor(actual, mitad);
+	    for(int i = 0; i < mitad; i++)
+		actual = actual.siguiente;
+	    restantes -= mitad;
+	    return primera;
+	}
+
+	/* Regresa el número exacto de elementos restantes. */
+	@Override public long estimateSize() {
+	    return restantes;
+	}
+
+	/* Regresa las características del divisor. */
+	@Override public int characteristics() {
+	    return ORDERED | SIZED | SUBSIZED | NONNULL;
+	}
+    }
+
+    /* Clase interna privada para mezclar iteradores ordenados. Guarda un
+       montículo mínimo con los índices de los iteradores, ordenados por el
+       siguiente elemento de cada uno; en caso de empate va primero el
+       iterador con el índice menor, para que la mezcla sea estable. */
+    private static class Mezclador<T> implements Iterator<T> {
+	/* Los iteradores. */
+	private Object[] iteradores;
+	/* El siguiente elemento de cada iterador. */
+	private Object[] cabezas;
+	/* El montículo con los índices de los iteradores no vacíos. */
+	private int[] monticulo;
+	/* El número de elementos en el montículo. */
+	private int tamano;
+	/* El comparador. */
+	private Comparator<T> comparador;
+
+	/* Construye un mezclador para los iteradores de la lista. */
+	private Mezclador(Lista<Iterator<T>> lista, Comparator<T> comparador) {
+	    int k = lista.getLongitud();
+	    iteradores = new Object[k];
+	    cabezas = new Object[k];
+	    monticulo = new int[k];
+	    this.comparador = comparador;
+	    int i = 0;
+	    for(Iterator<T> iterador : lista) {
+		iteradores[i] = iterador;
+		if(iterador.hasNext()) {
+		    cabezas[i] = iterador.next();
+		    monticulo[tamano++] = i;
+		}
+		i++;
+	    }
+	    for(int j = tamano / 2 - 1; j >= 0; j--)
+		baja(j);
+	}
+
+	/* Nos dice si el iterador a va antes que el iterador b. */
+	@SuppressWarnings("unchecked") private boolean menor(int a, int b) {
+	    int c = comparador.compare((T)cabezas[a], (T)cabezas[b]);
+	    return c < 0 || (c == 0 && a < b);
+	}
+
+	/* Baja el iterador en la posición i del montículo a su lugar. */
+	private void baja(int i) {
+	    int f = monticulo[i];
+	    for(;;) {
+		int h = 2 * i + 1;
+		if(h >= tamano)
+		    break;
+		if(h + 1 < tamano && menor(monticulo[h + 1], monticulo[h]))
+		    h++;
+		if(!menor(monticulo[h], f))
+		    break;
+		monticulo[i] = monticulo[h];
+		i = h;
+	    }
+	    monticulo[i] = f;
+	}
+
+	/* Nos dice si hay un elemento siguiente. */
+	@Override public boolean hasNext() {
+	    return tamano > 0;
+	}
+
+	/* Nos da el menor de los siguientes elementos de los iteradores, y
+	   avanza el iterador de donde salió. */
+	@SuppressWarnings("unchecked") @Override public T next() {
+	    if(tamano == 0)
+		throw new NoSuchElementException("El iterador no tiene elemento siguiente");
+	    int f = monticulo[0];
+	    T elemento = (T)cabezas[f];
+	    Iterator<T> iterador = (Iterator<T>)iteradores[f];
+	    if(iterador.hasNext()) {
+		cabezas[f] = iterador.next();
+	    } else {
+		cabezas[f] = iteradores[f] = null;
+		monticulo[0] = monticulo[--tamano];
+	    }
+	    if(tamano > 1)
+		baja(0);
+	    return elemento;
+	}
     }
 
     /* Primer elemento de la lista. */
@@ -93,6 +387,12 @@ public class Lista<T> implements Iterable<T> {
     private Nodo rabo;
     /* Número de elementos en la lista. */
     private int longitud;
+    /* El propietario de los nodos de la lista. Limpiar la lista lo reemplaza,
+       lo que invalida las posiciones de todos sus nodos a la vez. */
+    private Propietario propietario = new Propietario();
+    /* Número de modificaciones estructurales de la lista, para que los
+       iteradores detecten modificaciones concurrentes. */
+    private int modificaciones;
 
     /**
      * Regresa la longitud de la lista.
@@ -119,6 +419,17 @@ public class Lista<T> implements Iterable<T> {
      *         <code>null</code>.
      */
     public void agregaFinal(T elemento) {
+	agregaFinalPosicion(elemento);
+    }
+
+    /**
+     * Agrega un elemento al final de la lista y regresa su posición.
+     * @param elemento el elemento a agregar.
+     * @return la posición del elemento agregado.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public Posicion<T> agregaFinalPosicion(T elemento) {
 	if(elemento == null)
 	    throw new IllegalArgumentException("Elemento inválido");
 	Nodo n = new Nodo(elemento);
@@ -130,6 +441,8 @@ public class Lista<T> implements Iterable<T> {
 	    rabo = n;
 	}
 	++longitud;
+	++modificaciones;
+	return n;
     }
 
     /**
@@ -140,6 +453,17 @@ public class Lista<T> implements Iterable<T> {
      *         <code>null</code>.
      */
     public void agregaInicio(T elemento) {
+	agregaInicioPosicion(elemento);
+    }
+
+    /**
+     * Agrega un elemento al inicio de la lista y regresa su posición.
+     * @param elemento el elemento a agregar.
+     * @return la posición del elemento agregado.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public Posicion<T> agregaInicioPosicion(T elemento) {
 	if(elemento == null)
 	    throw new IllegalArgumentException("Elemento inválido");
 	Nodo n = new Nodo(elemento);
@@ -151,6 +475,117 @@ public class Lista<T> implements Iterable<T> {
 	    cabeza = n;
 	}
 	++longitud;
+	++modificaciones;
+	return n;
+    }
+
+    /**
+     * Inserta un elemento antes de una posición de la lista, y regresa la
+     * posición del elemento insertado.
+     * @param posicion una posición válida de la lista.
+     * @param elemento el elemento a insertar.
+     * @return la posición del elemento insertado.
+     * @throws IllegalArgumentException si <code>posicion</code> no es una
+     *         posición válida de la lista, o si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public Posicion<T> insertaAntes(Posicion<T> posicion, T elemento) {
+	Nodo s = validaPosicion(posicion);
+	if(s == cabeza)
+	    return agregaInicioPosicion(elemento);
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	Nodo n = new Nodo(elemento);
+	n.anterior = s.anterior;
+	n.siguiente = s;
+	s.anterior.siguiente = n;
+	s.anterior = n;
+	++longitud;
+	++modificaciones;
+	return n;
+    }
+
+    /**
+     * Inserta un elemento después de una posición de la lista, y regresa la
+     * posición del elemento insertado.
+     * @param posicion una posición válida de la lista.
+     * @param elemento el elemento a insertar.
+     * @return la posición del elemento insertado.
+     * @throws IllegalArgumentException si <code>posicion</code> no es una
+     *         posición válida de la lista, o si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public Posicion<T> insertaDespues(Posicion<T> posicion, T elemento) {
+	Nodo a = validaPosicion(posicion);
+	if(a == rabo)
+	    return agregaFinalPosicion(elemento);
+	return insertaAntes(a.siguiente, elemento);
+    }
+
+    /**
+     * Elimina el elemento en una posición de la lista y lo regresa. La
+     * posición deja de ser válida.
+     * @param posicion una posición válida de la lista.
+     * @return el elemento que estaba en la posición.
+     * @throws IllegalArgumentException si <code>posicion</code> no es una
+     *         posición válida de la lista.
+     */
+    public T eliminaPosicion(Posicion<T> posicion) {
+	return desliga(validaPosicion(posicion));
+    }
+
+    /**
+     * Reemplaza el elemento en una posición de la lista, y regresa el elemento
+     * que estaba en ella. La posición sigue siendo válida.
+     * @param posicion una posición válida de la lista.
+     * @param elemento el nuevo elemento.
+     * @return el elemento que estaba en la posición.
+     * @throws IllegalArgumentException si <code>posicion</code> no es una
+     *         posición válida de la lista, o si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public T reemplaza(Posicion<T> posicion, T elemento) {
+	Nodo n = validaPosicion(posicion);
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	T anterior = n.elemento;
+	n.elemento = elemento;
+	return anterior;
+    }
+
+    /* Regresa el nodo de la posición, si es una posición válida de la
+       lista. */
+    private Nodo validaPosicion(Posicion<T> posicion) {
+	if(!(posicion instanceof Lista.Nodo))
+	    throw new IllegalArgumentException("Posición inválida");
+	@SuppressWarnings("unchecked") Nodo n = (Nodo)posicion;
+	Propietario p = n.propietario;
+	if(p == null)
+	    throw new IllegalArgumentException("Posición inválida");
+	while(p.reenvio != null)
+	    p = p.reenvio;
+	n.propietario = p;
+	if(p != propietario)
+	    throw new IllegalArgumentException("Posición inválida");
+	return n;
+    }
+
+    /* Saca al nodo de la lista, lo invalida y regresa su elemento. */
+    private T desliga(Nodo n) {
+	if(n.anterior == null)
+	    cabeza = n.siguiente;
+	else
+	    n.anterior.siguiente = n.siguiente;
+	if(n.siguiente == null)
+	    rabo = n.anterior;
+	else
+	    n.siguiente.anterior = n.anterior;
+	--longitud;
+	++modificaciones;
+	T elemento = n.elemento;
+	n.elemento = null;
+	n.propietario = null;
+	return elemento;
     }
 
     /**
@@ -177,16 +612,30 @@ public class Lista<T> implements Iterable<T> {
 	    agregaFinal(elemento);
 	} else {
 	    Nodo n = new Nodo(elemento);
-	    Nodo iesimo = getNodo(cabeza.siguiente, i, 1);
+	    Nodo iesimo = getNodo(i);
 	    iesimo.anterior.siguiente = n;
 	    n.anterior = iesimo.anterior;
 	    iesimo.anterior = n;
 	    n.siguiente = iesimo;
 	    ++longitud;
+	    ++modificaciones;
 	}
     }
-    private Nodo getNodo(Nodo n, int indice, int j){
-	return (indice == j) ? n : getNodo(n.siguiente, indice, ++j);
+
+    /* Regresa el nodo con el índice recibido, recorriendo la lista desde el
+       extremo más cercano. */
+    private Nodo getNodo(int indice) {
+	Nodo n;
+	if(indice < longitud / 2) {
+	    n = cabeza;
+	    for(int j = 0; j < indice; j++)
+		n = n.siguiente;
+	} else {
+	    n = rabo;
+	    for(int j = longitud - 1; j > indice; j--)
+		n = n.anterior;
+	}
+	return n;
     }
 
     /**
@@ -198,24 +647,13 @@ public class Lista<T> implements Iterable<T> {
 	if(elemento == null)
 	    return;
 	Nodo n = buscaNodo(elemento, cabeza);
-	if(n == null)
-	    return;
-	if(longitud == 1 && cabeza.elemento.equals(n.elemento)) {
-	    limpia();
-	} else if(cabeza.equals(n)) {
-	    eliminaPrimero();
-	} else if(rabo.equals(n)) {
-	    eliminaUltimo();
-	} else {
-	    n.anterior.siguiente = n.siguiente;
-	    n.siguiente.anterior = n.anterior;
-	    --longitud;
-	}
+	if(n != null)
+	    desliga(n);
     }
     private Nodo buscaNodo(T o, Nodo n){
-	if(n == null)
-	    return null;
-	return (n.elemento.equals(o)) ? n : buscaNodo(o, n.siguiente);
+	while(n != null && !n.elemento.equals(o))
+	    n = n.siguiente;
+	return n;
      }
 
     /**
@@ -226,15 +664,7 @@ public class Lista<T> implements Iterable<T> {
     public T eliminaPrimero() {
 	if(cabeza == null)
 	    throw new NoSuchElementException("Lista vacía");
-	Nodo n = cabeza;
-	if(longitud == 1) {
-	    limpia();
-	} else {
-	    cabeza = cabeza.siguiente;
-	    cabeza.anterior = null;
-	    --longitud;
-	}
-	return n.elemento;
+	return desliga(cabeza);
     }
 
     /**
@@ -245,15 +675,7 @@ public class Lista<T> implements Iterable<T> {
     public T eliminaUltimo() {
 	if(cabeza == null)
 	    throw new NoSuchElementException("Lista vacía");
-	Nodo n = rabo;
-	if(longitud == 1) {
-	    limpia();
-	} else {
-	    rabo = rabo.anterior;
-	    rabo.siguiente = null;
-	    --longitud;
-	}
-	return n.elemento;
+	return desliga(rabo);
     }
 
     /**
@@ -295,6 +717,103 @@ public class Lista<T> implements Iterable<T> {
     public void limpia() {
         cabeza = rabo = null;
 	longitud = 0;
+	++modificaciones;
+	propietario = new Propietario();
+    }
+
+    /**
+     * Agrega al final de la lista todos los elementos de otra lista, en tiempo
+     * constante. Los nodos de la otra lista pasan a ésta, por lo que la otra
+     * lista queda vacía; las posiciones de sus elementos siguen siendo
+     * válidas, ahora en esta lista.
+     * @param otra la lista cuyos elementos se agregan.
+     * @throws IllegalArgumentException si <code>otra</code> es
+     *         <code>null</code> o es esta misma lista.
+     */
+    public void concatena(Lista<T> otra) {
+	if(otra == null || otra == this)
+	    throw new IllegalArgumentException("Lista inválida");
+	if(otra.esVacia())
+	    return;
+	otra.propietario.reenvio = propietario;
+	if(esVacia()) {
+	    cabeza = otra.cabeza;
+	} else {
+	    rabo.siguiente = otra.cabeza;
+	    otra.cabeza.anterior = rabo;
+	}
+	rabo = otra.rabo;
+	longitud += otra.longitud;
+	++modificaciones;
+	otra.limpia();
+    }
+
+    /**
+     * Divide la lista en un índice. Después de llamar al método, la lista
+     * conserva sus primeros <em>i</em> elementos, y los demás quedan en la
+     * lista que se regresa. Los nodos no se copian: el método toma tiempo
+     * proporcional a la distancia del índice al extremo más cercano de la
+     * lista. Las posiciones de los elementos siguen siendo válidas en la lista
+     * donde quedan.
+     * @param i el índice del primer elemento de la nueva lista.
+     * @return una lista con los elementos a partir del índice <em>i</em>.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor
+     *         que el número de elementos en la lista.
+     */
+    public Lista<T> divide(int i) {
+	if(i < 0 || i > longitud)
+	    throw new ExcepcionIndiceInvalido("Índice inválido");
+	Lista<T> resto = new Lista<T>();
+	if(i == longitud)
+	    return resto;
+	Nodo n = getNodo(i);
+	/* Sólo hay que cambiar el propietario de los nodos del lado más
+	   corto. */
+	if(i < longitud - i) {
+	    Propietario nuevo = new Propietario();
+	    for(Nodo m = cabeza; m != n; m = m.siguiente)
+		m.propietario = nuevo;
+	    resto.propietario = propietario;
+	    propietario = nuevo;
+	} else {
+	    for(Nodo m = n; m != null; m = m.siguiente)
+		m.propietario = resto.propietario;
+	}
+	resto.cabeza = n;
+	resto.rabo = rabo;
+	resto.longitud = longitud - i;
+	rabo = n.anterior;
+	if(rabo == null)
+	    cabeza = null;
+	else
+	    rabo.siguiente = null;
+	n.anterior = null;
+	longitud = i;
+	++modificaciones;
+	return resto;
+    }
+
+    /**
+     * Elimina todos los elementos de la lista que cumplen el predicado, en una
+     * sola pasada.
+     * @param predicado el predicado.
+     * @return el número de elementos eliminados.
+     * @throws IllegalArgumentException si el predicado es <code>null</code>.
+     */
+    @Override public int eliminaSi(Predicate<? super T> predicado) {
+	if(predicado == null)
+	    throw new IllegalArgumentException("Predicado inválido");
+	int eliminados = 0;
+	Nodo n = cabeza;
+	while(n != null) {
+	    Nodo siguiente = n.siguiente;
+	    if(predicado.test(n.elemento)) {
+		desliga(n);
+		eliminados++;
+	    }
+	    n = siguiente;
+	}
+	return eliminados;
     }
 
     /**
@@ -329,7 +848,7 @@ public class Lista<T> implements Iterable<T> {
     public T get(int i) {
 	if(esVacia() || i < 0 || i >= longitud)
 	    throw new ExcepcionIndiceInvalido("Índice inválido");
-	return getNodo(cabeza, i, 0).elemento;
+	return getNodo(i).elemento;
     }
 
     /**
@@ -397,6 +916,18 @@ public class Lista<T> implements Iterable<T> {
         return new Iterador();
     }
 
+    /**
+     * Regresa un divisor (<em>spliterator</em>) para la lista. El divisor sabe
+     * exactamente cuántos elementos le quedan, y se parte en dos mitades del
+     * mismo tamaño, por lo que {@link #parallelStream} reparte el trabajo de
+     * manera balanceada. La lista no debe modificarse mientras se usa el
+     * divisor.
+     * @return un divisor para la lista.
+     */
+    @Override public Spliterator<T> spliterator() {
+	return new Divisor(cabeza, longitud);
+    }
+
     /**
      * Regresa un iterador para recorrer la lista en ambas direcciones.
      * @return un iterador para recorrer la lista en ambas direcciones.
@@ -414,48 +945,139 @@ public class Lista<T> implements Iterable<T> {
      * @return una copia de la lista, pero ordenada.
      */
     public Lista<T> mergeSort(Comparator<T> comparador) {
-	return mergeSort(copia(), comparador);
-    }
-    
-    private Lista<T> mergeSort(Lista<T> lista, Comparator<T> comparador) {
-	if(lista.getLongitud() <= 1)
-	    return lista;
-	Lista<T> l1 = new Lista<>();
-	Lista<T> l2 = new Lista<>();
-	int mitad = lista.getLongitud() / 2;
-	int i = 0; 
-	for(T elemento : lista)
-	    if(i++ < mitad)
-		l1.agregaFinal(elemento);
-	    else
-		l2.agregaFinal(elemento);
-	return mezcla(mergeSort(l1, comparador), mergeSort(l2, comparador), comparador);
-    }
-
-    private Lista<T> mezcla(Lista<T> l1, Lista<T> l2, Comparator<T> comparador) {
-	Lista<T> ordenada = new Lista<>();
-	Nodo i = l1.cabeza;
-	Nodo j = l2.cabeza;
-	while(i != null && j != null) {
-	    if(comparador.compare(i.elemento, j.elemento) <= 0) {
-		ordenada.agregaFinal(i.elemento);
-		i = i.siguiente;
-	    } else {
-		ordenada.agregaFinal(j.elemento);
-		j = j.siguiente;
-	    }		    
-	}
-	while(i != null) {
-	    ordenada.agregaFinal(i.elemento);
-	    i = i.siguiente;
+	Lista<T> copia = copia();
+	copia.ordena(comparador);
+	return copia;
+    }
+
+    /**
+     * Ordena la lista usando MergeSort de abajo hacia arriba. El ordenamiento
+     * es estable y no crea nodos nuevos: sólo vuelve a ligar los que ya tiene
+     * la lista.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     */
+    public void ordena(Comparator<T> comparador) {
+	if(longitud <= 1)
+	    return;
+	cabeza = ordena(cabeza, comparador);
+	ligaAnteriores();
+	++modificaciones;
+    }
+
+    /**
+     * Regresa una copia de la lista, pero ordenada usando varios hilos. Ver
+     * {@link #ordenaParalelo(Comparator,int)}.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @param umbral el número de elementos debajo del cual un segmento se
+     *               ordena secuencialmente.
+     * @return una copia de la lista, pero ordenada.
+     * @throws IllegalArgumentException si el umbral es menor que uno.
+     */
+    public Lista<T> mergeSortParalelo(Comparator<T> comparador, int umbral) {
+	Lista<T> copia = copia();
+	copia.ordenaParalelo(comparador, umbral);
+	return copia;
+    }
+
+    /**
+     * Ordena la lista usando MergeSort en paralelo. La lista se parte a la
+     * mitad recursivamente hasta que los segmentos tienen a lo más
+     * <code>umbral</code> elementos; cada segmento se ordena como en {@link
+     * #ordena(Comparator)} en el {@link ForkJoinPool} común, y los segmentos
+     * ordenados se mezclan de regreso. Si la lista tiene a lo más
+     * <code>umbral</code> elementos, se ordena sin usar otros hilos. El
+     * ordenamiento es estable y no crea nodos nuevos. El comparador debe
+     * poder usarse desde varios hilos a la vez.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @param umbral el número de elementos debajo del cual un segmento se
+     *               ordena secuencialmente.
+     * @throws IllegalArgumentException si el umbral es menor que uno.
+     */
+    public void ordenaParalelo(Comparator<T> comparador, int umbral) {
+	if(umbral < 1)
+	    throw new IllegalArgumentException("Umbral inválido");
+	if(longitud <= umbral) {
+	    ordena(comparador);
+	    return;
 	}
-	while(j != null) {
-	    ordenada.agregaFinal(j.elemento);
-	    j = j.siguiente;
+	cabeza = ForkJoinPool.commonPool().invoke(
+	    new Tarea(cabeza, longitud, comparador, umbral));
+	ligaAnteriores();
+	++modificaciones;
+    }
+
+    /* Ordena la cadena de nodos que empieza en inicio, ligada por siguiente y
+       terminada en null, y regresa su nueva cabeza. Como en un contador
+       binario, corridas[i] guarda una corrida ordenada de 2^i nodos, y cada
+       nodo nuevo se mezcla con las corridas existentes mientras haya una del
+       mismo tamaño; así las mezclas trabajan sobre nodos visitados
+       recientemente. Los apuntadores anterior no se actualizan. */
+    @SuppressWarnings("unchecked")
+    private Nodo ordena(Nodo inicio, Comparator<T> comparador) {
+	Nodo[] corridas = (Nodo[])new Lista.Nodo[32];
+	int alto = 0;
+	Nodo n = inicio;
+	while(n != null) {
+	    Nodo corrida = n;
+	    n = n.siguiente;
+	    corrida.siguiente = null;
+	    int i = 0;
+	    while(i < alto && corridas[i] != null) {
+		corrida = mezcla(corridas[i], corrida, comparador);
+		corridas[i++] = null;
+	    }
+	    if(i == alto)
+		alto++;
+	    corridas[i] = corrida;
 	}
+	Nodo ordenada = null;
+	for(int i = 0; i < alto; i++)
+	    if(corridas[i] != null)
+		ordenada = ordenada == null ? corridas[i] :
+		    mezcla(corridas[i], ordenada, comparador);
 	return ordenada;
     }
 
+    /* Mezcla dos cadenas ordenadas terminadas en null y regresa la cabeza del
+       resultado. En caso de empate gana a, que debe tener los elementos que
+       aparecían antes en la lista, para que la mezcla sea estable. */
+    private Nodo mezcla(Nodo a, Nodo b, Comparator<T> comparador) {
+	Nodo cabeza, cola;
+	if(comparador.compare(a.elemento, b.elemento) <= 0) {
+	    cabeza = a;
+	    a = a.siguiente;
+	} else {
+	    cabeza = b;
+	    b = b.siguiente;
+	}
+	cola = cabeza;
+	while(a != null && b != null) {
+	    if(comparador.compare(a.elemento, b.elemento) <= 0) {
+		cola.siguiente = a;
+		a = a.siguiente;
+	    } else {
+		cola.siguiente = b;
+		b = b.siguiente;
+	    }
+	    cola = cola.siguiente;
+	}
+	cola.siguiente = a != null ? a : b;
+	return cabeza;
+    }
+
+    /* Repara los apuntadores anterior y el rabo a partir de la cabeza. */
+    private void ligaAnteriores() {
+	Nodo anterior = null;
+	for(Nodo n = cabeza; n != null; n = n.siguiente) {
+	    n.anterior = anterior;
+	    anterior = n;
+	}
+	rabo = anterior;
+    }
+
     /**
      * Regresa una copia de la lista recibida, pero ordenada. La lista recibida
      * tiene que contener nada más elementos que implementan la interfaz {@link
@@ -469,6 +1091,88 @@ public class Lista<T> implements Iterable<T> {
         return lista.mergeSort((a, b) -> a.compareTo(b));
     }
 
+    /**
+     * Mezcla varias listas ordenadas en una lista nueva, ordenada. Usa un
+     * montículo con el siguiente elemento de cada lista, por lo que toma
+     * tiempo <em>O</em>(<em>n</em> log <em>k</em>), donde <em>n</em> es el
+     * total de elementos y <em>k</em> el número de listas. La mezcla es
+     * estable: los elementos iguales quedan en el orden de sus listas, y
+     * dentro de cada lista en su orden original. Las listas recibidas no
+     * cambian.
+     * @param <T> tipo de los elementos de las listas.
+     * @param listas las listas a mezclar, cada una ordenada con el comparador.
+     * @param comparador el comparador con el que están ordenadas las listas.
+     * @return una lista ordenada con todos los elementos de las listas.
+     * @throws IllegalArgumentException si <code>listas</code> es
+     *         <code>null</code>.
+     */
+    public static <T> Lista<T> mezclaK(Lista<Lista<T>> listas,
+				       Comparator<T> comparador) {
+	if(listas == null)
+	    throw new IllegalArgumentException("Listas inválidas");
+	Lista<Iterator<T>> iteradores = new Lista<Iterator<T>>();
+	for(Lista<T> lista : listas)
+	    iteradores.agregaFinal(lista.iterator());
+	Lista<T> mezcla = new Lista<T>();
+	Iterator<T> iterador = new Mezclador<T>(iteradores, comparador);
+	while(iterador.hasNext())
+	    mezcla.agregaFinal(iterador.next());
+	return mezcla;
+    }
+
+    /**
+     * Mezcla varias listas ordenadas en una lista nueva, ordenada. Las listas
+     * tienen que contener nada más elementos que implementan la interfaz
+     * {@link Comparable}.
+     * @param <T> tipo del que puede ser la lista.
+     * @param listas las listas a mezclar, cada una ordenada.
+     * @return una lista ordenada con todos los elementos de las listas.
+     * @throws IllegalArgumentException si <code>listas</code> es
+     *         <code>null</code>.
+     */
+    public static <T extends Comparable<T>>
+    Lista<T> mezclaK(Lista<Lista<T>> listas) {
+        return mezclaK(listas, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Regresa un iterador que mezcla perezosamente varios iteradores
+     * ordenados. Cada llamada a {@link Iterator#next} toma tiempo
+     * <em>O</em>(log <em>k</em>), y de cada iterador recibido se lee a lo más
+     * un elemento por adelantado, por lo que la mezcla no necesita guardar
+     * los elementos en memoria. Como en {@link #mezclaK(Lista,Comparator)},
+     * la mezcla es estable.
+     * @param <T> tipo de los elementos de los iteradores.
+     * @param iteradores los iteradores a mezclar, cada uno ordenado con el
+     *        comparador.
+     * @param comparador el comparador con el que están ordenados los
+     *        iteradores.
+     * @return un iterador con todos los elementos de los iteradores, en
+     *         orden.
+     * @throws IllegalArgumentException si <code>iteradores</code> es
+     *         <code>null</code>.
+     */
+    public static <T> Iterator<T> iteradorMezclaK(Lista<Iterator<T>> iteradores,
+						  Comparator<T> comparador) {
+	if(iteradores == null)
+	    throw new IllegalArgumentException("Iteradores inválidos");
+	return new Mezclador<T>(iteradores, comparador);
+    }
+
+    /**
+     * Regresa un colector que acumula los elementos de un flujo en una lista
+     * nueva, en el orden del flujo. Funciona también con flujos paralelos.
+     * @param <T> tipo de los elementos del flujo.
+     * @return un colector que acumula en una lista.
+     */
+    public static <T> Collector<T, ?, Lista<T>> colector() {
+	return Collector.of(Lista::new, Lista::agregaFinal,
+			    (a, b) -> {
+				a.concatena(b);
+				return a;
+			    });
+    }
+
     /**
      * Busca un elemento en la lista ordenada, usando el comparador recibido. El
      * método supone que la lista está ordenada usando el mismo comparador.
@@ -0,0 +1,415 @@
+package mx.unam.ciencias.icc;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * <p>Clase para listas genéricas que pueden usarse desde varios hilos a la
+ * vez.</p>
+ *
+ * <p>La lista guarda sus elementos en un arreglo que nunca se modifica: cada
+ * operación que cambia la lista construye un arreglo nuevo y lo publica con
+ * una comparación e intercambio atómicos, reintentando si otro hilo la cambió
+ * primero. Ninguna operación usa candados, por lo que un hilo que recorre la
+ * lista nunca espera a uno que la modifica, ni al revés.</p>
+ *
+ * <p>Los iteradores recorren una instantánea de la lista tomada al momento de
+ * crearlos: no ven los cambios posteriores, nunca lanzan {@link
+ * java.util.ConcurrentModificationException}, y es seguro modificar la lista
+ * mientras se recorre. Por lo mismo no permiten modificar la lista: {@link
+ * IteradorLista#elimina}, {@link IteradorLista#reemplaza} e {@link
+ * IteradorLista#inserta} lanzan {@link UnsupportedOperationException}, y hay
+ * que usar los métodos de la lista, como {@link #eliminaSi}. Como cada
+ * modificación copia el arreglo, la lista está pensada para colecciones que
+ * se recorren mucho más de lo que se modifican, como las listas de escuchas o
+ * de conexiones de un servidor.</p>
+ *
+ * <p>Las listas concurrentes implementan la interfaz {@link Secuencia}. No
+ * aceptan a <code>null</code> como elemento.</p>
+ *
+ * @param <T> El tipo de los elementos de la lista.
+ */
+public class ListaConcurrente<T> implements Secuencia<T> {
+
+    /* Clase interna privada para iteradores sobre una instantánea. */
+    private class Iterador implements IteradorLista<T> {
+	/* La instantánea que se recorre. */
+	private Object[] instantanea;
+	/* El índice del elemento siguiente. */
+	private int siguiente;
+
+	/* Construye un nuevo iterador. */
+	private Iterador(Object[] instantanea) {
+	    this.instantanea = instantanea;
+	}
+
+	/* Nos dice si hay un elemento siguiente. */
+	@Override public boolean hasNext() {
+	    return siguiente < instantanea.length;
+	}
+
+	/* Nos da el elemento siguiente. */
+	@Override public T next() {
+	    if(!hasNext())
+		throw new NoSuchElementException("El iterador no tiene elemento siguiente");
+	    return elemento(instantanea, siguiente++);
+	}
+
+	/* Nos dice si hay un elemento anterior. */
+	@Override public boolean hasPrevious() {
+	    return siguiente > 0;
+	}
+
+	/* Nos da el elemento anterior. */
+	@Override public T previous() {
+	    if(!hasPrevious())
+		throw new NoSuchElementException("El iterador no tiene elemento anterior");
+	    return elemento(instantanea, --siguiente);
+	}
+
+	/* Mueve el iterador al inicio de la lista. */
+	@Override public void start() {
+	    siguiente = 0;
+	}
+
+	/* Mueve el iterador al final de la lista. */
+	@Override public void end() {
+	    siguiente = instantanea.length;
+	}
+    }
+
+    /* Arreglo vacío compartido. */
+    private static final Object[] VACIO = new Object[0];
+
+    /* Los elementos de la lista; el arreglo publicado nunca se modifica. */
+    private final AtomicReference<Object[]> elementos;
+
+    /**
+     * Construye una lista concurrente vacía.
+     */
+    public ListaConcurrente() {
+	elementos = new AtomicReference<Object[]>(VACIO);
+    }
+
+    /* Construye una lista concurrente con el arreglo recibido. */
+    private ListaConcurrente(Object[] arreglo) {
+	elementos = new AtomicReference<Object[]>(arreglo);
+    }
+
+    /* Regresa el i-ésimo elemento del arreglo. */
+    @SuppressWarnings("unchecked")
+    private T elemento(Object[] arreglo, int i) {
+	return (T)arreglo[i];
+    }
+
+    /* Regresa una copia del arreglo con el elemento insertado en i. */
+    private static Object[] inserta(Object[] arreglo, int i, Object elemento) {
+	Object[] nuevo = new Object[arreglo.length + 1];
+	System.arraycopy(arreglo, 0, nuevo, 0, i);
+	nuevo[i] = elemento;
+	System.arraycopy(arreglo, i, nuevo, i + 1, arreglo.length - i);
+	return nuevo;
+    }
+
+    /* Regresa una copia del arreglo sin el elemento en i. */
+    private static Object[] elimina(Object[] arreglo, int i) {
+	if(arreglo.length == 1)
+	    return VACIO;
+	Object[] nuevo = new Object[arreglo.length - 1];
+	System.arraycopy(arreglo, 0, nuevo, 0, i);
+	System.arraycopy(arreglo, i + 1, nuevo, i, arreglo.length - i - 1);
+	return nuevo;
+    }
+
+    /* Regresa el índice del elemento en el arreglo, o -1. */
+    private static int indiceDe(Object[] arreglo, Object elemento) {
+	if(elemento == null)
+	    return -1;
+	for(int i = 0; i < arreglo.length; i++)
+	    if(arreglo[i].equals(elemento))
+		return i;
+	return -1;
+    }
+
+    /**
+     * Regresa la longitud de la lista.
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    @Override public int getLongitud() {
+	return elementos.get().length;
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    @Override public boolean esVacia() {
+	return elementos.get().length == 0;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void agregaFinal(T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	Object[] actual, nuevo;
+	do {
+	    actual = elementos.get();
+	    nuevo = inserta(actual, actual.length, elemento);
+	} while(!elementos.compareAndSet(actual, nuevo));
+    }
+
+    /**
+     * Agrega un elemento al inicio de la lista.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void agregaInicio(T elemento) {
+	inserta(0, elemento);
+    }
+
+    /**
+     * Inserta un elemento en un índice explícito. Si el índice es menor o igual
+     * que cero, el elemento se agrega al inicio; si es mayor o igual que el
+     * número de elementos, se agrega al final.
+     * @param i el índice dónde insertar el elemento.
+     * @param elemento el elemento a insertar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void inserta(int i, T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	Object[] actual, nuevo;
+	do {
+	    actual = elementos.get();
+	    int j = Math.max(0, Math.min(i, actual.length));
+	    nuevo = inserta(actual, j, elemento);
+	} while(!elementos.compareAndSet(actual, nuevo));
+    }
+
+    /**
+     * Elimina la primera aparición de un elemento de la lista. Si el elemento
+     * no está contenido en la lista, el método no la modifica.
+     * @param elemento el elemento a eliminar.
+     */
+    @Override public void elimina(T elemento) {
+	Object[] actual, nuevo;
+	do {
+	    actual = elementos.get();
+	    int i = indiceDe(actual, elemento);
+	    if(i == -1)
+		return;
+	    nuevo = elimina(actual, i);
+	} while(!elementos.compareAndSet(actual, nuevo));
+    }
+
+    /**
+     * Elimina todos los elementos de la lista que cumplen el predicado, con
+     * una sola copia del arreglo. Si otro hilo modifica la lista al mismo
+     * tiempo, el predicado puede evaluarse más de una vez en un mismo
+     * elemento.
+     * @param predicado el predicado.
+     * @return el número de elementos eliminados.
+     * @throws IllegalArgumentException si el predicado es <code>null</code>.
+     */
+    @Override public int eliminaSi(Predicate<? super T> predicado) {
+	if(predicado == null)
+	    throw new IllegalArgumentException("Predicado inválido");
+	Object[] actual, nuevo;
+	int eliminados;
+	do {
+	    actual = elementos.get();
+	    Object[] conservados = new Object[actual.length];
+	    int n = 0;
+	    for(int i = 0; i < actual.length; i++)
+		if(!predicado.test(elemento(actual, i)))
+		    conservados[n++] = actual[i];
+	    eliminados = actual.length - n;
+	    if(eliminados == 0)
+		return 0;
+	    nuevo = n == 0 ? VACIO : Arrays.copyOf(conservados, n);
+	} while(!elementos.compareAndSet(actual, nuevo));
+	return eliminados;
+    }
+
+    /**
+     * Elimina el primer elemento de la lista y lo regresa.
+     * @return el primer elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T eliminaPrimero() {
+	Object[] actual;
+	do {
+	    actual = elementos.get();
+	    if(actual.length == 0)
+		throw new NoSuchElementException("La lista es vacía");
+	} while(!elementos.compareAndSet(actual, elimina(actual, 0)));
+	return elemento(actual, 0);
+    }
+
+    /**
+     * Elimina el último elemento de la lista y lo regresa.
+     * @return el último elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T eliminaUltimo() {
+	Object[] actual;
+	do {
+	    actual = elementos.get();
+	    if(actual.length == 0)
+		throw new NoSuchElementException("La lista es vacía");
+	} while(!elementos.compareAndSet(actual,
+			 elimina(actual, actual.length - 1)));
+	return elemento(actual, actual.length - 1);
+    }
+
+    /**
+     * Nos dice si un elemento está en la lista.
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <code>true</code> si <code>elemento</code> está en la lista,
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean contiene(T elemento) {
+	return indiceDe(elementos.get(), elemento) != -1;
+    }
+
+    /**
+     * Regresa la reversa de la lista.
+     * @return una nueva lista que es la reversa de la que manda llamar el
+     *         método.
+     */
+    @Override public ListaConcurrente<T> reversa() {
+	Object[] actual = elementos.get();
+	Object[] reversa = new Object[actual.length];
+	for(int i = 0; i < actual.length; i++)
+	    reversa[i] = actual[actual.length - 1 - i];
+	return new ListaConcurrente<T>(reversa);
+    }
+
+    /**
+     * Regresa una copia de la lista. Como el arreglo de la lista nunca se
+     * modifica, la copia lo comparte y toma tiempo constante.
+     * @return una copia de la lista, con los mismos elementos en el mismo
+     *         orden.
+     */
+    @Override public ListaConcurrente<T> copia() {
+	return new ListaConcurrente<T>(elementos.get());
+    }
+
+    /**
+     * Limpia la lista de elementos, dejándola vacía.
+     */
+    @Override public void limpia() {
+	elementos.set(VACIO);
+    }
+
+    /**
+     * Regresa el primer elemento de la lista.
+     * @return el primer elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T getPrimero() {
+	Object[] actual = elementos.get();
+	if(actual.length == 0)
+	    throw new NoSuchElementException("La lista es vacía");
+	return elemento(actual, 0);
+    }
+
+    /**
+     * Regresa el último elemento de la lista.
+     * @return el último elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T getUltimo() {
+	Object[] actual = elementos.get();
+	if(actual.length == 0)
+	    throw new NoSuchElementException("La lista es vacía");
+	return elemento(actual, actual.length - 1);
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la lista.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la lista.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    @Override public T get(int i) {
+	Object[] actual = elementos.get();
+	if(i < 0 || i >= actual.length)
+	    throw new ExcepcionIndiceInvalido("Índice inválido");
+	return elemento(actual, i);
+    }
+
+    /**
+     * Regresa el índice de la primera aparición del elemento recibido.
+     * @param elemento el elemento del que se busca el índice.
+     * @return el índice del elemento recibido en la lista, o -1 si el elemento
+     *         no está contenido en la lista.
+     */
+    @Override public int indiceDe(T elemento) {
+	return indiceDe(elementos.get(), elemento);
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     * @return una representación en cadena de la lista.
+     */
+    @Override public String toString() {
+	return Arrays.toString(elementos.get());
+    }
+
+    /**
+     * Nos dice si la lista es igual al objeto recibido.
+     * @param objeto el objeto con el que hay que comparar.
+     * @return <code>true</code> si la lista es igual al objeto recibido;
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean equals(Object objeto) {
+	if(objeto == null || getClass() != objeto.getClass())
+	    return false;
+	@SuppressWarnings("unchecked") ListaConcurrente<T> lista =
+	    (ListaConcurrente<T>)objeto;
+	return Arrays.equals(elementos.get(), lista.elementos.get());
+    }
+
+    /**
+     * Regresa un iterador sobre una instantánea de la lista.
+     * @return un iterador para recorrer la lista en una dirección.
+     */
+    @Override public Iterator<T> iterator() {
+	return new Iterador(elementos.get());
+    }
+
+    /**
+     * Regresa un iterador sobre una instantánea de la lista.
+     * @return un iterador para recorrer la lista en ambas direcciones.
+     */
+    @Override public IteradorLista<T> iteradorLista() {
+	return new Iterador(elementos.get());
+    }
+
+    /**
+     * Regresa un divisor (<em>spliterator</em>) sobre una instantánea de la
+     * lista.
+     * @return un divisor para la lista.
+     */
+    @Override public Spliterator<T> spliterator() {
+	return Spliterators.spliterator(elementos.get(),
+			Spliterator.ORDERED |
+			Spliterator.NONNULL |
+			Spliterator.IMMUTABLE);
+    }
+}
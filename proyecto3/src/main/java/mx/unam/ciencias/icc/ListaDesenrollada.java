@@ -0,0 +1,714 @@
+package mx.unam.ciencias.icc;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Clase para listas genéricas desenrolladas.</p>
+ *
+ * <p>Una lista desenrollada es una lista doblemente ligada en la que cada nodo
+ * guarda un arreglo pequeño de elementos, en lugar de un único elemento. Tiene
+ * las mismas operaciones que {@link Lista}, pero usa un nodo por cada {@link
+ * #CAPACIDAD} elementos, por lo que ocupa mucha menos memoria por elemento y
+ * sus recorridos visitan memoria contigua en lugar de seguir una referencia por
+ * elemento.</p>
+ *
+ * <p>Los nodos nunca están vacíos. Cuando un nodo se llena y hay que insertar
+ * en él, se parte en dos; cuando se queda con pocos elementos, se fusiona con
+ * alguno de sus vecinos si caben en un solo nodo.</p>
+ *
+ * <p>Las listas desenrolladas implementan la interfaz {@link Secuencia}, y por
+ * lo tanto se pueden recorrer usando la estructura de control
+ * <em>for-each</em>. No aceptan a <code>null</code> como elemento.</p>
+ *
+ * @param <T> El tipo de los elementos de la lista.
+ */
+public class ListaDesenrollada<T> implements Secuencia<T> {
+
+    /** Número máximo de elementos en cada nodo. */
+    public static final int CAPACIDAD = 64;
+
+    /* Clase interna privada para nodos. */
+    private class Nodo {
+	/* Los elementos del nodo. */
+	private Object[] elementos;
+	/* El número de elementos en el nodo. */
+	private int longitud;
+	/* El nodo anterior. */
+	private Nodo anterior;
+	/* El nodo siguiente. */
+	private Nodo siguiente;
+
+	/* Construye un nodo vacío. */
+	private Nodo() {
+	    elementos = new Object[CAPACIDAD];
+	}
+
+	/* Regresa el i-ésimo elemento del nodo. */
+	@SuppressWarnings("unchecked") private T get(int i) {
+	    return (T) elementos[i];
+	}
+
+	/* Inserta un elemento en el índice i del nodo, que no está lleno. */
+	private void inserta(int i, T elemento) {
+	    System.arraycopy(elementos, i, elementos, i + 1, longitud - i);
+	    elementos[i] = elemento;
+	    ++longitud;
+	}
+
+	/* Elimina el elemento en el índice i del nodo y lo regresa. */
+	private T elimina(int i) {
+	    T elemento = get(i);
+	    System.arraycopy(elementos, i + 1, elementos, i, longitud - i - 1);
+	    elementos[--longitud] = null;
+	    return elemento;
+	}
+    }
+
+    /* Clase interna privada para ubicar un elemento dentro de un nodo. */
+    private class Ubicacion {
+	/* El nodo. */
+	private Nodo nodo;
+	/* El índice dentro del nodo. */
+	private int indice;
+
+	/* Construye una nueva ubicación. */
+	private Ubicacion(Nodo nodo, int indice) {
+	    this.nodo = nodo;
+	    this.indice = indice;
+	}
+    }
+
+    /* Clase interna privada para iteradores. */
+    private class Iterador implements IteradorLista<T> {
+	/* El nodo del elemento anterior. */
+	private Nodo anterior;
+	/* El índice del elemento anterior en su nodo. */
+	private int indiceAnterior;
+	/* El nodo del elemento siguiente. */
+	private Nodo siguiente;
+	/* El índice del elemento siguiente en su nodo. */
+	private int indiceSiguiente;
+	/* El nodo del último elemento regresado, o null. */
+	private Nodo ultimo;
+	/* El índice del último elemento regresado en su nodo. */
+	private int indiceUltimo;
+	/* El número de modificaciones de la lista que conoce el iterador. */
+	private int esperadas;
+
+	/* Construye un nuevo iterador. */
+	private Iterador() {
+	    start();
+	}
+
+	/* Lanza una excepción si la lista se modificó sin el iterador. */
+	private void verifica() {
+	    if(modificaciones != esperadas)
+		throw new ConcurrentModificationException("La lista fue modificada");
+	}
+
+	/* Nos dice si hay un elemento siguiente. */
+	@Override public boolean hasNext() {
+	    return siguiente != null;
+	}
+
+	/* Nos da el elemento siguiente. */
+	@Override public T next() {
+	    verifica();
+	    if(!hasNext())
+		throw new NoSuchElementException("El iterador no tiene elemento siguiente");
+	    anterior = ultimo = siguiente;
+	    indiceAnterior = indiceUltimo = indiceSiguiente;
+	    if(++indiceSiguiente == siguiente.longitud) {
+		siguiente = siguiente.siguiente;
+		indiceSiguiente = 0;
+	    }
+	    return anterior.get(indiceAnterior);
+	}
+
+	/* Nos dice si hay un elemento anterior. */
+	@Override public boolean hasPrevious() {
+	    return anterior != null;
+	}
+
+	/* Nos da el elemento anterior. */
+	@Override public T previous() {
+	    verifica();
+	    if(!hasPrevious())
+		throw new NoSuchElementException("El iterador no tiene elemento anterior");
+	    siguiente = ultimo = anterior;
+	    indiceSiguiente = indiceUltimo = indiceAnterior;
+	    if(--indiceAnterior < 0) {
+		anterior = anterior.anterior;
+		indiceAnterior = (anterior == null) ? 0 : anterior.longitud - 1;
+	    }
+	    return siguiente.get(indiceSiguiente);
+	}
+
+	/* Mueve el iterador al inicio de la lista. */
+	@Override public void start() {
+	    anterior = ultimo = null;
+	    indiceAnterior = 0;
+	    siguiente = cabeza;
+	    indiceSiguiente = 0;
+	    esperadas = modificaciones;
+	}
+
+	/* Mueve el iterador al final de la lista. */
+	@Override public void end() {
+	    siguiente = ultimo = null;
+	    indiceSiguiente = 0;
+	    anterior = rabo;
+	    indiceAnterior = (rabo == null) ? 0 : rabo.longitud - 1;
+	    esperadas = modificaciones;
+	}
+
+	/* Elimina el último elemento regresado. */
+	@Override public void elimina() {
+	    verifica();
+	    if(ultimo == null)
+		throw new IllegalStateException("No hay elemento que eliminar");
+	    Ubicacion u = ListaDesenrollada.this.elimina(ultimo, indiceUltimo);
+	    mueveAntesDe(u.nodo, u.indice);
+	    ultimo = null;
+	    esperadas = modificaciones;
+	}
+
+	/* Reemplaza el último elemento regresado. */
+	@Override public void reemplaza(T elemento) {
+	    verifica();
+	    if(elemento == null)
+		throw new IllegalArgumentException("Elemento inválido");
+	    if(ultimo == null)
+		throw new IllegalStateException("No hay elemento que reemplazar");
+	    ultimo.elementos[indiceUltimo] = elemento;
+	}
+
+	/* Inserta un elemento entre el anterior y el siguiente. */
+	@Override public void inserta(T elemento) {
+	    verifica();
+	    if(elemento == null)
+		throw new IllegalArgumentException("Elemento inválido");
+	    Ubicacion u;
+	    if(siguiente == null) {
+		agregaFinal(elemento);
+		u = new Ubicacion(rabo, rabo.longitud - 1);
+	    } else {
+		u = insertaEn(siguiente, indiceSiguiente, elemento);
+	    }
+	    mueveAntesDe(u.nodo, u.indice + 1);
+	    ultimo = null;
+	    esperadas = modificaciones;
+	}
+
+	/* Mueve el iterador antes del elemento en el índice i del nodo n; si i
+	   es la longitud del nodo, antes del primer elemento del nodo que le
+	   sigue, y si n es null, al final de la lista. */
+	private void mueveAntesDe(Nodo n, int i) {
+	    if(n != null && i == n.longitud) {
+		n = n.siguiente;
+		i = 0;
+	    }
+	    siguiente = n;
+	    indiceSiguiente = i;
+	    if(n != null && i > 0) {
+		anterior = n;
+		indiceAnterior = i - 1;
+	    } else {
+		anterior = (n == null) ? rabo : n.anterior;
+		indiceAnterior = (anterior == null) ? 0 : anterior.longitud - 1;
+	    }
+	}
+    }
+
+    /* Primer nodo de la lista. */
+    private Nodo cabeza;
+    /* Último nodo de la lista. */
+    private Nodo rabo;
+    /* Número de elementos en la lista. */
+    private int longitud;
+    /* Número de modificaciones estructurales de la lista, para que los
+       iteradores detecten modificaciones concurrentes. */
+    private int modificaciones;
+
+    /**
+     * Regresa la longitud de la lista.
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    @Override public int getLongitud() {
+	return longitud;
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    @Override public boolean esVacia() {
+	return longitud == 0;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista. Si la lista no tiene elementos,
+     * el elemento a agregar será el primero y último.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void agregaFinal(T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	if(rabo == null || rabo.longitud == CAPACIDAD)
+	    ligaDespues(rabo, new Nodo());
+	rabo.elementos[rabo.longitud++] = elemento;
+	++longitud;
+	++modificaciones;
+    }
+
+    /**
+     * Agrega un elemento al inicio de la lista. Si la lista no tiene elementos,
+     * el elemento a agregar será el primero y último.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void agregaInicio(T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	if(cabeza == null) {
+	    ligaDespues(null, new Nodo());
+	} else if(cabeza.longitud == CAPACIDAD) {
+	    Nodo n = new Nodo();
+	    n.siguiente = cabeza;
+	    cabeza.anterior = n;
+	    cabeza = n;
+	}
+	cabeza.inserta(0, elemento);
+	++longitud;
+	++modificaciones;
+    }
+
+    /**
+     * Inserta un elemento en un índice explícito.
+     *
+     * Si el índice es menor o igual que cero, el elemento se agrega al inicio
+     * de la lista. Si el índice es mayor o igual que el número de elementos en
+     * la lista, el elemento se agrega al final de la misma. En otro caso,
+     * después de mandar llamar el método, el elemento tendrá el índice que se
+     * especifica en la lista.
+     * @param i el índice dónde insertar el elemento. Si es menor que 0 el
+     *          elemento se agrega al inicio de la lista, y si es mayor o igual
+     *          que el número de elementos en la lista se agrega al final.
+     * @param elemento el elemento a insertar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void inserta(int i, T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	if(i <= 0) {
+	    agregaInicio(elemento);
+	} else if(i >= longitud) {
+	    agregaFinal(elemento);
+	} else {
+	    Ubicacion u = ubica(i);
+	    insertaEn(u.nodo, u.indice, elemento);
+	}
+    }
+
+    /* Inserta el elemento en el índice j del nodo n, partiendo el nodo si
+       está lleno, y regresa la ubicación del elemento insertado. */
+    private Ubicacion insertaEn(Nodo n, int j, T elemento) {
+	if(n.longitud == CAPACIDAD) {
+	    Nodo m = new Nodo();
+	    int mitad = CAPACIDAD / 2;
+	    System.arraycopy(n.elementos, mitad, m.elementos, 0, CAPACIDAD - mitad);
+	    for(int k = mitad; k < CAPACIDAD; k++)
+		n.elementos[k] = null;
+	    m.longitud = CAPACIDAD - mitad;
+	    n.longitud = mitad;
+	    ligaDespues(n, m);
+	    if(j > mitad) {
+		n = m;
+		j -= mitad;
+	    }
+	}
+	n.inserta(j, elemento);
+	++longitud;
+	++modificaciones;
+	return new Ubicacion(n, j);
+    }
+
+    /* Liga el nodo m después del nodo n; si n es null, m se vuelve la cabeza. */
+    private void ligaDespues(Nodo n, Nodo m) {
+	m.anterior = n;
+	m.siguiente = (n == null) ? cabeza : n.siguiente;
+	if(m.siguiente == null)
+	    rabo = m;
+	else
+	    m.siguiente.anterior = m;
+	if(n == null)
+	    cabeza = m;
+	else
+	    n.siguiente = m;
+    }
+
+    /* Desliga el nodo n de la lista. */
+    private void desliga(Nodo n) {
+	if(n.anterior == null)
+	    cabeza = n.siguiente;
+	else
+	    n.anterior.siguiente = n.siguiente;
+	if(n.siguiente == null)
+	    rabo = n.anterior;
+	else
+	    n.siguiente.anterior = n.anterior;
+    }
+
+    /* Regresa la ubicación del i-ésimo elemento, recorriendo desde el extremo
+       más cercano. */
+    private Ubicacion ubica(int i) {
+	if(i < longitud / 2) {
+	    Nodo n = cabeza;
+	    while(i >= n.longitud) {
+		i -= n.longitud;
+		n = n.siguiente;
+	    }
+	    return new Ubicacion(n, i);
+	}
+	Nodo n = rabo;
+	int inicio = longitud - n.longitud;
+	while(i < inicio) {
+	    n = n.anterior;
+	    inicio -= n.longitud;
+	}
+	return new Ubicacion(n, i - inicio);
+    }
+
+    /* Regresa la ubicación de la primera aparición del elemento, o null. */
+    private Ubicacion busca(T elemento) {
+	if(elemento == null)
+	    return null;
+	for(Nodo n = cabeza; n != null; n = n.siguiente)
+	    for(int i = 0; i < n.longitud; i++)
+		if(elemento.equals(n.elementos[i]))
+		    return new Ubicacion(n, i);
+	return null;
+    }
+
+    /* Elimina el elemento en el índice i del nodo n, y regresa la ubicación
+       del elemento que lo seguía: su nodo, o null si era el último, y su
+       índice en él, que puede ser la longitud del nodo si el elemento que lo
+       seguía es el primero del nodo siguiente. */
+    private Ubicacion elimina(Nodo n, int i) {
+	n.elimina(i);
+	--longitud;
+	++modificaciones;
+	if(n.longitud == 0) {
+	    desliga(n);
+	    return new Ubicacion(n.siguiente, 0);
+	}
+	if(n.longitud < CAPACIDAD / 4) {
+	    if(n.siguiente != null && n.longitud + n.siguiente.longitud <= CAPACIDAD) {
+		fusiona(n, n.siguiente);
+	    } else if(n.anterior != null && n.anterior.longitud + n.longitud <= CAPACIDAD) {
+		Nodo p = n.anterior;
+		i += p.longitud;
+		fusiona(p, n);
+		n = p;
+	    }
+	}
+	return new Ubicacion(n, i);
+    }
+
+    /* Pasa los elementos de m, el siguiente de n, al final de n y desliga m. */
+    private void fusiona(Nodo n, Nodo m) {
+	System.arraycopy(m.elementos, 0, n.elementos, n.longitud, m.longitud);
+	n.longitud += m.longitud;
+	desliga(m);
+    }
+
+    /**
+     * Elimina un elemento de la lista. Si el elemento no está contenido en la
+     * lista, el método no la modifica.
+     * @param elemento el elemento a eliminar.
+     */
+    @Override public void elimina(T elemento) {
+	Ubicacion u = busca(elemento);
+	if(u != null)
+	    elimina(u.nodo, u.indice);
+    }
+
+    /**
+     * Elimina el primer elemento de la lista y lo regresa.
+     * @return el primer elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T eliminaPrimero() {
+	if(esVacia())
+	    throw new NoSuchElementException("Lista vacía");
+	T elemento = cabeza.get(0);
+	elimina(cabeza, 0);
+	return elemento;
+    }
+
+    /**
+     * Elimina el último elemento de la lista y lo regresa.
+     * @return el último elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T eliminaUltimo() {
+	if(esVacia())
+	    throw new NoSuchElementException("Lista vacía");
+	T elemento = rabo.get(rabo.longitud - 1);
+	elimina(rabo, rabo.longitud - 1);
+	return elemento;
+    }
+
+    /**
+     * Nos dice si un elemento está en la lista.
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <code>true</code> si <code>elemento</code> está en la lista,
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean contiene(T elemento) {
+	return busca(elemento) != null;
+    }
+
+    /**
+     * Regresa la reversa de la lista.
+     * @return una nueva lista que es la reversa la que manda llamar el método.
+     */
+    @Override public ListaDesenrollada<T> reversa() {
+	ListaDesenrollada<T> reversa = new ListaDesenrollada<T>();
+	for(Nodo n = rabo; n != null; n = n.anterior)
+	    for(int i = n.longitud - 1; i >= 0; i--)
+		reversa.agregaFinal(n.get(i));
+	return reversa;
+    }
+
+    /**
+     * Regresa una copia de la lista. La copia tiene los mismos elementos que la
+     * lista que manda llamar el método, en el mismo orden, y sus nodos están
+     * llenos.
+     * @return una copia de la lista.
+     */
+    @Override public ListaDesenrollada<T> copia() {
+	ListaDesenrollada<T> c = new ListaDesenrollada<T>();
+	for(T elemento : this)
+	    c.agregaFinal(elemento);
+	return c;
+    }
+
+    /**
+     * Limpia la lista de elementos, dejándola vacía.
+     */
+    @Override public void limpia() {
+	cabeza = rabo = null;
+	longitud = 0;
+	++modificaciones;
+    }
+
+    /**
+     * Regresa el primer elemento de la lista.
+     * @return el primer elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T getPrimero() {
+	if(esVacia())
+	    throw new NoSuchElementException("La lista es vacía");
+	return cabeza.get(0);
+    }
+
+    /**
+     * Regresa el último elemento de la lista.
+     * @return el último elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T getUltimo() {
+	if(esVacia())
+	    throw new NoSuchElementException("La lista es vacía");
+	return rabo.get(rabo.longitud - 1);
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la lista.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la lista.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    @Override public T get(int i) {
+	if(i < 0 || i >= longitud)
+	    throw new ExcepcionIndiceInvalido("Índice inválido");
+	Ubicacion u = ubica(i);
+	return u.nodo.get(u.indice);
+    }
+
+    /**
+     * Regresa el índice del elemento recibido en la lista.
+     * @param elemento el elemento del que se busca el índice.
+     * @return el índice del elemento recibido en la lista, o -1 si el elemento
+     *         no está contenido en la lista.
+     */
+    @Override public int indiceDe(T elemento) {
+	if(elemento == null)
+	    return -1;
+	int j = 0;
+	for(Nodo n = cabeza; n != null; n = n.siguiente) {
+	    for(int i = 0; i < n.longitud; i++)
+		if(elemento.equals(n.elementos[i]))
+		    return j + i;
+	    j += n.longitud;
+	}
+	return -1;
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     * @return una representación en cadena de la lista.
+     */
+    @Override public String toString() {
+	if(esVacia())
+	    return "[]";
+	StringBuffer sb = new StringBuffer();
+	String separador = "[";
+	for(T elemento : this) {
+	    sb.append(separador).append(elemento.toString());
+	    separador = ", ";
+	}
+	sb.append("]");
+	return sb.toString();
+    }
+
+    /**
+     * Nos dice si la lista es igual al objeto recibido.
+     * @param objeto el objeto con el que hay que comparar.
+     * @return <code>true</code> si la lista es igual al objeto recibido;
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean equals(Object objeto) {
+	if(objeto == null || getClass() != objeto.getClass())
+	    return false;
+	@SuppressWarnings("unchecked") ListaDesenrollada<T> lista =
+	    (ListaDesenrollada<T>) objeto;
+	if(longitud != lista.longitud)
+	    return false;
+	Iterator<T> i = lista.iterator();
+	for(T elemento : this)
+	    if(!elemento.equals(i.next()))
+		return false;
+	return true;
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en una dirección.
+     * @return un iterador para recorrer la lista en una dirección.
+     */
+    @Override public Iterator<T> iterator() {
+	return new Iterador();
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en ambas direcciones.
+     * @return un iterador para recorrer la lista en ambas direcciones.
+     */
+    @Override public IteradorLista<T> iteradorLista() {
+	return new Iterador();
+    }
+
+    /**
+     * Regresa una copia de la lista, pero ordenada. Para poder hacer el
+     * ordenamiento, el método necesita una instancia de {@link Comparator} para
+     * poder comparar los elementos de la lista. El ordenamiento es estable.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @return una copia de la lista, pero ordenada.
+     */
+    public ListaDesenrollada<T> mergeSort(Comparator<T> comparador) {
+	Object[] arreglo = new Object[longitud];
+	int i = 0;
+	for(T elemento : this)
+	    arreglo[i++] = elemento;
+	mergeSort(arreglo, new Object[longitud], 0, longitud, comparador);
+	ListaDesenrollada<T> ordenada = new ListaDesenrollada<T>();
+	for(Object elemento : arreglo) {
+	    @SuppressWarnings("unchecked") T t = (T) elemento;
+	    ordenada.agregaFinal(t);
+	}
+	return ordenada;
+    }
+
+    /* Ordena el arreglo en el intervalo [ini, fin) usando el auxiliar. */
+    private void mergeSort(Object[] arreglo, Object[] auxiliar,
+			   int ini, int fin, Comparator<T> comparador) {
+	if(fin - ini <= 1)
+	    return;
+	int mitad = ini + (fin - ini) / 2;
+	mergeSort(arreglo, auxiliar, ini, mitad, comparador);
+	mergeSort(arreglo, auxiliar, mitad, fin, comparador);
+	System.arraycopy(arreglo, ini, auxiliar, ini, fin - ini);
+	int i = ini, j = mitad, k = ini;
+	while(i < mitad && j < fin) {
+	    @SuppressWarnings("unchecked") T a = (T) auxiliar[i];
+	    @SuppressWarnings("unchecked") T b = (T) auxiliar[j];
+	    arreglo[k++] = (comparador.compare(a, b) <= 0) ?
+		auxiliar[i++] : auxiliar[j++];
+	}
+	while(i < mitad)
+	    arreglo[k++] = auxiliar[i++];
+	while(j < fin)
+	    arreglo[k++] = auxiliar[j++];
+    }
+
+    /**
+     * Regresa una copia de la lista recibida, pero ordenada. La lista recibida
+     * tiene que contener nada más elementos que implementan la interfaz {@link
+     * Comparable}.
+     * @param <T> tipo del que puede ser la lista.
+     * @param lista la lista que se ordenará.
+     * @return una copia de la lista recibida, pero ordenada.
+     */
+    public static <T extends Comparable<T>>
+    ListaDesenrollada<T> mergeSort(ListaDesenrollada<T> lista) {
+	return lista.mergeSort((a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Busca un elemento en la lista ordenada, usando el comparador recibido. El
+     * método supone que la lista está ordenada usando el mismo comparador.
+     * @param elemento el elemento a buscar.
+     * @param comparador el comparador con el que la lista está ordenada.
+     * @return <code>true</code> si el elemento está contenido en la lista,
+     *         <code>false</code> en otro caso.
+     */
+    public boolean busquedaLineal(T elemento, Comparator<T> comparador) {
+	if(esVacia())
+	    return false;
+	for(T t : this) {
+	    int c = comparador.compare(elemento, t);
+	    if(c == 0)
+		return true;
+	    if(c < 0)
+		return false;
+	}
+	return false;
+    }
+
+    /**
+     * Busca un elemento en una lista ordenada. La lista recibida tiene que
+     * contener nada más elementos que implementan la interfaz {@link
+     * Comparable}, y se da por hecho que está ordenada.
+     * @param <T> tipo del que puede ser la lista.
+     * @param lista la lista donde se buscará.
+     * @param elemento el elemento a buscar.
+     * @return <code>true</code> si el elemento está contenido en la lista,
+     *         <code>false</code> en otro caso.
+     */
+    public static <T extends Comparable<T>>
+    boolean busquedaLineal(ListaDesenrollada<T> lista, T elemento) {
+	return lista.busquedaLineal(elemento, (a, b) -> a.compareTo(b));
+    }
+}
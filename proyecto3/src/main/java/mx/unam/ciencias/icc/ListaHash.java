@@ -0,0 +1,719 @@
+package mx.unam.ciencias.icc;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * <p>Clase para listas genéricas doblemente ligadas con un índice de
+ * dispersión.</p>
+ *
+ * <p>Una lista con índice mantiene a sus elementos en el orden en que se
+ * agregaron, igual que una {@link Lista}, pero además guarda una tabla de
+ * dispersión que lleva de cada elemento distinto a los nodos de la lista que
+ * lo contienen. Así {@link #contiene} y {@link #elimina} toman tiempo
+ * constante esperado en lugar de recorrer la lista.</p>
+ *
+ * <p>La lista acepta elementos repetidos: la tabla guarda, para cada clase de
+ * elementos iguales, la cadena de sus nodos en el orden de la lista, de manera
+ * que {@link #elimina} siempre elimina la primera aparición. {@link #indiceDe}
+ * encuentra el nodo en tiempo constante, pero calcular su índice requiere
+ * contar los nodos que tiene antes.</p>
+ *
+ * <p>Los elementos deben implementar {@link Object#hashCode} de manera
+ * consistente con {@link Object#equals}, y no deben cambiar de manera que
+ * cambie su código de dispersión mientras están en la lista, excepto a través
+ * de {@link #modifica}, que los vuelve a indexar.</p>
+ *
+ * <p>Las listas con índice implementan la interfaz {@link Secuencia}. No
+ * aceptan a <code>null</code> como elemento.</p>
+ *
+ * @param <T> El tipo de los elementos de la lista.
+ */
+public class ListaHash<T> implements Secuencia<T> {
+
+    /* Clase interna privada para nodos. */
+    private class Nodo {
+	/* El elemento del nodo. */
+	private T elemento;
+	/* El nodo anterior. */
+	private Nodo anterior;
+	/* El nodo siguiente. */
+	private Nodo siguiente;
+	/* El grupo de elementos iguales al de este nodo. */
+	private Grupo grupo;
+	/* El nodo anterior con un elemento igual. */
+	private Nodo anteriorIgual;
+	/* El nodo siguiente con un elemento igual. */
+	private Nodo siguienteIgual;
+
+	/* Construye un nodo con un elemento. */
+	private Nodo(T elemento) {
+	    this.elemento = elemento;
+	}
+    }
+
+    /* Clase interna privada para los grupos de nodos con elementos iguales,
+     * que son las entradas de la tabla de dispersión. */
+    private class Grupo {
+	/* El código de dispersión de los elementos del grupo. */
+	private int dispersion;
+	/* El primer nodo del grupo, en el orden de la lista. */
+	private Nodo primero;
+	/* El último nodo del grupo, en el orden de la lista. */
+	private Nodo ultimo;
+	/* El siguiente grupo en la misma cubeta. */
+	private Grupo siguiente;
+
+	/* Construye un grupo vacío. */
+	private Grupo(int dispersion) {
+	    this.dispersion = dispersion;
+	}
+    }
+
+    /* Clase interna privada para iteradores. */
+    private class Iterador implements IteradorLista<T> {
+	/* El nodo anterior. */
+	private Nodo anterior;
+	/* El nodo siguiente. */
+	private Nodo siguiente;
+	/* El nodo del último elemento regresado, o null. */
+	private Nodo ultimo;
+	/* El número de modificaciones de la lista que conoce el iterador. */
+	private int esperadas;
+
+	/* Construye un nuevo iterador. */
+	private Iterador() {
+	    start();
+	}
+
+	/* Lanza una excepción si la lista se modificó sin el iterador. */
+	private void verifica() {
+	    if(modificaciones != esperadas)
+		throw new ConcurrentModificationException("La lista fue modificada");
+	}
+
+	/* Nos dice si hay un elemento siguiente. */
+	@Override public boolean hasNext() {
+	    return siguiente != null;
+	}
+
+	/* Nos da el elemento siguiente. */
+	@Override public T next() {
+	    verifica();
+	    if(!hasNext())
+		throw new NoSuchElementException("El iterador no tiene elemento siguiente");
+	    anterior = ultimo = siguiente;
+	    siguiente = siguiente.siguiente;
+	    return anterior.elemento;
+	}
+
+	/* Nos dice si hay un elemento anterior. */
+	@Override public boolean hasPrevious() {
+	    return anterior != null;
+	}
+
+	/* Nos da el elemento anterior. */
+	@Override public T previous() {
+	    verifica();
+	    if(!hasPrevious())
+		throw new NoSuchElementException("El iterador no tiene elemento anterior");
+	    siguiente = ultimo = anterior;
+	    anterior = anterior.anterior;
+	    return siguiente.elemento;
+	}
+
+	/* Mueve el iterador al inicio de la lista. */
+	@Override public void start() {
+	    anterior = ultimo = null;
+	    siguiente = cabeza;
+	    esperadas = modificaciones;
+	}
+
+	/* Mueve el iterador al final de la lista. */
+	@Override public void end() {
+	    siguiente = ultimo = null;
+	    anterior = rabo;
+	    esperadas = modificaciones;
+	}
+
+	/* Elimina el último elemento regresado. */
+	@Override public void elimina() {
+	    verifica();
+	    if(ultimo == null)
+		throw new IllegalStateException("No hay elemento que eliminar");
+	    if(ultimo == anterior)
+		anterior = ultimo.anterior;
+	    else
+		siguiente = ultimo.siguiente;
+	    desliga(ultimo);
+	    ultimo = null;
+	    esperadas = modificaciones;
+	}
+
+	/* Reemplaza el último elemento regresado, y lo vuelve a indexar. */
+	@Override public void reemplaza(T elemento) {
+	    verifica();
+	    if(elemento == null)
+		throw new IllegalArgumentException("Elemento inválido");
+	    if(ultimo == null)
+		throw new IllegalStateException("No hay elemento que reemplazar");
+	    desindexa(ultimo);
+	    ultimo.elemento = elemento;
+	    indexa(ultimo);
+	}
+
+	/* Inserta un elemento entre el anterior y el siguiente. */
+	@Override public void inserta(T elemento) {
+	    verifica();
+	    if(elemento == null)
+		throw new IllegalArgumentException("Elemento inválido");
+	    anterior = insertaEntre(anterior, siguiente, elemento);
+	    ultimo = null;
+	    esperadas = modificaciones;
+	}
+    }
+
+    /* Capacidad inicial de la tabla; siempre es una potencia de dos. */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /* Primer elemento de la lista. */
+    private Nodo cabeza;
+    /* Último elemento de la lista. */
+    private Nodo rabo;
+    /* Número de elementos en la lista. */
+    private int longitud;
+    /* Las cubetas de la tabla de dispersión. */
+    private Object[] cubetas;
+    /* Número de grupos en la tabla de dispersión. */
+    private int grupos;
+    /* Número de modificaciones estructurales de la lista, para que los
+       iteradores detecten modificaciones concurrentes. */
+    private int modificaciones;
+
+    /**
+     * Construye una lista con índice vacía.
+     */
+    public ListaHash() {
+	cubetas = new Object[CAPACIDAD_INICIAL];
+    }
+
+    /* Regresa el código de dispersión de un elemento, mezclando los bits
+     * altos con los bajos. */
+    private static int dispersion(Object elemento) {
+	int h = elemento.hashCode();
+	return h ^ (h >>> 16);
+    }
+
+    /* Regresa el primer grupo de la cubeta. */
+    @SuppressWarnings("unchecked") private Grupo cubeta(int i) {
+	return (Grupo)cubetas[i];
+    }
+
+    /* Regresa el grupo de los elementos iguales al recibido, o null. */
+    private Grupo buscaGrupo(Object elemento) {
+	int h = dispersion(elemento);
+	for(Grupo g = cubeta(h & (cubetas.length - 1)); g != null; g = g.siguiente)
+	    if(g.dispersion == h && g.primero.elemento.equals(elemento))
+		return g;
+	return null;
+    }
+
+    /* Regresa el grupo de los elementos iguales al recibido, creándolo si no
+     * existe. */
+    private Grupo obtenGrupo(T elemento) {
+	Grupo g = buscaGrupo(elemento);
+	if(g != null)
+	    return g;
+	if(grupos + 1 > cubetas.length * 3 / 4)
+	    crece();
+	g = new Grupo(dispersion(elemento));
+	int i = g.dispersion & (cubetas.length - 1);
+	g.siguiente = cubeta(i);
+	cubetas[i] = g;
+	grupos++;
+	return g;
+    }
+
+    /* Saca el grupo de la tabla. */
+    private void eliminaGrupo(Grupo grupo) {
+	int i = grupo.dispersion & (cubetas.length - 1);
+	if(cubetas[i] == grupo) {
+	    cubetas[i] = grupo.siguiente;
+	} else {
+	    Grupo g = cubeta(i);
+	    while(g.siguiente != grupo)
+		g = g.siguiente;
+	    g.siguiente = grupo.siguiente;
+	}
+	grupos--;
+    }
+
+    /* Duplica el número de cubetas y redistribuye los grupos. */
+    private void crece() {
+	Object[] viejas = cubetas;
+	cubetas = new Object[viejas.length * 2];
+	for(Object o : viejas) {
+	    @SuppressWarnings("unchecked") Grupo g = (Grupo)o;
+	    while(g != null) {
+		Grupo s = g.siguiente;
+		int i = g.dispersion & (cubetas.length - 1);
+		g.siguiente = cubeta(i);
+		cubetas[i] = g;
+		g = s;
+	    }
+	}
+    }
+
+    /* Agrega el nodo al índice. El nodo ya debe estar ligado en la lista, para
+     * poder encontrar su lugar entre los nodos con elementos iguales. El
+     * lugar se busca hacia atrás y hacia adelante a la vez, y la búsqueda
+     * termina en el nodo igual más cercano o en el extremo más cercano de la
+     * lista: al inicio, al final o junto a un elemento igual, indexar toma
+     * tiempo constante. */
+    private void indexa(Nodo nodo) {
+	Grupo g = obtenGrupo(nodo.elemento);
+	nodo.grupo = g;
+	if(g.primero == null) {
+	    g.primero = g.ultimo = nodo;
+	    return;
+	}
+	Nodo a = nodo.anterior, s = nodo.siguiente;
+	while(a != null && s != null && a.grupo != g && s.grupo != g) {
+	    a = a.anterior;
+	    s = s.siguiente;
+	}
+	if(a != null && a.grupo == g)
+	    ligaIgual(nodo, a, a.siguienteIgual);
+	else if(s != null && s.grupo == g)
+	    ligaIgual(nodo, s.anteriorIgual, s);
+	else if(a == null)
+	    ligaIgual(nodo, null, g.primero);
+	else
+	    ligaIgual(nodo, g.ultimo, null);
+    }
+
+    /* Liga el nodo en la cadena de su grupo, entre los nodos iguales
+     * recibidos, que son vecinos en la cadena o null. */
+    private void ligaIgual(Nodo nodo, Nodo anterior, Nodo siguiente) {
+	Grupo g = nodo.grupo;
+	nodo.anteriorIgual = anterior;
+	nodo.siguienteIgual = siguiente;
+	if(anterior == null)
+	    g.primero = nodo;
+	else
+	    anterior.siguienteIgual = nodo;
+	if(siguiente == null)
+	    g.ultimo = nodo;
+	else
+	    siguiente.anteriorIgual = nodo;
+    }
+
+    /* Saca al nodo del índice. */
+    private void desindexa(Nodo nodo) {
+	Grupo g = nodo.grupo;
+	if(nodo.anteriorIgual == null)
+	    g.primero = nodo.siguienteIgual;
+	else
+	    nodo.anteriorIgual.siguienteIgual = nodo.siguienteIgual;
+	if(nodo.siguienteIgual == null)
+	    g.ultimo = nodo.anteriorIgual;
+	else
+	    nodo.siguienteIgual.anteriorIgual = nodo.anteriorIgual;
+	if(g.primero == null)
+	    eliminaGrupo(g);
+	nodo.grupo = null;
+	nodo.anteriorIgual = nodo.siguienteIgual = null;
+    }
+
+    /* Desliga el nodo de la lista y del índice. */
+    private void desliga(Nodo nodo) {
+	desindexa(nodo);
+	if(nodo.anterior == null)
+	    cabeza = nodo.siguiente;
+	else
+	    nodo.anterior.siguiente = nodo.siguiente;
+	if(nodo.siguiente == null)
+	    rabo = nodo.anterior;
+	else
+	    nodo.siguiente.anterior = nodo.anterior;
+	longitud--;
+	modificaciones++;
+    }
+
+    /* Liga un nodo nuevo con el elemento entre los nodos recibidos, que son
+     * vecinos o null, lo indexa y lo regresa. */
+    private Nodo insertaEntre(Nodo anterior, Nodo siguiente, T elemento) {
+	Nodo n = new Nodo(elemento);
+	n.anterior = anterior;
+	n.siguiente = siguiente;
+	if(anterior == null)
+	    cabeza = n;
+	else
+	    anterior.siguiente = n;
+	if(siguiente == null)
+	    rabo = n;
+	else
+	    siguiente.anterior = n;
+	longitud++;
+	modificaciones++;
+	indexa(n);
+	return n;
+    }
+
+    /* Regresa el i-ésimo nodo, caminando desde el extremo más cercano. */
+    private Nodo getNodo(int i) {
+	Nodo n;
+	if(i < longitud / 2) {
+	    n = cabeza;
+	    while(i-- > 0)
+		n = n.siguiente;
+	} else {
+	    n = rabo;
+	    for(int j = longitud - 1; j > i; j--)
+		n = n.anterior;
+	}
+	return n;
+    }
+
+    /**
+     * Regresa la longitud de la lista.
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    @Override public int getLongitud() {
+	return longitud;
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    @Override public boolean esVacia() {
+	return longitud == 0;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void agregaFinal(T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	Nodo n = new Nodo(elemento);
+	if(rabo == null) {
+	    cabeza = rabo = n;
+	} else {
+	    rabo.siguiente = n;
+	    n.anterior = rabo;
+	    rabo = n;
+	}
+	longitud++;
+	modificaciones++;
+	indexa(n);
+    }
+
+    /**
+     * Agrega un elemento al inicio de la lista.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void agregaInicio(T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	Nodo n = new Nodo(elemento);
+	if(cabeza == null) {
+	    cabeza = rabo = n;
+	} else {
+	    cabeza.anterior = n;
+	    n.siguiente = cabeza;
+	    cabeza = n;
+	}
+	longitud++;
+	modificaciones++;
+	indexa(n);
+    }
+
+    /**
+     * Inserta un elemento en un índice explícito. Si el índice es menor o igual
+     * que cero, el elemento se agrega al inicio; si es mayor o igual que el
+     * número de elementos, se agrega al final.
+     * @param i el índice dónde insertar el elemento.
+     * @param elemento el elemento a insertar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void inserta(int i, T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	if(i <= 0) {
+	    agregaInicio(elemento);
+	    return;
+	}
+	if(i >= longitud) {
+	    agregaFinal(elemento);
+	    return;
+	}
+	Nodo s = getNodo(i);
+	insertaEntre(s.anterior, s, elemento);
+    }
+
+    /**
+     * Elimina la primera aparición de un elemento de la lista. Si el elemento
+     * no está contenido en la lista, el método no la modifica. Toma tiempo
+     * constante esperado.
+     * @param elemento el elemento a eliminar.
+     */
+    @Override public void elimina(T elemento) {
+	if(elemento == null)
+	    return;
+	Grupo g = buscaGrupo(elemento);
+	if(g != null)
+	    desliga(g.primero);
+    }
+
+    /**
+     * Elimina el primer elemento de la lista y lo regresa.
+     * @return el primer elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T eliminaPrimero() {
+	if(cabeza == null)
+	    throw new NoSuchElementException("La lista es vacía");
+	T elemento = cabeza.elemento;
+	desliga(cabeza);
+	return elemento;
+    }
+
+    /**
+     * Elimina el último elemento de la lista y lo regresa.
+     * @return el último elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T eliminaUltimo() {
+	if(rabo == null)
+	    throw new NoSuchElementException("La lista es vacía");
+	T elemento = rabo.elemento;
+	desliga(rabo);
+	return elemento;
+    }
+
+    /**
+     * Nos dice si un elemento está en la lista. Toma tiempo constante
+     * esperado.
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <code>true</code> si <code>elemento</code> está en la lista,
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean contiene(T elemento) {
+	return elemento != null && buscaGrupo(elemento) != null;
+    }
+
+    /**
+     * Elimina todos los elementos de la lista que cumplen el predicado, en una
+     * sola pasada.
+     * @param predicado el predicado.
+     * @return el número de elementos eliminados.
+     * @throws IllegalArgumentException si el predicado es <code>null</code>.
+     */
+    @Override public int eliminaSi(Predicate<? super T> predicado) {
+	if(predicado == null)
+	    throw new IllegalArgumentException("Predicado inválido");
+	int eliminados = 0;
+	Nodo n = cabeza;
+	while(n != null) {
+	    Nodo siguiente = n.siguiente;
+	    if(predicado.test(n.elemento)) {
+		desliga(n);
+		eliminados++;
+	    }
+	    n = siguiente;
+	}
+	return eliminados;
+    }
+
+    /**
+     * Regresa el número de veces que un elemento aparece en la lista.
+     * @param elemento el elemento a contar.
+     * @return el número de elementos en la lista iguales al recibido.
+     */
+    public int cuenta(T elemento) {
+	if(elemento == null)
+	    return 0;
+	Grupo g = buscaGrupo(elemento);
+	int c = 0;
+	for(Nodo n = g == null ? null : g.primero; n != null; n = n.siguienteIgual)
+	    c++;
+	return c;
+    }
+
+    /**
+     * Regresa la reversa de la lista.
+     * @return una nueva lista que es la reversa de la que manda llamar el
+     *         método.
+     */
+    @Override public ListaHash<T> reversa() {
+	ListaHash<T> reversa = new ListaHash<T>();
+	for(Nodo n = rabo; n != null; n = n.anterior)
+	    reversa.agregaFinal(n.elemento);
+	return reversa;
+    }
+
+    /**
+     * Regresa una copia de la lista.
+     * @return una copia de la lista, con los mismos elementos en el mismo
+     *         orden.
+     */
+    @Override public ListaHash<T> copia() {
+	ListaHash<T> copia = new ListaHash<T>();
+	for(Nodo n = cabeza; n != null; n = n.siguiente)
+	    copia.agregaFinal(n.elemento);
+	return copia;
+    }
+
+    /**
+     * Limpia la lista de elementos, dejándola vacía.
+     */
+    @Override public void limpia() {
+	cabeza = rabo = null;
+	longitud = grupos = 0;
+	cubetas = new Object[CAPACIDAD_INICIAL];
+	modificaciones++;
+    }
+
+    /**
+     * Regresa el primer elemento de la lista.
+     * @return el primer elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T getPrimero() {
+	if(cabeza == null)
+	    throw new NoSuchElementException("La lista es vacía");
+	return cabeza.elemento;
+    }
+
+    /**
+     * Regresa el último elemento de la lista.
+     * @return el último elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T getUltimo() {
+	if(rabo == null)
+	    throw new NoSuchElementException("La lista es vacía");
+	return rabo.elemento;
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la lista.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la lista.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    @Override public T get(int i) {
+	if(i < 0 || i >= longitud)
+	    throw new ExcepcionIndiceInvalido("Índice inválido");
+	return getNodo(i).elemento;
+    }
+
+    /**
+     * Regresa el índice de la primera aparición del elemento recibido. Si el
+     * elemento no está en la lista, toma tiempo constante esperado; si está,
+     * toma tiempo proporcional a su índice.
+     * @param elemento el elemento del que se busca el índice.
+     * @return el índice del elemento recibido en la lista, o -1 si el elemento
+     *         no está contenido en la lista.
+     */
+    @Override public int indiceDe(T elemento) {
+	if(elemento == null)
+	    return -1;
+	Grupo g = buscaGrupo(elemento);
+	if(g == null)
+	    return -1;
+	int i = 0;
+	for(Nodo n = g.primero.anterior; n != null; n = n.anterior)
+	    i++;
+	return i;
+    }
+
+    /**
+     * Aplica una modificación a la primera aparición del elemento recibido, y
+     * lo vuelve a indexar con sus nuevos valores.
+     * @param elemento un elemento igual al que hay que modificar.
+     * @param modificacion la modificación a aplicar.
+     * @return <code>true</code> si el elemento estaba en la lista y se
+     *         modificó, <code>false</code> en otro caso.
+     */
+    @Override public boolean modifica(T elemento,
+				      Consumer<? super T> modificacion) {
+	if(elemento == null)
+	    return false;
+	Grupo g = buscaGrupo(elemento);
+	if(g == null)
+	    return false;
+	Nodo n = g.primero;
+	desindexa(n);
+	try {
+	    modificacion.accept(n.elemento);
+	} finally {
+	    indexa(n);
+	}
+	return true;
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     * @return una representación en cadena de la lista.
+     */
+    @Override public String toString() {
+	StringBuffer sb = new StringBuffer("[");
+	for(Nodo n = cabeza; n != null; n = n.siguiente) {
+	    sb.append(n.elemento.toString());
+	    if(n.siguiente != null)
+		sb.append(", ");
+	}
+	sb.append("]");
+	return sb.toString();
+    }
+
+    /**
+     * Nos dice si la lista es igual al objeto recibido.
+     * @param objeto el objeto con el que hay que comparar.
+     * @return <code>true</code> si la lista es igual al objeto recibido;
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean equals(Object objeto) {
+	if(objeto == null || getClass() != objeto.getClass())
+	    return false;
+	@SuppressWarnings("unchecked") ListaHash<T> lista =
+	    (ListaHash<T>)objeto;
+	if(longitud != lista.longitud)
+	    return false;
+	Nodo m = lista.cabeza;
+	for(Nodo n = cabeza; n != null; n = n.siguiente, m = m.siguiente)
+	    if(!n.elemento.equals(m.elemento))
+		return false;
+	return true;
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en una dirección.
+     * @return un iterador para recorrer la lista en una dirección.
+     */
+    @Override public Iterator<T> iterator() {
+	return new Iterador();
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en ambas direcciones.
+     * @return un iterador para recorrer la lista en ambas direcciones.
+     */
+    @Override public IteradorLista<T> iteradorLista() {
+	return new Iterador();
+    }
+}
@@ -0,0 +1,591 @@
+package mx.unam.ciencias.icc;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * <p>Clase para listas genéricas indexadas.</p>
+ *
+ * <p>Una lista indexada es una lista doblemente ligada a la que se le agregan
+ * niveles de apuntadores de salto, como en una <em>skip list</em>. Cada
+ * apuntador de salto guarda además su ancho, el número de elementos que se
+ * brinca, por lo que obtener, insertar o eliminar el elemento en un índice
+ * cuesta <i>O</i>(log <i>n</i>) en promedio, en lugar de <i>O</i>(<i>n</i>)
+ * como en {@link Lista}.</p>
+ *
+ * <p>El primer nivel es una lista doblemente ligada normal, así que el orden de
+ * iteración y el comportamiento de {@link IteradorLista} son los mismos que en
+ * {@link Lista}, salvo que eliminar o insertar con el iterador cuesta
+ * <i>O</i>(log <i>n</i>) en promedio, porque hay que corregir los anchos de
+ * los saltos. Las listas indexadas no aceptan a <code>null</code> como
+ * elemento.</p>
+ *
+ * @param <T> El tipo de los elementos de la lista.
+ */
+public class ListaIndexada<T> implements Secuencia<T> {
+
+    /* Número máximo de niveles. */
+    private static final int NIVEL_MAXIMO = 32;
+
+    /* Clase interna privada para nodos. */
+    private class Nodo {
+	/* El elemento del nodo. */
+	private T elemento;
+	/* El nodo anterior en el primer nivel. */
+	private Nodo anterior;
+	/* Los nodos siguientes en cada nivel. */
+	private Nodo[] siguientes;
+	/* Los anchos de los saltos a los nodos siguientes en cada nivel. */
+	private int[] anchos;
+
+	/* Construye un nodo con un elemento y el número de niveles dado. */
+	@SuppressWarnings("unchecked") private Nodo(T elemento, int niveles) {
+	    this.elemento = elemento;
+	    siguientes = (Nodo[]) new ListaIndexada.Nodo[niveles];
+	    anchos = new int[niveles];
+	}
+    }
+
+    /* Clase interna privada para iteradores. */
+    private class Iterador implements IteradorLista<T> {
+	/* El nodo anterior. */
+	private Nodo anterior;
+	/* El nodo siguiente. */
+	private Nodo siguiente;
+	/* El nodo del último elemento regresado, o null. */
+	private Nodo ultimo;
+	/* El número de elementos antes del iterador. */
+	private int posicion;
+	/* El número de modificaciones de la lista que conoce el iterador. */
+	private int esperadas;
+
+	/* Construye un nuevo iterador. */
+	private Iterador() {
+	    start();
+	}
+
+	/* Lanza una excepción si la lista se modificó sin el iterador. */
+	private void verifica() {
+	    if(modificaciones != esperadas)
+		throw new ConcurrentModificationException("La lista fue modificada");
+	}
+
+	/* Nos dice si hay un elemento siguiente. */
+	@Override public boolean hasNext() {
+	    return siguiente != null;
+	}
+
+	/* Nos da el elemento siguiente. */
+	@Override public T next() {
+	    verifica();
+	    if(!hasNext())
+		throw new NoSuchElementException("El iterador no tiene elemento siguiente");
+	    anterior = ultimo = siguiente;
+	    siguiente = siguiente.siguientes[0];
+	    posicion++;
+	    return anterior.elemento;
+	}
+
+	/* Nos dice si hay un elemento anterior. */
+	@Override public boolean hasPrevious() {
+	    return anterior != null;
+	}
+
+	/* Nos da el elemento anterior. */
+	@Override public T previous() {
+	    verifica();
+	    if(!hasPrevious())
+		throw new NoSuchElementException("El iterador no tiene elemento anterior");
+	    siguiente = ultimo = anterior;
+	    anterior = anterior.anterior;
+	    posicion--;
+	    return siguiente.elemento;
+	}
+
+	/* Mueve el iterador al inicio de la lista. */
+	@Override public void start() {
+	    anterior = ultimo = null;
+	    siguiente = cabeza.siguientes[0];
+	    posicion = 0;
+	    esperadas = modificaciones;
+	}
+
+	/* Mueve el iterador al final de la lista. */
+	@Override public void end() {
+	    siguiente = ultimo = null;
+	    anterior = rabo;
+	    posicion = longitud;
+	    esperadas = modificaciones;
+	}
+
+	/* Elimina el último elemento regresado, en tiempo O(log n) en
+	   promedio, porque hay que corregir los anchos de los saltos que lo
+	   brincan. */
+	@Override public void elimina() {
+	    verifica();
+	    if(ultimo == null)
+		throw new IllegalStateException("No hay elemento que eliminar");
+	    if(ultimo == anterior)
+		posicion--;
+	    Nodo n = eliminaNodo(posicion);
+	    anterior = n.anterior;
+	    siguiente = n.siguientes[0];
+	    ultimo = null;
+	    esperadas = modificaciones;
+	}
+
+	/* Reemplaza el último elemento regresado. */
+	@Override public void reemplaza(T elemento) {
+	    verifica();
+	    if(elemento == null)
+		throw new IllegalArgumentException("Elemento inválido");
+	    if(ultimo == null)
+		throw new IllegalStateException("No hay elemento que reemplazar");
+	    ultimo.elemento = elemento;
+	}
+
+	/* Inserta un elemento entre el anterior y el siguiente, en tiempo
+	   O(log n) en promedio. */
+	@Override public void inserta(T elemento) {
+	    verifica();
+	    if(elemento == null)
+		throw new IllegalArgumentException("Elemento inválido");
+	    anterior = insertaNodo(posicion++, elemento);
+	    ultimo = null;
+	    esperadas = modificaciones;
+	}
+    }
+
+    /* Nodo centinela, anterior al primer elemento en todos los niveles. */
+    private Nodo cabeza;
+    /* Último elemento de la lista. */
+    private Nodo rabo;
+    /* Número de elementos en la lista. */
+    private int longitud;
+    /* Número de niveles en uso. */
+    private int nivel;
+    /* Número de modificaciones estructurales de la lista, para que los
+       iteradores detecten modificaciones concurrentes. */
+    private int modificaciones;
+    /* Generador de números aleatorios para los niveles de los nodos. */
+    private Random random;
+
+    /**
+     * Construye una lista indexada vacía.
+     */
+    public ListaIndexada() {
+	random = new Random();
+	limpia();
+    }
+
+    /**
+     * Regresa la longitud de la lista.
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    @Override public int getLongitud() {
+	return longitud;
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    @Override public boolean esVacia() {
+	return longitud == 0;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista. Si la lista no tiene elementos,
+     * el elemento a agregar será el primero y último.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void agregaFinal(T elemento) {
+	inserta(longitud, elemento);
+    }
+
+    /**
+     * Agrega un elemento al inicio de la lista. Si la lista no tiene elementos,
+     * el elemento a agregar será el primero y último.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void agregaInicio(T elemento) {
+	inserta(0, elemento);
+    }
+
+    /**
+     * Inserta un elemento en un índice explícito, en tiempo <i>O</i>(log
+     * <i>n</i>) en promedio.
+     *
+     * Si el índice es menor o igual que cero, el elemento se agrega al inicio
+     * de la lista. Si el índice es mayor o igual que el número de elementos en
+     * la lista, el elemento se agrega al final de la misma. En otro caso,
+     * después de mandar llamar el método, el elemento tendrá el índice que se
+     * especifica en la lista.
+     * @param i el índice dónde insertar el elemento. Si es menor que 0 el
+     *          elemento se agrega al inicio de la lista, y si es mayor o igual
+     *          que el número de elementos en la lista se agrega al final.
+     * @param elemento el elemento a insertar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void inserta(int i, T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	insertaNodo(Math.max(0, Math.min(i, longitud)), elemento);
+    }
+
+    /* Inserta el elemento en el índice i, que está entre 0 y la longitud, y
+       regresa su nodo. */
+    private Nodo insertaNodo(int i, T elemento) {
+	@SuppressWarnings("unchecked") Nodo[] previos =
+	    (Nodo[]) new ListaIndexada.Nodo[NIVEL_MAXIMO];
+	int[] posiciones = new int[NIVEL_MAXIMO];
+	buscaPrevios(i, previos, posiciones);
+	int niveles = nivelAleatorio();
+	for(; nivel < niveles; nivel++) {
+	    previos[nivel] = cabeza;
+	    posiciones[nivel] = 0;
+	    cabeza.anchos[nivel] = longitud + 1;
+	}
+	Nodo n = new Nodo(elemento, niveles);
+	for(int l = 0; l < niveles; l++) {
+	    Nodo p = previos[l];
+	    n.siguientes[l] = p.siguientes[l];
+	    n.anchos[l] = posiciones[l] + p.anchos[l] - i;
+	    p.siguientes[l] = n;
+	    p.anchos[l] = i + 1 - posiciones[l];
+	}
+	for(int l = niveles; l < nivel; l++)
+	    previos[l].anchos[l]++;
+	n.anterior = (previos[0] == cabeza) ? null : previos[0];
+	if(n.siguientes[0] == null)
+	    rabo = n;
+	else
+	    n.siguientes[0].anterior = n;
+	++longitud;
+	++modificaciones;
+	return n;
+    }
+
+    /* Llena los arreglos con el último nodo de cada nivel cuya posición es
+       menor o igual a i, y su posición. La cabeza tiene la posición 0 y el
+       elemento con índice k tiene la posición k + 1. */
+    private void buscaPrevios(int i, Nodo[] previos, int[] posiciones) {
+	Nodo n = cabeza;
+	int posicion = 0;
+	for(int l = nivel - 1; l >= 0; l--) {
+	    while(n.siguientes[l] != null && posicion + n.anchos[l] <= i) {
+		posicion += n.anchos[l];
+		n = n.siguientes[l];
+	    }
+	    previos[l] = n;
+	    posiciones[l] = posicion;
+	}
+    }
+
+    /* Regresa un número de niveles aleatorio, con distribución geométrica. */
+    private int nivelAleatorio() {
+	int niveles = 1;
+	while(niveles < NIVEL_MAXIMO && random.nextInt(4) == 0)
+	    niveles++;
+	return niveles;
+    }
+
+    /**
+     * Elimina el elemento en un índice explícito y lo regresa, en tiempo
+     * <i>O</i>(log <i>n</i>) en promedio.
+     * @param i el índice del elemento a eliminar.
+     * @return el elemento eliminado.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    public T eliminaIndice(int i) {
+	if(i < 0 || i >= longitud)
+	    throw new ExcepcionIndiceInvalido("Índice inválido");
+	return eliminaNodo(i).elemento;
+    }
+
+    /* Elimina el nodo en el índice i, que es válido, y lo regresa. El nodo
+       sigue apuntando a sus vecinos en el primer nivel. */
+    private Nodo eliminaNodo(int i) {
+	@SuppressWarnings("unchecked") Nodo[] previos =
+	    (Nodo[]) new ListaIndexada.Nodo[NIVEL_MAXIMO];
+	buscaPrevios(i, previos, new int[NIVEL_MAXIMO]);
+	Nodo n = previos[0].siguientes[0];
+	for(int l = 0; l < nivel; l++) {
+	    Nodo p = previos[l];
+	    if(p.siguientes[l] == n) {
+		p.anchos[l] += n.anchos[l] - 1;
+		p.siguientes[l] = n.siguientes[l];
+	    } else {
+		p.anchos[l]--;
+	    }
+	}
+	if(n.siguientes[0] == null)
+	    rabo = n.anterior;
+	else
+	    n.siguientes[0].anterior = n.anterior;
+	while(nivel > 1 && cabeza.siguientes[nivel - 1] == null)
+	    nivel--;
+	--longitud;
+	++modificaciones;
+	return n;
+    }
+
+    /**
+     * Elimina un elemento de la lista. Si el elemento no está contenido en la
+     * lista, el método no la modifica.
+     * @param elemento el elemento a eliminar.
+     */
+    @Override public void elimina(T elemento) {
+	int i = indiceDe(elemento);
+	if(i != -1)
+	    eliminaIndice(i);
+    }
+
+    /**
+     * Elimina el primer elemento de la lista y lo regresa.
+     * @return el primer elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T eliminaPrimero() {
+	if(esVacia())
+	    throw new NoSuchElementException("Lista vacía");
+	return eliminaIndice(0);
+    }
+
+    /**
+     * Elimina el último elemento de la lista y lo regresa.
+     * @return el último elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T eliminaUltimo() {
+	if(esVacia())
+	    throw new NoSuchElementException("Lista vacía");
+	return eliminaIndice(longitud - 1);
+    }
+
+    /**
+     * Nos dice si un elemento está en la lista.
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <code>true</code> si <code>elemento</code> está en la lista,
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean contiene(T elemento) {
+	return indiceDe(elemento) != -1;
+    }
+
+    /**
+     * Regresa la reversa de la lista.
+     * @return una nueva lista que es la reversa la que manda llamar el método.
+     */
+    @Override public ListaIndexada<T> reversa() {
+	ListaIndexada<T> reversa = new ListaIndexada<T>();
+	for(Nodo n = rabo; n != null; n = n.anterior)
+	    reversa.agregaFinal(n.elemento);
+	return reversa;
+    }
+
+    /**
+     * Regresa una copia de la lista. La copia tiene los mismos elementos que la
+     * lista que manda llamar el método, en el mismo orden.
+     * @return una copia de la lista.
+     */
+    @Override public ListaIndexada<T> copia() {
+	ListaIndexada<T> c = new ListaIndexada<T>();
+	for(T elemento : this)
+	    c.agregaFinal(elemento);
+	return c;
+    }
+
+    /**
+     * Limpia la lista de elementos, dejándola vacía.
+     */
+    @Override public void limpia() {
+	cabeza = new Nodo(null, NIVEL_MAXIMO);
+	cabeza.anchos[0] = 1;
+	rabo = null;
+	longitud = 0;
+	nivel = 1;
+	++modificaciones;
+    }
+
+    /**
+     * Regresa el primer elemento de la lista.
+     * @return el primer elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T getPrimero() {
+	if(esVacia())
+	    throw new NoSuchElementException("La lista es vacía");
+	return cabeza.siguientes[0].elemento;
+    }
+
+    /**
+     * Regresa el último elemento de la lista.
+     * @return el último elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T getUltimo() {
+	if(esVacia())
+	    throw new NoSuchElementException("La lista es vacía");
+	return rabo.elemento;
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la lista, en tiempo
+     * <i>O</i>(log <i>n</i>) en promedio.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la lista.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    @Override public T get(int i) {
+	if(i < 0 || i >= longitud)
+	    throw new ExcepcionIndiceInvalido("Índice inválido");
+	Nodo n = cabeza;
+	int posicion = 0;
+	for(int l = nivel - 1; l >= 0; l--)
+	    while(n.siguientes[l] != null && posicion + n.anchos[l] <= i + 1) {
+		posicion += n.anchos[l];
+		n = n.siguientes[l];
+	    }
+	return n.elemento;
+    }
+
+    /**
+     * Regresa el índice del elemento recibido en la lista.
+     * @param elemento el elemento del que se busca el índice.
+     * @return el índice del elemento recibido en la lista, o -1 si el elemento
+     *         no está contenido en la lista.
+     */
+    @Override public int indiceDe(T elemento) {
+	if(elemento == null)
+	    return -1;
+	int j = 0;
+	for(T t : this) {
+	    if(elemento.equals(t))
+		return j;
+	    ++j;
+	}
+	return -1;
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     * @return una representación en cadena de la lista.
+     */
+    @Override public String toString() {
+	if(esVacia())
+	    return "[]";
+	StringBuffer sb = new StringBuffer();
+	String separador = "[";
+	for(T elemento : this) {
+	    sb.append(separador).append(elemento.toString());
+	    separador = ", ";
+	}
+	sb.append("]");
+	return sb.toString();
+    }
+
+    /**
+     * Nos dice si la lista es igual al objeto recibido.
+     * @param objeto el objeto con el que hay que comparar.
+     * @return <code>true</code> si la lista es igual al objeto recibido;
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean equals(Object objeto) {
+	if(objeto == null || getClass() != objeto.getClass())
+	    return false;
+	@SuppressWarnings("unchecked") ListaIndexada<T> lista =
+	    (ListaIndexada<T>) objeto;
+	if(longitud != lista.longitud)
+	    return false;
+	Iterator<T> i = lista.iterator();
+	for(T elemento : this)
+	    if(!elemento.equals(i.next()))
+		return false;
+	return true;
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en una dirección.
+     * @return un iterador para recorrer la lista en una dirección.
+     */
+    @Override public Iterator<T> iterator() {
+	return new Iterador();
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en ambas direcciones.
+     * @return un iterador para recorrer la lista en ambas direcciones.
+     */
+    @Override public IteradorLista<T> iteradorLista() {
+	return new Iterador();
+    }
+
+    /**
+     * Regresa una copia de la lista, pero ordenada. Para poder hacer el
+     * ordenamiento, el método necesita una instancia de {@link Comparator} para
+     * poder comparar los elementos de la lista. El ordenamiento es estable.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @return una copia de la lista, pero ordenada.
+     */
+    public ListaIndexada<T> mergeSort(Comparator<T> comparador) {
+	Object[] arreglo = new Object[longitud];
+	int i = 0;
+	for(T elemento : this)
+	    arreglo[i++] = elemento;
+	mergeSort(arreglo, new Object[longitud], 0, longitud, comparador);
+	ListaIndexada<T> ordenada = new ListaIndexada<T>();
+	for(Object elemento : arreglo) {
+	    @SuppressWarnings("unchecked") T t = (T) elemento;
+	    ordenada.agregaFinal(t);
+	}
+	return ordenada;
+    }
+
+    /* Ordena el arreglo en el intervalo [ini, fin) usando el auxiliar. */
+    private void mergeSort(Object[] arreglo, Object[] auxiliar,
+			   int ini, int fin, Comparator<T> comparador) {
+	if(fin - ini <= 1)
+	    return;
+	int mitad = ini + (fin - ini) / 2;
+	mergeSort(arreglo, auxiliar, ini, mitad, comparador);
+	mergeSort(arreglo, auxiliar, mitad, fin, comparador);
+	System.arraycopy(arreglo, ini, auxiliar, ini, fin - ini);
+	int i = ini, j = mitad, k = ini;
+	while(i < mitad && j < fin) {
+	    @SuppressWarnings("unchecked") T a = (T) auxiliar[i];
+	    @SuppressWarnings("unchecked") T b = (T) auxiliar[j];
+	    arreglo[k++] = (comparador.compare(a, b) <= 0) ?
+		auxiliar[i++] : auxiliar[j++];
+	}
+	while(i < mitad)
+	    arreglo[k++] = auxiliar[i++];
+	while(j < fin)
+	    arreglo[k++] = auxiliar[j++];
+    }
+
+    /**
+     * Regresa una copia de la lista recibida, pero ordenada. La lista recibida
+     * tiene que contener nada más elementos que implementan la interfaz {@link
+     * Comparable}.
+     * @param <T> tipo del que puede ser la lista.
+     * @param lista la lista que se ordenará.
+     * @return una copia de la lista recibida, pero ordenada.
+     */
+    public static <T extends Comparable<T>>
+    ListaIndexada<T> mergeSort(ListaIndexada<T> lista) {
+	return lista.mergeSort((a, b) -> a.compareTo(b));
+    }
+}
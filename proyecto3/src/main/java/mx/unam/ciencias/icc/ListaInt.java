@@ -0,0 +1,272 @@
+package mx.unam.ciencias.icc;
+
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Clase para listas de <code>int</code>.</p>
+ *
+ * <p>Una ListaInt guarda sus elementos directamente en un arreglo de
+ * <code>int</code> que crece cuando se llena, usado como buffer circular. Así
+ * no envuelve cada elemento en un objeto ni crea un nodo por elemento, como lo
+ * haría una {@link Lista} de {@link Integer}. Agregar y eliminar en ambos
+ * extremos toma tiempo constante amortizado, y obtener o modificar el
+ * <em>i</em>-ésimo elemento toma tiempo constante, por lo que sirve tanto de
+ * pila como de cola o de arreglo creciente.</p>
+ */
+public class ListaInt {
+
+    /* Capacidad inicial por omisión; siempre usamos potencias de dos. */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /* Los elementos de la lista. */
+    private int[] elementos;
+    /* Posición en el arreglo del primer elemento. */
+    private int inicio;
+    /* Número de elementos en la lista. */
+    private int longitud;
+
+    /**
+     * Construye una lista vacía.
+     */
+    public ListaInt() {
+	this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Construye una lista vacía con espacio para el número de elementos
+     * recibido antes de tener que crecer.
+     * @param capacidad el número de elementos para el que se reserva espacio.
+     * @throws IllegalArgumentException si la capacidad es negativa.
+     */
+    public ListaInt(int capacidad) {
+	if(capacidad < 0)
+	    throw new IllegalArgumentException("Capacidad inválida");
+	int n = CAPACIDAD_INICIAL;
+	while(n < capacidad && n < (1 << 30))
+	    n *= 2;
+	elementos = new int[n];
+    }
+
+    /* Regresa la posición en el arreglo del i-ésimo elemento. */
+    private int posicion(int i) {
+	return (inicio + i) & (elementos.length - 1);
+    }
+
+    /* Duplica el tamaño del arreglo, dejando al primer elemento al inicio. */
+    private void crece() {
+	int[] nuevos = new int[elementos.length * 2];
+	int n = elementos.length - inicio;
+	if(n >= longitud) {
+	    System.arraycopy(elementos, inicio, nuevos, 0, longitud);
+	} else {
+	    System.arraycopy(elementos, inicio, nuevos, 0, n);
+	    System.arraycopy(elementos, 0, nuevos, n, longitud - n);
+	}
+	elementos = nuevos;
+	inicio = 0;
+    }
+
+    /**
+     * Regresa la longitud de la lista.
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    public int getLongitud() {
+	return longitud;
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    public boolean esVacia() {
+	return longitud == 0;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista.
+     * @param elemento el elemento a agregar.
+     */
+    public void agregaFinal(int elemento) {
+	if(longitud == elementos.length)
+	    crece();
+	elementos[posicion(longitud++)] = elemento;
+    }
+
+    /**
+     * Agrega un elemento al inicio de la lista.
+     * @param elemento el elemento a agregar.
+     */
+    public void agregaInicio(int elemento) {
+	if(longitud == elementos.length)
+	    crece();
+	inicio = (inicio - 1) & (elementos.length - 1);
+	elementos[inicio] = elemento;
+	longitud++;
+    }
+
+    /**
+     * Elimina el primer elemento de la lista y lo regresa.
+     * @return el primer elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public int eliminaPrimero() {
+	if(longitud == 0)
+	    throw new NoSuchElementException("Lista vacía");
+	int elemento = elementos[inicio];
+	inicio = posicion(1);
+	longitud--;
+	return elemento;
+    }
+
+    /**
+     * Elimina el último elemento de la lista y lo regresa.
+     * @return el último elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public int eliminaUltimo() {
+	if(longitud == 0)
+	    throw new NoSuchElementException("Lista vacía");
+	return elementos[posicion(--longitud)];
+    }
+
+    /**
+     * Regresa el primer elemento de la lista.
+     * @return el primer elemento de la lista.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public int getPrimero() {
+	if(longitud == 0)
+	    throw new NoSuchElementException("Lista vacía");
+	return elementos[inicio];
+    }
+
+    /**
+     * Regresa el último elemento de la lista.
+     * @return el último elemento de la lista.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public int getUltimo() {
+	if(longitud == 0)
+	    throw new NoSuchElementException("Lista vacía");
+	return elementos[posicion(longitud - 1)];
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la lista.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la lista.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    public int get(int i) {
+	if(i < 0 || i >= longitud)
+	    throw new ExcepcionIndiceInvalido("Índice inválido");
+	return elementos[posicion(i)];
+    }
+
+    /**
+     * Cambia el <em>i</em>-ésimo elemento de la lista.
+     * @param i el índice del elemento que queremos cambiar.
+     * @param elemento el nuevo valor del elemento.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    public void set(int i, int elemento) {
+	if(i < 0 || i >= longitud)
+	    throw new ExcepcionIndiceInvalido("Índice inválido");
+	elementos[posicion(i)] = elemento;
+    }
+
+    /**
+     * Regresa el índice de la primera aparición del elemento recibido.
+     * @param elemento el elemento del que se busca el índice.
+     * @return el índice del elemento recibido en la lista, o -1 si el elemento
+     *         no está contenido en la lista.
+     */
+    public int indiceDe(int elemento) {
+	for(int i = 0; i < longitud; i++)
+	    if(elementos[posicion(i)] == elemento)
+		return i;
+	return -1;
+    }
+
+    /**
+     * Nos dice si un elemento está en la lista.
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <code>true</code> si <code>elemento</code> está en la lista,
+     *         <code>false</code> en otro caso.
+     */
+    public boolean contiene(int elemento) {
+	return indiceDe(elemento) != -1;
+    }
+
+    /**
+     * Limpia la lista de elementos, dejándola vacía. El arreglo conserva su
+     * capacidad.
+     */
+    public void limpia() {
+	inicio = longitud = 0;
+    }
+
+    /**
+     * Regresa una copia de la lista.
+     * @return una copia de la lista.
+     */
+    public ListaInt copia() {
+	ListaInt copia = new ListaInt(longitud);
+	copia.longitud = copiaEn(copia.elementos);
+	return copia;
+    }
+
+    /**
+     * Regresa un arreglo con los elementos de la lista, en orden.
+     * @return un arreglo nuevo con los elementos de la lista.
+     */
+    public int[] aArreglo() {
+	int[] arreglo = new int[longitud];
+	copiaEn(arreglo);
+	return arreglo;
+    }
+
+    /* Copia los elementos en orden al inicio del arreglo recibido. */
+    private int copiaEn(int[] arreglo) {
+	for(int i = 0; i < longitud; i++)
+	    arreglo[i] = elementos[posicion(i)];
+	return longitud;
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     * @return una representación en cadena de la lista.
+     */
+    @Override public String toString() {
+	if(esVacia())
+	    return "[]";
+	StringBuffer sb = new StringBuffer();
+	sb.append("[").append(elementos[inicio]);
+	for(int i = 1; i < longitud; i++)
+	    sb.append(", ").append(elementos[posicion(i)]);
+	sb.append("]");
+	return sb.toString();
+    }
+
+    /**
+     * Nos dice si la lista es igual al objeto recibido.
+     * @param objeto el objeto con el que hay que comparar.
+     * @return <code>true</code> si la lista es igual al objeto recibido;
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean equals(Object objeto) {
+	if(objeto == null || getClass() != objeto.getClass())
+	    return false;
+	ListaInt lista = (ListaInt)objeto;
+	if(longitud != lista.longitud)
+	    return false;
+	for(int i = 0; i < longitud; i++)
+	    if(elementos[posicion(i)] !=
+			lista.elementos[lista.posicion(i)])
+		return false;
+	return true;
+    }
+}
@@ -0,0 +1,631 @@
+package mx.unam.ciencias.icc;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * <p>Clase para listas genéricas persistentes.</p>
+ *
+ * <p>Los elementos de una lista persistente viven en un árbol AVL cuyos nodos
+ * nunca se modifican, ordenado por posición: cada nodo sabe cuántos elementos
+ * hay en su subárbol, por lo que el <em>i</em>-ésimo elemento se encuentra
+ * bajando desde la raíz. Las operaciones que cambian la lista no tocan los
+ * nodos existentes; copian únicamente el camino de la raíz al lugar del
+ * cambio, y comparten el resto del árbol con la versión anterior.</p>
+ *
+ * <p>Por eso {@link #copia} toma tiempo constante: la copia y la original
+ * comparten el mismo árbol, y los cambios posteriores a cualquiera de las dos
+ * no afectan a la otra. Agregar, insertar, eliminar y obtener por índice toman
+ * tiempo <em>O</em>(log <em>n</em>), igual que partir la lista en un índice
+ * ({@link #divide}), pegarle otra lista al final ({@link #concatena}) o en
+ * medio ({@link #injerta}). Los iteradores recorren la versión de la lista que
+ * existía al crearlos, aunque la lista se modifique después, y por lo tanto
+ * no permiten modificarla: {@link IteradorLista#elimina}, {@link
+ * IteradorLista#reemplaza} e {@link IteradorLista#inserta} lanzan {@link
+ * UnsupportedOperationException}.</p>
+ *
+ * <p>Una lista persistente puede recorrerse desde varios hilos mientras otro
+ * la modifica, pero no puede modificarse desde varios hilos a la vez.</p>
+ *
+ * <p>Las listas persistentes implementan la interfaz {@link Secuencia}. No
+ * aceptan a <code>null</code> como elemento.</p>
+ *
+ * @param <T> El tipo de los elementos de la lista.
+ */
+public class ListaPersistente<T> implements Secuencia<T> {
+
+    /* Clase estática privada para nodos inmutables, compartidos entre
+     * versiones de la lista. */
+    private static class Nodo<T> {
+	/* El elemento del nodo. */
+	private final T elemento;
+	/* El subárbol izquierdo. */
+	private final Nodo<T> izquierdo;
+	/* El subárbol derecho. */
+	private final Nodo<T> derecho;
+	/* La altura del subárbol. */
+	private final int altura;
+	/* El número de elementos en el subárbol. */
+	private final int tamano;
+
+	/* Construye un nodo con sus dos subárboles. */
+	private Nodo(Nodo<T> izquierdo, T elemento, Nodo<T> derecho) {
+	    this.izquierdo = izquierdo;
+	    this.elemento = elemento;
+	    this.derecho = derecho;
+	    altura = 1 + Math.max(altura(izquierdo), altura(derecho));
+	    tamano = 1 + tamano(izquierdo) + tamano(derecho);
+	}
+    }
+
+    /* Clase interna privada para iteradores. El iterador guarda el camino de
+     * la raíz al nodo del elemento siguiente, por lo que avanzar o retroceder
+     * toma tiempo constante amortizado. */
+    private class Iterador implements IteradorLista<T> {
+	/* La raíz de la versión que se recorre. */
+	private Nodo<T> raiz;
+	/* El camino de la raíz al nodo del elemento siguiente. */
+	private Object[] camino;
+	/* El número de nodos en el camino. */
+	private int tope;
+	/* El índice del elemento siguiente. */
+	private int siguiente;
+
+	/* Construye un nuevo iterador. */
+	private Iterador(Nodo<T> raiz) {
+	    this.raiz = raiz;
+	    camino = new Object[altura(raiz)];
+	    start();
+	}
+
+	/* Regresa el nodo en el tope del camino. */
+	@SuppressWarnings("unchecked") private Nodo<T> tope() {
+	    return (Nodo<T>)camino[tope - 1];
+	}
+
+	/* Construye el camino de la raíz al i-ésimo nodo. */
+	private void ruta(int i) {
+	    tope = 0;
+	    Nodo<T> n = raiz;
+	    while(n != null) {
+		camino[tope++] = n;
+		int k = tamano(n.izquierdo);
+		if(i == k)
+		    return;
+		if(i < k) {
+		    n = n.izquierdo;
+		} else {
+		    i -= k + 1;
+		    n = n.derecho;
+		}
+	    }
+	}
+
+	/* Nos dice si hay un elemento siguiente. */
+	@Override public boolean hasNext() {
+	    return siguiente < tamano(raiz);
+	}
+
+	/* Nos da el elemento siguiente. */
+	@Override public T next() {
+	    if(!hasNext())
+		throw new NoSuchElementException("El iterador no tiene elemento siguiente");
+	    Nodo<T> n = tope();
+	    if(n.derecho != null) {
+		for(Nodo<T> m = n.derecho; m != null; m = m.izquierdo)
+		    camino[tope++] = m;
+	    } else {
+		Nodo<T> hijo;
+		do {
+		    hijo = tope();
+		    tope--;
+		} while(tope > 0 && tope().izquierdo != hijo);
+	    }
+	    siguiente++;
+	    return n.elemento;
+	}
+
+	/* Nos dice si hay un elemento anterior. */
+	@Override public boolean hasPrevious() {
+	    return siguiente > 0;
+	}
+
+	/* Nos da el elemento anterior. */
+	@Override public T previous() {
+	    if(!hasPrevious())
+		throw new NoSuchElementException("El iterador no tiene elemento anterior");
+	    siguiente--;
+	    if(tope == 0) {
+		ruta(siguiente);
+	    } else {
+		Nodo<T> n = tope();
+		if(n.izquierdo != null) {
+		    for(Nodo<T> m = n.izquierdo; m != null; m = m.derecho)
+			camino[tope++] = m;
+		} else {
+		    Nodo<T> hijo;
+		    do {
+			hijo = tope();
+			tope--;
+		    } while(tope().derecho != hijo);
+		}
+	    }
+	    return tope().elemento;
+	}
+
+	/* Mueve el iterador al inicio de la lista. */
+	@Override public void start() {
+	    siguiente = 0;
+	    ruta(0);
+	}
+
+	/* Mueve el iterador al final de la lista. */
+	@Override public void end() {
+	    siguiente = tamano(raiz);
+	    tope = 0;
+	}
+    }
+
+    /* La raíz de la versión actual de la lista. */
+    private volatile Nodo<T> raiz;
+
+    /**
+     * Construye una lista persistente vacía.
+     */
+    public ListaPersistente() {}
+
+    /* Construye una lista persistente con la raíz recibida. */
+    private ListaPersistente(Nodo<T> raiz) {
+	this.raiz = raiz;
+    }
+
+    /* Regresa la altura de un subárbol. */
+    private static int altura(Nodo<?> n) {
+	return n == null ? 0 : n.altura;
+    }
+
+    /* Regresa el número de elementos de un subárbol. */
+    private static int tamano(Nodo<?> n) {
+	return n == null ? 0 : n.tamano;
+    }
+
+    /* Construye un nodo con los subárboles recibidos, cuyas alturas difieren
+     * en a lo más dos, rotando si es necesario para que quede balanceado. */
+    private static <T> Nodo<T> balancea(Nodo<T> i, T e, Nodo<T> d) {
+	int hi = altura(i), hd = altura(d);
+	if(hi > hd + 1) {
+	    if(altura(i.izquierdo) >= altura(i.derecho))
+		return new Nodo<T>(i.izquierdo, i.elemento,
+				   new Nodo<T>(i.derecho, e, d));
+	    Nodo<T> c = i.derecho;
+	    return new Nodo<T>(new Nodo<T>(i.izquierdo, i.elemento, c.izquierdo),
+			       c.elemento,
+			       new Nodo<T>(c.derecho, e, d));
+	}
+	if(hd > hi + 1) {
+	    if(altura(d.derecho) >= altura(d.izquierdo))
+		return new Nodo<T>(new Nodo<T>(i, e, d.izquierdo),
+				   d.elemento, d.derecho);
+	    Nodo<T> c = d.izquierdo;
+	    return new Nodo<T>(new Nodo<T>(i, e, c.izquierdo),
+			       c.elemento,
+			       new Nodo<T>(c.derecho, d.elemento, d.derecho));
+	}
+	return new Nodo<T>(i, e, d);
+    }
+
+    /* Regresa una versión del subárbol con el elemento en el índice i. */
+    private static <T> Nodo<T> inserta(Nodo<T> n, int i, T elemento) {
+	if(n == null)
+	    return new Nodo<T>(null, elemento, null);
+	int k = tamano(n.izquierdo);
+	if(i <= k)
+	    return balancea(inserta(n.izquierdo, i, elemento),
+			    n.elemento, n.derecho);
+	return balancea(n.izquierdo, n.elemento,
+			inserta(n.derecho, i - k - 1, elemento));
+    }
+
+    /* Regresa una versión del subárbol sin el elemento en el índice i. */
+    private static <T> Nodo<T> elimina(Nodo<T> n, int i) {
+	int k = tamano(n.izquierdo);
+	if(i < k)
+	    return balancea(elimina(n.izquierdo, i), n.elemento, n.derecho);
+	if(i > k)
+	    return balancea(n.izquierdo, n.elemento,
+			    elimina(n.derecho, i - k - 1));
+	if(n.izquierdo == null)
+	    return n.derecho;
+	if(n.derecho == null)
+	    return n.izquierdo;
+	return balancea(n.izquierdo, busca(n.derecho, 0),
+			elimina(n.derecho, 0));
+    }
+
+    /* Une dos subárboles y un elemento entre ellos, sin importar la diferencia
+     * de sus alturas. Baja por el lado del más alto hasta encontrar un
+     * subárbol de la altura del otro, por lo que toma tiempo proporcional a
+     * la diferencia de alturas. */
+    private static <T> Nodo<T> une(Nodo<T> i, T e, Nodo<T> d) {
+	int hi = altura(i), hd = altura(d);
+	if(hi > hd + 1)
+	    return balancea(i.izquierdo, i.elemento, une(i.derecho, e, d));
+	if(hd > hi + 1)
+	    return balancea(une(i, e, d.izquierdo), d.elemento, d.derecho);
+	return new Nodo<T>(i, e, d);
+    }
+
+    /* Une dos subárboles, usando el último elemento del primero como
+     * elemento intermedio. */
+    private static <T> Nodo<T> une(Nodo<T> i, Nodo<T> d) {
+	if(i == null)
+	    return d;
+	if(d == null)
+	    return i;
+	int u = i.tamano - 1;
+	return une(elimina(i, u), busca(i, u), d);
+    }
+
+    /* Regresa un árbol con los primeros i elementos del subárbol. */
+    private static <T> Nodo<T> prefijo(Nodo<T> n, int i) {
+	if(n == null || i <= 0)
+	    return null;
+	if(i >= n.tamano)
+	    return n;
+	int k = tamano(n.izquierdo);
+	if(i <= k)
+	    return prefijo(n.izquierdo, i);
+	return une(n.izquierdo, n.elemento, prefijo(n.derecho, i - k - 1));
+    }
+
+    /* Regresa un árbol con los elementos del subárbol a partir del índice
+     * i. */
+    private static <T> Nodo<T> sufijo(Nodo<T> n, int i) {
+	if(n == null || i >= n.tamano)
+	    return null;
+	if(i <= 0)
+	    return n;
+	int k = tamano(n.izquierdo);
+	if(i > k)
+	    return sufijo(n.derecho, i - k - 1);
+	return une(sufijo(n.izquierdo, i), n.elemento, n.derecho);
+    }
+
+    /* Regresa el elemento en el índice i del subárbol. */
+    private static <T> T busca(Nodo<T> n, int i) {
+	for(;;) {
+	    int k = tamano(n.izquierdo);
+	    if(i == k)
+		return n.elemento;
+	    if(i < k) {
+		n = n.izquierdo;
+	    } else {
+		i -= k + 1;
+		n = n.derecho;
+	    }
+	}
+    }
+
+    /* Construye un árbol perfectamente balanceado con los elementos del
+     * arreglo entre ini (inclusive) y fin (exclusive). */
+    @SuppressWarnings("unchecked")
+    private static <T> Nodo<T> construye(Object[] arreglo, int ini, int fin) {
+	if(ini >= fin)
+	    return null;
+	int m = (ini + fin) >>> 1;
+	return new Nodo<T>(construye(arreglo, ini, m), (T)arreglo[m],
+			   construye(arreglo, m + 1, fin));
+    }
+
+    /**
+     * Regresa la longitud de la lista.
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    @Override public int getLongitud() {
+	return tamano(raiz);
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    @Override public boolean esVacia() {
+	return raiz == null;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void agregaFinal(T elemento) {
+	inserta(getLongitud(), elemento);
+    }
+
+    /**
+     * Agrega un elemento al inicio de la lista.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void agregaInicio(T elemento) {
+	inserta(0, elemento);
+    }
+
+    /**
+     * Inserta un elemento en un índice explícito. Si el índice es menor o igual
+     * que cero, el elemento se agrega al inicio; si es mayor o igual que el
+     * número de elementos, se agrega al final.
+     * @param i el índice dónde insertar el elemento.
+     * @param elemento el elemento a insertar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void inserta(int i, T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	int n = getLongitud();
+	raiz = inserta(raiz, Math.max(0, Math.min(i, n)), elemento);
+    }
+
+    /**
+     * Inserta todos los elementos de otra lista en un índice explícito, en
+     * tiempo <em>O</em>(log <em>n</em>). Si el índice es menor o igual que
+     * cero, los elementos se agregan al inicio; si es mayor o igual que el
+     * número de elementos, se agregan al final. La otra lista no cambia.
+     * @param i el índice dónde insertar los elementos.
+     * @param otra la lista cuyos elementos se insertan.
+     * @throws IllegalArgumentException si <code>otra</code> es
+     *         <code>null</code>.
+     */
+    public void injerta(int i, ListaPersistente<T> otra) {
+	if(otra == null)
+	    throw new IllegalArgumentException("Lista inválida");
+	Nodo<T> r = raiz, o = otra.raiz;
+	int j = Math.max(0, Math.min(i, tamano(r)));
+	raiz = une(une(prefijo(r, j), o), sufijo(r, j));
+    }
+
+    /**
+     * Agrega al final de la lista todos los elementos de otra lista, en tiempo
+     * <em>O</em>(log <em>n</em>). La otra lista no cambia: las dos comparten
+     * los nodos.
+     * @param otra la lista cuyos elementos se agregan.
+     * @throws IllegalArgumentException si <code>otra</code> es
+     *         <code>null</code>.
+     */
+    public void concatena(ListaPersistente<T> otra) {
+	if(otra == null)
+	    throw new IllegalArgumentException("Lista inválida");
+	raiz = une(raiz, otra.raiz);
+    }
+
+    /**
+     * Divide la lista en un índice, en tiempo <em>O</em>(log <em>n</em>).
+     * Después de llamar al método, la lista conserva sus primeros <em>i</em>
+     * elementos, y los demás quedan en la lista que se regresa.
+     * @param i el índice del primer elemento de la nueva lista.
+     * @return una lista con los elementos a partir del índice <em>i</em>.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor
+     *         que el número de elementos en la lista.
+     */
+    public ListaPersistente<T> divide(int i) {
+	Nodo<T> r = raiz;
+	if(i < 0 || i > tamano(r))
+	    throw new ExcepcionIndiceInvalido("Índice inválido");
+	raiz = prefijo(r, i);
+	return new ListaPersistente<T>(sufijo(r, i));
+    }
+
+    /**
+     * Elimina la primera aparición de un elemento de la lista. Si el elemento
+     * no está contenido en la lista, el método no la modifica.
+     * @param elemento el elemento a eliminar.
+     */
+    @Override public void elimina(T elemento) {
+	int i = indiceDe(elemento);
+	if(i != -1)
+	    raiz = elimina(raiz, i);
+    }
+
+    /**
+     * Elimina todos los elementos de la lista que cumplen el predicado. El
+     * método recorre el árbol una vez y construye uno nuevo, perfectamente
+     * balanceado, con los elementos que se conservan; las copias anteriores
+     * de la lista no cambian.
+     * @param predicado el predicado.
+     * @return el número de elementos eliminados.
+     * @throws IllegalArgumentException si el predicado es <code>null</code>.
+     */
+    @Override public int eliminaSi(Predicate<? super T> predicado) {
+	if(predicado == null)
+	    throw new IllegalArgumentException("Predicado inválido");
+	Nodo<T> r = raiz;
+	Object[] conservados = new Object[tamano(r)];
+	int n = 0;
+	for(T elemento : new ListaPersistente<T>(r))
+	    if(!predicado.test(elemento))
+		conservados[n++] = elemento;
+	int eliminados = conservados.length - n;
+	if(eliminados > 0)
+	    raiz = construye(conservados, 0, n);
+	return eliminados;
+    }
+
+    /**
+     * Elimina el primer elemento de la lista y lo regresa.
+     * @return el primer elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T eliminaPrimero() {
+	T elemento = getPrimero();
+	raiz = elimina(raiz, 0);
+	return elemento;
+    }
+
+    /**
+     * Elimina el último elemento de la lista y lo regresa.
+     * @return el último elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T eliminaUltimo() {
+	T elemento = getUltimo();
+	raiz = elimina(raiz, getLongitud() - 1);
+	return elemento;
+    }
+
+    /**
+     * Nos dice si un elemento está en la lista.
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <code>true</code> si <code>elemento</code> está en la lista,
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean contiene(T elemento) {
+	return indiceDe(elemento) != -1;
+    }
+
+    /**
+     * Regresa la reversa de la lista.
+     * @return una nueva lista que es la reversa de la que manda llamar el
+     *         método.
+     */
+    @Override public ListaPersistente<T> reversa() {
+	Nodo<T> r = raiz;
+	Object[] arreglo = new Object[tamano(r)];
+	int i = arreglo.length;
+	for(T elemento : new ListaPersistente<T>(r))
+	    arreglo[--i] = elemento;
+	return new ListaPersistente<T>(construye(arreglo, 0, arreglo.length));
+    }
+
+    /**
+     * Regresa una copia de la lista. La copia comparte el árbol con la lista
+     * original y toma tiempo constante; modificar cualquiera de las dos no
+     * afecta a la otra.
+     * @return una copia de la lista, con los mismos elementos en el mismo
+     *         orden.
+     */
+    @Override public ListaPersistente<T> copia() {
+	return new ListaPersistente<T>(raiz);
+    }
+
+    /**
+     * Limpia la lista de elementos, dejándola vacía.
+     */
+    @Override public void limpia() {
+	raiz = null;
+    }
+
+    /**
+     * Regresa el primer elemento de la lista.
+     * @return el primer elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T getPrimero() {
+	Nodo<T> r = raiz;
+	if(r == null)
+	    throw new NoSuchElementException("La lista es vacía");
+	return busca(r, 0);
+    }
+
+    /**
+     * Regresa el último elemento de la lista.
+     * @return el último elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    @Override public T getUltimo() {
+	Nodo<T> r = raiz;
+	if(r == null)
+	    throw new NoSuchElementException("La lista es vacía");
+	return busca(r, r.tamano - 1);
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la lista.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la lista.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    @Override public T get(int i) {
+	Nodo<T> r = raiz;
+	if(i < 0 || i >= tamano(r))
+	    throw new ExcepcionIndiceInvalido("Índice inválido");
+	return busca(r, i);
+    }
+
+    /**
+     * Regresa el índice de la primera aparición del elemento recibido.
+     * @param elemento el elemento del que se busca el índice.
+     * @return el índice del elemento recibido en la lista, o -1 si el elemento
+     *         no está contenido en la lista.
+     */
+    @Override public int indiceDe(T elemento) {
+	if(elemento == null)
+	    return -1;
+	int i = 0;
+	for(T e : this) {
+	    if(e.equals(elemento))
+		return i;
+	    i++;
+	}
+	return -1;
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     * @return una representación en cadena de la lista.
+     */
+    @Override public String toString() {
+	StringBuffer sb = new StringBuffer("[");
+	String separador = "";
+	for(T elemento : this) {
+	    sb.append(separador).append(elemento.toString());
+	    separador = ", ";
+	}
+	sb.append("]");
+	return sb.toString();
+    }
+
+    /**
+     * Nos dice si la lista es igual al objeto recibido.
+     * @param objeto el objeto con el que hay que comparar.
+     * @return <code>true</code> si la lista es igual al objeto recibido;
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean equals(Object objeto) {
+	if(objeto == null || getClass() != objeto.getClass())
+	    return false;
+	@SuppressWarnings("unchecked") ListaPersistente<T> lista =
+	    (ListaPersistente<T>)objeto;
+	Nodo<T> r = raiz, s = lista.raiz;
+	if(r == s)
+	    return true;
+	if(tamano(r) != tamano(s))
+	    return false;
+	Iterator<T> i = new Iterador(s);
+	for(T elemento : new ListaPersistente<T>(r))
+	    if(!elemento.equals(i.next()))
+		return false;
+	return true;
+    }
+
+    /**
+     * Regresa un iterador sobre la versión actual de la lista.
+     * @return un iterador para recorrer la lista en una dirección.
+     */
+    @Override public Iterator<T> iterator() {
+	return new Iterador(raiz);
+    }
+
+    /**
+     * Regresa un iterador sobre la versión actual de la lista.
+     * @return un iterador para recorrer la lista en ambas direcciones.
+     */
+    @Override public IteradorLista<T> iteradorLista() {
+	return new Iterador(raiz);
+    }
+}
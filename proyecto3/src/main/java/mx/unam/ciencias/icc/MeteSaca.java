@@ -0,0 +1,269 @@
+package mx.unam.ciencias.icc;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Clase abstracta para estructuras en las que se mete y se saca: colas y
+ * pilas.</p>
+ *
+ * <p>Los elementos se guardan en un arreglo que crece cuando se llena, usado
+ * como buffer circular, de la misma manera que en {@link ListaInt}. Agregar y
+ * eliminar en cualquiera de los dos extremos toma tiempo constante amortizado
+ * y no crea ningún objeto, a diferencia de una {@link Lista}, que crea un nodo
+ * por elemento. Las clases concretas sólo deciden de qué extremo se saca.</p>
+ *
+ * @param <T> El tipo de los elementos de la estructura.
+ */
+public abstract class MeteSaca<T> implements Iterable<T> {
+
+    /* Clase interna privada para iteradores. */
+    private class Iterador implements Iterator<T> {
+	/* El índice del siguiente elemento. */
+	private int siguiente;
+
+	/* Nos dice si hay un elemento siguiente. */
+	@Override public boolean hasNext() {
+	    return siguiente < longitud;
+	}
+
+	/* Nos da el elemento siguiente. */
+	@Override public T next() {
+	    if(!hasNext())
+		throw new NoSuchElementException("El iterador no tiene elemento siguiente");
+	    return elementos[posicion(siguiente++)];
+	}
+    }
+
+    /* Capacidad inicial por omisión; siempre usamos potencias de dos. */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /* Los elementos de la estructura. */
+    private T[] elementos;
+    /* Posición en el arreglo del primer elemento. */
+    private int inicio;
+    /* Número de elementos en la estructura. */
+    private int longitud;
+
+    /**
+     * Construye una estructura vacía.
+     */
+    public MeteSaca() {
+	this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Construye una estructura vacía con espacio para el número de elementos
+     * recibido antes de tener que crecer.
+     * @param capacidad el número de elementos para el que se reserva espacio.
+     * @throws IllegalArgumentException si la capacidad es negativa.
+     */
+    public MeteSaca(int capacidad) {
+	if(capacidad < 0)
+	    throw new IllegalArgumentException("Capacidad inválida");
+	int n = CAPACIDAD_INICIAL;
+	while(n < capacidad && n < (1 << 30))
+	    n *= 2;
+	elementos = nuevoArreglo(n);
+    }
+
+    /* Crea un arreglo genérico. */
+    @SuppressWarnings("unchecked") private T[] nuevoArreglo(int n) {
+	return (T[])new Object[n];
+    }
+
+    /* Regresa la posición en el arreglo del i-ésimo elemento. */
+    private int posicion(int i) {
+	return (inicio + i) & (elementos.length - 1);
+    }
+
+    /* Duplica el tamaño del arreglo, dejando al primer elemento al inicio. */
+    private void crece() {
+	T[] nuevos = nuevoArreglo(elementos.length * 2);
+	int n = elementos.length - inicio;
+	if(n >= longitud) {
+	    System.arraycopy(elementos, inicio, nuevos, 0, longitud);
+	} else {
+	    System.arraycopy(elementos, inicio, nuevos, 0, n);
+	    System.arraycopy(elementos, 0, nuevos, n, longitud - n);
+	}
+	elementos = nuevos;
+	inicio = 0;
+    }
+
+    /* Lanza la excepción de estructura vacía si no hay elementos. */
+    private void verificaNoVacia() {
+	if(longitud == 0)
+	    throw new NoSuchElementException(String.format("%s vacía",
+			getClass().getSimpleName()));
+    }
+
+    /**
+     * Mete un elemento en la estructura.
+     * @param elemento el elemento a meter.
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     */
+    public void mete(T elemento) {
+	agregaFinal(elemento);
+    }
+
+    /**
+     * Saca un elemento de la estructura.
+     * @return el elemento sacado.
+     * @throws NoSuchElementException si la estructura es vacía.
+     */
+    public abstract T saca();
+
+    /**
+     * Nos permite ver el elemento que sacaría {@link #saca}, sin sacarlo.
+     * @return el elemento que sacaría {@link #saca}.
+     * @throws NoSuchElementException si la estructura es vacía.
+     */
+    public abstract T mira();
+
+    /**
+     * Agrega un elemento al final de la estructura.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     */
+    public void agregaFinal(T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	if(longitud == elementos.length)
+	    crece();
+	elementos[posicion(longitud++)] = elemento;
+    }
+
+    /**
+     * Agrega un elemento al inicio de la estructura.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     */
+    public void agregaInicio(T elemento) {
+	if(elemento == null)
+	    throw new IllegalArgumentException("Elemento inválido");
+	if(longitud == elementos.length)
+	    crece();
+	inicio = (inicio - 1) & (elementos.length - 1);
+	elementos[inicio] = elemento;
+	longitud++;
+    }
+
+    /**
+     * Elimina el primer elemento de la estructura y lo regresa.
+     * @return el primer elemento de la estructura antes de eliminarlo.
+     * @throws NoSuchElementException si la estructura es vacía.
+     */
+    public T eliminaPrimero() {
+	verificaNoVacia();
+	T elemento = elementos[inicio];
+	elementos[inicio] = null;
+	inicio = posicion(1);
+	longitud--;
+	return elemento;
+    }
+
+    /**
+     * Elimina el último elemento de la estructura y lo regresa.
+     * @return el último elemento de la estructura antes de eliminarlo.
+     * @throws NoSuchElementException si la estructura es vacía.
+     */
+    public T eliminaUltimo() {
+	verificaNoVacia();
+	int p = posicion(--longitud);
+	T elemento = elementos[p];
+	elementos[p] = null;
+	return elemento;
+    }
+
+    /**
+     * Regresa el primer elemento de la estructura.
+     * @return el primer elemento de la estructura.
+     * @throws NoSuchElementException si la estructura es vacía.
+     */
+    public T getPrimero() {
+	verificaNoVacia();
+	return elementos[inicio];
+    }
+
+    /**
+     * Regresa el último elemento de la estructura.
+     * @return el último elemento de la estructura.
+     * @throws NoSuchElementException si la estructura es vacía.
+     */
+    public T getUltimo() {
+	verificaNoVacia();
+	return elementos[posicion(longitud - 1)];
+    }
+
+    /**
+     * Regresa el número de elementos en la estructura.
+     * @return el número de elementos en la estructura.
+     */
+    public int getLongitud() {
+	return longitud;
+    }
+
+    /**
+     * Nos dice si la estructura es vacía.
+     * @return <code>true</code> si la estructura es vacía, <code>false</code>
+     *         en otro caso.
+     */
+    public boolean esVacia() {
+	return longitud == 0;
+    }
+
+    /**
+     * Limpia la estructura de elementos, dejándola vacía. El arreglo conserva
+     * su capacidad.
+     */
+    public void limpia() {
+	for(int i = 0; i < longitud; i++)
+	    elementos[posicion(i)] = null;
+	inicio = longitud = 0;
+    }
+
+    /**
+     * Regresa un iterador para recorrer la estructura del primer al último
+     * elemento, sin importar de qué extremo se saque.
+     * @return un iterador para recorrer la estructura.
+     */
+    @Override public Iterator<T> iterator() {
+	return new Iterador();
+    }
+
+    /**
+     * Regresa una representación en cadena de la estructura, del primer al
+     * último elemento.
+     * @return una representación en cadena de la estructura.
+     */
+    @Override public String toString() {
+	if(esVacia())
+	    return "[]";
+	StringBuffer sb = new StringBuffer();
+	sb.append("[").append(elementos[inicio]);
+	for(int i = 1; i < longitud; i++)
+	    sb.append(", ").append(elementos[posicion(i)]);
+	sb.append("]");
+	return sb.toString();
+    }
+
+    /**
+     * Nos dice si la estructura es igual al objeto recibido.
+     * @param objeto el objeto con el que hay que comparar.
+     * @return <code>true</code> si la estructura es de la misma clase que el
+     *         objeto recibido y tienen los mismos elementos en el mismo orden;
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean equals(Object objeto) {
+	if(objeto == null || getClass() != objeto.getClass())
+	    return false;
+	@SuppressWarnings("unchecked") MeteSaca<T> otra = (MeteSaca<T>)objeto;
+	if(longitud != otra.longitud)
+	    return false;
+	for(int i = 0; i < longitud; i++)
+	    if(!elementos[posicion(i)].equals(otra.elementos[otra.posicion(i)]))
+		return false;
+	return true;
+    }
+}
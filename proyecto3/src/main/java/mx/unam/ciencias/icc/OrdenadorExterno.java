@@ -0,0 +1,349 @@
+package mx.unam.ciencias.icc;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * <p>Clase para ordenar registros que no caben en memoria.</p>
+ *
+ * <p>El ordenador lee las líneas de los registros en pedazos que caben en un
+ * presupuesto de memoria, ordena cada pedazo en memoria con {@link
+ * Arreglos#mergeSort(Object[],Comparator)} y lo guarda como una corrida
+ * ordenada en un archivo temporal. Al final mezcla todas las corridas con
+ * {@link Lista#iteradorMezclaK}, leyendo sólo un registro por adelantado de
+ * cada corrida, y escribe el resultado en la salida. Si hay más de {@link
+ * #MAXIMO_CORRIDAS} corridas, primero las mezcla por grupos en corridas más
+ * largas, para no abrir demasiados archivos a la vez. Si todos los registros
+ * caben en memoria, no se crea ningún archivo.</p>
+ *
+ * <p>Los archivos temporales se leen y escriben con canales {@link
+ * FileChannel} con buffers grandes, y se borran al terminar, aunque ocurra un
+ * error. El ordenamiento es estable: los registros iguales según el
+ * comparador quedan en el orden de la entrada.</p>
+ *
+ * @param <R> El tipo de los registros, que deben implementar la interfaz {@link
+ * Registro}.
+ * @param <C> El tipo de los campos de los registros, que debe ser una
+ * enumeración {@link Enum}.
+ */
+public class OrdenadorExterno<R extends Registro<R, C>, C extends Enum> {
+
+    /* Clase interna privada para iterar los registros de una corrida. */
+    private class Corrida implements Iterator<R> {
+	/* La entrada de la corrida. */
+	private BufferedReader in;
+	/* El siguiente registro, o null si ya no hay. */
+	private R siguiente;
+
+	/* Abre la corrida en el archivo y lee su primer registro. */
+	public Corrida(Path archivo) throws IOException {
+	    in = abreEntrada(archivo);
+	    siguiente = lee(in);
+	}
+
+	/* Nos dice si hay un registro siguiente. */
+	@Override public boolean hasNext() {
+	    return siguiente != null;
+	}
+
+	/* Nos da el registro siguiente. */
+	@Override public R next() {
+	    if(siguiente == null)
+		throw new NoSuchElementException("Corrida terminada");
+	    R registro = siguiente;
+	    try {
+		siguiente = lee(in);
+	    } catch(IOException ioe) {
+		throw new UncheckedIOException(ioe);
+	    }
+	    return registro;
+	}
+
+	/* Cierra la entrada de la corrida. */
+	public void cierra() throws IOException {
+	    in.close();
+	}
+    }
+
+    /** Presupuesto de memoria por omisión, en bytes: 64 MB. */
+    public static final long MEMORIA_POR_OMISION = 64L << 20;
+    /** Número máximo de corridas que se mezclan a la vez. */
+    public static final int MAXIMO_CORRIDAS = 64;
+
+    /* Tamaño en bytes del buffer de cada canal de archivo temporal. */
+    private static final int TAMANO_BUFFER = 1 << 16;
+    /* Estimación en bytes de lo que ocupa un registro en memoria, además de
+     * los caracteres de su línea. */
+    private static final int SOBRECARGA_REGISTRO = 160;
+
+    /* Crea los registros en blanco. */
+    private Supplier<R> fabrica;
+    /* El comparador para ordenar los registros. */
+    private Comparator<R> comparador;
+    /* El presupuesto de memoria en bytes. */
+    private long memoria;
+    /* El directorio de los archivos temporales. */
+    private Path directorio;
+
+    /**
+     * Construye un ordenador externo con el presupuesto de memoria por
+     * omisión, que usa el directorio temporal del sistema.
+     * @param fabrica la fábrica de registros en blanco; por ejemplo el
+     *        método {@link BaseDeDatos#creaRegistro} de una base de datos.
+     * @param comparador el comparador para ordenar los registros.
+     * @throws IllegalArgumentException si la fábrica o el comparador son
+     *         <code>null</code>.
+     */
+    public OrdenadorExterno(Supplier<R> fabrica, Comparator<R> comparador) {
+	this(fabrica, comparador, MEMORIA_POR_OMISION,
+	     Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Construye un ordenador externo con el presupuesto de memoria y el
+     * directorio de archivos temporales recibidos. El presupuesto es una
+     * estimación de la memoria que ocupan los registros de cada corrida,
+     * contando dos bytes por carácter de su línea más una sobrecarga fija
+     * por registro.
+     * @param fabrica la fábrica de registros en blanco; por ejemplo el
+     *        método {@link BaseDeDatos#creaRegistro} de una base de datos.
+     * @param comparador el comparador para ordenar los registros.
+     * @param memoria el presupuesto de memoria en bytes.
+     * @param directorio el directorio de los archivos temporales.
+     * @throws IllegalArgumentException si la fábrica o el comparador son
+     *         <code>null</code>, si la memoria no es positiva, o si el
+     *         directorio no es un directorio.
+     */
+    public OrdenadorExterno(Supplier<R> fabrica, Comparator<R> comparador,
+			    long memoria, Path directorio) {
+	if(fabrica == null)
+	    throw new IllegalArgumentException("Fábrica inválida");
+	if(comparador == null)
+	    throw new IllegalArgumentException("Comparador inválido");
+	if(memoria < 1)
+	    throw new IllegalArgumentException("Memoria inválida");
+	if(directorio == null || !Files.isDirectory(directorio))
+	    throw new IllegalArgumentException("Directorio inválido");
+	this.fabrica = fabrica;
+	this.comparador = comparador;
+	this.memoria = memoria;
+	this.directorio = directorio;
+    }
+
+    /**
+     * Regresa el presupuesto de memoria en bytes.
+     * @return el presupuesto de memoria en bytes.
+     */
+    public long getMemoria() {
+	return memoria;
+    }
+
+    /**
+     * Regresa el directorio de los archivos temporales.
+     * @return el directorio de los archivos temporales.
+     */
+    public Path getDirectorio() {
+	return directorio;
+    }
+
+    /**
+     * Lee los registros de la entrada, uno por línea, y los escribe ordenados
+     * en la salida, en el formato de {@link Registro#seria}. Como en {@link
+     * BaseDeDatos#carga}, la lectura termina al final de la entrada o en la
+     * primera línea vacía. La salida no se cierra.
+     * @param in la entrada de donde hay que leer los registros.
+     * @param out la salida donde hay que escribir los registros ordenados.
+     * @return el número de registros ordenados.
+     * @throws IOException si ocurre un error de entrada/salida, o si alguna
+     *         línea de la entrada no es un registro válido.
+     */
+    public long ordena(BufferedReader in, BufferedWriter out)
+	throws IOException {
+	Lista<Path> corridas = new Lista<Path>();
+	try {
+	    R[] pedazo = nuevoArreglo(1024);
+	    int n = 0;
+	    long usada = 0;
+	    long total = 0;
+	    String linea;
+	    while((linea = in.readLine()) != null) {
+		String l = linea.trim();
+		if(l.isEmpty())
+		    break;
+		R registro = fabrica.get();
+		try {
+		    registro.deseria(l);
+		} catch(ExcepcionLineaInvalida eli) {
+		    throw new IOException("Error de entrada");
+		}
+		if(n == pedazo.length)
+		    pedazo = Arrays.copyOf(pedazo, 2 * n);
+		pedazo[n++] = registro;
+		total++;
+		usada += SOBRECARGA_REGISTRO + 2L * l.length();
+		if(usada >= memoria) {
+		    corridas.agregaFinal(guardaCorrida(pedazo, n));
+		    Arrays.fill(pedazo, 0, n, null);
+		    n = 0;
+		    usada = 0;
+		}
+	    }
+	    if(corridas.esVacia()) {
+		escribe(pedazo, n, out);
+		return total;
+	    }
+	    if(n > 0)
+		corridas.agregaFinal(guardaCorrida(pedazo, n));
+	    pedazo = null;
+	    while(corridas.getLongitud() > MAXIMO_CORRIDAS)
+		corridas = reduce(corridas);
+	    mezcla(corridas, out);
+	    return total;
+	} finally {
+	    for(Path corrida : corridas)
+		Files.deleteIfExists(corrida);
+	}
+    }
+
+    /* Crea un arreglo genérico. */
+    @SuppressWarnings("unchecked") private R[] nuevoArreglo(int n) {
+	return (R[])new Registro[n];
+    }
+
+    /* Ordena los primeros n registros del pedazo y los escribe en la
+     * salida. */
+    private void escribe(R[] pedazo, int n, BufferedWriter out)
+	throws IOException {
+	R[] registros = Arrays.copyOf(pedazo, n);
+	Arreglos.mergeSort(registros, comparador);
+	for(R registro : registros)
+	    out.write(registro.seria());
+    }
+
+    /* Ordena los primeros n registros del pedazo, los guarda en un archivo
+     * temporal nuevo y regresa su ruta. */
+    private Path guardaCorrida(R[] pedazo, int n) throws IOException {
+	Path archivo = Files.createTempFile(directorio, "corrida", ".txt");
+	try {
+	    BufferedWriter out = abreSalida(archivo);
+	    try {
+		escribe(pedazo, n, out);
+	    } finally {
+		out.close();
+	    }
+	} catch(IOException ioe) {
+	    Files.deleteIfExists(archivo);
+	    throw ioe;
+	}
+	return archivo;
+    }
+
+    /* Mezcla las corridas por grupos de a lo más MAXIMO_CORRIDAS, borra las
+     * corridas mezcladas y regresa las corridas nuevas. Los grupos son de
+     * corridas consecutivas, para que el ordenamiento siga siendo estable. */
+    private Lista<Path> reduce(Lista<Path> corridas) throws IOException {
+	Lista<Path> nuevas = new Lista<Path>();
+	try {
+	    while(!corridas.esVacia()) {
+		Lista<Path> grupo = new Lista<Path>();
+		while(!corridas.esVacia() &&
+		      grupo.getLongitud() < MAXIMO_CORRIDAS)
+		    grupo.agregaFinal(corridas.eliminaPrimero());
+		try {
+		    Path archivo = Files.createTempFile(directorio, "corrida",
+							".txt");
+		    nuevas.agregaFinal(archivo);
+		    BufferedWriter out = abreSalida(archivo);
+		    try {
+			mezcla(grupo, out);
+		    } finally {
+			out.close();
+		    }
+		} finally {
+		    for(Path corrida : grupo)
+			Files.deleteIfExists(corrida);
+		}
+	    }
+	} catch(IOException ioe) {
+	    for(Path nueva : nuevas)
+		Files.deleteIfExists(nueva);
+	    throw ioe;
+	}
+	return nuevas;
+    }
+
+    /* Mezcla las corridas en la salida. */
+    private void mezcla(Lista<Path> corridas, BufferedWriter out)
+	throws IOException {
+	Lista<Corrida> abiertas = new Lista<Corrida>();
+	try {
+	    Lista<Iterator<R>> iteradores = new Lista<Iterator<R>>();
+	    for(Path corrida : corridas) {
+		Corrida c = new Corrida(corrida);
+		abiertas.agregaFinal(c);
+		iteradores.agregaFinal(c);
+	    }
+	    Iterator<R> mezcla = Lista.iteradorMezclaK(iteradores, comparador);
+	    while(mezcla.hasNext())
+		out.write(mezcla.next().seria());
+	} catch(UncheckedIOException uioe) {
+	    throw uioe.getCause();
+	} finally {
+	    for(Corrida c : abiertas)
+		c.cierra();
+	}
+    }
+
+    /* Lee el siguiente registro de la entrada, o regresa null si ya no
+     * hay. */
+    private R lee(BufferedReader in) throws IOException {
+	String linea = in.readLine();
+	if(linea == null || linea.isEmpty())
+	    return null;
+	R registro = fabrica.get();
+	try {
+	    registro.deseria(linea);
+	} catch(ExcepcionLineaInvalida eli) {
+	    throw new IOException("Corrida inválida");
+	}
+	return registro;
+    }
+
+    /* Abre una entrada con buffer sobre un canal del archivo. */
+    private static BufferedReader abreEntrada(Path archivo)
+	throws IOException {
+	FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ);
+	return new BufferedReader(Channels.newReader(canal,
+						     StandardCharsets.UTF_8
+						     .newDecoder(),
+						     TAMANO_BUFFER),
+				  TAMANO_BUFFER);
+    }
+
+    /* Abre una salida con buffer sobre un canal del archivo. */
+    private static BufferedWriter abreSalida(Path archivo)
+	throws IOException {
+	FileChannel canal =
+	    FileChannel.open(archivo, StandardOpenOption.WRITE,
+			     StandardOpenOption.TRUNCATE_EXISTING);
+	return new BufferedWriter(Channels.newWriter(canal,
+						     StandardCharsets.UTF_8
+						     .newEncoder(),
+						     TAMANO_BUFFER),
+				  TAMANO_BUFFER);
+    }
+}
@@ -0,0 +1,50 @@
+package mx.unam.ciencias.icc;
+
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Clase para pilas genéricas.</p>
+ *
+ * <p>Los elementos se meten y se sacan del tope de la pila, que es el final
+ * del {@link MeteSaca}; el último elemento metido es el primero que se
+ * saca.</p>
+ *
+ * @param <T> El tipo de los elementos de la pila.
+ */
+public class Pila<T> extends MeteSaca<T> {
+
+    /**
+     * Construye una pila vacía.
+     */
+    public Pila() {
+	super();
+    }
+
+    /**
+     * Construye una pila vacía con espacio para el número de elementos
+     * recibido antes de tener que crecer.
+     * @param capacidad el número de elementos para el que se reserva espacio.
+     * @throws IllegalArgumentException si la capacidad es negativa.
+     */
+    public Pila(int capacidad) {
+	super(capacidad);
+    }
+
+    /**
+     * Saca el elemento en el tope de la pila.
+     * @return el elemento en el tope de la pila.
+     * @throws NoSuchElementException si la pila es vacía.
+     */
+    @Override public T saca() {
+	return eliminaUltimo();
+    }
+
+    /**
+     * Regresa el elemento en el tope de la pila, sin sacarlo.
+     * @return el elemento en el tope de la pila.
+     * @throws NoSuchElementException si la pila es vacía.
+     */
+    @Override public T mira() {
+	return getUltimo();
+    }
+}
@@ -0,0 +1,234 @@
+package mx.unam.ciencias.icc;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Interfaz para secuencias genéricas de elementos.</p>
+ *
+ * <p>Una secuencia mantiene a sus elementos en un orden, permite agregarlos al
+ * inicio o al final, insertarlos y consultarlos por índice, eliminarlos, y
+ * recorrerlos en ambas direcciones con un {@link IteradorLista}. Es la interfaz
+ * que comparten {@link Lista} y sus variantes, de manera que una {@link
+ * BaseDeDatos} pueda usar cualquiera de ellas para guardar sus registros.</p>
+ *
+ * <p>Las secuencias no aceptan a <code>null</code> como elemento.</p>
+ *
+ * @param <T> El tipo de los elementos de la secuencia.
+ */
+public interface Secuencia<T> extends Iterable<T> {
+
+    /**
+     * Regresa la longitud de la secuencia.
+     * @return la longitud de la secuencia, el número de elementos que contiene.
+     */
+    public int getLongitud();
+
+    /**
+     * Nos dice si la secuencia es vacía.
+     * @return <code>true</code> si la secuencia es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    public boolean esVacia();
+
+    /**
+     * Agrega un elemento al final de la secuencia.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaFinal(T elemento);
+
+    /**
+     * Agrega un elemento al inicio de la secuencia.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaInicio(T elemento);
+
+    /**
+     * Inserta un elemento en un índice explícito. Si el índice es menor o igual
+     * que cero, el elemento se agrega al inicio; si es mayor o igual que el
+     * número de elementos, se agrega al final.
+     * @param i el índice dónde insertar el elemento.
+     * @param elemento el elemento a insertar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void inserta(int i, T elemento);
+
+    /**
+     * Elimina la primera aparición de un elemento de la secuencia. Si el
+     * elemento no está contenido en la secuencia, el método no la modifica.
+     * @param elemento el elemento a eliminar.
+     */
+    public void elimina(T elemento);
+
+    /**
+     * Elimina el primer elemento de la secuencia y lo regresa.
+     * @return el primer elemento de la secuencia antes de eliminarlo.
+     * @throws NoSuchElementException si la secuencia es vacía.
+     */
+    public T eliminaPrimero();
+
+    /**
+     * Elimina el último elemento de la secuencia y lo regresa.
+     * @return el último elemento de la secuencia antes de eliminarlo.
+     * @throws NoSuchElementException si la secuencia es vacía.
+     */
+    public T eliminaUltimo();
+
+    /**
+     * Nos dice si un elemento está en la secuencia.
+     * @param elemento el elemento que queremos saber si está en la secuencia.
+     * @return <code>true</code> si <code>elemento</code> está en la secuencia,
+     *         <code>false</code> en otro caso.
+     */
+    public boolean contiene(T elemento);
+
+    /**
+     * Regresa la reversa de la secuencia.
+     * @return una nueva secuencia que es la reversa de la que manda llamar el
+     *         método.
+     */
+    public Secuencia<T> reversa();
+
+    /**
+     * Regresa una copia de la secuencia, con los mismos elementos en el mismo
+     * orden.
+     * @return una copia de la secuencia.
+     */
+    public Secuencia<T> copia();
+
+    /**
+     * Limpia la secuencia de elementos, dejándola vacía.
+     */
+    public void limpia();
+
+    /**
+     * Regresa el primer elemento de la secuencia.
+     * @return el primer elemento de la secuencia.
+     * @throws NoSuchElementException si la secuencia es vacía.
+     */
+    public T getPrimero();
+
+    /**
+     * Regresa el último elemento de la secuencia.
+     * @return el último elemento de la secuencia.
+     * @throws NoSuchElementException si la secuencia es vacía.
+     */
+    public T getUltimo();
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la secuencia.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la secuencia.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la secuencia.
+     */
+    public T get(int i);
+
+    /**
+     * Regresa el índice de la primera aparición del elemento recibido.
+     * @param elemento el elemento del que se busca el índice.
+     * @return el índice del elemento recibido en la secuencia, o -1 si el
+     *         elemento no está contenido en la secuencia.
+     */
+    public int indiceDe(T elemento);
+
+    /**
+     * Regresa un iterador para recorrer la secuencia en ambas direcciones.
+     * @return un iterador para recorrer la secuencia en ambas direcciones.
+     */
+    public IteradorLista<T> iteradorLista();
+
+    /**
+     * Aplica una modificación a la primera aparición del elemento recibido.
+     * Las secuencias que indexan a sus elementos por su valor deben
+     * sobrecargar este método para volver a indexar al elemento modificado.
+     * @param elemento un elemento igual al que hay que modificar.
+     * @param modificacion la modificación a aplicar.
+     * @return <code>true</code> si el elemento estaba en la secuencia y se
+     *         modificó, <code>false</code> en otro caso.
+     */
+    public default boolean modifica(T elemento,
+				    Consumer<? super T> modificacion) {
+	for(T e : this) {
+	    if(!e.equals(elemento))
+		continue;
+	    modificacion.accept(e);
+	    return true;
+	}
+	return false;
+    }
+
+    /**
+     * Elimina todos los elementos de la secuencia que cumplen el predicado.
+     * Por omisión el método recorre la secuencia una vez, guardando los
+     * elementos que se conservan, y la reconstruye con ellos; las
+     * implementaciones pueden eliminar los elementos en su lugar.
+     * @param predicado el predicado.
+     * @return el número de elementos eliminados.
+     * @throws IllegalArgumentException si el predicado es <code>null</code>.
+     */
+    public default int eliminaSi(Predicate<? super T> predicado) {
+	if(predicado == null)
+	    throw new IllegalArgumentException("Predicado inválido");
+	Lista<T> conservados = new Lista<T>();
+	for(T elemento : this)
+	    if(!predicado.test(elemento))
+		conservados.agregaFinal(elemento);
+	int eliminados = getLongitud() - conservados.getLongitud();
+	if(eliminados == 0)
+	    return 0;
+	limpia();
+	for(T elemento : conservados)
+	    agregaFinal(elemento);
+	return eliminados;
+    }
+
+    /**
+     * Regresa una vista perezosa de la secuencia. La vista no copia los
+     * elementos; refleja el estado de la secuencia cada vez que se recorre.
+     * @return una vista de la secuencia.
+     */
+    public default Vista<T> vista() {
+	return new Vista<T>(this::iteradorLista);
+    }
+
+    /**
+     * Regresa un divisor (<em>spliterator</em>) para la secuencia. Por omisión
+     * el divisor conoce el tamaño de la secuencia y se parte copiando lotes de
+     * elementos a arreglos; las implementaciones pueden ofrecer uno que se
+     * parta de manera más eficiente.
+     * @return un divisor para la secuencia.
+     */
+    @Override default Spliterator<T> spliterator() {
+	return Spliterators.spliterator(iterator(), getLongitud(),
+					Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Regresa un flujo secuencial con los elementos de la secuencia.
+     * @return un flujo secuencial con los elementos de la secuencia.
+     */
+    public default Stream<T> stream() {
+	return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Regresa un flujo posiblemente paralelo con los elementos de la
+     * secuencia.
+     * @return un flujo posiblemente paralelo con los elementos de la
+     *         secuencia.
+     */
+    public default Stream<T> parallelStream() {
+	return StreamSupport.stream(spliterator(), true);
+    }
+}
@@ -7,11 +7,14 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+import mx.unam.ciencias.icc.ColaBloqueante;
 import mx.unam.ciencias.icc.EventoBaseDeDatos;
 import mx.unam.ciencias.icc.ExcepcionLineaInvalida;
 import mx.unam.ciencias.icc.BaseDeDatos;
-import mx.unam.ciencias.icc.Lista;
+import mx.unam.ciencias.icc.ListaConcurrente;
 import mx.unam.ciencias.icc.Registro;
 
 /**
@@ -23,6 +26,11 @@ public class Conexion<R extends Registro<R, ?>> {
 
     /* Contador de números de serie. */
     private static int contadorSerie;
+    /* Número máximo de envíos pendientes por conexión. */
+    private static final int MAXIMO_PENDIENTES = 256;
+    /* Milisegundos que el hilo de envíos espera por un envío pendiente antes
+     * de revisar si la conexión sigue activa. */
+    private static final long ESPERA_PENDIENTES = 5000;
 
     /* La entrada de la conexión. */
     private BufferedReader in;
@@ -31,13 +39,15 @@ public class Conexion<R extends Registro<R, ?>> {
     /* La base de datos. */
     private BaseDeDatos<R, ?> bdd;
     /* Lista de escuchas de conexión. */
-    private Lista<EscuchaConexion<R>> escuchas;
+    private ListaConcurrente<EscuchaConexion<R>> escuchas;
     /* El enchufe. */
     private Socket enchufe;
     /* Si la conexión está activa. */
-    private boolean activa;
+    private volatile boolean activa;
     /* El número de serie único de la conexión. */
     private int serie;
+    /* Los envíos pendientes de la conexión. */
+    private ColaBloqueante<String> pendientes;
 
     /**
      * Define el estado inicial de una nueva conexión.
@@ -48,11 +58,12 @@ public class Conexion<R extends Registro<R, ?>> {
     public Conexion(BaseDeDatos<R, ?> bdd, Socket enchufe) throws IOException {
 	this.bdd = bdd;
 	this.enchufe = enchufe;
-	escuchas = new Lista<EscuchaConexion<R>>();
+	escuchas = new ListaConcurrente<EscuchaConexion<R>>();
         in = new BufferedReader(
 				new InputStreamReader(enchufe.getInputStream()));
 	out = new BufferedWriter(
 				new OutputStreamWriter(enchufe.getOutputStream()));
+	pendientes = new ColaBloqueante<String>(MAXIMO_PENDIENTES);
 	activa = true;
 	serie = ++contadorSerie;
     }
@@ -89,7 +100,7 @@ public class Conexion<R extends Registro<R, ?>> {
      * Envía la base de datos al otro lado de la conexión.
      * @throws IOException si la base de datos no puede enviarse.
      */
-    public void enviaBaseDeDatos() throws IOException {
+    public synchronized void enviaBaseDeDatos() throws IOException {
         bdd.guarda(out);
 	out.newLine();
 	out.flush();
@@ -116,7 +127,7 @@ public class Conexion<R extends Registro<R, ?>> {
      * @param registro el registro a enviar.
      * @throws IOException si el registro no puede enviarse.
      */
-    public void enviaRegistro(R registro) throws IOException {
+    public synchronized void enviaRegistro(R registro) throws IOException {
         out.write(registro.seria());
 	out.flush();
     }
@@ -126,12 +137,91 @@ public class Conexion<R extends Registro<R, ?>> {
      * @param mensaje el mensaje a enviar.
      * @throws IOException si el mensaje no puede enviarse.
      */
-    public void enviaMensaje(Mensaje mensaje) throws IOException {
+    public synchronized void enviaMensaje(Mensaje mensaje) throws IOException {
         out.write(mensaje.toString());
 	out.newLine();
 	out.flush();
     }
 
+    /**
+     * Encola un mensaje, seguido de los registros recibidos, para que el hilo
+     * que ejecuta {@link #enviaMensajes} lo envíe al otro lado de la conexión.
+     * El mensaje y sus registros se envían juntos, sin que otro envío se
+     * intercale entre ellos. El método nunca espera: si la conexión tiene
+     * demasiados envíos pendientes, porque el otro lado no los lee, lanza una
+     * excepción, y quien lo llamó debe desconectarla.
+     * @param mensaje el mensaje a encolar.
+     * @param registros los registros que acompañan al mensaje.
+     * @throws IOException si la conexión no está activa, o si tiene
+     *         demasiados envíos pendientes.
+     */
+    @SafeVarargs public final void encolaMensaje(Mensaje mensaje,
+						 R ... registros)
+	throws IOException {
+	StringBuilder sb = new StringBuilder(mensaje.toString());
+	sb.append(System.lineSeparator());
+	for(R registro : registros)
+	    sb.append(registro.seria());
+	encola(sb.toString());
+    }
+
+    /**
+     * Encola el mensaje {@link Mensaje#BASE_DE_DATOS} seguido de la base de
+     * datos, para que el hilo que ejecuta {@link #enviaMensajes} los envíe al
+     * otro lado de la conexión. La base de datos se seria al momento de
+     * encolarla, por lo que llega después de todos los envíos encolados antes
+     * y refleja exactamente los cambios que éstos anunciaron. Como {@link
+     * #encolaMensaje}, el método nunca espera.
+     * @throws IOException si la conexión no está activa, o si tiene
+     *         demasiados envíos pendientes.
+     */
+    public void encolaBaseDeDatos() throws IOException {
+	StringWriter sw = new StringWriter();
+	BufferedWriter bw = new BufferedWriter(sw);
+	bw.write(Mensaje.BASE_DE_DATOS.toString());
+	bw.newLine();
+	bdd.guarda(bw);
+	bw.newLine();
+	bw.flush();
+	encola(sw.toString());
+    }
+
+    /* Encola un envío, sin esperar a que haya espacio. */
+    private void encola(String envio) throws IOException {
+	if(!activa)
+	    throw new IOException("Conexión inactiva");
+	if(!pendientes.intentaMete(envio))
+	    throw new IOException("Conexión saturada");
+    }
+
+    /**
+     * Envía los mensajes encolados con {@link #encolaMensaje} y {@link
+     * #encolaBaseDeDatos}. El método no termina hasta que la conexión sea
+     * cerrada; si ocurre un error de entrada o salida al enviar, la conexión
+     * se cierra y se reporta el mensaje {@link Mensaje#DESCONECTAR} a los
+     * escuchas, como cuando se cierra del otro lado.
+     */
+    public void enviaMensajes() {
+	try {
+	    while(activa) {
+		String envio = pendientes.saca(ESPERA_PENDIENTES,
+					       TimeUnit.MILLISECONDS);
+		if(envio == null)
+		    continue;
+		synchronized (this) {
+		    out.write(envio);
+		    if(pendientes.esVacia())
+			out.flush();
+		}
+	    }
+	} catch (IOException | InterruptedException e) {
+	    desconecta();
+	    for(EscuchaConexion<R> ec : escuchas)
+		ec.mensajeRecibido(this, Mensaje.DESCONECTAR);
+	}
+	pendientes.limpia();
+    }
+
     /**
      * Regresa un número de serie para cada conexión.
      * @return un número de serie para cada conexión.
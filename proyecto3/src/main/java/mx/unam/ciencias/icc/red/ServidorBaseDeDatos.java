@@ -13,6 +13,7 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import mx.unam.ciencias.icc.BaseDeDatos;
 import mx.unam.ciencias.icc.Lista;
+import mx.unam.ciencias.icc.ListaConcurrente;
 import mx.unam.ciencias.icc.Registro;
 
 /**
@@ -28,12 +29,13 @@ public abstract class ServidorBaseDeDatos<R extends Registro<R, ?>> {
     private ServerSocket servidor;
     /* El puerto. */
     private int puerto;
-    /* Lista con las conexiones. */
-    private Lista<Conexion<R>> conexiones;
+    /* Lista con las conexiones; los hilos de las conexiones la recorren y
+       la modifican sin candados. */
+    private ListaConcurrente<Conexion<R>> conexiones;
     /* Bandera de continuación. */
-    private boolean continuaEjecucion;
+    private volatile boolean continuaEjecucion;
     /* Escuchas del servidor. */
-    private Lista<EscuchaServidor> escuchas;
+    private ListaConcurrente<EscuchaServidor> escuchas;
 
     /**
      * Crea un nuevo servidor usando la ruta recibida para poblar la base de
@@ -49,8 +51,8 @@ public abstract class ServidorBaseDeDatos<R extends Registro<R, ?>> {
         this.puerto = puerto;
 	this.ruta = (ruta == null) ? "base-de-datos.bd" : ruta;
 	servidor = new ServerSocket(puerto);
-	conexiones = new Lista<Conexion<R>>();
-	escuchas = new Lista<EscuchaServidor>();
+	conexiones = new ListaConcurrente<Conexion<R>>();
+	escuchas = new ListaConcurrente<EscuchaServidor>();
 	bdd = creaBaseDeDatos();
 	carga();
     }
@@ -69,10 +71,9 @@ public abstract class ServidorBaseDeDatos<R extends Registro<R, ?>> {
 		anotaMensaje("Conexión recibida de: %s.", hostName);
 		anotaMensaje("Serie de conexión: %d.", conexion.getSerie());
 		conexion.agregaEscucha((c, m) -> mensajeRecibido(c, m));
+		conexiones.agregaFinal(conexion);
 		new Thread(() -> conexion.recibeMensajes()).start();
-		synchronized (conexiones) {
-		    conexiones.agregaFinal(conexion);
-		}
+		new Thread(() -> conexion.enviaMensajes()).start();
 	    } catch (IOException ioe) {
 	        if(continuaEjecucion)
 		    anotaMensaje("Error al recibir una conexión.");
@@ -129,7 +130,9 @@ public abstract class ServidorBaseDeDatos<R extends Registro<R, ?>> {
 
     /* Recibe los mensajes de la conexión. */
     private void mensajeRecibido(Conexion<R> conexion, Mensaje mensaje) {
-	if (!conexion.isActiva())
+	/* Una conexión cerrada del otro lado o por su hilo de envíos ya no
+	 * está activa, pero todavía hay que quitarla de las conexiones. */
+	if (!conexion.isActiva() && mensaje != Mensaje.DESCONECTAR)
 	    return;
 	switch(mensaje) {
 	case BASE_DE_DATOS:
@@ -168,8 +171,12 @@ public abstract class ServidorBaseDeDatos<R extends Registro<R, ?>> {
     /* Maneja el mensaje BASE_DE_DATOS. */
     private void baseDeDatos(Conexion<R> conexion) {
 	try {
-	    conexion.enviaMensaje(Mensaje.BASE_DE_DATOS);
-	    conexion.enviaBaseDeDatos();
+	    /* Con el candado, ningún cambio puede quedar entre la base de
+	     * datos encolada y los anuncios encolados antes de ella; encolarla
+	     * nunca espera, y el error se maneja ya sin el candado. */
+	    synchronized (this) {
+		conexion.encolaBaseDeDatos();
+	    }
 	} catch (IOException ioe) {
 	    error(conexion, "Error enviando la base de datos.");
 	}
@@ -186,23 +193,19 @@ public abstract class ServidorBaseDeDatos<R extends Registro<R, ?>> {
 	    return;
 	}
 	String accion;
-	if (mensaje == Mensaje.REGISTRO_AGREGADO) {
-	    agregaRegistro(registro);
-	    accion = "agregado";
-	} else {
-	    eliminaRegistro(registro);
-	    accion = "eliminado";
-	}
-	for (Conexion<R> c : conexiones) {
-	    if (c == conexion)
-		continue;
-	    try {
-		c.enviaMensaje(mensaje);
-		c.enviaRegistro(registro);
-	    } catch (IOException ioe) {
-		error(c, "Error enviando registro.");
+	Lista<Conexion<R>> saturadas;
+	synchronized (this) {
+	    if (mensaje == Mensaje.REGISTRO_AGREGADO) {
+		agregaRegistro(registro);
+		accion = "agregado";
+	    } else {
+		eliminaRegistro(registro);
+		accion = "eliminado";
 	    }
+	    saturadas = difunde(conexion, mensaje, registro);
 	}
+	for (Conexion<R> c : saturadas)
+	    error(c, "Error enviando registro.");
 	anotaMensaje("Registro %s por %d.", accion, conexion.getSerie());
 	guarda();
     }
@@ -217,20 +220,36 @@ public abstract class ServidorBaseDeDatos<R extends Registro<R, ?>> {
 	    error(conexion, "Error recibiendo registros.");
 	    return;
 	}
-	modificaRegistro(registro1, registro2);
+	Lista<Conexion<R>> saturadas;
+	synchronized (this) {
+	    modificaRegistro(registro1, registro2);
+	    saturadas = difunde(conexion, Mensaje.REGISTRO_MODIFICADO,
+				registro1, registro2);
+	}
+	for (Conexion<R> c : saturadas)
+	    error(c, "Error enviando registro.");
+	anotaMensaje("Registro modificado por %d.", conexion.getSerie());
+	guarda();
+    }
+
+    /* Encola el mensaje y los registros en todas las conexiones menos la de
+     * origen, y regresa las conexiones en las que no se pudo encolar. Se
+     * llama con el candado del servidor, por lo que nunca espera: las
+     * conexiones regresadas deben desconectarse después de soltarlo. */
+    @SafeVarargs private final Lista<Conexion<R>> difunde(Conexion<R> origen,
+							  Mensaje mensaje,
+							  R ... registros) {
+	Lista<Conexion<R>> saturadas = new Lista<Conexion<R>>();
 	for (Conexion<R> c : conexiones) {
-	    if (c == conexion)
+	    if (c == origen)
 		continue;
 	    try {
-		c.enviaMensaje(Mensaje.REGISTRO_MODIFICADO);
-		c.enviaRegistro(registro1);
-		c.enviaRegistro(registro2);
+		c.encolaMensaje(mensaje, registros);
 	    } catch (IOException ioe) {
-		error(c, "Error enviando registro.");
+		saturadas.agregaFinal(c);
 	    }
 	}
-	anotaMensaje("Registro modificado por %d.", conexion.getSerie());
-	guarda();
+	return saturadas;
     }
 
     /* Maneja el mensaje DESCONECTAR. */
@@ -254,7 +273,7 @@ public abstract class ServidorBaseDeDatos<R extends Registro<R, ?>> {
     private void eco(Conexion<R> conexion) {
 	anotaMensaje("Solicitud de eco de %d.", conexion.getSerie());
 	try {
-	    conexion.enviaMensaje(Mensaje.ECO);
+	    conexion.encolaMensaje(Mensaje.ECO);
 	} catch (IOException ioe) {
 	    error(conexion, "Error enviando eco.");
 	}
@@ -266,12 +285,12 @@ public abstract class ServidorBaseDeDatos<R extends Registro<R, ?>> {
 	desconecta(conexion);
     }
 
-    /* Desconecta la conexión. */
-    private void desconecta(Conexion<R> conexion) {
+    /* Desconecta la conexión, si no ha sido desconectada ya. */
+    private synchronized void desconecta(Conexion<R> conexion) {
         conexion.desconecta();
-	synchronized (conexiones) {
-	    conexiones.elimina(conexion);
-	}
+	if (!conexiones.contiene(conexion))
+	    return;
+	conexiones.elimina(conexion);
 	anotaMensaje("La conexión %d ha sido desconectada.", conexion.getSerie());
     }
 
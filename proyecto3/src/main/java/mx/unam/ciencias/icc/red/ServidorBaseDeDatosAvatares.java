@@ -5,6 +5,7 @@ import mx.unam.ciencias.icc.Avatar;
 import mx.unam.ciencias.icc.BaseDeDatos;
 import mx.unam.ciencias.icc.BaseDeDatosAvatares;
 import mx.unam.ciencias.icc.CampoAvatar;
+import mx.unam.ciencias.icc.ListaPersistente;
 
 /**
  * Clase para servidores de bases de datos de avatares.
@@ -25,11 +26,13 @@ public class ServidorBaseDeDatosAvatares
     }
 
     /**
-     * Crea una base de datos de avatares.
+     * Crea una base de datos de avatares respaldada por una {@link
+     * ListaPersistente}, para que las conexiones que envían la base de datos
+     * la recorran como estaba al empezar, aunque otra conexión la modifique.
      * @return una base de datos de avatares.
      */
     @Override public
     BaseDeDatos<Avatar, CampoAvatar> creaBaseDeDatos() {
-        return new BaseDeDatosAvatares();
+        return new BaseDeDatosAvatares(new ListaPersistente<Avatar>());
     }
 }
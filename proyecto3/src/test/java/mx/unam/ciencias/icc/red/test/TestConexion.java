@@ -245,6 +245,50 @@ public class TestConexion {
         }
     }
 
+    /**
+     * Prueba unitaria para {@link Conexion#encolaMensaje}, {@link
+     * Conexion#encolaBaseDeDatos} y {@link Conexion#enviaMensajes}.
+     */
+    @Test public void testEncolaMensaje() {
+        try {
+            BaseDeDatosAvatares bdd = new BaseDeDatosAvatares();
+            UtilRed.llenaBaseDeDatos(bdd, total);
+            Socket enchufe = new Socket("localhost", puerto);
+            Conexion<Avatar> conexion =
+                new Conexion<Avatar>(bdd, enchufe);
+            new Thread(() -> conexion.enviaMensajes()).start();
+            UtilRed.espera(10);
+
+            Avatar avatar = TestAvatar.avatarAleatorio();
+            conexion.encolaMensaje(Mensaje.REGISTRO_AGREGADO, avatar);
+            conexion.encolaBaseDeDatos();
+            conexion.encolaMensaje(Mensaje.ECO);
+
+            String linea = in.readLine();
+            Assert.assertTrue(Mensaje.getMensaje(linea) ==
+                              Mensaje.REGISTRO_AGREGADO);
+            Avatar a = new Avatar(null, 0, 0, 0, 0);
+            a.deseria(in.readLine());
+            Assert.assertTrue(a.equals(avatar));
+            linea = in.readLine();
+            Assert.assertTrue(Mensaje.getMensaje(linea) ==
+                              Mensaje.BASE_DE_DATOS);
+            BaseDeDatosAvatares bdd2 = new BaseDeDatosAvatares();
+            bdd2.carga(in);
+            Assert.assertTrue(bdd2.getRegistros().equals(bdd.getRegistros()));
+            linea = in.readLine();
+            Assert.assertTrue(Mensaje.getMensaje(linea) == Mensaje.ECO);
+
+            conexion.desconecta();
+            try {
+                conexion.encolaMensaje(Mensaje.ECO);
+                Assert.fail();
+            } catch (IOException ioe) {}
+        } catch (IOException ioe) {
+            Assert.fail();
+        }
+    }
+
     /**
      * Prueba unitaria para {@link Conexion#getSerie}.
      */
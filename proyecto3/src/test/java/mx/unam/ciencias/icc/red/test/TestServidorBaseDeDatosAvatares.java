@@ -81,6 +81,19 @@ public class TestServidorBaseDeDatosAvatares {
             }
         }
 
+        /* Envía un mensaje varias veces por la conexión, sin esperar. */
+        private void enviaMensaje(Mensaje mensaje, int veces) {
+            try {
+                for (int i = 0; i < veces; i++) {
+                    out.write(mensaje.toString());
+                    out.newLine();
+                }
+                out.flush();
+            } catch (IOException ioe) {
+                Assert.fail();
+            }
+        }
+
         /* Envía un avatar por la conexión. */
         public void enviaAvatar(Avatar avatar) {
             try {
@@ -115,6 +128,15 @@ public class TestServidorBaseDeDatosAvatares {
             }
         }
 
+        /* Cierra la conexión sin avisar al servidor. */
+        public void cierra() {
+            try {
+                enchufe.close();
+            } catch (IOException ioe) {
+                Assert.fail();
+            }
+        }
+
         /* Recibe un mensaje por la conexión. */
         public Mensaje recibeMensaje() {
             return Mensaje.getMensaje(recibeCadena());
@@ -389,6 +411,73 @@ public class TestServidorBaseDeDatosAvatares {
         Assert.assertTrue(c.recibeMensaje() == Mensaje.ECO);
     }
 
+    /**
+     * Prueba unitaria para el método {@link ServidorBaseDeDatos#sirve} cuando
+     * un cliente cierra su conexión sin enviar {@link Mensaje#DESCONECTAR}.
+     */
+    @Test public void testSirveConexionCerrada() {
+        Cliente c1 = nuevoCliente();
+        Cliente c2 = nuevoCliente();
+        Lista<String> mensajes = new Lista<String>();
+        sbdd.agregaEscucha((f, a) -> {
+                String s = a.length > 0 ? String.format(f, a) : f;
+                synchronized (mensajes) {
+                    mensajes.agregaFinal(s);
+                }
+            });
+        c2.cierra();
+        UtilRed.espera(50);
+        synchronized (mensajes) {
+            Assert.assertTrue(mensajes.getLongitud() == 1);
+            Assert.assertTrue(mensajes.getPrimero().endsWith(
+                                  "ha sido desconectada."));
+        }
+        sbdd.limpiaEscuchas();
+        c1.enviaMensaje(Mensaje.REGISTRO_AGREGADO);
+        c1.enviaAvatar(new Avatar("A", 1, 1, 1, 1));
+        c1.enviaMensaje(Mensaje.ECO);
+        Assert.assertTrue(c1.recibeMensaje() == Mensaje.ECO);
+    }
+
+    /**
+     * Prueba unitaria para el método {@link ServidorBaseDeDatos#sirve} cuando
+     * un cliente nunca lee lo que le envía el servidor: la conexión se
+     * desconecta en cuanto se satura, sin detener a los demás clientes.
+     */
+    @Test public void testSirveConexionSaturada() {
+        Cliente c1 = nuevoCliente();
+        Cliente c2 = nuevoCliente();
+        Cliente lento = nuevoCliente();
+        Lista<String> mensajes = new Lista<String>();
+        sbdd.agregaEscucha((f, a) -> {
+                String s = a.length > 0 ? String.format(f, a) : f;
+                synchronized (mensajes) {
+                    mensajes.agregaFinal(s);
+                }
+            });
+        /* El cliente lento pide la base de datos una y otra vez, y nunca la
+         * lee, hasta que el servidor lo desconecta; mientras tanto, los
+         * cambios de los demás clientes siguen pasando sin demora. */
+        boolean desconectado = false;
+        for (int i = 0; !desconectado; i++) {
+            lento.enviaMensaje(Mensaje.BASE_DE_DATOS, 100);
+            long inicio = System.currentTimeMillis();
+            c1.enviaMensaje(Mensaje.REGISTRO_AGREGADO);
+            c1.enviaAvatar(new Avatar("A" + i, 1, 1, 1, 1));
+            Assert.assertTrue(c2.recibeMensaje() == Mensaje.REGISTRO_AGREGADO);
+            Assert.assertTrue(c2.recibeAvatar().getNombre().equals("A" + i));
+            Assert.assertTrue(System.currentTimeMillis() - inicio < 1000);
+            synchronized (mensajes) {
+                for (String m : mensajes)
+                    if (m.startsWith("Desconectando la conexión"))
+                        desconectado = true;
+            }
+        }
+        c1.enviaMensaje(Mensaje.ECO);
+        Assert.assertTrue(c1.recibeMensaje() == Mensaje.ECO);
+        sbdd.limpiaEscuchas();
+    }
+
     /**
      * Prueba unitaria para el mensaje {@link Mensaje#ECO} en el método
      * {@link ServidorBaseDeDatos#sirve}.
@@ -1,6 +1,9 @@
 package mx.unam.ciencias.icc.test;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import mx.unam.ciencias.icc.Arreglos;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -67,6 +70,314 @@ public class TestArreglos {
         Assert.assertTrue(estaOrdenado(arreglo));
     }
 
+    /**
+     * Prueba que {@link Arreglos#quickSort(Object[],Comparator)} ordene
+     * arreglos grandes con patrones que degradan a QuickSort ingenuo
+     * (ordenados, en reversa, con pocos valores distintos y en forma de
+     * órgano), haciendo O(n log n) comparaciones.
+     */
+    @Test public void testQuickSortPatrones() {
+        int n = 10000 + random.nextInt(10000);
+        int cota = 4 * n * (32 - Integer.numberOfLeadingZeros(n));
+        for (int patron = 0; patron < 6; patron++) {
+            Integer[] a = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                switch (patron) {
+                case 0: a[i] = random.nextInt(); break;
+                case 1: a[i] = i; break;
+                case 2: a[i] = n - i; break;
+                case 3: a[i] = random.nextInt(4); break;
+                case 4: a[i] = i < n / 2 ? i : n - i; break;
+                default: a[i] = 7; break;
+                }
+            }
+            int[] comparaciones = { 0 };
+            Arreglos.quickSort(a, (x, y) -> {
+                    comparaciones[0]++;
+                    return x.compareTo(y);
+                });
+            Assert.assertTrue(estaOrdenado(a));
+            Assert.assertTrue(comparaciones[0] < cota);
+        }
+    }
+
+    /**
+     * Prueba que {@link Arreglos#quickSort(Object[],Comparator)} conserve los
+     * elementos del arreglo.
+     */
+    @Test public void testQuickSortPermutacion() {
+        int n = 1000 + random.nextInt(1000);
+        Integer[] a = new Integer[n];
+        int[] cuenta = new int[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = random.nextInt(n);
+            cuenta[a[i]]++;
+        }
+        Arreglos.quickSort(a);
+        Assert.assertTrue(estaOrdenado(a));
+        for (Integer e : a)
+            cuenta[e]--;
+        for (int c : cuenta)
+            Assert.assertTrue(c == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#mergeSort(Comparable[])}.
+     */
+    @Test public void testMergeSort() {
+        arreglo[0] = 1;
+        arreglo[1] = 0;
+        for (int i = 2; i < total; i++)
+            arreglo[i] = random.nextInt(total);
+        Assert.assertFalse(estaOrdenado(arreglo));
+        Arreglos.mergeSort(arreglo);
+        Assert.assertTrue(estaOrdenado(arreglo));
+        Arreglos.mergeSort(new Integer[0]);
+    }
+
+    /**
+     * Prueba que {@link Arreglos#mergeSort(Object[],Comparator)} sea estable
+     * con arreglos grandes y distintos patrones.
+     */
+    @Test public void testMergeSortEstable() {
+        int n = 10000 + random.nextInt(10000);
+        for (int patron = 0; patron < 5; patron++) {
+            int m = 1 + random.nextInt(n);
+            int[] valor = new int[n];
+            for (int i = 0; i < n; i++) {
+                switch (patron) {
+                case 0: valor[i] = random.nextInt(m); break;
+                case 1: valor[i] = i / 3; break;
+                case 2: valor[i] = n - i / 3; break;
+                case 3: valor[i] = i < n - m ? i : random.nextInt(n); break;
+                default: valor[i] = (i % 1000) * (i / 1000 % 2 == 0 ? 1 : -1);
+                }
+            }
+            Integer[] a = new Integer[n];
+            for (int i = 0; i < n; i++)
+                a[i] = i;
+            Arreglos.mergeSort(a, (x, y) -> valor[x] - valor[y]);
+            for (int i = 1; i < n; i++) {
+                Assert.assertTrue(valor[a[i-1]] <= valor[a[i]]);
+                if (valor[a[i-1]] == valor[a[i]])
+                    Assert.assertTrue(a[i-1] < a[i]);
+            }
+        }
+    }
+
+    /**
+     * Prueba que {@link Arreglos#mergeSort(Object[],Comparator)} aproveche el
+     * orden que ya tiene el arreglo: uno ordenado, uno en reversa y uno
+     * ordenado con unos cuantos elementos al final requieren pocas
+     * comparaciones.
+     */
+    @Test public void testMergeSortAdaptable() {
+        int n = 100000 + random.nextInt(100000);
+        int[] comparaciones = { 0 };
+        Comparator<Integer> comparador = (x, y) -> {
+            comparaciones[0]++;
+            return x.compareTo(y);
+        };
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++)
+            a[i] = i;
+        Arreglos.mergeSort(a, comparador);
+        Assert.assertTrue(estaOrdenado(a));
+        Assert.assertTrue(comparaciones[0] < n);
+        comparaciones[0] = 0;
+        for (int i = 0; i < n; i++)
+            a[i] = n - i;
+        Arreglos.mergeSort(a, comparador);
+        Assert.assertTrue(estaOrdenado(a));
+        Assert.assertTrue(comparaciones[0] < n);
+        comparaciones[0] = 0;
+        int agregados = 1000;
+        for (int i = 0; i < n; i++)
+            a[i] = i < n - agregados ? 2 * i : random.nextInt(2 * n);
+        Arreglos.mergeSort(a, comparador);
+        Assert.assertTrue(estaOrdenado(a));
+        Assert.assertTrue(comparaciones[0] < 2 * n);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#radixSort(int[])}, {@link
+     * Arreglos#radixSort(long[])} y {@link Arreglos#radixSort(double[])}.
+     */
+    @Test public void testRadixSort() {
+        int n = 10000 + random.nextInt(10000);
+        for (int patron = 0; patron < 3; patron++) {
+            int[] a = new int[n];
+            long[] b = new long[n];
+            double[] c = new double[n];
+            for (int i = 0; i < n; i++) {
+                switch (patron) {
+                case 0:
+                    a[i] = random.nextInt();
+                    b[i] = random.nextLong();
+                    c[i] = random.nextGaussian() * 1e10;
+                    break;
+                case 1:
+                    a[i] = random.nextInt(1000);
+                    b[i] = random.nextInt(1000) - 500;
+                    c[i] = random.nextInt(1000) / 8.0;
+                    break;
+                default:
+                    a[i] = 7;
+                    b[i] = -7;
+                    c[i] = -7.5;
+                    break;
+                }
+            }
+            a[0] = Integer.MIN_VALUE;
+            a[1] = Integer.MAX_VALUE;
+            b[0] = Long.MIN_VALUE;
+            b[1] = Long.MAX_VALUE;
+            c[0] = Double.NaN;
+            c[1] = -0.0;
+            c[2] = 0.0;
+            c[3] = Double.NEGATIVE_INFINITY;
+            c[4] = Double.MIN_VALUE;
+            c[5] = -Double.MAX_VALUE;
+            int[] a2 = a.clone();
+            long[] b2 = b.clone();
+            double[] c2 = c.clone();
+            Arrays.sort(a2);
+            Arrays.sort(b2);
+            Arrays.sort(c2);
+            Arreglos.radixSort(a);
+            Arreglos.radixSort(b);
+            Arreglos.radixSort(c);
+            Assert.assertTrue(Arrays.equals(a, a2));
+            Assert.assertTrue(Arrays.equals(b, b2));
+            Assert.assertTrue(Arrays.equals(c, c2));
+        }
+        Arreglos.radixSort(new int[0]);
+        Arreglos.radixSort(new long[] { 1L });
+        Arreglos.radixSort(new double[0]);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#radixSort(Object[],ToLongFunction)}.
+     */
+    @Test public void testRadixSortClave() {
+        int n = 10000 + random.nextInt(10000);
+        long[] valor = new long[n];
+        for (int i = 0; i < n; i++)
+            valor[i] = random.nextBoolean() ?
+                random.nextInt(100) - 50 : random.nextLong();
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++)
+            a[i] = i;
+        Arreglos.radixSort(a, i -> valor[i]);
+        for (int i = 1; i < n; i++) {
+            Assert.assertTrue(valor[a[i-1]] <= valor[a[i]]);
+            if (valor[a[i-1]] == valor[a[i]])
+                Assert.assertTrue(a[i-1] < a[i]);
+        }
+        for (int i = 0; i < total; i++)
+            arreglo[i] = random.nextInt(total);
+        Arreglos.radixSort(arreglo, i -> i);
+        Assert.assertTrue(estaOrdenado(arreglo));
+        try {
+            Arreglos.radixSort(arreglo, null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#ordenaParalelo(Object[],Comparator,ForkJoinPool,int)}.
+     */
+    @Test public void testOrdenaParalelo() {
+        int n = 10000 + random.nextInt(10000);
+        int umbral = 1 + random.nextInt(500);
+        ForkJoinPool alberca = new ForkJoinPool(4);
+        /* Ordenamos índices por su valor módulo 100; como el ordenamiento es
+         * estable, los índices con el mismo valor quedan en orden. */
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++)
+            a[i] = i;
+        int[] valor = new int[n];
+        for (int i = 0; i < n; i++)
+            valor[i] = random.nextInt(100);
+        Arreglos.ordenaParalelo(a, (x, y) -> valor[x] - valor[y],
+                                alberca, umbral);
+        for (int i = 1; i < n; i++) {
+            Assert.assertTrue(valor[a[i-1]] <= valor[a[i]]);
+            if (valor[a[i-1]] == valor[a[i]])
+                Assert.assertTrue(a[i-1] < a[i]);
+        }
+        Integer[] b = new Integer[n];
+        for (int i = 0; i < n; i++)
+            b[i] = random.nextInt();
+        Integer[] c = b.clone();
+        Arrays.sort(c);
+        Arreglos.ordenaParalelo(b);
+        Assert.assertTrue(Arrays.equals(b, c));
+        for (int i = 0; i < total; i++)
+            arreglo[i] = random.nextInt(total);
+        Arreglos.ordenaParalelo(arreglo);
+        Assert.assertTrue(estaOrdenado(arreglo));
+        try {
+            Arreglos.ordenaParalelo(a, (x, y) -> x - y, null, umbral);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            Arreglos.ordenaParalelo(a, (x, y) -> x - y, alberca, 0);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        alberca.shutdown();
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#ordenaParalelo(int[])}, {@link
+     * Arreglos#ordenaParalelo(long[])} y {@link
+     * Arreglos#ordenaParalelo(double[])}.
+     */
+    @Test public void testOrdenaParaleloPrimitivos() {
+        int n = 10000 + random.nextInt(10000);
+        int umbral = 1 + random.nextInt(500);
+        ForkJoinPool alberca = new ForkJoinPool(3);
+        int[] a = new int[n];
+        long[] b = new long[n];
+        double[] c = new double[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = random.nextInt(n) - n / 2;
+            b[i] = random.nextLong();
+            c[i] = random.nextGaussian();
+        }
+        c[0] = -0.0;
+        c[1] = 0.0;
+        c[2] = Double.NaN;
+        c[3] = Double.NEGATIVE_INFINITY;
+        int[] a2 = a.clone();
+        long[] b2 = b.clone();
+        double[] c2 = c.clone();
+        Arrays.sort(a2);
+        Arrays.sort(b2);
+        Arrays.sort(c2);
+        Arreglos.ordenaParalelo(a, alberca, umbral);
+        Arreglos.ordenaParalelo(b, alberca, umbral);
+        Arreglos.ordenaParalelo(c, alberca, umbral);
+        Assert.assertTrue(Arrays.equals(a, a2));
+        Assert.assertTrue(Arrays.equals(b, b2));
+        Assert.assertTrue(Arrays.equals(c, c2));
+        int[] d = new int[n];
+        for (int i = 0; i < n; i++)
+            d[i] = n - i;
+        Arreglos.ordenaParalelo(d);
+        for (int i = 0; i < n; i++)
+            Assert.assertTrue(d[i] == i + 1);
+        Arreglos.ordenaParalelo(new long[0]);
+        Arreglos.ordenaParalelo(new double[] { 1.0 });
+        try {
+            Arreglos.ordenaParalelo(a, alberca, 0);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        alberca.shutdown();
+    }
+
     /**
      * Prueba unitaria para {@link Arreglos#selectionSort(Comparable[])}.
      */
@@ -93,6 +404,103 @@ public class TestArreglos {
         Assert.assertTrue(estaOrdenado(arreglo));
     }
 
+    /**
+     * Prueba unitaria para {@link Arreglos#quickSort(int[])}, {@link
+     * Arreglos#quickSort(long[])} y {@link Arreglos#quickSort(double[])}.
+     */
+    @Test public void testQuickSortPrimitivos() {
+        int n = 10000 + random.nextInt(10000);
+        for (int patron = 0; patron < 4; patron++) {
+            int[] a = new int[n];
+            long[] b = new long[n];
+            double[] c = new double[n];
+            for (int i = 0; i < n; i++) {
+                switch (patron) {
+                case 0: a[i] = random.nextInt(); break;
+                case 1: a[i] = i; break;
+                case 2: a[i] = n - i; break;
+                default: a[i] = random.nextInt(4); break;
+                }
+                b[i] = (long)a[i] * a[i] - a[i];
+                c[i] = a[i] / 3.0;
+            }
+            c[0] = Double.NaN;
+            c[1] = -0.0;
+            c[2] = 0.0;
+            int[] a2 = a.clone();
+            long[] b2 = b.clone();
+            double[] c2 = c.clone();
+            Arrays.sort(a2);
+            Arrays.sort(b2);
+            Arrays.sort(c2);
+            Arreglos.quickSort(a);
+            Arreglos.quickSort(b);
+            Arreglos.quickSort(c);
+            Assert.assertTrue(Arrays.equals(a, a2));
+            Assert.assertTrue(Arrays.equals(b, b2));
+            Assert.assertTrue(Arrays.equals(c, c2));
+        }
+        Arreglos.quickSort(new int[0]);
+        Arreglos.quickSort(new long[] { 1L });
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#selectionSort(int[])}, {@link
+     * Arreglos#selectionSort(long[])} y {@link
+     * Arreglos#selectionSort(double[])}.
+     */
+    @Test public void testSelectionSortPrimitivos() {
+        int[] a = new int[total];
+        long[] b = new long[total];
+        double[] c = new double[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = random.nextInt(total) - total / 2;
+            b[i] = random.nextLong();
+            c[i] = random.nextGaussian();
+        }
+        c[0] = Double.NaN;
+        int[] a2 = a.clone();
+        long[] b2 = b.clone();
+        double[] c2 = c.clone();
+        Arrays.sort(a2);
+        Arrays.sort(b2);
+        Arrays.sort(c2);
+        Arreglos.selectionSort(a);
+        Arreglos.selectionSort(b);
+        Arreglos.selectionSort(c);
+        Assert.assertTrue(Arrays.equals(a, a2));
+        Assert.assertTrue(Arrays.equals(b, b2));
+        Assert.assertTrue(Arrays.equals(c, c2));
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#busquedaBinaria(int[],int)},
+     * {@link Arreglos#busquedaBinaria(long[],long)} y {@link
+     * Arreglos#busquedaBinaria(double[],double)}.
+     */
+    @Test public void testBusquedaBinariaPrimitivos() {
+        int ini = random.nextInt(total);
+        int[] a = new int[total];
+        long[] b = new long[total];
+        double[] c = new double[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = ini + 2 * i;
+            b[i] = (long)a[i] << 32;
+            c[i] = a[i] / 2.0;
+        }
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(Arreglos.busquedaBinaria(a, a[i]) == i);
+            Assert.assertTrue(Arreglos.busquedaBinaria(b, b[i]) == i);
+            Assert.assertTrue(Arreglos.busquedaBinaria(c, c[i]) == i);
+            Assert.assertTrue(Arreglos.busquedaBinaria(a, a[i] + 1) == -1);
+            Assert.assertTrue(Arreglos.busquedaBinaria(b, b[i] + 1) == -1);
+            Assert.assertTrue(Arreglos.busquedaBinaria(c, c[i] + 0.25) == -1);
+        }
+        Assert.assertTrue(Arreglos.busquedaBinaria(a, ini - 1) == -1);
+        Assert.assertTrue(Arreglos.busquedaBinaria(new int[0], 0) == -1);
+        Assert.assertTrue(Arreglos.busquedaBinaria(c, Double.NaN) == -1);
+    }
+
     /**
      * Prueba unitaria para {@link
      * Arreglos#busquedaBinaria(Comparable[],Comparable)}.
@@ -120,4 +528,164 @@ public class TestArreglos {
         Assert.assertTrue(Arreglos.busquedaBinaria(arreglo, ini - 1) == -1);
         Assert.assertTrue(Arreglos.busquedaBinaria(arreglo, ini + total) == -1);
     }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#eytzinger} y {@link
+     * Arreglos#busquedaEytzinger(Object[],Object,Comparator)}.
+     */
+    @Test public void testBusquedaEytzinger() {
+        int ini = random.nextInt(total);
+        for (int i = 0; i < total; i++)
+            arreglo[i] = ini + 2 * i;
+        Integer[] e = Arreglos.eytzinger(arreglo);
+        Assert.assertTrue(e.length == total);
+        for (int i = 0; i < total; i++) {
+            if (2 * i + 1 < total)
+                Assert.assertTrue(e[2 * i + 1] < e[i]);
+            if (2 * i + 2 < total)
+                Assert.assertTrue(e[2 * i + 2] > e[i]);
+        }
+        for (int i = 0; i < total; i++) {
+            int p = Arreglos.busquedaEytzinger(e, arreglo[i]);
+            Assert.assertTrue(p >= 0 && e[p].equals(arreglo[i]));
+            Comparator<Integer> c = Comparator.naturalOrder();
+            p = Arreglos.busquedaEytzinger(e, arreglo[i] + 1, c);
+            Assert.assertTrue(p == -1);
+        }
+        Assert.assertTrue(Arreglos.busquedaEytzinger(e, ini - 1) == -1);
+        Assert.assertTrue(Arreglos.busquedaEytzinger(new Integer[0], 0) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#busquedaBinariaLote(Comparable[],Comparable[],int[])}.
+     */
+    @Test public void testBusquedaBinariaLote() {
+        for (int i = 0; i < total; i++)
+            arreglo[i] = random.nextInt(total);
+        Arrays.sort(arreglo);
+        Integer[] claves = new Integer[3 * total];
+        for (int i = 0; i < claves.length; i++)
+            claves[i] = random.nextInt(total + 2) - 1;
+        int[] salida = new int[claves.length];
+        Arreglos.busquedaBinariaLote(arreglo, claves, salida);
+        for (int i = 0; i < claves.length; i++) {
+            int p = Arrays.asList(arreglo).indexOf(claves[i]);
+            Assert.assertTrue(salida[i] == p);
+        }
+        Arreglos.busquedaBinariaLote(new Integer[0], claves, salida);
+        for (int i = 0; i < claves.length; i++)
+            Assert.assertTrue(salida[i] == -1);
+        try {
+            Arreglos.busquedaBinariaLote(arreglo, claves, new int[1]);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#seleccion(Object[],int,Comparator)}.
+     */
+    @Test public void testSeleccion() {
+        for (int i = 0; i < total; i++)
+            arreglo[i] = random.nextInt(total / 2);
+        Integer[] ordenado = arreglo.clone();
+        Arrays.sort(ordenado);
+        for (int k = 0; k < total; k++) {
+            Integer[] a = arreglo.clone();
+            Integer e = Arreglos.seleccion(a, k, Comparator.reverseOrder());
+            Assert.assertTrue(e.equals(ordenado[total - 1 - k]));
+            Assert.assertTrue(a[k].equals(e));
+            for (int i = 0; i < k; i++)
+                Assert.assertTrue(a[i] >= e);
+            for (int i = k + 1; i < total; i++)
+                Assert.assertTrue(a[i] <= e);
+        }
+        Integer[] grande = new Integer[10000];
+        for (int i = 0; i < grande.length; i++)
+            grande[i] = i;
+        Assert.assertTrue(Arreglos.seleccion(grande, 1234) == 1234);
+        for (int i = 0; i < grande.length; i++)
+            grande[i] = grande.length - i;
+        Assert.assertTrue(Arreglos.seleccion(grande, 0) == 1);
+        try {
+            Arreglos.seleccion(arreglo, total);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            Arreglos.seleccion(arreglo, -1);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#ordenaParcial(Comparable[],int)}.
+     */
+    @Test public void testOrdenaParcial() {
+        for (int i = 0; i < total; i++)
+            arreglo[i] = random.nextInt(total);
+        Integer[] ordenado = arreglo.clone();
+        Arrays.sort(ordenado);
+        for (int k = 0; k <= total; k++) {
+            Integer[] a = arreglo.clone();
+            Arreglos.ordenaParcial(a, k);
+            for (int i = 0; i < k; i++)
+                Assert.assertTrue(a[i].equals(ordenado[i]));
+            Arrays.sort(a);
+            Assert.assertTrue(Arrays.equals(a, ordenado));
+        }
+        try {
+            Arreglos.ordenaParcial(arreglo, total + 1);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#cotaInferior(Comparable[],Comparable)} y {@link
+     * Arreglos#cotaSuperior(Comparable[],Comparable)}.
+     */
+    @Test public void testCotas() {
+        for (int i = 0; i < total; i++)
+            arreglo[i] = random.nextInt(total / 4);
+        Arrays.sort(arreglo);
+        for (int x = -1; x <= total / 4 + 1; x++) {
+            int inf = 0;
+            while (inf < total && arreglo[inf] < x)
+                inf++;
+            int sup = inf;
+            while (sup < total && arreglo[sup] <= x)
+                sup++;
+            Assert.assertTrue(Arreglos.cotaInferior(arreglo, x) == inf);
+            Assert.assertTrue(Arreglos.cotaSuperior(arreglo, x) == sup);
+        }
+        Assert.assertTrue(Arreglos.cotaInferior(new Integer[0], 0) == 0);
+        Assert.assertTrue(Arreglos.cotaSuperior(new Integer[0], 0) == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#rango(Object[],Object,Object,Comparator)}.
+     */
+    @Test public void testRango() {
+        for (int i = 0; i < total; i++)
+            arreglo[i] = random.nextInt(total);
+        Comparator<Integer> c = Comparator.reverseOrder();
+        Arrays.sort(arreglo, c);
+        for (int n = 0; n < total; n++) {
+            int hasta = random.nextInt(total + 2) - 1;
+            int desde = hasta + random.nextInt(total / 4);
+            int[] r = Arreglos.rango(arreglo, desde, hasta, c);
+            Assert.assertTrue(r.length == 2 && r[0] <= r[1]);
+            for (int i = 0; i < total; i++) {
+                boolean dentro = arreglo[i] <= desde && arreglo[i] >= hasta;
+                Assert.assertTrue(dentro == (r[0] <= i && i < r[1]));
+            }
+        }
+        int[] r = Arreglos.rango(arreglo, 0, total, c);
+        Assert.assertTrue(r[0] == r[1]);
+        r = Arreglos.rango(new Integer[0], 0, total);
+        Assert.assertTrue(r[0] == 0 && r[1] == 0);
+    }
 }
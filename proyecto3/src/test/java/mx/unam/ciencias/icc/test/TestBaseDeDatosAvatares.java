@@ -5,6 +5,7 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Iterator;
 import java.util.Random;
 import mx.unam.ciencias.icc.BaseDeDatos;
 import mx.unam.ciencias.icc.BaseDeDatosAvatares;
@@ -13,6 +14,10 @@ import mx.unam.ciencias.icc.Avatar;
 import mx.unam.ciencias.icc.EscuchaBaseDeDatos;
 import mx.unam.ciencias.icc.EventoBaseDeDatos;
 import mx.unam.ciencias.icc.Lista;
+import mx.unam.ciencias.icc.ListaDesenrollada;
+import mx.unam.ciencias.icc.ListaHash;
+import mx.unam.ciencias.icc.ListaPersistente;
+import mx.unam.ciencias.icc.Secuencia;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -55,6 +60,159 @@ public class TestBaseDeDatosAvatares {
         bdd.agregaEscucha((e, r1, r2) -> {});
     }
 
+    /**
+     * Prueba unitaria para {@link
+     * BaseDeDatosAvatares#BaseDeDatosAvatares(Secuencia)}.
+     */
+    @Test public void testConstructorSecuencia() {
+        try {
+            new BaseDeDatosAvatares(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        ListaDesenrollada<Avatar> registros = new ListaDesenrollada<Avatar>();
+        registros.agregaFinal(TestAvatar.avatarAleatorio());
+        try {
+            new BaseDeDatosAvatares(registros);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        registros.limpia();
+        bdd = new BaseDeDatosAvatares(registros);
+        Lista<Avatar> lista = new Lista<Avatar>();
+        for (int i = 0; i < total; i++) {
+            Avatar e = TestAvatar.avatarAleatorio(i);
+            bdd.agregaRegistro(e);
+            lista.agregaFinal(e);
+        }
+        Assert.assertTrue(bdd.getNumRegistros() == total);
+        Assert.assertTrue(registros.getLongitud() == total);
+        Assert.assertTrue(bdd.getRegistros().equals(lista));
+        Avatar e = lista.get(random.nextInt(total));
+        bdd.eliminaRegistro(e);
+        lista.elimina(e);
+        Assert.assertTrue(bdd.getRegistros().equals(lista));
+    }
+
+    /**
+     * Prueba unitaria para {@link BaseDeDatos#getInstantanea}.
+     */
+    @Test public void testGetInstantanea() {
+        bdd = new BaseDeDatosAvatares(new ListaPersistente<Avatar>());
+        Lista<Avatar> lista = new Lista<Avatar>();
+        for (int i = 0; i < total; i++) {
+            Avatar e = TestAvatar.avatarAleatorio(i);
+            bdd.agregaRegistro(e);
+            lista.agregaFinal(e);
+        }
+        Secuencia<Avatar> instantanea = bdd.getInstantanea();
+        Assert.assertTrue(instantanea.getLongitud() == total);
+        bdd.eliminaRegistro(lista.getPrimero());
+        bdd.agregaRegistro(TestAvatar.avatarAleatorio(total));
+        instantanea.eliminaUltimo();
+        Assert.assertTrue(bdd.getNumRegistros() == total);
+        Assert.assertTrue(instantanea.getLongitud() == total - 1);
+        int i = 0;
+        for (Avatar e : instantanea)
+            Assert.assertTrue(e == lista.get(i++));
+        Assert.assertTrue(bdd.getRegistros().get(0) == lista.get(1));
+    }
+
+    /**
+     * Prueba que {@link BaseDeDatos#modificaRegistro} no cambia una
+     * instantánea obtenida antes, con cualquier secuencia de respaldo.
+     */
+    @Test public void testGetInstantaneaModificaRegistro() {
+        Secuencia<Avatar>[] secuencias = nuevasSecuencias();
+        for (Secuencia<Avatar> secuencia : secuencias) {
+            bdd = new BaseDeDatosAvatares(secuencia);
+            Lista<Avatar> lista = new Lista<Avatar>();
+            for (int i = 0; i < total; i++) {
+                Avatar e = TestAvatar.avatarAleatorio(i);
+                bdd.agregaRegistro(e);
+                lista.agregaFinal(e);
+            }
+            Secuencia<Avatar> instantanea = bdd.getInstantanea();
+            int i = random.nextInt(total);
+            Avatar a = lista.get(i);
+            Avatar c = new Avatar(a.getNombre(), a.getMana(), a.getVida(),
+                                  a.getAtaque(), a.getDefensa());
+            Avatar b = new Avatar("B", -1, 2, 2, 2);
+            bdd.modificaRegistro(c, b);
+            Assert.assertTrue(a.equals(c));
+            Assert.assertTrue(instantanea.get(i) == a);
+            Assert.assertFalse(instantanea.contiene(b));
+            Lista<Avatar> registros = bdd.getRegistros();
+            Assert.assertTrue(registros.get(i).equals(b));
+            Assert.assertTrue(registros.get(i) != b);
+            Assert.assertFalse(registros.contiene(c));
+            Assert.assertTrue(registros.getLongitud() == total);
+            /* La copia ya no está en ninguna instantánea. */
+            Avatar copia = registros.get(i);
+            Avatar d = new Avatar("D", -1, 3, 3, 3);
+            bdd.modificaRegistro(new Avatar("B", -1, 2, 2, 2), d);
+            Assert.assertTrue(copia.equals(d));
+            Assert.assertTrue(bdd.getRegistros().get(i) == copia);
+            Assert.assertTrue(instantanea.get(i) == a);
+            /* Ni un registro agregado después de la instantánea. */
+            Avatar e = TestAvatar.avatarAleatorio(total);
+            bdd.agregaRegistro(e);
+            Avatar f = new Avatar("F", -1, 4, 4, 4);
+            bdd.modificaRegistro(new Avatar(e.getNombre(), e.getMana(),
+                                            e.getVida(), e.getAtaque(),
+                                            e.getDefensa()), f);
+            Assert.assertTrue(e.equals(f));
+            Assert.assertTrue(bdd.getRegistros().getUltimo() == e);
+            /* Una nueva instantánea sí ve a la copia. */
+            Secuencia<Avatar> otra = bdd.getInstantanea();
+            bdd.modificaRegistro(new Avatar("D", -1, 3, 3, 3), b);
+            Assert.assertTrue(copia.equals(d));
+            Assert.assertTrue(otra.get(i) == copia);
+            Assert.assertTrue(bdd.getRegistros().get(i).equals(b));
+            Assert.assertTrue(bdd.getRegistros().get(i) != copia);
+            Assert.assertTrue(instantanea.get(i) == a);
+        }
+    }
+
+    /* Regresa una secuencia vacía de cada tipo que puede respaldar a una
+     * base de datos. */
+    @SuppressWarnings("unchecked")
+    private Secuencia<Avatar>[] nuevasSecuencias() {
+        return (Secuencia<Avatar>[])new Secuencia[] {
+            new Lista<Avatar>(), new ListaDesenrollada<Avatar>(),
+            new ListaHash<Avatar>(), new ListaPersistente<Avatar>()
+        };
+    }
+
+    /**
+     * Prueba que una base de datos respaldada por una {@link ListaHash}
+     * elimina y modifica registros correctamente.
+     */
+    @Test public void testListaHash() {
+        bdd = new BaseDeDatosAvatares(new ListaHash<Avatar>());
+        Lista<Avatar> lista = new Lista<Avatar>();
+        for (int i = 0; i < total; i++) {
+            Avatar e = TestAvatar.avatarAleatorio(i);
+            bdd.agregaRegistro(e);
+            lista.agregaFinal(e);
+        }
+        Avatar a = lista.get(random.nextInt(total));
+        Avatar b = new Avatar("B", -2, 2, 2, 2);
+        Avatar c = new Avatar(a.getNombre(), a.getMana(), a.getVida(),
+                              a.getAtaque(), a.getDefensa());
+        bdd.modificaRegistro(c, b);
+        Assert.assertTrue(a.equals(b));
+        Assert.assertTrue(bdd.getRegistros().contiene(b));
+        Assert.assertTrue(bdd.getRegistros().indiceDe(b) == lista.indiceDe(a));
+        bdd.eliminaRegistro(new Avatar("B", -2, 2, 2, 2));
+        lista.elimina(a);
+        Assert.assertTrue(bdd.getRegistros().equals(lista));
+        while (!lista.esVacia()) {
+            Avatar e = lista.get(random.nextInt(lista.getLongitud()));
+            bdd.eliminaRegistro(e);
+            lista.elimina(e);
+            Assert.assertTrue(bdd.getNumRegistros() == lista.getLongitud());
+        }
+    }
+
     /**
      * Prueba unitaria para {@link BaseDeDatos#getNumRegistros}.
      */
@@ -152,6 +310,40 @@ public class TestBaseDeDatosAvatares {
         Assert.assertTrue(llamado[0]);
     }
 
+    /**
+     * Prueba unitaria para {@link BaseDeDatos#eliminaRegistros}.
+     */
+    @Test public void testEliminaRegistros() {
+        Lista<Avatar> conservados = new Lista<Avatar>();
+        for (int i = 0; i < total; i++) {
+            Avatar e = TestAvatar.avatarAleatorio(i);
+            bdd.agregaRegistro(e);
+            if (i < total / 2)
+                conservados.agregaFinal(e);
+        }
+        int[] llamadas = { 0 };
+        bdd.agregaEscucha((e, r1, r2) -> {
+                Assert.assertTrue(e == EventoBaseDeDatos.REGISTRO_ELIMINADO);
+                Assert.assertTrue(r1.getMana() >= total / 2);
+                Assert.assertTrue(r2 == null);
+                llamadas[0]++;
+            });
+        Lista<Avatar> eliminados =
+            bdd.eliminaRegistros(CampoAvatar.MANA, total / 2);
+        Assert.assertTrue(eliminados.getLongitud() == total - total / 2);
+        Assert.assertTrue(llamadas[0] == eliminados.getLongitud());
+        Assert.assertTrue(bdd.getRegistros().equals(conservados));
+        for (Avatar e : eliminados)
+            Assert.assertTrue(e.getMana() >= total / 2);
+        Assert.assertTrue(bdd.eliminaRegistros(CampoAvatar.MANA, total)
+                          .esVacia());
+        Assert.assertTrue(llamadas[0] == eliminados.getLongitud());
+        try {
+            bdd.eliminaRegistros(null, 0);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
     /**
      * Prueba unitaria para {@link BaseDeDatos#modificaRegistro}.
      */
@@ -492,6 +684,30 @@ public class TestBaseDeDatosAvatares {
         } catch (IllegalArgumentException iae) {}
     }
 
+    /**
+     * Prueba unitaria para {@link BaseDeDatos#buscaRegistros} con suficientes
+     * registros para que la búsqueda se haga en paralelo.
+     */
+    @Test public void testBuscaRegistrosParalelo() {
+        int n = 20000 + random.nextInt(10000);
+        for (int i = 0; i < n; i++)
+            bdd.agregaRegistro(TestAvatar.avatarAleatorio(random.nextInt(n)));
+        int mana = random.nextInt(n);
+        Lista<Avatar> esperados = new Lista<Avatar>();
+        for (Avatar a : bdd.getRegistros())
+            if (a.getMana() >= mana)
+                esperados.agregaFinal(a);
+        Lista<Avatar> l = bdd.buscaRegistros(CampoAvatar.MANA, mana);
+        Assert.assertTrue(l.getLongitud() == esperados.getLongitud());
+        Iterator<Avatar> i = l.iterator();
+        for (Avatar a : esperados)
+            Assert.assertTrue(i.next() == a);
+        try {
+            bdd.buscaRegistros(null, null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
     /**
      * Prueba unitaria para {@link BaseDeDatos#agregaEscucha}.
      */
@@ -0,0 +1,165 @@
+package mx.unam.ciencias.icc.test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.icc.Cola;
+import mx.unam.ciencias.icc.Lista;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link Cola}.
+ */
+public class TestCola {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La cola. */
+    private Cola<Integer> cola;
+
+    /* Valida la cola contra una lista de referencia. */
+    private void validaCola(Cola<Integer> cola, Lista<Integer> referencia) {
+        Assert.assertTrue(cola.getLongitud() == referencia.getLongitud());
+        Assert.assertTrue(cola.esVacia() == referencia.esVacia());
+        Iterator<Integer> i = cola.iterator();
+        for (Integer e : referencia)
+            Assert.assertTrue(i.next().equals(e));
+        Assert.assertFalse(i.hasNext());
+        Assert.assertTrue(cola.toString().equals(referencia.toString()));
+    }
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número total
+     * de elementos que obliga a la cola a crecer varias veces, y una cola.
+     */
+    public TestCola() {
+        random = new Random();
+        total = 100 + random.nextInt(900);
+        cola = new Cola<Integer>();
+    }
+
+    /**
+     * Prueba unitaria para {@link Cola#Cola}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(cola.esVacia());
+        Assert.assertTrue(cola.getLongitud() == 0);
+        Assert.assertTrue(cola.toString().equals("[]"));
+        Assert.assertTrue(new Cola<Integer>(total).esVacia());
+        try {
+            new Cola<Integer>(-1);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Cola#mete}, {@link Cola#saca} y {@link
+     * Cola#mira}.
+     */
+    @Test public void testMeteSaca() {
+        try {
+            cola.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            cola.mira();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            cola.mete(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            if (referencia.esVacia() || random.nextInt(3) > 0) {
+                int n = random.nextInt(total);
+                cola.mete(n);
+                referencia.agregaFinal(n);
+            } else {
+                Assert.assertTrue(cola.mira().equals(referencia.getPrimero()));
+                Assert.assertTrue(cola.saca().equals(
+                                      referencia.eliminaPrimero()));
+            }
+            validaCola(cola, referencia);
+        }
+        while (!referencia.esVacia())
+            Assert.assertTrue(cola.saca().equals(referencia.eliminaPrimero()));
+        Assert.assertTrue(cola.esVacia());
+    }
+
+    /**
+     * Prueba que la cola funcione como cola doble, agregando y eliminando en
+     * ambos extremos.
+     */
+    @Test public void testColaDoble() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < 4 * total; i++) {
+            int n = random.nextInt(total);
+            switch (random.nextInt(4)) {
+            case 0:
+                cola.agregaFinal(n);
+                referencia.agregaFinal(n);
+                break;
+            case 1:
+                cola.agregaInicio(n);
+                referencia.agregaInicio(n);
+                break;
+            case 2:
+                if (referencia.esVacia())
+                    break;
+                Assert.assertTrue(cola.getPrimero().equals(
+                                      referencia.getPrimero()));
+                Assert.assertTrue(cola.eliminaPrimero().equals(
+                                      referencia.eliminaPrimero()));
+                break;
+            default:
+                if (referencia.esVacia())
+                    break;
+                Assert.assertTrue(cola.getUltimo().equals(
+                                      referencia.getUltimo()));
+                Assert.assertTrue(cola.eliminaUltimo().equals(
+                                      referencia.eliminaUltimo()));
+                break;
+            }
+        }
+        validaCola(cola, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link Cola#limpia}.
+     */
+    @Test public void testLimpia() {
+        for (int i = 0; i < total; i++)
+            cola.mete(i);
+        cola.limpia();
+        validaCola(cola, new Lista<Integer>());
+        cola.mete(total);
+        Assert.assertTrue(cola.saca() == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link Cola#equals}.
+     */
+    @Test public void testEquals() {
+        Cola<Integer> otra = new Cola<Integer>();
+        Assert.assertTrue(cola.equals(otra));
+        for (int i = 0; i < total; i++) {
+            cola.mete(i);
+            otra.agregaFinal(i);
+        }
+        Assert.assertTrue(cola.equals(otra));
+        otra.eliminaPrimero();
+        otra.agregaInicio(-1);
+        Assert.assertFalse(cola.equals(otra));
+        Assert.assertFalse(cola.equals(null));
+        Assert.assertFalse(cola.equals(cola.toString()));
+    }
+}
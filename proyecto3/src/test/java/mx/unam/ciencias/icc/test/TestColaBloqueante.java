@@ -0,0 +1,169 @@
+package mx.unam.ciencias.icc.test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import mx.unam.ciencias.icc.ColaBloqueante;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ColaBloqueante}.
+ */
+public class TestColaBloqueante {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Capacidad de la cola. */
+    private int capacidad;
+    /* La cola. */
+    private ColaBloqueante<Integer> cola;
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, una capacidad
+     * y una cola.
+     */
+    public TestColaBloqueante() {
+        random = new Random();
+        capacidad = 1 + random.nextInt(32);
+        cola = new ColaBloqueante<Integer>(capacidad);
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaBloqueante#ColaBloqueante}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(cola.esVacia());
+        Assert.assertTrue(cola.getLongitud() == 0);
+        Assert.assertTrue(cola.getCapacidad() == capacidad);
+        try {
+            new ColaBloqueante<Integer>(0);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaBloqueante#mete} y {@link
+     * ColaBloqueante#saca} en un solo hilo.
+     */
+    @Test public void testMeteSaca() throws InterruptedException {
+        try {
+            cola.mete(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        for (int i = 0; i < capacidad; i++)
+            cola.mete(i);
+        Assert.assertTrue(cola.getLongitud() == capacidad);
+        Assert.assertFalse(cola.mete(-1, 10, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < capacidad; i++)
+            Assert.assertTrue(cola.saca() == i);
+        Assert.assertTrue(cola.esVacia());
+        Assert.assertTrue(cola.saca(10, TimeUnit.MILLISECONDS) == null);
+        Assert.assertTrue(cola.mete(capacidad, 10, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(cola.saca(10, TimeUnit.MILLISECONDS) == capacidad);
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaBloqueante#intentaMete}.
+     */
+    @Test public void testIntentaMete() throws InterruptedException {
+        try {
+            cola.intentaMete(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        for (int i = 0; i < capacidad; i++)
+            Assert.assertTrue(cola.intentaMete(i));
+        Assert.assertFalse(cola.intentaMete(-1));
+        Assert.assertTrue(cola.getLongitud() == capacidad);
+        Assert.assertTrue(cola.saca() == 0);
+        Assert.assertTrue(cola.intentaMete(capacidad));
+        for (int i = 1; i <= capacidad; i++)
+            Assert.assertTrue(cola.saca() == i);
+        Assert.assertTrue(cola.esVacia());
+    }
+
+    /**
+     * Prueba que un productor y un consumidor en hilos distintos pasen todos
+     * los elementos en orden, aunque la cola se llene.
+     */
+    @Test public void testProductorConsumidor() throws InterruptedException {
+        int total = 1000 + random.nextInt(1000);
+        Thread productor = new Thread(() -> {
+                try {
+                    for (int i = 0; i < total; i++)
+                        cola.mete(i);
+                } catch (InterruptedException ie) {}
+        });
+        productor.start();
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(cola.getLongitud() <= capacidad);
+            Assert.assertTrue(cola.saca() == i);
+        }
+        productor.join();
+        Assert.assertTrue(cola.esVacia());
+    }
+
+    /**
+     * Prueba que varios productores y consumidores no pierdan ni repitan
+     * elementos.
+     */
+    @Test public void testVariosHilos() throws InterruptedException {
+        int hilos = 2 + random.nextInt(3);
+        int total = 500 + random.nextInt(500);
+        boolean[] vistos = new boolean[hilos * total];
+        Thread[] productores = new Thread[hilos];
+        Thread[] consumidores = new Thread[hilos];
+        for (int h = 0; h < hilos; h++) {
+            int base = h * total;
+            productores[h] = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < total; i++)
+                            cola.mete(base + i);
+                    } catch (InterruptedException ie) {}
+            });
+            consumidores[h] = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < total; i++) {
+                            int n = cola.saca();
+                            synchronized (vistos) {
+                                Assert.assertFalse(vistos[n]);
+                                vistos[n] = true;
+                            }
+                        }
+                    } catch (InterruptedException ie) {}
+            });
+            productores[h].start();
+            consumidores[h].start();
+        }
+        for (int h = 0; h < hilos; h++) {
+            productores[h].join();
+            consumidores[h].join();
+        }
+        for (boolean visto : vistos)
+            Assert.assertTrue(visto);
+        Assert.assertTrue(cola.esVacia());
+    }
+
+    /**
+     * Prueba que un hilo esperando en {@link ColaBloqueante#saca} pueda ser
+     * interrumpido.
+     */
+    @Test public void testInterrupcion() throws InterruptedException {
+        boolean[] interrumpido = { false };
+        Thread consumidor = new Thread(() -> {
+                try {
+                    cola.saca();
+                } catch (InterruptedException ie) {
+                    interrumpido[0] = true;
+                }
+        });
+        consumidor.start();
+        consumidor.interrupt();
+        consumidor.join();
+        Assert.assertTrue(interrumpido[0]);
+    }
+}
@@ -1,8 +1,10 @@
 package mx.unam.ciencias.icc.test;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Spliterator;
 import mx.unam.ciencias.icc.ExcepcionIndiceInvalido;
 import mx.unam.ciencias.icc.IteradorLista;
 import mx.unam.ciencias.icc.Lista;
@@ -544,6 +546,26 @@ public class TestLista {
         } catch (ExcepcionIndiceInvalido eii) {}
     }
 
+    /**
+     * Prueba unitaria para {@link Lista#get} y {@link Lista#inserta} con listas
+     * grandes.
+     */
+    @Test public void testGetInsertaListaGrande() {
+        int n = 200000 + random.nextInt(100000);
+        for (int i = 0; i < n; i++)
+            lista.agregaFinal(str(i));
+        for (int i = 0; i < 10; i++) {
+            int m = random.nextInt(n);
+            Assert.assertTrue(lista.get(m).equals(str(m)));
+        }
+        lista.inserta(n / 2, "x");
+        Assert.assertTrue(lista.get(n / 2).equals("x"));
+        Assert.assertTrue(lista.get(n / 2 + 1).equals(str(n / 2)));
+        lista.inserta(n / 4, "y");
+        Assert.assertTrue(lista.get(n / 4).equals("y"));
+        Assert.assertTrue(lista.get(n / 4 - 1).equals(str(n / 4 - 1)));
+    }
+
     /**
      * Prueba unitaria para {@link Lista#indiceDe}.
      */
@@ -763,6 +785,142 @@ public class TestLista {
         }
     }
 
+    /**
+     * Prueba unitaria para {@link Lista#ordena(Comparator)}.
+     */
+    @Test public void testOrdena() {
+        lista.ordena((a, b) -> a.compareTo(b));
+        Assert.assertTrue(lista.esVacia());
+        Lista<String> copia = new Lista<String>();
+        for (int i = 0; i < total; i++) {
+            String e = str(random.nextInt(total));
+            lista.agregaFinal(e);
+            copia.agregaFinal(e);
+        }
+        lista.ordena((a, b) -> a.compareTo(b));
+        Assert.assertTrue(lista.getLongitud() == copia.getLongitud());
+        for (String e : copia)
+            Assert.assertTrue(lista.contiene(e));
+        String a = lista.getPrimero();
+        for (String e : lista) {
+            Assert.assertTrue(a.compareTo(e) <= 0);
+            a = e;
+        }
+        validaLista(lista);
+        Assert.assertTrue(lista.equals(copia.mergeSort((x, y) -> x.compareTo(y))));
+        /* Prueba estabilidad. */
+        total = 100 + total * 10;
+        int m = 7 + random.nextInt(20);
+        Lista<Par> pares = new Lista<Par>();
+        for (int i = 0; i < total; i++) {
+            int v = ((i % m) == 0) ? m : random.nextInt(total);
+            pares.agregaFinal(new Par(v, i));
+        }
+        pares.ordena((x, y) -> x.compareTo(y));
+        Assert.assertTrue(pares.getLongitud() == total);
+        Par u = null;
+        for (Par par : pares) {
+            if (u != null) {
+                Assert.assertTrue(u.getValor() <= par.getValor());
+                if (u.getValor() == par.getValor())
+                    Assert.assertTrue(u.getEtiqueta() < par.getEtiqueta());
+            }
+            u = par;
+        }
+        Assert.assertTrue(pares.getUltimo() == u);
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#spliterator}.
+     */
+    @Test public void testSpliterator() {
+        Assert.assertTrue(lista.spliterator().trySplit() == null);
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(str(i));
+        Spliterator<String> s = lista.spliterator();
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.SUBSIZED));
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.ORDERED));
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.NONNULL));
+        Assert.assertTrue(s.getExactSizeIfKnown() == total);
+        Spliterator<String> p = s.trySplit();
+        Assert.assertTrue(p.estimateSize() == total / 2);
+        Assert.assertTrue(s.estimateSize() == total - total / 2);
+        int[] c = { 0 };
+        while (p.tryAdvance(e -> Assert.assertTrue(e.equals(str(c[0]++)))));
+        s.forEachRemaining(e -> Assert.assertTrue(e.equals(str(c[0]++))));
+        Assert.assertTrue(c[0] == total);
+        Assert.assertFalse(s.tryAdvance(e -> Assert.fail()));
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#stream}, {@link Lista#parallelStream}
+     * y {@link Lista#colector}.
+     */
+    @Test public void testStream() {
+        total *= 100;
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(str(random.nextInt(total)));
+        Assert.assertTrue(lista.stream().count() == total);
+        Lista<String> copia = lista.parallelStream().collect(Lista.colector());
+        Assert.assertTrue(copia.equals(lista));
+        validaLista(copia);
+        Lista<String> pares = new Lista<String>();
+        for (String e : lista)
+            if (Integer.parseInt(e) % 2 == 0)
+                pares.agregaFinal(e + "!");
+        Lista<String> l = lista.parallelStream()
+            .filter(e -> Integer.parseInt(e) % 2 == 0)
+            .map(e -> e + "!")
+            .collect(Lista.colector());
+        Assert.assertTrue(l.equals(pares));
+        validaLista(l);
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#ordenaParalelo(Comparator,int)} y
+     * {@link Lista#mergeSortParalelo(Comparator,int)}.
+     */
+    @Test public void testOrdenaParalelo() {
+        try {
+            lista.ordenaParalelo((a, b) -> a.compareTo(b), 0);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        lista.ordenaParalelo((a, b) -> a.compareTo(b), 1);
+        Assert.assertTrue(lista.esVacia());
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(str(random.nextInt(total)));
+        Lista<String> ordenada = lista.mergeSort((a, b) -> a.compareTo(b));
+        int umbral = 1 + random.nextInt(total / 4 + 1);
+        Lista<String> paralela =
+            lista.mergeSortParalelo((a, b) -> a.compareTo(b), umbral);
+        Assert.assertTrue(paralela.equals(ordenada));
+        Assert.assertFalse(paralela == lista);
+        lista.ordenaParalelo((a, b) -> a.compareTo(b), umbral);
+        Assert.assertTrue(lista.equals(ordenada));
+        validaLista(lista);
+        /* Prueba estabilidad. */
+        total = 100 + total * 10;
+        int m = 7 + random.nextInt(20);
+        Lista<Par> pares = new Lista<Par>();
+        for (int i = 0; i < total; i++) {
+            int v = ((i % m) == 0) ? m : random.nextInt(total);
+            pares.agregaFinal(new Par(v, i));
+        }
+        pares.ordenaParalelo((x, y) -> x.compareTo(y), 1 + random.nextInt(64));
+        Assert.assertTrue(pares.getLongitud() == total);
+        Par u = null;
+        for (Par par : pares) {
+            if (u != null) {
+                Assert.assertTrue(u.getValor() <= par.getValor());
+                if (u.getValor() == par.getValor())
+                    Assert.assertTrue(u.getEtiqueta() < par.getEtiqueta());
+            }
+            u = par;
+        }
+        Assert.assertTrue(pares.getUltimo() == u);
+    }
+
     /**
      * Prueba unitaria para {@link Lista#mergeSort(Lista)}.
      */
@@ -830,4 +988,453 @@ public class TestLista {
         String o = " ";
         Assert.assertFalse(Lista.busquedaLineal(lista, o));
     }
+
+    /**
+     * Prueba unitaria para {@link Lista#agregaFinalPosicion}, {@link
+     * Lista#agregaInicioPosicion}, {@link Lista#insertaAntes} y {@link
+     * Lista#insertaDespues}.
+     */
+    @Test public void testPosiciones() {
+        Lista<Lista.Posicion<String>> posiciones =
+            new Lista<Lista.Posicion<String>>();
+        for (int i = 0; i < total; i++) {
+            String s = str(i);
+            Lista.Posicion<String> p = random.nextBoolean() ?
+                lista.agregaFinalPosicion(s) :
+                lista.agregaInicioPosicion(s);
+            Assert.assertTrue(p.getElemento().equals(s));
+            posiciones.agregaFinal(p);
+        }
+        Lista.Posicion<String> p = posiciones.get(random.nextInt(total));
+        int i = lista.indiceDe(p.getElemento());
+        Lista.Posicion<String> antes = lista.insertaAntes(p, "a");
+        Lista.Posicion<String> despues = lista.insertaDespues(p, "d");
+        Assert.assertTrue(lista.getLongitud() == total + 2);
+        Assert.assertTrue(lista.get(i).equals("a"));
+        Assert.assertTrue(lista.get(i + 1).equals(p.getElemento()));
+        Assert.assertTrue(lista.get(i + 2).equals("d"));
+        Assert.assertTrue(antes.getElemento().equals("a"));
+        Assert.assertTrue(despues.getElemento().equals("d"));
+        Assert.assertTrue(lista.insertaAntes(lista.agregaInicioPosicion("x"),
+                                             "y").getElemento().equals("y"));
+        Assert.assertTrue(lista.getPrimero().equals("y"));
+        lista.insertaDespues(lista.agregaFinalPosicion("x"), "z");
+        Assert.assertTrue(lista.getUltimo().equals("z"));
+        try {
+            lista.insertaAntes(p, null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            lista.insertaDespues(null, "a");
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#eliminaPosicion} y {@link
+     * Lista#reemplaza}.
+     */
+    @Test public void testEliminaReemplazaPosicion() {
+        Lista<Lista.Posicion<String>> posiciones =
+            new Lista<Lista.Posicion<String>>();
+        Lista<String> referencia = new Lista<String>();
+        for (int i = 0; i < total; i++) {
+            posiciones.agregaFinal(lista.agregaFinalPosicion(str(i)));
+            referencia.agregaFinal(str(i));
+        }
+        lista.ordena((a, b) -> b.compareTo(a));
+        for (Lista.Posicion<String> p : posiciones)
+            Assert.assertTrue(lista.contiene(p.getElemento()));
+        lista.ordena((a, b) -> a.compareTo(b));
+        referencia.ordena((a, b) -> a.compareTo(b));
+        while (!posiciones.esVacia()) {
+            Lista.Posicion<String> p = posiciones.eliminaPrimero();
+            if (random.nextBoolean()) {
+                String s = p.getElemento();
+                String r = s + "r";
+                Assert.assertTrue(lista.reemplaza(p, r).equals(s));
+                Assert.assertTrue(p.getElemento().equals(r));
+                referencia.inserta(referencia.indiceDe(s), r);
+                referencia.elimina(s);
+                s = r;
+            }
+            String s = p.getElemento();
+            Assert.assertTrue(lista.eliminaPosicion(p).equals(s));
+            referencia.elimina(s);
+            Assert.assertTrue(p.getElemento() == null);
+            Assert.assertTrue(lista.equals(referencia));
+            try {
+                lista.eliminaPosicion(p);
+                Assert.fail();
+            } catch (IllegalArgumentException iae) {}
+            try {
+                lista.reemplaza(p, "a");
+                Assert.fail();
+            } catch (IllegalArgumentException iae) {}
+        }
+        Assert.assertTrue(lista.esVacia());
+        Lista.Posicion<String> p = lista.agregaFinalPosicion("a");
+        Lista<String> otra = new Lista<String>();
+        try {
+            otra.eliminaPosicion(p);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        lista.limpia();
+        try {
+            lista.reemplaza(p, "b");
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#concatena}.
+     */
+    @Test public void testConcatena() {
+        Lista<String> otra = new Lista<String>();
+        Lista<String> referencia = new Lista<String>();
+        int n = random.nextInt(total);
+        for (int i = 0; i < total; i++) {
+            String s = str(i);
+            referencia.agregaFinal(s);
+            if (i < n)
+                lista.agregaFinal(s);
+            else
+                otra.agregaFinal(s);
+        }
+        Lista.Posicion<String> p = otra.agregaInicioPosicion("p");
+        referencia.inserta(n, "p");
+        lista.concatena(otra);
+        Assert.assertTrue(otra.esVacia());
+        Assert.assertTrue(otra.getLongitud() == 0);
+        validaLista(lista);
+        validaLista(otra);
+        Assert.assertTrue(lista.equals(referencia));
+        Assert.assertTrue(lista.reemplaza(p, "q").equals("p"));
+        Assert.assertTrue(lista.get(n).equals("q"));
+        try {
+            otra.eliminaPosicion(p);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        otra.agregaFinal("a");
+        otra.concatena(lista);
+        Assert.assertTrue(otra.getLongitud() == total + 2);
+        Assert.assertTrue(otra.getPrimero().equals("a"));
+        Assert.assertTrue(otra.eliminaPosicion(p).equals("q"));
+        lista.concatena(new Lista<String>());
+        Assert.assertTrue(lista.esVacia());
+        try {
+            lista.concatena(lista);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            lista.concatena(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#divide}.
+     */
+    @Test public void testDivide() {
+        Lista<Lista.Posicion<String>> posiciones =
+            new Lista<Lista.Posicion<String>>();
+        for (int i = 0; i < total; i++)
+            posiciones.agregaFinal(lista.agregaFinalPosicion(str(i)));
+        int n = random.nextInt(total + 1);
+        Lista<String> resto = lista.divide(n);
+        validaLista(lista);
+        validaLista(resto);
+        Assert.assertTrue(lista.getLongitud() == n);
+        Assert.assertTrue(resto.getLongitud() == total - n);
+        for (int i = 0; i < total; i++) {
+            Lista.Posicion<String> p = posiciones.get(i);
+            Assert.assertTrue(p.getElemento().equals(str(i)));
+            if (i < n) {
+                Assert.assertTrue(lista.get(i).equals(str(i)));
+                Assert.assertTrue(lista.reemplaza(p, str(i)).equals(str(i)));
+                try {
+                    resto.reemplaza(p, str(i));
+                    Assert.fail();
+                } catch (IllegalArgumentException iae) {}
+            } else {
+                Assert.assertTrue(resto.get(i - n).equals(str(i)));
+                Assert.assertTrue(resto.reemplaza(p, str(i)).equals(str(i)));
+                try {
+                    lista.reemplaza(p, str(i));
+                    Assert.fail();
+                } catch (IllegalArgumentException iae) {}
+            }
+        }
+        lista.concatena(resto);
+        Assert.assertTrue(lista.getLongitud() == total);
+        for (Lista.Posicion<String> p : posiciones)
+            lista.reemplaza(p, p.getElemento());
+        Assert.assertTrue(lista.divide(0).getLongitud() == total);
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertTrue(lista.divide(0).esVacia());
+        try {
+            lista.divide(1);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        try {
+            lista.divide(-1);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#eliminaSi}.
+     */
+    @Test public void testEliminaSi() {
+        Lista<String> referencia = new Lista<String>();
+        for (int i = 0; i < total; i++) {
+            String s = str(random.nextInt(total));
+            lista.agregaFinal(s);
+            if (Integer.parseInt(s) % 3 != 0)
+                referencia.agregaFinal(s);
+        }
+        int n = lista.eliminaSi(s -> Integer.parseInt(s) % 3 == 0);
+        Assert.assertTrue(n == total - referencia.getLongitud());
+        validaLista(lista);
+        Assert.assertTrue(lista.equals(referencia));
+        Assert.assertTrue(lista.eliminaSi(s -> false) == 0);
+        Assert.assertTrue(lista.eliminaSi(s -> true) ==
+                          referencia.getLongitud());
+        Assert.assertTrue(lista.esVacia());
+        validaLista(lista);
+        try {
+            lista.eliminaSi(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link IteradorLista#elimina}.
+     */
+    @Test public void testIteradorElimina() {
+        Lista<String> referencia = new Lista<String>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(str(i));
+            if (i % 2 == 1)
+                referencia.agregaFinal(str(i));
+        }
+        IteradorLista<String> iterador = lista.iteradorLista();
+        try {
+            iterador.elimina();
+            Assert.fail();
+        } catch (IllegalStateException ise) {}
+        for (int i = 0; iterador.hasNext(); i++) {
+            iterador.next();
+            if (i % 2 == 0)
+                iterador.elimina();
+        }
+        validaLista(lista);
+        Assert.assertTrue(lista.equals(referencia));
+        iterador.end();
+        while (iterador.hasPrevious()) {
+            iterador.previous();
+            iterador.elimina();
+            try {
+                iterador.elimina();
+                Assert.fail();
+            } catch (IllegalStateException ise) {}
+        }
+        Assert.assertTrue(lista.esVacia());
+        validaLista(lista);
+        lista.agregaFinal("a");
+        lista.agregaFinal("b");
+        Iterator<String> i = lista.iterator();
+        i.next();
+        i.remove();
+        Assert.assertTrue(lista.getLongitud() == 1);
+        Assert.assertTrue(i.next().equals("b"));
+    }
+
+    /**
+     * Prueba unitaria para {@link IteradorLista#reemplaza}.
+     */
+    @Test public void testIteradorReemplaza() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(str(i));
+        IteradorLista<String> iterador = lista.iteradorLista();
+        try {
+            iterador.reemplaza("a");
+            Assert.fail();
+        } catch (IllegalStateException ise) {}
+        while (iterador.hasNext())
+            iterador.reemplaza(iterador.next() + "a");
+        iterador.previous();
+        try {
+            iterador.reemplaza(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        iterador.reemplaza("z");
+        validaLista(lista);
+        for (int i = 0; i < total - 1; i++)
+            Assert.assertTrue(lista.get(i).equals(str(i) + "a"));
+        Assert.assertTrue(lista.getUltimo().equals("z"));
+    }
+
+    /**
+     * Prueba unitaria para {@link IteradorLista#inserta}.
+     */
+    @Test public void testIteradorInserta() {
+        Lista<String> referencia = new Lista<String>();
+        IteradorLista<String> iterador = lista.iteradorLista();
+        iterador.inserta("a");
+        Assert.assertFalse(iterador.hasNext());
+        Assert.assertTrue(iterador.previous().equals("a"));
+        referencia.agregaFinal("a");
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(str(i));
+            referencia.agregaFinal(str(i));
+            referencia.agregaFinal(str(i) + "i");
+        }
+        iterador = lista.iteradorLista();
+        iterador.next();
+        while (iterador.hasNext()) {
+            String s = iterador.next();
+            iterador.inserta(s + "i");
+            try {
+                iterador.elimina();
+                Assert.fail();
+            } catch (IllegalStateException ise) {}
+            Assert.assertTrue(iterador.previous().equals(s + "i"));
+            iterador.next();
+        }
+        iterador.inserta("z");
+        referencia.agregaFinal("z");
+        validaLista(lista);
+        Assert.assertTrue(lista.equals(referencia));
+        try {
+            iterador.inserta(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba que los iteradores detectan modificaciones a la lista hechas sin
+     * ellos.
+     */
+    @Test public void testIteradorModificacionConcurrente() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(str(i));
+        try {
+            for (String s : lista)
+                lista.elimina(s);
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        IteradorLista<String> iterador = lista.iteradorLista();
+        iterador.next();
+        lista.agregaInicio("a");
+        try {
+            iterador.next();
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        try {
+            iterador.elimina();
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        iterador.start();
+        Assert.assertTrue(iterador.next().equals("a"));
+        IteradorLista<String> otro = lista.iteradorLista();
+        otro.next();
+        iterador.elimina();
+        try {
+            otro.previous();
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        iterador.next();
+        lista.ordena((a, b) -> a.compareTo(b));
+        try {
+            iterador.next();
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        iterador.end();
+        lista.reemplaza(lista.agregaFinalPosicion("b"), "c");
+        iterador.end();
+        Assert.assertTrue(iterador.previous().equals("c"));
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#mezclaK(Lista,java.util.Comparator)}.
+     */
+    @Test public void testMezclaK() {
+        int k = 1 + random.nextInt(10);
+        Lista<Lista<Par>> listas = new Lista<Lista<Par>>();
+        Lista<Par> todos = new Lista<Par>();
+        for (int i = 0; i < k; i++) {
+            Lista<Par> l = new Lista<Par>();
+            int n = random.nextInt(total);
+            for (int j = 0; j < n; j++)
+                l.agregaFinal(new Par(random.nextInt(total / 4 + 1), i));
+            l.ordena((a, b) -> a.compareTo(b));
+            todos.concatena(l.copia());
+            listas.agregaFinal(l);
+        }
+        listas.agregaFinal(new Lista<Par>());
+        Lista<Par> mezcla = Lista.mezclaK(listas, (a, b) -> a.compareTo(b));
+        Assert.assertTrue(mezcla.getLongitud() == todos.getLongitud());
+        Par anterior = null;
+        for (Par p : mezcla) {
+            if (anterior != null) {
+                Assert.assertTrue(anterior.getValor() <= p.getValor());
+                if (anterior.getValor() == p.getValor())
+                    Assert.assertTrue(anterior.getEtiqueta() <=
+                                      p.getEtiqueta());
+            }
+            anterior = p;
+        }
+        Assert.assertTrue(mezcla.equals(todos.mergeSort((a, b) ->
+                                                        a.compareTo(b))));
+        Assert.assertTrue(Lista.mezclaK(new Lista<Lista<Par>>()).esVacia());
+        try {
+            Lista.mezclaK(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#iteradorMezclaK}.
+     */
+    @Test public void testIteradorMezclaK() {
+        int k = 1 + random.nextInt(10);
+        int[] leidos = new int[k];
+        Lista<Iterator<Integer>> iteradores = new Lista<Iterator<Integer>>();
+        for (int i = 0; i < k; i++) {
+            int f = i;
+            /* Iteradores infinitos con los múltiplos de f + 1. */
+            iteradores.agregaFinal(new Iterator<Integer>() {
+                    @Override public boolean hasNext() {
+                        return true;
+                    }
+                    @Override public Integer next() {
+                        return (f + 1) * leidos[f]++;
+                    }
+                });
+        }
+        Iterator<Integer> mezcla = Lista.iteradorMezclaK(iteradores,
+                                                         (a, b) -> a - b);
+        int anterior = -1;
+        for (int i = 0; i < total; i++) {
+            int n = mezcla.next();
+            Assert.assertTrue(anterior <= n);
+            anterior = n;
+        }
+        int leidosTotal = 0;
+        for (int i = 0; i < k; i++)
+            leidosTotal += leidos[i];
+        Assert.assertTrue(leidosTotal == total + k);
+        try {
+            Lista.iteradorMezclaK(null, (Integer a, Integer b) -> a - b);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        mezcla = Lista.iteradorMezclaK(new Lista<Iterator<Integer>>(),
+                                       (a, b) -> a - b);
+        Assert.assertFalse(mezcla.hasNext());
+        try {
+            mezcla.next();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+    }
 }
@@ -0,0 +1,300 @@
+package mx.unam.ciencias.icc.test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.icc.ExcepcionIndiceInvalido;
+import mx.unam.ciencias.icc.IteradorLista;
+import mx.unam.ciencias.icc.Lista;
+import mx.unam.ciencias.icc.ListaConcurrente;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ListaConcurrente}.
+ */
+public class TestListaConcurrente {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La lista. */
+    private ListaConcurrente<Integer> lista;
+
+    /* Valida la lista contra una lista de referencia. */
+    private void validaLista(ListaConcurrente<Integer> lista,
+                             Lista<Integer> referencia) {
+        Assert.assertTrue(lista.getLongitud() == referencia.getLongitud());
+        Assert.assertTrue(lista.esVacia() == referencia.esVacia());
+        IteradorLista<Integer> i = lista.iteradorLista();
+        IteradorLista<Integer> j = referencia.iteradorLista();
+        while (j.hasNext())
+            Assert.assertTrue(i.next().equals(j.next()));
+        Assert.assertFalse(i.hasNext());
+        i.end();
+        j.end();
+        while (j.hasPrevious())
+            Assert.assertTrue(i.previous().equals(j.previous()));
+        Assert.assertFalse(i.hasPrevious());
+        Assert.assertTrue(lista.toString().equals(referencia.toString()));
+    }
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número total
+     * de elementos, y una lista.
+     */
+    public TestListaConcurrente() {
+        random = new Random();
+        total = 10 + random.nextInt(90);
+        lista = new ListaConcurrente<Integer>();
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaConcurrente#agregaFinal}, {@link
+     * ListaConcurrente#agregaInicio} y {@link ListaConcurrente#inserta}.
+     */
+    @Test public void testAgregaInserta() {
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertTrue(lista.toString().equals("[]"));
+        try {
+            lista.agregaFinal(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            lista.inserta(0, null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total);
+            switch (random.nextInt(3)) {
+            case 0:
+                lista.agregaFinal(n);
+                referencia.agregaFinal(n);
+                break;
+            case 1:
+                lista.agregaInicio(n);
+                referencia.agregaInicio(n);
+                break;
+            default:
+                int m = random.nextInt(lista.getLongitud() + 3) - 1;
+                lista.inserta(m, n);
+                referencia.inserta(m, n);
+            }
+        }
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaConcurrente#elimina}, {@link
+     * ListaConcurrente#eliminaPrimero} y {@link
+     * ListaConcurrente#eliminaUltimo}.
+     */
+    @Test public void testElimina() {
+        try {
+            lista.eliminaPrimero();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            lista.eliminaUltimo();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total / 2);
+            lista.agregaFinal(n);
+            referencia.agregaFinal(n);
+        }
+        lista.elimina(null);
+        lista.elimina(-1);
+        validaLista(lista, referencia);
+        while (!lista.esVacia()) {
+            switch (random.nextInt(3)) {
+            case 0:
+                Assert.assertTrue(lista.eliminaPrimero().equals(
+                                      referencia.eliminaPrimero()));
+                break;
+            case 1:
+                Assert.assertTrue(lista.eliminaUltimo().equals(
+                                      referencia.eliminaUltimo()));
+                break;
+            default:
+                int n = lista.get(random.nextInt(lista.getLongitud()));
+                lista.elimina(n);
+                referencia.elimina(n);
+            }
+            validaLista(lista, referencia);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaConcurrente#get}, {@link
+     * ListaConcurrente#contiene} y {@link ListaConcurrente#indiceDe}.
+     */
+    @Test public void testGetContiene() {
+        try {
+            lista.get(0);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(lista.get(i) == i);
+            Assert.assertTrue(lista.contiene(i));
+            Assert.assertTrue(lista.indiceDe(i) == i);
+        }
+        Assert.assertFalse(lista.contiene(total));
+        Assert.assertTrue(lista.indiceDe(null) == -1);
+        Assert.assertTrue(lista.getPrimero() == 0);
+        Assert.assertTrue(lista.getUltimo() == total - 1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaConcurrente#reversa}, {@link
+     * ListaConcurrente#copia}, {@link ListaConcurrente#limpia} y {@link
+     * ListaConcurrente#equals}.
+     */
+    @Test public void testReversaCopiaEquals() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        ListaConcurrente<Integer> copia = lista.copia();
+        ListaConcurrente<Integer> reversa = lista.reversa();
+        Assert.assertTrue(copia.equals(lista));
+        Assert.assertFalse(copia == lista);
+        Assert.assertFalse(lista.equals(null));
+        Assert.assertFalse(lista.equals(new Lista<Integer>()));
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(reversa.get(i) == total - 1 - i);
+        copia.eliminaUltimo();
+        Assert.assertFalse(copia.equals(lista));
+        Assert.assertTrue(lista.getLongitud() == total);
+        lista.limpia();
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertTrue(copia.getLongitud() == total - 1);
+    }
+
+    /**
+     * Prueba que los iteradores recorren una instantánea de la lista, aunque
+     * ésta se modifique durante el recorrido.
+     */
+    @Test public void testIteradorInstantanea() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        Iterator<Integer> iterador = lista.iterator();
+        int c = 0;
+        for (Integer n : lista) {
+            lista.elimina(n);
+            lista.agregaFinal(total + n);
+            Assert.assertTrue(iterador.next() == c++);
+        }
+        Assert.assertTrue(c == total);
+        Assert.assertFalse(iterador.hasNext());
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(lista.get(i) == total + i);
+    }
+
+    /**
+     * Prueba que las modificaciones hechas desde varios hilos a la vez no se
+     * pierden.
+     */
+    @Test public void testConcurrencia() throws InterruptedException {
+        int hilos = 4;
+        int porHilo = 500;
+        Thread[] t = new Thread[hilos];
+        for (int h = 0; h < hilos; h++) {
+            final int base = h * porHilo;
+            t[h] = new Thread(() -> {
+                    for (int i = 0; i < porHilo; i++) {
+                        lista.agregaFinal(base + i);
+                        lista.agregaFinal(-1 - base - i);
+                        lista.elimina(-1 - base - i);
+                        for (Integer n : lista)
+                            Assert.assertTrue(n != null);
+                    }
+            });
+            t[h].start();
+        }
+        for (int h = 0; h < hilos; h++)
+            t[h].join();
+        Assert.assertTrue(lista.getLongitud() == hilos * porHilo);
+        for (int i = 0; i < hilos * porHilo; i++)
+            Assert.assertTrue(lista.contiene(i));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaConcurrente#eliminaSi}, mientras otro
+     * hilo agrega elementos: ninguna escritura se pierde, y los iteradores
+     * creados antes de eliminar siguen viendo los elementos anteriores.
+     */
+    @Test public void testEliminaSi() throws InterruptedException {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            if (i % 3 != 0)
+                referencia.agregaFinal(i);
+        }
+        Iterator<Integer> anterior = lista.iterator();
+        int agregados = 1000;
+        Thread escritor = new Thread(() -> {
+                for (int i = 1; i <= agregados; i++)
+                    lista.agregaFinal(-i);
+            });
+        escritor.start();
+        int n = 0;
+        while (escritor.isAlive())
+            n += lista.eliminaSi(e -> e >= 0 && e % 3 == 0);
+        escritor.join();
+        n += lista.eliminaSi(e -> e >= 0 && e % 3 == 0);
+        Assert.assertTrue(n == total - referencia.getLongitud());
+        for (int i = 1; i <= agregados; i++)
+            referencia.agregaFinal(-i);
+        validaLista(lista, referencia);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(anterior.next() == i);
+        Assert.assertFalse(anterior.hasNext());
+        Assert.assertTrue(lista.eliminaSi(e -> false) == 0);
+        Assert.assertTrue(lista.eliminaSi(e -> true) ==
+                          referencia.getLongitud());
+        validaLista(lista, new Lista<Integer>());
+        try {
+            lista.eliminaSi(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba que los iteradores, que recorren una instantánea, no permiten
+     * modificar la lista.
+     */
+    @Test public void testIteradorNoModifica() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        IteradorLista<Integer> iterador = lista.iteradorLista();
+        iterador.next();
+        try {
+            iterador.elimina();
+            Assert.fail();
+        } catch (UnsupportedOperationException uoe) {}
+        try {
+            iterador.reemplaza(-1);
+            Assert.fail();
+        } catch (UnsupportedOperationException uoe) {}
+        try {
+            iterador.inserta(-1);
+            Assert.fail();
+        } catch (UnsupportedOperationException uoe) {}
+        try {
+            iterador.remove();
+            Assert.fail();
+        } catch (UnsupportedOperationException uoe) {}
+        Assert.assertTrue(lista.getLongitud() == total);
+        Assert.assertTrue(lista.getPrimero() == 0);
+        Assert.assertTrue(iterador.next() == 1);
+    }
+}
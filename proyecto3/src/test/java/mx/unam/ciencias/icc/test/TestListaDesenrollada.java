@@ -0,0 +1,462 @@
+package mx.unam.ciencias.icc.test;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.icc.ExcepcionIndiceInvalido;
+import mx.unam.ciencias.icc.IteradorLista;
+import mx.unam.ciencias.icc.Lista;
+import mx.unam.ciencias.icc.ListaDesenrollada;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ListaDesenrollada}.
+ */
+public class TestListaDesenrollada {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La lista. */
+    private ListaDesenrollada<Integer> lista;
+
+    /* Valida la lista contra una lista de referencia. */
+    private void validaLista(ListaDesenrollada<Integer> lista,
+                             Lista<Integer> referencia) {
+        Assert.assertTrue(lista.getLongitud() == referencia.getLongitud());
+        Assert.assertTrue(lista.esVacia() == referencia.esVacia());
+        IteradorLista<Integer> i = lista.iteradorLista();
+        IteradorLista<Integer> j = referencia.iteradorLista();
+        while (j.hasNext())
+            Assert.assertTrue(i.next().equals(j.next()));
+        Assert.assertFalse(i.hasNext());
+        i.end();
+        j.end();
+        while (j.hasPrevious())
+            Assert.assertTrue(i.previous().equals(j.previous()));
+        Assert.assertFalse(i.hasPrevious());
+    }
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número total
+     * de elementos que ocupa varios nodos, y una lista.
+     */
+    public TestListaDesenrollada() {
+        random = new Random();
+        total = 2 * ListaDesenrollada.CAPACIDAD + random.nextInt(500);
+        lista = new ListaDesenrollada<Integer>();
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#ListaDesenrollada}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertTrue(lista.getLongitud() == 0);
+        Assert.assertTrue(lista.toString().equals("[]"));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#agregaFinal} y {@link
+     * ListaDesenrollada#agregaInicio}.
+     */
+    @Test public void testAgrega() {
+        try {
+            lista.agregaFinal(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            lista.agregaInicio(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total);
+            if (random.nextBoolean()) {
+                lista.agregaFinal(n);
+                referencia.agregaFinal(n);
+                Assert.assertTrue(lista.getUltimo() == n);
+            } else {
+                lista.agregaInicio(n);
+                referencia.agregaInicio(n);
+                Assert.assertTrue(lista.getPrimero() == n);
+            }
+        }
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#inserta}.
+     */
+    @Test public void testInserta() {
+        try {
+            lista.inserta(0, null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total);
+            int m = random.nextInt(lista.getLongitud() + 3) - 1;
+            lista.inserta(m, n);
+            referencia.inserta(m, n);
+            if (m >= 0 && m < lista.getLongitud())
+                Assert.assertTrue(lista.get(m) == n);
+        }
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#elimina}.
+     */
+    @Test public void testElimina() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total / 4);
+            lista.agregaFinal(n);
+            referencia.agregaFinal(n);
+        }
+        lista.elimina(null);
+        lista.elimina(-1);
+        validaLista(lista, referencia);
+        while (!lista.esVacia()) {
+            int n = lista.get(random.nextInt(lista.getLongitud()));
+            lista.elimina(n);
+            referencia.elimina(n);
+            validaLista(lista, referencia);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#eliminaPrimero} y {@link
+     * ListaDesenrollada#eliminaUltimo}.
+     */
+    @Test public void testEliminaExtremos() {
+        try {
+            lista.eliminaPrimero();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            lista.eliminaUltimo();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        int primero = 0;
+        int ultimo = total - 1;
+        while (!lista.esVacia()) {
+            if (random.nextBoolean())
+                Assert.assertTrue(lista.eliminaPrimero() == primero++);
+            else
+                Assert.assertTrue(lista.eliminaUltimo() == ultimo--);
+            Assert.assertTrue(lista.getLongitud() == ultimo - primero + 1);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#contiene} y {@link
+     * ListaDesenrollada#indiceDe}.
+     */
+    @Test public void testContieneIndiceDe() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(lista.contiene(i));
+            Assert.assertTrue(lista.indiceDe(i) == i);
+        }
+        Assert.assertFalse(lista.contiene(total));
+        Assert.assertTrue(lista.indiceDe(total) == -1);
+        Assert.assertTrue(lista.indiceDe(null) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#get}.
+     */
+    @Test public void testGet() {
+        try {
+            lista.get(0);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        for (int i = 0; i < total; i++)
+            lista.agregaInicio(total - 1 - i);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(lista.get(i) == i);
+        try {
+            lista.get(-1);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        try {
+            lista.get(total);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#reversa} y {@link
+     * ListaDesenrollada#copia}.
+     */
+    @Test public void testReversaCopia() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        ListaDesenrollada<Integer> reversa = lista.reversa();
+        ListaDesenrollada<Integer> copia = lista.copia();
+        Assert.assertTrue(copia.equals(lista));
+        Assert.assertFalse(copia == lista);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(reversa.get(i) == total - 1 - i);
+        copia.eliminaUltimo();
+        Assert.assertFalse(copia.equals(lista));
+        Assert.assertTrue(lista.getLongitud() == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#limpia}.
+     */
+    @Test public void testLimpia() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        lista.limpia();
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertFalse(lista.iterator().hasNext());
+        lista.agregaFinal(1);
+        Assert.assertTrue(lista.getPrimero() == 1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#toString}.
+     */
+    @Test public void testToString() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            referencia.agregaFinal(i);
+        }
+        Assert.assertTrue(lista.toString().equals(referencia.toString()));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#equals}.
+     */
+    @Test public void testEquals() {
+        ListaDesenrollada<Integer> otra = new ListaDesenrollada<Integer>();
+        Assert.assertTrue(lista.equals(otra));
+        Assert.assertFalse(lista.equals(null));
+        Assert.assertFalse(lista.equals(new Lista<Integer>()));
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            otra.agregaInicio(total - 1 - i);
+        }
+        Assert.assertTrue(lista.equals(otra));
+        otra.inserta(total / 2, -1);
+        Assert.assertFalse(lista.equals(otra));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#iteradorLista}.
+     */
+    @Test public void testIteradorLista() {
+        IteradorLista<Integer> i = lista.iteradorLista();
+        Assert.assertFalse(i.hasNext());
+        Assert.assertFalse(i.hasPrevious());
+        try {
+            i.next();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int j = 0; j < total; j++)
+            lista.agregaFinal(j);
+        i = lista.iteradorLista();
+        for (int j = 0; j < total / 2; j++)
+            Assert.assertTrue(i.next() == j);
+        for (int j = total / 2 - 1; j >= 0; j--)
+            Assert.assertTrue(i.previous() == j);
+        Assert.assertFalse(i.hasPrevious());
+        i.end();
+        Assert.assertFalse(i.hasNext());
+        Assert.assertTrue(i.previous() == total - 1);
+        Assert.assertTrue(i.next() == total - 1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#mergeSort(Comparator)}.
+     */
+    @Test public void testMergeSort() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total);
+            lista.agregaFinal(n);
+            referencia.agregaFinal(n);
+        }
+        ListaDesenrollada<Integer> ordenada =
+            ListaDesenrollada.mergeSort(lista);
+        validaLista(ordenada, Lista.mergeSort(referencia));
+        validaLista(lista, referencia);
+        for (Integer n : referencia)
+            Assert.assertTrue(ListaDesenrollada.busquedaLineal(ordenada, n));
+        Assert.assertFalse(ListaDesenrollada.busquedaLineal(ordenada, -1));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#eliminaSi}, eliminando
+     * nodos completos y elementos en las fronteras entre nodos.
+     */
+    @Test public void testEliminaSi() {
+        int c = ListaDesenrollada.CAPACIDAD;
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            if ((i / c) % 2 == 1)
+                referencia.agregaFinal(i);
+        }
+        /* Vacía uno de cada dos nodos completos. */
+        int n = lista.eliminaSi(e -> (e / c) % 2 == 0);
+        Assert.assertTrue(n == total - referencia.getLongitud());
+        validaLista(lista, referencia);
+        /* Quita los extremos de cada nodo restante. */
+        Lista<Integer> extremos = new Lista<Integer>();
+        for (Integer e : referencia)
+            if (e % c != 0 && e % c != c - 1)
+                extremos.agregaFinal(e);
+        n = lista.eliminaSi(e -> e % c == 0 || e % c == c - 1);
+        Assert.assertTrue(n == referencia.getLongitud() -
+                          extremos.getLongitud());
+        validaLista(lista, extremos);
+        for (int i = 0; i < extremos.getLongitud(); i++)
+            Assert.assertTrue(lista.get(i).equals(extremos.get(i)));
+        /* La lista sigue funcionando al agregar e insertar. */
+        int m = extremos.getLongitud() / 2;
+        lista.inserta(m, -1);
+        extremos.inserta(m, -1);
+        lista.agregaInicio(-2);
+        extremos.agregaInicio(-2);
+        lista.agregaFinal(-3);
+        extremos.agregaFinal(-3);
+        validaLista(lista, extremos);
+        Assert.assertTrue(lista.eliminaSi(e -> e < 0) == 3);
+        Assert.assertTrue(lista.eliminaSi(e -> true) ==
+                          extremos.getLongitud() - 3);
+        validaLista(lista, new Lista<Integer>());
+        try {
+            lista.eliminaSi(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link IteradorLista#elimina}, {@link
+     * IteradorLista#reemplaza} e {@link IteradorLista#inserta}: una caminata
+     * aleatoria que edita la lista con el iterador, y que por lo tanto parte
+     * y fusiona nodos, comparada con los mismos pasos sobre una {@link Lista}.
+     */
+    @Test public void testIteradorEdita() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            referencia.agregaFinal(i);
+        }
+        IteradorLista<Integer> i = lista.iteradorLista();
+        IteradorLista<Integer> j = referencia.iteradorLista();
+        try {
+            i.elimina();
+            Assert.fail();
+        } catch (IllegalStateException ise) {}
+        boolean regreso = false;
+        for (int k = 0; k < 20 * total; k++) {
+            switch (random.nextInt(6)) {
+            case 0:
+                if (j.hasPrevious()) {
+                    Assert.assertTrue(i.previous().equals(j.previous()));
+                    regreso = true;
+                }
+                break;
+            case 1:
+            case 2:
+                if (regreso) {
+                    i.elimina();
+                    j.elimina();
+                    regreso = false;
+                } else if (j.hasNext()) {
+                    Assert.assertTrue(i.next().equals(j.next()));
+                    regreso = true;
+                }
+                break;
+            case 3:
+                if (regreso) {
+                    i.reemplaza(-k);
+                    j.reemplaza(-k);
+                }
+                break;
+            default:
+                i.inserta(k);
+                j.inserta(k);
+                regreso = false;
+                break;
+            }
+            Assert.assertTrue(i.hasNext() == j.hasNext());
+            Assert.assertTrue(i.hasPrevious() == j.hasPrevious());
+        }
+        validaLista(lista, referencia);
+        /* Vacía la lista desde el final, fusionando los nodos. */
+        i.end();
+        while (i.hasPrevious()) {
+            i.previous();
+            i.elimina();
+        }
+        validaLista(lista, new Lista<Integer>());
+        /* Inserta al inicio de un nodo lleno, que se parte en dos. */
+        int c = ListaDesenrollada.CAPACIDAD;
+        for (int k = 0; k < 2 * c; k++)
+            lista.agregaFinal(k);
+        i = lista.iteradorLista();
+        for (int k = 0; k < c; k++)
+            i.next();
+        i.inserta(-1);
+        Assert.assertTrue(i.next() == c);
+        Assert.assertTrue(lista.get(c) == -1);
+        Assert.assertTrue(lista.getLongitud() == 2 * c + 1);
+    }
+
+    /**
+     * Prueba que los iteradores detectan modificaciones a la lista hechas sin
+     * ellos.
+     */
+    @Test public void testIteradorModificacionConcurrente() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        try {
+            for (Integer e : lista)
+                lista.elimina(e);
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        IteradorLista<Integer> iterador = lista.iteradorLista();
+        IteradorLista<Integer> otro = lista.iteradorLista();
+        iterador.next();
+        otro.next();
+        iterador.reemplaza(-1);
+        Assert.assertTrue(otro.previous() == -1);
+        iterador.elimina();
+        try {
+            otro.next();
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        iterador.next();
+        lista.inserta(lista.getLongitud() / 2, -2);
+        try {
+            iterador.elimina();
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        iterador.start();
+        lista.limpia();
+        try {
+            iterador.next();
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        iterador.start();
+        Assert.assertFalse(iterador.hasNext());
+    }
+}
@@ -0,0 +1,190 @@
+package mx.unam.ciencias.icc.test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.icc.ExcepcionIndiceInvalido;
+import mx.unam.ciencias.icc.Lista;
+import mx.unam.ciencias.icc.ListaDouble;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ListaDouble}.
+ */
+public class TestListaDouble {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La lista. */
+    private ListaDouble lista;
+
+    /* Valida la lista contra una lista de referencia. */
+    private void validaLista(ListaDouble lista, Lista<Double> referencia) {
+        Assert.assertTrue(lista.getLongitud() == referencia.getLongitud());
+        Assert.assertTrue(lista.esVacia() == referencia.esVacia());
+        int i = 0;
+        for (Double e : referencia)
+            Assert.assertTrue(lista.get(i++) == e);
+        Assert.assertTrue(lista.toString().equals(referencia.toString()));
+    }
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número total
+     * de elementos que obliga a la lista a crecer varias veces, y una lista.
+     */
+    public TestListaDouble() {
+        random = new Random();
+        total = 100 + random.nextInt(900);
+        lista = new ListaDouble();
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDouble#ListaDouble}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertTrue(lista.getLongitud() == 0);
+        Assert.assertTrue(lista.toString().equals("[]"));
+        Assert.assertTrue(new ListaDouble(total).esVacia());
+        try {
+            new ListaDouble(-1);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDouble#agregaFinal} y {@link
+     * ListaDouble#agregaInicio}.
+     */
+    @Test public void testAgrega() {
+        Lista<Double> referencia = new Lista<Double>();
+        for (int i = 0; i < total; i++) {
+            double n = random.nextDouble();
+            if (random.nextBoolean()) {
+                lista.agregaFinal(n);
+                referencia.agregaFinal(n);
+                Assert.assertTrue(lista.getUltimo() == n);
+            } else {
+                lista.agregaInicio(n);
+                referencia.agregaInicio(n);
+                Assert.assertTrue(lista.getPrimero() == n);
+            }
+        }
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDouble#eliminaPrimero} y {@link
+     * ListaDouble#eliminaUltimo}, usando la lista como cola y como pila.
+     */
+    @Test public void testElimina() {
+        try {
+            lista.eliminaPrimero();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            lista.eliminaUltimo();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        Lista<Double> referencia = new Lista<Double>();
+        for (int i = 0; i < total * 4; i++) {
+            int op = random.nextInt(4);
+            if (op == 0 && !referencia.esVacia()) {
+                Assert.assertTrue(lista.eliminaPrimero() ==
+                                  referencia.eliminaPrimero());
+            } else if (op == 1 && !referencia.esVacia()) {
+                Assert.assertTrue(lista.eliminaUltimo() ==
+                                  referencia.eliminaUltimo());
+            } else {
+                double n = random.nextDouble();
+                if (random.nextBoolean()) {
+                    lista.agregaFinal(n);
+                    referencia.agregaFinal(n);
+                } else {
+                    lista.agregaInicio(n);
+                    referencia.agregaInicio(n);
+                }
+            }
+        }
+        validaLista(lista, referencia);
+        while (!referencia.esVacia())
+            Assert.assertTrue(lista.eliminaUltimo() ==
+                              referencia.eliminaUltimo());
+        Assert.assertTrue(lista.esVacia());
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDouble#get} y {@link ListaDouble#set}.
+     */
+    @Test public void testGetSet() {
+        try {
+            lista.get(0);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        for (int i = 0; i < total; i++)
+            lista.agregaInicio(total - 1 - i);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(lista.get(i) == i);
+        for (int i = 0; i < total; i++)
+            lista.set(i, 2 * i);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(lista.get(i) == 2 * i);
+        try {
+            lista.get(total);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        try {
+            lista.set(-1, 0);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDouble#contiene} y {@link
+     * ListaDouble#indiceDe}.
+     */
+    @Test public void testContieneIndiceDe() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(lista.contiene(i));
+            Assert.assertTrue(lista.indiceDe(i) == i);
+        }
+        Assert.assertFalse(lista.contiene(-1));
+        Assert.assertTrue(lista.indiceDe(total) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDouble#copia}, {@link
+     * ListaDouble#aArreglo}, {@link ListaDouble#limpia} y {@link
+     * ListaDouble#equals}.
+     */
+    @Test public void testCopiaLimpiaEquals() {
+        Assert.assertFalse(lista.equals(null));
+        Assert.assertTrue(lista.equals(new ListaDouble()));
+        for (int i = 0; i < total; i++)
+            lista.agregaInicio(total - 1 - i);
+        ListaDouble copia = lista.copia();
+        Assert.assertTrue(copia.equals(lista));
+        Assert.assertFalse(copia == lista);
+        double[] arreglo = lista.aArreglo();
+        Assert.assertTrue(arreglo.length == total);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(arreglo[i] == i);
+        copia.set(total / 2, -1);
+        Assert.assertFalse(copia.equals(lista));
+        lista.limpia();
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertFalse(lista.equals(copia));
+        lista.agregaFinal(1);
+        Assert.assertTrue(lista.getPrimero() == 1);
+        Assert.assertTrue(lista.getUltimo() == 1);
+    }
+}
@@ -0,0 +1,565 @@
+package mx.unam.ciencias.icc.test;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.icc.ExcepcionIndiceInvalido;
+import mx.unam.ciencias.icc.IteradorLista;
+import mx.unam.ciencias.icc.Lista;
+import mx.unam.ciencias.icc.ListaHash;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ListaHash}.
+ */
+public class TestListaHash {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La lista. */
+    private ListaHash<Integer> lista;
+
+    /* Valida la lista contra una lista de referencia. */
+    private void validaLista(ListaHash<Integer> lista,
+                             Lista<Integer> referencia) {
+        Assert.assertTrue(lista.getLongitud() == referencia.getLongitud());
+        Assert.assertTrue(lista.esVacia() == referencia.esVacia());
+        IteradorLista<Integer> i = lista.iteradorLista();
+        IteradorLista<Integer> j = referencia.iteradorLista();
+        while (j.hasNext())
+            Assert.assertTrue(i.next().equals(j.next()));
+        Assert.assertFalse(i.hasNext());
+        i.end();
+        j.end();
+        while (j.hasPrevious())
+            Assert.assertTrue(i.previous().equals(j.previous()));
+        Assert.assertFalse(i.hasPrevious());
+    }
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número total
+     * de elementos, y una lista.
+     */
+    public TestListaHash() {
+        random = new Random();
+        total = 100 + random.nextInt(500);
+        lista = new ListaHash<Integer>();
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#ListaHash}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertTrue(lista.getLongitud() == 0);
+        Assert.assertTrue(lista.toString().equals("[]"));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#agregaFinal} y {@link
+     * ListaHash#agregaInicio}.
+     */
+    @Test public void testAgrega() {
+        try {
+            lista.agregaFinal(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            lista.agregaInicio(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total);
+            if (random.nextBoolean()) {
+                lista.agregaFinal(n);
+                referencia.agregaFinal(n);
+                Assert.assertTrue(lista.getUltimo() == n);
+            } else {
+                lista.agregaInicio(n);
+                referencia.agregaInicio(n);
+                Assert.assertTrue(lista.getPrimero() == n);
+            }
+        }
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#inserta}.
+     */
+    @Test public void testInserta() {
+        try {
+            lista.inserta(0, null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total);
+            int m = random.nextInt(lista.getLongitud() + 3) - 1;
+            lista.inserta(m, n);
+            referencia.inserta(m, n);
+            if (m >= 0 && m < lista.getLongitud())
+                Assert.assertTrue(lista.get(m) == n);
+        }
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#elimina}.
+     */
+    @Test public void testElimina() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total / 4);
+            lista.agregaFinal(n);
+            referencia.agregaFinal(n);
+        }
+        lista.elimina(null);
+        lista.elimina(-1);
+        validaLista(lista, referencia);
+        while (!lista.esVacia()) {
+            int n = lista.get(random.nextInt(lista.getLongitud()));
+            lista.elimina(n);
+            referencia.elimina(n);
+            validaLista(lista, referencia);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#eliminaPrimero} y {@link
+     * ListaHash#eliminaUltimo}.
+     */
+    @Test public void testEliminaExtremos() {
+        try {
+            lista.eliminaPrimero();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            lista.eliminaUltimo();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        int primero = 0;
+        int ultimo = total - 1;
+        while (!lista.esVacia()) {
+            if (random.nextBoolean())
+                Assert.assertTrue(lista.eliminaPrimero() == primero++);
+            else
+                Assert.assertTrue(lista.eliminaUltimo() == ultimo--);
+            Assert.assertTrue(lista.getLongitud() == ultimo - primero + 1);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#contiene} y {@link
+     * ListaHash#indiceDe}.
+     */
+    @Test public void testContieneIndiceDe() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(lista.contiene(i));
+            Assert.assertTrue(lista.indiceDe(i) == i);
+        }
+        Assert.assertFalse(lista.contiene(total));
+        Assert.assertTrue(lista.indiceDe(total) == -1);
+        Assert.assertTrue(lista.indiceDe(null) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#get}.
+     */
+    @Test public void testGet() {
+        try {
+            lista.get(0);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        for (int i = 0; i < total; i++)
+            lista.agregaInicio(total - 1 - i);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(lista.get(i) == i);
+        try {
+            lista.get(-1);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        try {
+            lista.get(total);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#reversa} y {@link
+     * ListaHash#copia}.
+     */
+    @Test public void testReversaCopia() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        ListaHash<Integer> reversa = lista.reversa();
+        ListaHash<Integer> copia = lista.copia();
+        Assert.assertTrue(copia.equals(lista));
+        Assert.assertFalse(copia == lista);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(reversa.get(i) == total - 1 - i);
+        copia.eliminaUltimo();
+        Assert.assertFalse(copia.equals(lista));
+        Assert.assertTrue(lista.getLongitud() == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#limpia}.
+     */
+    @Test public void testLimpia() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        lista.limpia();
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertFalse(lista.iterator().hasNext());
+        lista.agregaFinal(1);
+        Assert.assertTrue(lista.getPrimero() == 1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#toString}.
+     */
+    @Test public void testToString() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            referencia.agregaFinal(i);
+        }
+        Assert.assertTrue(lista.toString().equals(referencia.toString()));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#equals}.
+     */
+    @Test public void testEquals() {
+        ListaHash<Integer> otra = new ListaHash<Integer>();
+        Assert.assertTrue(lista.equals(otra));
+        Assert.assertFalse(lista.equals(null));
+        Assert.assertFalse(lista.equals(new Lista<Integer>()));
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            otra.agregaInicio(total - 1 - i);
+        }
+        Assert.assertTrue(lista.equals(otra));
+        otra.inserta(total / 2, -1);
+        Assert.assertFalse(lista.equals(otra));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#iteradorLista}.
+     */
+    @Test public void testIteradorLista() {
+        IteradorLista<Integer> i = lista.iteradorLista();
+        Assert.assertFalse(i.hasNext());
+        Assert.assertFalse(i.hasPrevious());
+        try {
+            i.next();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int j = 0; j < total; j++)
+            lista.agregaFinal(j);
+        i = lista.iteradorLista();
+        for (int j = 0; j < total / 2; j++)
+            Assert.assertTrue(i.next() == j);
+        for (int j = total / 2 - 1; j >= 0; j--)
+            Assert.assertTrue(i.previous() == j);
+        Assert.assertFalse(i.hasPrevious());
+        i.end();
+        Assert.assertFalse(i.hasNext());
+        Assert.assertTrue(i.previous() == total - 1);
+        Assert.assertTrue(i.next() == total - 1);
+    }
+
+    /**
+     * Prueba que la lista maneja correctamente elementos repetidos: {@link
+     * ListaHash#elimina} siempre elimina la primera aparición, sin importar el
+     * orden en que se agregaron o insertaron.
+     */
+    @Test public void testRepetidos() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        int distintos = 1 + random.nextInt(10);
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(distintos);
+            int m = random.nextInt(lista.getLongitud() + 1);
+            lista.inserta(m, n);
+            referencia.inserta(m, n);
+        }
+        validaLista(lista, referencia);
+        for (int n = 0; n < distintos; n++) {
+            int c = 0;
+            for (Integer e : referencia)
+                if (e == n)
+                    c++;
+            Assert.assertTrue(lista.cuenta(n) == c);
+            Assert.assertTrue(lista.indiceDe(n) == referencia.indiceDe(n));
+        }
+        while (!referencia.esVacia()) {
+            int n = random.nextInt(distintos);
+            lista.elimina(n);
+            referencia.elimina(n);
+            validaLista(lista, referencia);
+            Assert.assertTrue(lista.contiene(n) == referencia.contiene(n));
+            Assert.assertTrue(lista.indiceDe(n) == referencia.indiceDe(n));
+            if (random.nextBoolean() && !referencia.esVacia()) {
+                Assert.assertTrue(lista.eliminaUltimo() ==
+                                  referencia.eliminaUltimo());
+                validaLista(lista, referencia);
+            }
+        }
+        Assert.assertTrue(lista.cuenta(0) == 0);
+    }
+
+    /**
+     * Prueba que los elementos repetidos agregados al inicio, y los insertados
+     * después de todas sus apariciones, quedan en su grupo en el orden de la
+     * lista: {@link ListaHash#elimina} debe quitar siempre la primera
+     * aparición en la lista.
+     */
+    @Test public void testRepetidosOrden() {
+        ListaHash<String> repetidos = new ListaHash<String>();
+        String[] copias = new String[total];
+        for (int i = 0; i < total; i++) {
+            copias[i] = new String("a");
+            repetidos.agregaInicio(copias[i]);
+            repetidos.agregaInicio(String.valueOf(i));
+        }
+        repetidos.agregaFinal("z");
+        String ultima = new String("a");
+        repetidos.inserta(repetidos.getLongitud() - 1, ultima);
+        Assert.assertTrue(repetidos.cuenta("a") == total + 1);
+        for (int i = total - 1; i >= 0; i--) {
+            String primera = null;
+            for (String s : repetidos)
+                if (s.equals("a")) {
+                    primera = s;
+                    break;
+                }
+            Assert.assertTrue(primera == copias[i]);
+            repetidos.elimina("a");
+        }
+        Assert.assertTrue(repetidos.cuenta("a") == 1);
+        Assert.assertTrue(repetidos.indiceDe("a") ==
+                          repetidos.getLongitud() - 2);
+        repetidos.elimina("a");
+        Assert.assertFalse(repetidos.contiene("a"));
+        Assert.assertTrue(repetidos.getUltimo().equals("z"));
+        /* Muchas copias insertadas con un iterador, cada una después de las
+         * anteriores y antes de muchos elementos distintos. */
+        repetidos.limpia();
+        int n = 200 * total;
+        for (int i = 0; i < n; i++)
+            repetidos.agregaFinal(String.valueOf(i));
+        copias = new String[n];
+        IteradorLista<String> iterador = repetidos.iteradorLista();
+        for (int i = 0; i < n; i++) {
+            copias[i] = new String("b");
+            iterador.inserta(copias[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            Assert.assertTrue(repetidos.getPrimero() == copias[i]);
+            repetidos.elimina("b");
+        }
+        Assert.assertTrue(repetidos.getLongitud() == n);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#modifica}.
+     */
+    @Test public void testModifica() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            referencia.agregaFinal(i);
+        }
+        Assert.assertFalse(lista.modifica(-1, e -> Assert.fail()));
+        StringBuilder visto = new StringBuilder();
+        Assert.assertTrue(lista.modifica(total / 2,
+                                         e -> visto.append(e)));
+        Assert.assertTrue(visto.toString().equals(String.valueOf(total / 2)));
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba que {@link ListaHash#modifica} vuelve a indexar a los elementos
+     * mutables cuyo código de dispersión cambia.
+     */
+    @Test public void testModificaReindexa() {
+        ListaHash<Punto> puntos = new ListaHash<Punto>();
+        for (int i = 0; i < total; i++)
+            puntos.agregaFinal(new Punto(i));
+        int n = random.nextInt(total);
+        Assert.assertTrue(puntos.modifica(new Punto(n), p -> p.x = -1));
+        Assert.assertFalse(puntos.contiene(new Punto(n)));
+        Assert.assertTrue(puntos.contiene(new Punto(-1)));
+        Assert.assertTrue(puntos.indiceDe(new Punto(-1)) == n);
+        Assert.assertTrue(puntos.get(n).x == -1);
+        puntos.elimina(new Punto(-1));
+        Assert.assertTrue(puntos.getLongitud() == total - 1);
+        Assert.assertFalse(puntos.contiene(new Punto(-1)));
+    }
+
+    /* Clase mutable auxiliar para probar la reindexación. */
+    private static class Punto {
+        private int x;
+        private Punto(int x) {
+            this.x = x;
+        }
+        @Override public boolean equals(Object objeto) {
+            return objeto instanceof Punto && ((Punto)objeto).x == x;
+        }
+        @Override public int hashCode() {
+            return x;
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaHash#eliminaSi}, con elementos
+     * repetidos: eliminar algunas apariciones de un elemento debe dejar su
+     * grupo con las demás, y eliminarlas todas debe quitar al grupo.
+     */
+    @Test public void testEliminaSi() {
+        int distintos = 1 + total / 10;
+        Lista<Integer> referencia = new Lista<Integer>();
+        int[] cuentas = new int[distintos];
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(distintos);
+            lista.agregaFinal(n);
+            /* Se conservan las apariciones pares de cada elemento. */
+            if (cuentas[n]++ % 2 == 0)
+                referencia.agregaFinal(n);
+        }
+        int[] vistas = new int[distintos];
+        int n = lista.eliminaSi(e -> vistas[e]++ % 2 == 1);
+        Assert.assertTrue(n == total - referencia.getLongitud());
+        validaLista(lista, referencia);
+        for (int e = 0; e < distintos; e++) {
+            Assert.assertTrue(lista.cuenta(e) == (cuentas[e] + 1) / 2);
+            Assert.assertTrue(lista.indiceDe(e) == referencia.indiceDe(e));
+        }
+        /* Elimina todas las apariciones de un elemento. */
+        int x = referencia.getPrimero();
+        n = lista.eliminaSi(e -> e == x);
+        Assert.assertTrue(n == (cuentas[x] + 1) / 2);
+        Assert.assertFalse(lista.contiene(x));
+        Assert.assertTrue(lista.cuenta(x) == 0);
+        while (referencia.contiene(x))
+            referencia.elimina(x);
+        validaLista(lista, referencia);
+        lista.agregaFinal(x);
+        referencia.agregaFinal(x);
+        Assert.assertTrue(lista.cuenta(x) == 1);
+        Assert.assertTrue(lista.indiceDe(x) == referencia.getLongitud() - 1);
+        validaLista(lista, referencia);
+        Assert.assertTrue(lista.eliminaSi(e -> true) ==
+                          referencia.getLongitud());
+        validaLista(lista, new Lista<Integer>());
+        try {
+            lista.eliminaSi(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link IteradorLista#elimina}, {@link
+     * IteradorLista#reemplaza} e {@link IteradorLista#inserta} con elementos
+     * repetidos: las ediciones del iterador deben mantener el índice de cada
+     * grupo de elementos iguales en el orden de la lista.
+     */
+    @Test public void testIteradorEdita() {
+        int distintos = 1 + total / 20;
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(random.nextInt(distintos));
+        IteradorLista<Integer> iterador = lista.iteradorLista();
+        try {
+            iterador.elimina();
+            Assert.fail();
+        } catch (IllegalStateException ise) {}
+        /* Elimina una de cada dos apariciones, cambia otras a un elemento
+         * distinto y agrega repetidos delante de las demás. */
+        int[] vistas = new int[distintos];
+        while (iterador.hasNext()) {
+            int e = iterador.next();
+            switch (vistas[e]++ % 4) {
+            case 1:
+            case 3:
+                iterador.elimina();
+                break;
+            case 2:
+                iterador.reemplaza(e + distintos);
+                referencia.agregaFinal(e + distintos);
+                break;
+            default:
+                iterador.previous();
+                iterador.inserta(e);
+                iterador.next();
+                referencia.agregaFinal(e);
+                referencia.agregaFinal(e);
+                break;
+            }
+        }
+        validaLista(lista, referencia);
+        for (int e = 0; e < 2 * distintos; e++) {
+            int c = 0;
+            for (Integer r : referencia)
+                if (r == e)
+                    c++;
+            Assert.assertTrue(lista.cuenta(e) == c);
+            Assert.assertTrue(lista.contiene(e) == (c > 0));
+            Assert.assertTrue(lista.indiceDe(e) == referencia.indiceDe(e));
+        }
+        /* elimina(T) sigue quitando la primera aparición. */
+        int x = referencia.getUltimo();
+        lista.elimina(x);
+        referencia.elimina(x);
+        validaLista(lista, referencia);
+        Assert.assertTrue(lista.indiceDe(x) == referencia.indiceDe(x));
+    }
+
+    /**
+     * Prueba que los iteradores detectan modificaciones a la lista hechas sin
+     * ellos, y que reindexar un elemento no es una modificación estructural.
+     */
+    @Test public void testIteradorModificacionConcurrente() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        try {
+            for (Integer e : lista)
+                lista.elimina(e);
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        IteradorLista<Integer> iterador = lista.iteradorLista();
+        iterador.next();
+        lista.modifica(total - 1, e -> {});
+        iterador.reemplaza(-1);
+        Assert.assertTrue(lista.contiene(-1));
+        Assert.assertTrue(iterador.next() == 2);
+        lista.eliminaSi(e -> e == total - 1);
+        try {
+            iterador.next();
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        iterador.end();
+        IteradorLista<Integer> otro = lista.iteradorLista();
+        iterador.previous();
+        iterador.elimina();
+        try {
+            otro.next();
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        otro.start();
+        Assert.assertTrue(otro.next() == -1);
+    }
+}
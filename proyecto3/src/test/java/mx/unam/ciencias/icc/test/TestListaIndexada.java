@@ -0,0 +1,474 @@
+package mx.unam.ciencias.icc.test;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.icc.ExcepcionIndiceInvalido;
+import mx.unam.ciencias.icc.IteradorLista;
+import mx.unam.ciencias.icc.Lista;
+import mx.unam.ciencias.icc.ListaIndexada;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ListaIndexada}.
+ */
+public class TestListaIndexada {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La lista. */
+    private ListaIndexada<Integer> lista;
+
+    /* Valida la lista contra una lista de referencia. */
+    private void validaLista(ListaIndexada<Integer> lista,
+                             Lista<Integer> referencia) {
+        Assert.assertTrue(lista.getLongitud() == referencia.getLongitud());
+        Assert.assertTrue(lista.esVacia() == referencia.esVacia());
+        IteradorLista<Integer> i = lista.iteradorLista();
+        IteradorLista<Integer> j = referencia.iteradorLista();
+        while (j.hasNext())
+            Assert.assertTrue(i.next().equals(j.next()));
+        Assert.assertFalse(i.hasNext());
+        i.end();
+        j.end();
+        while (j.hasPrevious())
+            Assert.assertTrue(i.previous().equals(j.previous()));
+        Assert.assertFalse(i.hasPrevious());
+    }
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número total
+     * de elementos para nuestra lista, y una lista.
+     */
+    public TestListaIndexada() {
+        random = new Random();
+        total = 100 + random.nextInt(900);
+        lista = new ListaIndexada<Integer>();
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#ListaIndexada}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertTrue(lista.getLongitud() == 0);
+        Assert.assertTrue(lista.toString().equals("[]"));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#agregaFinal} y {@link
+     * ListaIndexada#agregaInicio}.
+     */
+    @Test public void testAgrega() {
+        try {
+            lista.agregaFinal(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            lista.agregaInicio(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total);
+            if (random.nextBoolean()) {
+                lista.agregaFinal(n);
+                referencia.agregaFinal(n);
+                Assert.assertTrue(lista.getUltimo() == n);
+            } else {
+                lista.agregaInicio(n);
+                referencia.agregaInicio(n);
+                Assert.assertTrue(lista.getPrimero() == n);
+            }
+        }
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#inserta}.
+     */
+    @Test public void testInserta() {
+        try {
+            lista.inserta(0, null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total);
+            int m = random.nextInt(lista.getLongitud() + 3) - 1;
+            lista.inserta(m, n);
+            referencia.inserta(m, n);
+            if (m >= 0 && m < lista.getLongitud())
+                Assert.assertTrue(lista.get(m) == n);
+        }
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#elimina}.
+     */
+    @Test public void testElimina() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total / 4);
+            lista.agregaFinal(n);
+            referencia.agregaFinal(n);
+        }
+        lista.elimina(null);
+        lista.elimina(-1);
+        validaLista(lista, referencia);
+        while (!lista.esVacia()) {
+            int n = lista.get(random.nextInt(lista.getLongitud()));
+            lista.elimina(n);
+            referencia.elimina(n);
+            validaLista(lista, referencia);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#eliminaPrimero} y {@link
+     * ListaIndexada#eliminaUltimo}.
+     */
+    @Test public void testEliminaExtremos() {
+        try {
+            lista.eliminaPrimero();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            lista.eliminaUltimo();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        int primero = 0;
+        int ultimo = total - 1;
+        while (!lista.esVacia()) {
+            if (random.nextBoolean())
+                Assert.assertTrue(lista.eliminaPrimero() == primero++);
+            else
+                Assert.assertTrue(lista.eliminaUltimo() == ultimo--);
+            Assert.assertTrue(lista.getLongitud() == ultimo - primero + 1);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#eliminaIndice}.
+     */
+    @Test public void testEliminaIndice() {
+        try {
+            lista.eliminaIndice(0);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            referencia.agregaFinal(i);
+        }
+        try {
+            lista.eliminaIndice(total);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        while (!lista.esVacia()) {
+            int i = random.nextInt(lista.getLongitud());
+            int n = referencia.get(i);
+            Assert.assertTrue(lista.eliminaIndice(i) == n);
+            referencia.elimina(n);
+            Assert.assertTrue(lista.getLongitud() == referencia.getLongitud());
+            if (!lista.esVacia()) {
+                int j = random.nextInt(lista.getLongitud());
+                Assert.assertTrue(lista.get(j).equals(referencia.get(j)));
+            }
+        }
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#contiene} y {@link
+     * ListaIndexada#indiceDe}.
+     */
+    @Test public void testContieneIndiceDe() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(lista.contiene(i));
+            Assert.assertTrue(lista.indiceDe(i) == i);
+        }
+        Assert.assertFalse(lista.contiene(total));
+        Assert.assertTrue(lista.indiceDe(total) == -1);
+        Assert.assertTrue(lista.indiceDe(null) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#get}.
+     */
+    @Test public void testGet() {
+        try {
+            lista.get(0);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        for (int i = 0; i < total; i++)
+            lista.agregaInicio(total - 1 - i);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(lista.get(i) == i);
+        try {
+            lista.get(-1);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        try {
+            lista.get(total);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#reversa} y {@link
+     * ListaIndexada#copia}.
+     */
+    @Test public void testReversaCopia() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        ListaIndexada<Integer> reversa = lista.reversa();
+        ListaIndexada<Integer> copia = lista.copia();
+        Assert.assertTrue(copia.equals(lista));
+        Assert.assertFalse(copia == lista);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(reversa.get(i) == total - 1 - i);
+        copia.eliminaUltimo();
+        Assert.assertFalse(copia.equals(lista));
+        Assert.assertTrue(lista.getLongitud() == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#limpia}.
+     */
+    @Test public void testLimpia() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        lista.limpia();
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertFalse(lista.iterator().hasNext());
+        lista.agregaFinal(1);
+        Assert.assertTrue(lista.getPrimero() == 1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#toString}.
+     */
+    @Test public void testToString() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            referencia.agregaFinal(i);
+        }
+        Assert.assertTrue(lista.toString().equals(referencia.toString()));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#equals}.
+     */
+    @Test public void testEquals() {
+        ListaIndexada<Integer> otra = new ListaIndexada<Integer>();
+        Assert.assertTrue(lista.equals(otra));
+        Assert.assertFalse(lista.equals(null));
+        Assert.assertFalse(lista.equals(new Lista<Integer>()));
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            otra.agregaInicio(total - 1 - i);
+        }
+        Assert.assertTrue(lista.equals(otra));
+        otra.inserta(total / 2, -1);
+        Assert.assertFalse(lista.equals(otra));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#iteradorLista}.
+     */
+    @Test public void testIteradorLista() {
+        IteradorLista<Integer> i = lista.iteradorLista();
+        Assert.assertFalse(i.hasNext());
+        Assert.assertFalse(i.hasPrevious());
+        try {
+            i.next();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int j = 0; j < total; j++)
+            lista.agregaFinal(j);
+        i = lista.iteradorLista();
+        for (int j = 0; j < total / 2; j++)
+            Assert.assertTrue(i.next() == j);
+        for (int j = total / 2 - 1; j >= 0; j--)
+            Assert.assertTrue(i.previous() == j);
+        Assert.assertFalse(i.hasPrevious());
+        i.end();
+        Assert.assertFalse(i.hasNext());
+        Assert.assertTrue(i.previous() == total - 1);
+        Assert.assertTrue(i.next() == total - 1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#mergeSort(Comparator)}.
+     */
+    @Test public void testMergeSort() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total);
+            lista.agregaFinal(n);
+            referencia.agregaFinal(n);
+        }
+        ListaIndexada<Integer> ordenada =
+            ListaIndexada.mergeSort(lista);
+        validaLista(ordenada, Lista.mergeSort(referencia));
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaIndexada#eliminaSi}: después de
+     * eliminar un subconjunto aleatorio, los anchos de todos los niveles
+     * deben seguir dando las posiciones correctas.
+     */
+    @Test public void testEliminaSi() {
+        boolean[] elimina = new boolean[total];
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            elimina[i] = random.nextBoolean();
+            if (!elimina[i])
+                referencia.agregaFinal(i);
+        }
+        int n = lista.eliminaSi(e -> elimina[e]);
+        Assert.assertTrue(n == total - referencia.getLongitud());
+        validaLista(lista, referencia);
+        int i = 0;
+        for (Integer e : referencia) {
+            Assert.assertTrue(lista.get(i).equals(e));
+            Assert.assertTrue(lista.indiceDe(e) == i);
+            i++;
+        }
+        for (Integer e = 0; e < total; e++)
+            if (elimina[e])
+                Assert.assertTrue(lista.indiceDe(e) == -1);
+        /* Inserciones y eliminaciones por posición después de eliminar. */
+        for (int k = 0; k < total / 10; k++) {
+            int p = random.nextInt(referencia.getLongitud() + 1);
+            lista.inserta(p, total + k);
+            referencia.inserta(p, total + k);
+        }
+        for (i = 0; i < referencia.getLongitud(); i++)
+            Assert.assertTrue(lista.get(i).equals(referencia.get(i)));
+        Assert.assertTrue(lista.eliminaSi(e -> false) == 0);
+        Assert.assertTrue(lista.eliminaSi(e -> true) ==
+                          referencia.getLongitud());
+        validaLista(lista, new Lista<Integer>());
+        lista.agregaFinal(1);
+        Assert.assertTrue(lista.get(0) == 1);
+        try {
+            lista.eliminaSi(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link IteradorLista#elimina}, {@link
+     * IteradorLista#reemplaza} e {@link IteradorLista#inserta}: después de
+     * editar con el iterador, los anchos de los saltos deben seguir dando las
+     * posiciones correctas.
+     */
+    @Test public void testIteradorEdita() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        IteradorLista<Integer> iterador = lista.iteradorLista();
+        try {
+            iterador.reemplaza(0);
+            Assert.fail();
+        } catch (IllegalStateException ise) {}
+        while (iterador.hasNext()) {
+            int e = iterador.next();
+            if (e % 3 == 0) {
+                iterador.elimina();
+            } else if (e % 3 == 1) {
+                iterador.reemplaza(-e);
+                referencia.agregaFinal(-e);
+            } else {
+                iterador.inserta(total + e);
+                referencia.agregaFinal(e);
+                referencia.agregaFinal(total + e);
+            }
+        }
+        validaLista(lista, referencia);
+        int i = 0;
+        for (Integer e : referencia) {
+            Assert.assertTrue(lista.get(i).equals(e));
+            Assert.assertTrue(lista.indiceDe(e) == i);
+            i++;
+        }
+        /* Inserta hacia atrás desde el final, y luego elimina hacia atrás
+         * desde la mitad; cada edición cambia las posiciones que siguen. */
+        iterador.end();
+        IteradorLista<Integer> j = referencia.iteradorLista();
+        j.end();
+        while (j.hasPrevious()) {
+            Assert.assertTrue(iterador.previous().equals(j.previous()));
+            iterador.inserta(2 * total);
+            j.inserta(2 * total);
+            iterador.previous();
+            j.previous();
+        }
+        for (int k = 0; k < referencia.getLongitud() / 2; k++) {
+            iterador.next();
+            j.next();
+        }
+        while (j.hasPrevious()) {
+            Assert.assertTrue(iterador.previous().equals(j.previous()));
+            iterador.elimina();
+            j.elimina();
+        }
+        validaLista(lista, referencia);
+        for (i = 0; i < referencia.getLongitud(); i++)
+            Assert.assertTrue(lista.get(i).equals(referencia.get(i)));
+        Assert.assertTrue(lista.eliminaIndice(0).equals(referencia.get(0)));
+    }
+
+    /**
+     * Prueba que los iteradores detectan modificaciones a la lista hechas sin
+     * ellos.
+     */
+    @Test public void testIteradorModificacionConcurrente() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        try {
+            for (Integer e : lista)
+                lista.eliminaIndice(0);
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        IteradorLista<Integer> iterador = lista.iteradorLista();
+        IteradorLista<Integer> otro = lista.iteradorLista();
+        iterador.next();
+        otro.next();
+        iterador.inserta(-1);
+        try {
+            otro.previous();
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        otro.end();
+        otro.previous();
+        otro.reemplaza(-2);
+        Assert.assertTrue(iterador.next() == 2);
+        lista.agregaInicio(-3);
+        try {
+            iterador.inserta(0);
+            Assert.fail();
+        } catch (ConcurrentModificationException cme) {}
+        iterador.start();
+        Assert.assertTrue(iterador.next() == -3);
+        Assert.assertTrue(lista.getUltimo() == -2);
+    }
+}
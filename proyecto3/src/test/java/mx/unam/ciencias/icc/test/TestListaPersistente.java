@@ -0,0 +1,520 @@
+package mx.unam.ciencias.icc.test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.icc.ExcepcionIndiceInvalido;
+import mx.unam.ciencias.icc.IteradorLista;
+import mx.unam.ciencias.icc.Lista;
+import mx.unam.ciencias.icc.ListaPersistente;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ListaPersistente}.
+ */
+public class TestListaPersistente {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La lista. */
+    private ListaPersistente<Integer> lista;
+
+    /* Valida la lista contra una lista de referencia. */
+    private void validaLista(ListaPersistente<Integer> lista,
+                             Lista<Integer> referencia) {
+        Assert.assertTrue(lista.getLongitud() == referencia.getLongitud());
+        Assert.assertTrue(lista.esVacia() == referencia.esVacia());
+        IteradorLista<Integer> i = lista.iteradorLista();
+        IteradorLista<Integer> j = referencia.iteradorLista();
+        while (j.hasNext())
+            Assert.assertTrue(i.next().equals(j.next()));
+        Assert.assertFalse(i.hasNext());
+        i.end();
+        j.end();
+        while (j.hasPrevious())
+            Assert.assertTrue(i.previous().equals(j.previous()));
+        Assert.assertFalse(i.hasPrevious());
+    }
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número total
+     * de elementos, y una lista.
+     */
+    public TestListaPersistente() {
+        random = new Random();
+        total = 100 + random.nextInt(500);
+        lista = new ListaPersistente<Integer>();
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#ListaPersistente}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertTrue(lista.getLongitud() == 0);
+        Assert.assertTrue(lista.toString().equals("[]"));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#agregaFinal} y {@link
+     * ListaPersistente#agregaInicio}.
+     */
+    @Test public void testAgrega() {
+        try {
+            lista.agregaFinal(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            lista.agregaInicio(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total);
+            if (random.nextBoolean()) {
+                lista.agregaFinal(n);
+                referencia.agregaFinal(n);
+                Assert.assertTrue(lista.getUltimo() == n);
+            } else {
+                lista.agregaInicio(n);
+                referencia.agregaInicio(n);
+                Assert.assertTrue(lista.getPrimero() == n);
+            }
+        }
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#inserta}.
+     */
+    @Test public void testInserta() {
+        try {
+            lista.inserta(0, null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total);
+            int m = random.nextInt(lista.getLongitud() + 3) - 1;
+            lista.inserta(m, n);
+            referencia.inserta(m, n);
+            if (m >= 0 && m < lista.getLongitud())
+                Assert.assertTrue(lista.get(m) == n);
+        }
+        validaLista(lista, referencia);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#elimina}.
+     */
+    @Test public void testElimina() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(total / 4);
+            lista.agregaFinal(n);
+            referencia.agregaFinal(n);
+        }
+        lista.elimina(null);
+        lista.elimina(-1);
+        validaLista(lista, referencia);
+        while (!lista.esVacia()) {
+            int n = lista.get(random.nextInt(lista.getLongitud()));
+            lista.elimina(n);
+            referencia.elimina(n);
+            validaLista(lista, referencia);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#eliminaPrimero} y {@link
+     * ListaPersistente#eliminaUltimo}.
+     */
+    @Test public void testEliminaExtremos() {
+        try {
+            lista.eliminaPrimero();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            lista.eliminaUltimo();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        int primero = 0;
+        int ultimo = total - 1;
+        while (!lista.esVacia()) {
+            if (random.nextBoolean())
+                Assert.assertTrue(lista.eliminaPrimero() == primero++);
+            else
+                Assert.assertTrue(lista.eliminaUltimo() == ultimo--);
+            Assert.assertTrue(lista.getLongitud() == ultimo - primero + 1);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#contiene} y {@link
+     * ListaPersistente#indiceDe}.
+     */
+    @Test public void testContieneIndiceDe() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(lista.contiene(i));
+            Assert.assertTrue(lista.indiceDe(i) == i);
+        }
+        Assert.assertFalse(lista.contiene(total));
+        Assert.assertTrue(lista.indiceDe(total) == -1);
+        Assert.assertTrue(lista.indiceDe(null) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#get}.
+     */
+    @Test public void testGet() {
+        try {
+            lista.get(0);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        for (int i = 0; i < total; i++)
+            lista.agregaInicio(total - 1 - i);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(lista.get(i) == i);
+        try {
+            lista.get(-1);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        try {
+            lista.get(total);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#reversa} y {@link
+     * ListaPersistente#copia}.
+     */
+    @Test public void testReversaCopia() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        ListaPersistente<Integer> reversa = lista.reversa();
+        ListaPersistente<Integer> copia = lista.copia();
+        Assert.assertTrue(copia.equals(lista));
+        Assert.assertFalse(copia == lista);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(reversa.get(i) == total - 1 - i);
+        copia.eliminaUltimo();
+        Assert.assertFalse(copia.equals(lista));
+        Assert.assertTrue(lista.getLongitud() == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#limpia}.
+     */
+    @Test public void testLimpia() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        lista.limpia();
+        Assert.assertTrue(lista.esVacia());
+        Assert.assertFalse(lista.iterator().hasNext());
+        lista.agregaFinal(1);
+        Assert.assertTrue(lista.getPrimero() == 1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#toString}.
+     */
+    @Test public void testToString() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            referencia.agregaFinal(i);
+        }
+        Assert.assertTrue(lista.toString().equals(referencia.toString()));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#equals}.
+     */
+    @Test public void testEquals() {
+        ListaPersistente<Integer> otra = new ListaPersistente<Integer>();
+        Assert.assertTrue(lista.equals(otra));
+        Assert.assertFalse(lista.equals(null));
+        Assert.assertFalse(lista.equals(new Lista<Integer>()));
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            otra.agregaInicio(total - 1 - i);
+        }
+        Assert.assertTrue(lista.equals(otra));
+        otra.inserta(total / 2, -1);
+        Assert.assertFalse(lista.equals(otra));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#iteradorLista}.
+     */
+    @Test public void testIteradorLista() {
+        IteradorLista<Integer> i = lista.iteradorLista();
+        Assert.assertFalse(i.hasNext());
+        Assert.assertFalse(i.hasPrevious());
+        try {
+            i.next();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int j = 0; j < total; j++)
+            lista.agregaFinal(j);
+        i = lista.iteradorLista();
+        for (int j = 0; j < total / 2; j++)
+            Assert.assertTrue(i.next() == j);
+        for (int j = total / 2 - 1; j >= 0; j--)
+            Assert.assertTrue(i.previous() == j);
+        Assert.assertFalse(i.hasPrevious());
+        i.end();
+        Assert.assertFalse(i.hasNext());
+        Assert.assertTrue(i.previous() == total - 1);
+        Assert.assertTrue(i.next() == total - 1);
+    }
+
+    /**
+     * Prueba que las copias de una lista persistente son independientes: los
+     * cambios a una no afectan a la otra.
+     */
+    @Test public void testPersistencia() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            referencia.agregaFinal(i);
+        }
+        ListaPersistente<Integer> copia = lista.copia();
+        Lista<Integer> otra = referencia.copia();
+        for (int i = 0; i < total; i++) {
+            int n = random.nextInt(copia.getLongitud() + 1);
+            if (random.nextBoolean() && !copia.esVacia()) {
+                n = copia.get(random.nextInt(copia.getLongitud()));
+                copia.elimina(n);
+                otra.elimina(n);
+            } else {
+                copia.inserta(n, -n);
+                otra.inserta(n, -n);
+            }
+        }
+        validaLista(lista, referencia);
+        validaLista(copia, otra);
+        lista.limpia();
+        validaLista(copia, otra);
+    }
+
+    /**
+     * Prueba que los iteradores recorren la versión de la lista que existía al
+     * crearlos.
+     */
+    @Test public void testIteradorVersion() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        IteradorLista<Integer> iterador = lista.iteradorLista();
+        int c = 0;
+        for (Integer n : lista) {
+            lista.eliminaPrimero();
+            lista.agregaFinal(n + total);
+            Assert.assertTrue(iterador.next() == c++);
+        }
+        Assert.assertFalse(iterador.hasNext());
+        while (iterador.hasPrevious())
+            Assert.assertTrue(iterador.previous() == --c);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(lista.get(i) == i + total);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#eliminaSi}: cada versión
+     * anterior de la lista queda intacta, y la lista reconstruida con los
+     * elementos restantes sigue permitiendo acceso por posición.
+     */
+    @Test public void testEliminaSi() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            referencia.agregaFinal(i);
+        }
+        /* Versiones sucesivas: en cada una se eliminan los múltiplos de un
+         * primo más. */
+        int[] primos = { 2, 3, 5, 7 };
+        Lista<ListaPersistente<Integer>> versiones =
+            new Lista<ListaPersistente<Integer>>();
+        Lista<Lista<Integer>> referencias = new Lista<Lista<Integer>>();
+        for (int p : primos) {
+            versiones.agregaFinal(lista.copia());
+            referencias.agregaFinal(referencia.copia());
+            Lista<Integer> siguiente = new Lista<Integer>();
+            for (Integer e : referencia)
+                if (e % p != 0)
+                    siguiente.agregaFinal(e);
+            int n = lista.eliminaSi(e -> e % p == 0);
+            Assert.assertTrue(n == referencia.getLongitud() -
+                              siguiente.getLongitud());
+            referencia = siguiente;
+            validaLista(lista, referencia);
+        }
+        for (int i = 0; i < referencia.getLongitud(); i++)
+            Assert.assertTrue(lista.get(i).equals(referencia.get(i)));
+        Iterator<Lista<Integer>> r = referencias.iterator();
+        for (ListaPersistente<Integer> version : versiones)
+            validaLista(version, r.next());
+        /* Eliminar de una versión anterior no afecta a la actual. */
+        ListaPersistente<Integer> primera = versiones.getPrimero();
+        Assert.assertTrue(primera.eliminaSi(e -> true) == total);
+        validaLista(lista, referencia);
+        Assert.assertTrue(lista.eliminaSi(e -> false) == 0);
+        try {
+            lista.eliminaSi(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#divide}.
+     */
+    @Test public void testDivide() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            lista.agregaFinal(i);
+            referencia.agregaFinal(i);
+        }
+        ListaPersistente<Integer> copia = lista.copia();
+        int n = random.nextInt(total + 1);
+        ListaPersistente<Integer> resto = lista.divide(n);
+        Lista<Integer> otra = referencia.divide(n);
+        validaLista(lista, referencia);
+        validaLista(resto, otra);
+        Assert.assertTrue(copia.getLongitud() == total);
+        Assert.assertTrue(lista.divide(lista.getLongitud()).esVacia());
+        validaLista(lista, referencia);
+        validaLista(lista.divide(0), referencia);
+        Assert.assertTrue(lista.esVacia());
+        try {
+            copia.divide(total + 1);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        try {
+            copia.divide(-1);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#concatena}.
+     */
+    @Test public void testConcatena() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        ListaPersistente<Integer> otra = new ListaPersistente<Integer>();
+        Lista<Integer> referenciaOtra = new Lista<Integer>();
+        int n = random.nextInt(total);
+        for (int i = 0; i < total; i++) {
+            if (i < n) {
+                lista.agregaFinal(i);
+                referencia.agregaFinal(i);
+            } else {
+                otra.agregaFinal(i);
+                referenciaOtra.agregaFinal(i);
+            }
+        }
+        lista.concatena(otra);
+        referencia.concatena(referenciaOtra.copia());
+        validaLista(lista, referencia);
+        validaLista(otra, referenciaOtra);
+        lista.concatena(lista);
+        referencia.concatena(referencia.copia());
+        validaLista(lista, referencia);
+        lista.concatena(new ListaPersistente<Integer>());
+        validaLista(lista, referencia);
+        try {
+            lista.concatena(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaPersistente#injerta}.
+     */
+    @Test public void testInjerta() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int k = 0; k < total / 10; k++) {
+            ListaPersistente<Integer> otra = new ListaPersistente<Integer>();
+            Lista<Integer> referenciaOtra = new Lista<Integer>();
+            int m = random.nextInt(20);
+            for (int j = 0; j < m; j++) {
+                otra.agregaFinal(k * 100 + j);
+                referenciaOtra.agregaFinal(k * 100 + j);
+            }
+            int i = random.nextInt(referencia.getLongitud() + 3) - 1;
+            lista.injerta(i, otra);
+            Lista<Integer> resto = referencia.divide(
+                Math.max(0, Math.min(i, referencia.getLongitud())));
+            referencia.concatena(referenciaOtra);
+            referencia.concatena(resto);
+            validaLista(lista, referencia);
+        }
+        try {
+            lista.injerta(0, null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba que muchas divisiones y concatenaciones mantienen al árbol
+     * balanceado, de manera que cada operación siga siendo logarítmica.
+     */
+    @Test public void testDivideConcatenaBalance() {
+        int n = 1 << 16;
+        for (int i = 0; i < n; i++)
+            lista.agregaFinal(i);
+        for (int k = 0; k < 20000; k++) {
+            ListaPersistente<Integer> resto = lista.divide(random.nextInt(n));
+            resto.concatena(lista);
+            lista = resto;
+        }
+        Assert.assertTrue(lista.getLongitud() == n);
+        int i = lista.get(0);
+        for (Integer e : lista) {
+            Assert.assertTrue(e == i);
+            i = (i + 1) % n;
+        }
+    }
+
+    /**
+     * Prueba que los iteradores, que recorren la versión de la lista que
+     * existía al crearlos, no permiten modificarla.
+     */
+    @Test public void testIteradorNoModifica() {
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i);
+        ListaPersistente<Integer> version = lista.copia();
+        IteradorLista<Integer> iterador = lista.iteradorLista();
+        iterador.end();
+        iterador.previous();
+        try {
+            iterador.elimina();
+            Assert.fail();
+        } catch (UnsupportedOperationException uoe) {}
+        try {
+            iterador.reemplaza(-1);
+            Assert.fail();
+        } catch (UnsupportedOperationException uoe) {}
+        try {
+            iterador.inserta(-1);
+            Assert.fail();
+        } catch (UnsupportedOperationException uoe) {}
+        Assert.assertTrue(lista.equals(version));
+        lista.eliminaUltimo();
+        Assert.assertTrue(iterador.previous() == total - 2);
+        Assert.assertTrue(iterador.next() == total - 2);
+        Assert.assertTrue(iterador.next() == total - 1);
+    }
+}
@@ -0,0 +1,174 @@
+package mx.unam.ciencias.icc.test;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import mx.unam.ciencias.icc.Arreglos;
+import mx.unam.ciencias.icc.Avatar;
+import mx.unam.ciencias.icc.BaseDeDatosAvatares;
+import mx.unam.ciencias.icc.CampoAvatar;
+import mx.unam.ciencias.icc.OrdenadorExterno;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link OrdenadorExterno}.
+ */
+public class TestOrdenadorExterno {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+    /** Directorio para archivos temporales. */
+    @Rule public TemporaryFolder directorio = new TemporaryFolder();
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de avatares. */
+    private int total;
+    /* La base de datos que crea los avatares. */
+    private BaseDeDatosAvatares bdd;
+    /* Comparador de avatares por maná. */
+    private Comparator<Avatar> porMana;
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número
+     * total de avatares y un comparador por maná.
+     */
+    public TestOrdenadorExterno() {
+        random = new Random();
+        total = 500 + random.nextInt(500);
+        bdd = new BaseDeDatosAvatares();
+        porMana = (a, b) -> Integer.compare(a.getMana(), b.getMana());
+    }
+
+    /* Regresa las líneas de avatares aleatorios con pocos valores de
+     * maná distintos, para que haya muchos avatares iguales. */
+    private String entrada(int n) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < n; i++)
+            sb.append(TestAvatar.avatarAleatorio(random.nextInt(10)).seria());
+        return sb.toString();
+    }
+
+    /* Regresa las líneas ordenadas de manera estable en memoria. */
+    private String esperada(String entrada) {
+        String[] lineas = entrada.split("\n");
+        Avatar[] avatares = new Avatar[lineas.length];
+        for (int i = 0; i < lineas.length; i++) {
+            avatares[i] = bdd.creaRegistro();
+            avatares[i].deseria(lineas[i]);
+        }
+        Arreglos.mergeSort(avatares, porMana);
+        StringBuffer sb = new StringBuffer();
+        for (Avatar a : avatares)
+            sb.append(a.seria());
+        return sb.toString();
+    }
+
+    /* Ordena la entrada con el ordenador y regresa la salida. */
+    private String ordena(OrdenadorExterno<Avatar, CampoAvatar> ordenador,
+                          String entrada) throws IOException {
+        BufferedReader in = new BufferedReader(new StringReader(entrada));
+        StringWriter sw = new StringWriter();
+        BufferedWriter out = new BufferedWriter(sw);
+        ordenador.ordena(in, out);
+        out.flush();
+        return sw.toString();
+    }
+
+    /* Regresa el directorio temporal de la prueba. */
+    private Path raiz() {
+        return directorio.getRoot().toPath();
+    }
+
+    /**
+     * Prueba unitaria para {@link OrdenadorExterno#ordena} cuando los
+     * registros no caben en memoria.
+     * @throws IOException si ocurre un error de entrada/salida.
+     */
+    @Test public void testOrdenaCorridas() throws IOException {
+        String entrada = entrada(total);
+        /* Unos cuantos avatares por corrida, para que haya más corridas que
+         * OrdenadorExterno.MAXIMO_CORRIDAS. */
+        OrdenadorExterno<Avatar, CampoAvatar> ordenador =
+            new OrdenadorExterno<Avatar, CampoAvatar>(bdd::creaRegistro,
+                                                      porMana, 1000, raiz());
+        Assert.assertTrue(ordena(ordenador, entrada).equals(esperada(entrada)));
+        Assert.assertTrue(directorio.getRoot().list().length == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link OrdenadorExterno#ordena} cuando los
+     * registros caben en memoria.
+     * @throws IOException si ocurre un error de entrada/salida.
+     */
+    @Test public void testOrdenaMemoria() throws IOException {
+        String entrada = entrada(total);
+        OrdenadorExterno<Avatar, CampoAvatar> ordenador =
+            new OrdenadorExterno<Avatar, CampoAvatar>(bdd::creaRegistro,
+                                                      porMana);
+        Assert.assertTrue(ordenador.getMemoria() ==
+                          OrdenadorExterno.MEMORIA_POR_OMISION);
+        Assert.assertTrue(ordena(ordenador, entrada).equals(esperada(entrada)));
+        Assert.assertTrue(ordena(ordenador, "").isEmpty());
+        String corta = entrada(3);
+        Assert.assertTrue(ordena(ordenador, corta + "\n" + entrada)
+                          .equals(esperada(corta)));
+    }
+
+    /**
+     * Prueba unitaria para {@link OrdenadorExterno#ordena} con una entrada
+     * inválida.
+     */
+    @Test public void testOrdenaInvalida() {
+        OrdenadorExterno<Avatar, CampoAvatar> ordenador =
+            new OrdenadorExterno<Avatar, CampoAvatar>(bdd::creaRegistro,
+                                                      porMana, 1000, raiz());
+        try {
+            ordena(ordenador, entrada(total) + "a\tb\n");
+            Assert.fail();
+        } catch (IOException ioe) {}
+        Assert.assertTrue(directorio.getRoot().list().length == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * OrdenadorExterno#OrdenadorExterno(java.util.function.Supplier,
+     * Comparator,long,Path)}.
+     * @throws IOException si ocurre un error de entrada/salida.
+     */
+    @Test public void testConstructor() throws IOException {
+        OrdenadorExterno<Avatar, CampoAvatar> ordenador =
+            new OrdenadorExterno<Avatar, CampoAvatar>(bdd::creaRegistro,
+                                                      porMana, 1, raiz());
+        Assert.assertTrue(ordenador.getMemoria() == 1);
+        Assert.assertTrue(ordenador.getDirectorio().equals(raiz()));
+        try {
+            new OrdenadorExterno<Avatar, CampoAvatar>(null, porMana);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            new OrdenadorExterno<Avatar, CampoAvatar>(bdd::creaRegistro, null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            new OrdenadorExterno<Avatar, CampoAvatar>(bdd::creaRegistro,
+                                                      porMana, 0, raiz());
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Path archivo = directorio.newFile().toPath();
+        try {
+            new OrdenadorExterno<Avatar, CampoAvatar>(bdd::creaRegistro,
+                                                      porMana, 1, archivo);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+}
@@ -0,0 +1,104 @@
+package mx.unam.ciencias.icc.test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.icc.Cola;
+import mx.unam.ciencias.icc.Lista;
+import mx.unam.ciencias.icc.Pila;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link Pila}.
+ */
+public class TestPila {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La pila. */
+    private Pila<Integer> pila;
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número total
+     * de elementos que obliga a la pila a crecer varias veces, y una pila.
+     */
+    public TestPila() {
+        random = new Random();
+        total = 100 + random.nextInt(900);
+        pila = new Pila<Integer>();
+    }
+
+    /**
+     * Prueba unitaria para {@link Pila#Pila}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(pila.esVacia());
+        Assert.assertTrue(pila.getLongitud() == 0);
+        Assert.assertTrue(pila.toString().equals("[]"));
+        Assert.assertTrue(new Pila<Integer>(total).esVacia());
+        try {
+            new Pila<Integer>(-1);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Pila#mete}, {@link Pila#saca} y {@link
+     * Pila#mira}.
+     */
+    @Test public void testMeteSaca() {
+        try {
+            pila.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            pila.mira();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            pila.mete(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            if (referencia.esVacia() || random.nextInt(3) > 0) {
+                int n = random.nextInt(total);
+                pila.mete(n);
+                referencia.agregaFinal(n);
+            } else {
+                Assert.assertTrue(pila.mira().equals(referencia.getUltimo()));
+                Assert.assertTrue(pila.saca().equals(
+                                      referencia.eliminaUltimo()));
+            }
+            Assert.assertTrue(pila.getLongitud() == referencia.getLongitud());
+            Assert.assertTrue(pila.toString().equals(referencia.toString()));
+        }
+        while (!referencia.esVacia())
+            Assert.assertTrue(pila.saca().equals(referencia.eliminaUltimo()));
+        Assert.assertTrue(pila.esVacia());
+    }
+
+    /**
+     * Prueba unitaria para {@link Pila#equals}.
+     */
+    @Test public void testEquals() {
+        Pila<Integer> otra = new Pila<Integer>();
+        Cola<Integer> cola = new Cola<Integer>();
+        for (int i = 0; i < total; i++) {
+            pila.mete(i);
+            otra.mete(i);
+            cola.mete(i);
+        }
+        Assert.assertTrue(pila.equals(otra));
+        Assert.assertFalse(pila.equals(cola));
+        otra.saca();
+        Assert.assertFalse(pila.equals(otra));
+    }
+}
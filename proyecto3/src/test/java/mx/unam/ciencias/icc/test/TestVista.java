@@ -0,0 +1,200 @@
+package mx.unam.ciencias.icc.test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.icc.ExcepcionIndiceInvalido;
+import mx.unam.ciencias.icc.IteradorLista;
+import mx.unam.ciencias.icc.Lista;
+import mx.unam.ciencias.icc.ListaPersistente;
+import mx.unam.ciencias.icc.Vista;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link Vista}.
+ */
+public class TestVista {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La lista. */
+    private Lista<Integer> lista;
+
+    /* Valida que la vista tenga los elementos de la lista de referencia, en
+     * ambas direcciones. */
+    private void validaVista(Vista<Integer> vista, Lista<Integer> referencia) {
+        IteradorLista<Integer> i = vista.iteradorLista();
+        IteradorLista<Integer> j = referencia.iteradorLista();
+        while (j.hasNext()) {
+            Assert.assertTrue(i.hasNext());
+            Assert.assertTrue(i.next().equals(j.next()));
+        }
+        Assert.assertFalse(i.hasNext());
+        try {
+            i.next();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        while (j.hasPrevious()) {
+            Assert.assertTrue(i.hasPrevious());
+            Assert.assertTrue(i.previous().equals(j.previous()));
+        }
+        Assert.assertFalse(i.hasPrevious());
+        i.end();
+        j.end();
+        while (j.hasPrevious())
+            Assert.assertTrue(i.previous().equals(j.previous()));
+        Assert.assertFalse(i.hasPrevious());
+        i.start();
+        j.start();
+        while (j.hasNext())
+            Assert.assertTrue(i.next().equals(j.next()));
+        Assert.assertFalse(i.hasNext());
+        Assert.assertTrue(vista.aLista().equals(referencia));
+    }
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número total
+     * de elementos, y una lista.
+     */
+    public TestVista() {
+        random = new Random();
+        total = 10 + random.nextInt(100);
+        lista = new Lista<Integer>();
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(random.nextInt(total));
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#vista}.
+     */
+    @Test public void testVista() {
+        validaVista(lista.vista(), lista);
+        Vista<Integer> vista = lista.vista();
+        lista.agregaFinal(-1);
+        validaVista(vista, lista);
+        Assert.assertTrue(vista.toString().equals(lista.toString()));
+        validaVista(new Lista<Integer>().vista(), new Lista<Integer>());
+    }
+
+    /**
+     * Prueba unitaria para {@link Vista#filtra}.
+     */
+    @Test public void testFiltra() {
+        Lista<Integer> pares = new Lista<Integer>();
+        for (Integer n : lista)
+            if (n % 2 == 0)
+                pares.agregaFinal(n);
+        validaVista(lista.vista().filtra(n -> n % 2 == 0), pares);
+        validaVista(lista.vista().filtra(n -> false), new Lista<Integer>());
+        validaVista(lista.vista().filtra(n -> true), lista);
+        IteradorLista<Integer> i = lista.vista().filtra(n -> n % 2 == 0)
+            .iteradorLista();
+        IteradorLista<Integer> j = pares.iteradorLista();
+        for (int k = 0; k < 4 * total; k++) {
+            if (random.nextBoolean()) {
+                Assert.assertTrue(i.hasNext() == j.hasNext());
+                if (j.hasNext())
+                    Assert.assertTrue(i.next().equals(j.next()));
+            } else {
+                Assert.assertTrue(i.hasPrevious() == j.hasPrevious());
+                if (j.hasPrevious())
+                    Assert.assertTrue(i.previous().equals(j.previous()));
+            }
+        }
+        try {
+            lista.vista().filtra(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Vista#mapea}.
+     */
+    @Test public void testMapea() {
+        Lista<Integer> dobles = new Lista<Integer>();
+        for (Integer n : lista)
+            dobles.agregaFinal(2 * n);
+        validaVista(lista.vista().mapea(n -> 2 * n), dobles);
+        Vista<String> cadenas = lista.vista().mapea(n -> String.valueOf(n));
+        Iterator<Integer> i = lista.iterator();
+        for (String s : cadenas)
+            Assert.assertTrue(s.equals(String.valueOf(i.next())));
+        try {
+            lista.vista().mapea(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Vista#reversa}.
+     */
+    @Test public void testReversa() {
+        validaVista(lista.vista().reversa(), lista.reversa());
+        validaVista(lista.vista().reversa().reversa(), lista);
+    }
+
+    /**
+     * Prueba unitaria para {@link Vista#sublista}.
+     */
+    @Test public void testSublista() {
+        int desde = random.nextInt(total);
+        int hasta = desde + random.nextInt(total - desde + 1);
+        Lista<Integer> sublista = new Lista<Integer>();
+        for (int i = desde; i < hasta; i++)
+            sublista.agregaFinal(lista.get(i));
+        validaVista(lista.vista().sublista(desde, hasta), sublista);
+        validaVista(lista.vista().sublista(0, 2 * total), lista);
+        validaVista(lista.vista().sublista(2 * total, 3 * total),
+                    new Lista<Integer>());
+        try {
+            lista.vista().sublista(-1, total);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        try {
+            lista.vista().sublista(1, 0);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba que las operaciones de las vistas se componen.
+     */
+    @Test public void testComposicion() {
+        Lista<Integer> referencia = new Lista<Integer>();
+        for (Integer n : lista.reversa())
+            if (n % 3 != 0)
+                referencia.agregaFinal(n + 1);
+        int hasta = referencia.getLongitud() / 2;
+        Lista<Integer> sublista = new Lista<Integer>();
+        for (int i = 0; i < hasta; i++)
+            sublista.agregaFinal(referencia.get(i));
+        Vista<Integer> vista = lista.vista()
+            .reversa()
+            .filtra(n -> n % 3 != 0)
+            .mapea(n -> n + 1);
+        validaVista(vista, referencia);
+        validaVista(vista.sublista(0, hasta), sublista);
+        validaVista(vista.sublista(0, hasta).reversa(), sublista.reversa());
+        validaVista(vista.reversa().filtra(n -> n % 2 == 0),
+                    referencia.reversa().vista().filtra(n -> n % 2 == 0)
+                    .aLista());
+    }
+
+    /**
+     * Prueba que las vistas funcionan sobre otras secuencias.
+     */
+    @Test public void testVistaSecuencia() {
+        ListaPersistente<Integer> persistente = new ListaPersistente<Integer>();
+        for (Integer n : lista)
+            persistente.agregaFinal(n);
+        validaVista(persistente.vista().reversa(), lista.reversa());
+    }
+}